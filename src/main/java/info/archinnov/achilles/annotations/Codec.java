@@ -0,0 +1,29 @@
+package info.archinnov.achilles.annotations;
+
+import info.archinnov.achilles.codec.ValueCodecFactory;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Codec
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Documented
+public @interface Codec
+{
+	/**
+	 * <p>
+	 * ValueCodecFactory encoding the values of this property, instead of the one of the entity manager factory. It
+	 * should have a public no-arg constructor
+	 * </p>
+	 */
+	Class<? extends ValueCodecFactory> value();
+}
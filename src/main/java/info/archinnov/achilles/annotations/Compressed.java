@@ -0,0 +1,27 @@
+package info.archinnov.achilles.annotations;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Compressed
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+@Documented
+public @interface Compressed
+{
+	/**
+	 * <p>
+	 * Values of this property whose encoded size reaches the threshold, in bytes, are compressed with Snappy. Smaller
+	 * values, and values which do not shrink, are written as is
+	 * </p>
+	 */
+	int threshold() default 1024;
+}
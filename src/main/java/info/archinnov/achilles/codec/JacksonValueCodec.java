@@ -0,0 +1,109 @@
+package info.archinnov.achilles.codec;
+
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.nio.ByteBuffer;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.ObjectWriter;
+
+/**
+ * JacksonValueCodec
+ *
+ * @author DuyHai DOAN
+ *
+ *         ValueCodec backed by Jackson readers and writers bound once to the value type.
+ *
+ *         In binary mode, values are written as bytes by the ObjectMapper, typically built on a
+ *         binary JsonFactory such as Smile. Strings are then read with the text reader, to keep
+ *         the JSON values written before the binary mode readable
+ *
+ */
+public class JacksonValueCodec<T> implements ValueCodec<T>
+{
+	private final Class<T> valueClass;
+	private final ObjectReader reader;
+	private final ObjectWriter writer;
+	private final ObjectReader textReader;
+	private final ObjectMapper textMapper;
+	private final boolean binary;
+
+	public JacksonValueCodec(ObjectMapper mapper, Class<T> valueClass) {
+		this(mapper, mapper, valueClass, false);
+	}
+
+	public JacksonValueCodec(ObjectMapper mapper, ObjectMapper textMapper, Class<T> valueClass,
+			boolean binary) {
+		this.valueClass = valueClass;
+		this.reader = mapper.reader(valueClass);
+		this.writer = mapper.writerWithType(valueClass);
+		this.textReader = textMapper.reader(valueClass);
+		this.textMapper = textMapper;
+		this.binary = binary;
+	}
+
+	@Override
+	public Object encode(T value)
+	{
+		if (value == null)
+		{
+			return null;
+		}
+		try
+		{
+			return binary ? writer.writeValueAsBytes(value) : writer.writeValueAsString(value);
+		}
+		catch (Exception e)
+		{
+			throw new AchillesException("Cannot encode value '" + value + "' of type '"
+					+ valueClass.getCanonicalName() + "'", e);
+		}
+	}
+
+	@Override
+	public T decode(Object encoded)
+	{
+		if (encoded == null)
+		{
+			return null;
+		}
+		try
+		{
+			if (encoded instanceof String)
+			{
+				return textReader.readValue((String) encoded);
+			}
+			else if (encoded instanceof ByteBuffer)
+			{
+				ByteBuffer bytes = (ByteBuffer) encoded;
+				byte[] array = new byte[bytes.remaining()];
+				bytes.duplicate().get(array);
+				return reader.readValue(array);
+			}
+			else
+			{
+				return reader.readValue((byte[]) encoded);
+			}
+		}
+		catch (Exception e)
+		{
+			throw new AchillesException("Cannot decode value of type '"
+					+ valueClass.getCanonicalName() + "'", e);
+		}
+	}
+
+	public boolean isBinary()
+	{
+		return binary;
+	}
+
+	/**
+	 * Codec writing values as JSON strings with the text ObjectMapper, reading the values
+	 * written by this codec
+	 */
+	public JacksonValueCodec<T> textCodec()
+	{
+		return binary ? new JacksonValueCodec<T>(textMapper, valueClass) : this;
+	}
+}
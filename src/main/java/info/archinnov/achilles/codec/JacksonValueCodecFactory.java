@@ -0,0 +1,52 @@
+package info.archinnov.achilles.codec;
+
+import info.archinnov.achilles.json.DefaultObjectMapperFactory;
+import info.archinnov.achilles.json.ObjectMapperFactory;
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * JacksonValueCodecFactory
+ *
+ * @author DuyHai DOAN
+ *
+ *         Default ValueCodecFactory, encoding values with the ObjectMapper of each entity.
+ *
+ *         A binary format is enabled by passing a factory of binary ObjectMappers, for example
+ *         new ObjectMapper(new SmileFactory()) with the jackson-smile module, along with the
+ *         factory of the text ObjectMappers used to read the values already stored as JSON
+ *
+ */
+public class JacksonValueCodecFactory implements ValueCodecFactory
+{
+	private final ObjectMapperFactory mapperFactory;
+	private final ObjectMapperFactory textMapperFactory;
+	private final boolean binary;
+
+	public JacksonValueCodecFactory() {
+		this(new DefaultObjectMapperFactory());
+	}
+
+	public JacksonValueCodecFactory(ObjectMapperFactory mapperFactory) {
+		Validator.validateNotNull(mapperFactory, "ObjectMapperFactory should not be null");
+		this.mapperFactory = mapperFactory;
+		this.textMapperFactory = mapperFactory;
+		this.binary = false;
+	}
+
+	public JacksonValueCodecFactory(ObjectMapperFactory binaryMapperFactory,
+			ObjectMapperFactory textMapperFactory) {
+		Validator.validateNotNull(binaryMapperFactory,
+				"Binary ObjectMapperFactory should not be null");
+		Validator.validateNotNull(textMapperFactory, "Text ObjectMapperFactory should not be null");
+		this.mapperFactory = binaryMapperFactory;
+		this.textMapperFactory = textMapperFactory;
+		this.binary = true;
+	}
+
+	@Override
+	public <T> ValueCodec<T> getCodec(Class<?> entityClass, Class<T> valueClass)
+	{
+		return new JacksonValueCodec<T>(mapperFactory.getMapper(entityClass),
+				textMapperFactory.getMapper(entityClass), valueClass, binary);
+	}
+}
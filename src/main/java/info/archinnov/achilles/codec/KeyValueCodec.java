@@ -0,0 +1,62 @@
+package info.archinnov.achilles.codec;
+
+import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.exception.AchillesException;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.codehaus.jackson.map.ObjectReader;
+import org.codehaus.jackson.map.ObjectWriter;
+import org.codehaus.jackson.type.JavaType;
+
+/**
+ * KeyValueCodec
+ *
+ * @author DuyHai DOAN
+ *
+ *         Codec of the JSON KeyValue entries of a map property, bound once to KeyValue&lt;K,
+ *         V&gt;. The key and the value are read to their declared classes in a single pass, no
+ *         further cast or parsing is needed
+ *
+ */
+public class KeyValueCodec<K, V>
+{
+	private final JavaType keyValueType;
+	private final ObjectReader reader;
+	private final ObjectWriter writer;
+
+	public KeyValueCodec(ObjectMapper mapper, Class<K> keyClass, Class<V> valueClass) {
+		this.keyValueType = mapper.getTypeFactory().constructParametricType(KeyValue.class,
+				keyClass, valueClass);
+		this.reader = mapper.reader(keyValueType);
+		this.writer = mapper.writerWithType(keyValueType);
+	}
+
+	public String encode(KeyValue<K, V> keyValue)
+	{
+		try
+		{
+			return writer.writeValueAsString(keyValue);
+		}
+		catch (Exception e)
+		{
+			throw new AchillesException("Cannot encode map entry '" + keyValue.getKey()
+					+ "' as " + keyValueType, e);
+		}
+	}
+
+	public KeyValue<K, V> decode(Object encoded)
+	{
+		if (encoded == null)
+		{
+			return null;
+		}
+		try
+		{
+			return reader.readValue((String) encoded);
+		}
+		catch (Exception e)
+		{
+			throw new AchillesException("Cannot decode map entry as " + keyValueType, e);
+		}
+	}
+}
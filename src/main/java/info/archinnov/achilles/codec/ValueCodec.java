@@ -0,0 +1,30 @@
+package info.archinnov.achilles.codec;
+
+/**
+ * ValueCodec
+ *
+ * @author DuyHai DOAN
+ *
+ *         Encoder of the property values which have no native Cassandra encoding: POJOs, list
+ *         and set elements. A codec is bound to one value type and created once per PropertyMeta
+ *         by a ValueCodecFactory, so that it can cache its type-bound readers and writers
+ *
+ */
+public interface ValueCodec<T>
+{
+	/**
+	 * Encode a value
+	 *
+	 * @return a String for textual codecs, a byte[] for binary codecs
+	 */
+	public Object encode(T value);
+
+	/**
+	 * Decode a value read from Cassandra
+	 *
+	 * @param encoded
+	 *            a String or a byte[]. Binary codecs should still accept the JSON strings written
+	 *            before they were enabled
+	 */
+	public T decode(Object encoded);
+}
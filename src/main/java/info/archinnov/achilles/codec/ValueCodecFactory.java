@@ -0,0 +1,16 @@
+package info.archinnov.achilles.codec;
+
+/**
+ * ValueCodecFactory
+ *
+ * @author DuyHai DOAN
+ *
+ *         Provide the ValueCodec of each property, based on entity type. A factory can also be
+ *         set on a single property with the @Codec annotation, it should then have a public no-arg
+ *         constructor
+ *
+ */
+public interface ValueCodecFactory
+{
+	public <T> ValueCodec<T> getCodec(Class<?> entityClass, Class<T> valueClass);
+}
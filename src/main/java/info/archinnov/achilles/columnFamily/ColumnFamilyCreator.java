@@ -1,6 +1,8 @@
 package info.archinnov.achilles.columnFamily;
 
+import info.archinnov.achilles.codec.JacksonValueCodec;
 import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.dao.GenericCounterDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -13,6 +15,7 @@ import java.util.regex.Pattern;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.ddl.ColumnFamilyDefinition;
+import me.prettyprint.hector.api.ddl.ComparatorType;
 import me.prettyprint.hector.api.ddl.KeyspaceDefinition;
 
 import org.apache.commons.lang.StringUtils;
@@ -111,6 +114,44 @@ public class ColumnFamilyCreator
 			}
 
 			this.validateOrCreateCFForEntity(entityMeta, forceColumnFamilyCreation);
+
+			if (entityMeta.getCounterDao() != null)
+			{
+				this.validateOrCreateCFForCounter(entityMeta, forceColumnFamilyCreation);
+			}
+		}
+	}
+
+	private <ID> void validateOrCreateCFForCounter(EntityMeta<ID> entityMeta,
+			boolean forceColumnFamilyCreation)
+	{
+		GenericCounterDao<ID> counterDao = entityMeta.getCounterDao();
+		String counterColumnFamilyName = counterDao.getColumnFamily();
+
+		ColumnFamilyDefinition cfDef = this.discoverColumnFamily(counterColumnFamilyName);
+		if (cfDef == null)
+		{
+			if (forceColumnFamilyCreation)
+			{
+				log.debug("Force creation of counter column family for entityMeta {}",
+						entityMeta.getClassName());
+
+				cfDef = this.columnFamilyHelper.buildCounterCF(this.keyspace.getKeyspaceName(),
+						entityMeta.getIdSerializer(), counterColumnFamilyName,
+						entityMeta.getClassName());
+				this.addColumnFamily(cfDef);
+			}
+			else
+			{
+				throw new InvalidColumnFamilyException("The required counter column family '"
+						+ counterColumnFamilyName + "' does not exist for entity '"
+						+ entityMeta.getClassName() + "'");
+			}
+		}
+		else
+		{
+			this.columnFamilyHelper.validateCounterCF(cfDef, entityMeta.getIdSerializer(),
+					counterColumnFamilyName);
 		}
 	}
 
@@ -168,6 +209,43 @@ public class ColumnFamilyCreator
 		else
 		{
 			this.columnFamilyHelper.validateCFWithEntityMeta(cfDef, entityMeta);
+
+			if (!entityMeta.isColumnFamilyDirectMapping()
+					&& entityMeta.getEntityDao() != null
+					&& StringUtils.equals(cfDef.getDefaultValidationClass(),
+							ComparatorType.UTF8TYPE.getClassName()))
+			{
+				log.info(
+						"The column family '{}' validates values as UTF8Type, values are written as JSON strings. Update its default_validation_class to BytesType to enable native value encoding",
+						entityMeta.getColumnFamilyName());
+				entityMeta.getEntityDao().setNativeValueEncoding(false);
+				for (PropertyMeta<?, ?> propertyMeta : entityMeta.getPropertyMetas().values())
+				{
+					if (propertyMeta.getCompressionThreshold() > 0)
+					{
+						log.warn(
+								"The property '{}' of entity '{}' cannot be compressed in a column family validating values as UTF8Type",
+								propertyMeta.getPropertyName(), entityMeta.getClassName());
+						propertyMeta.setCompressionThreshold(0);
+					}
+					if (!propertyMeta.type().isExternal()
+							&& propertyMeta.getValueCodec() instanceof JacksonValueCodec
+							&& ((JacksonValueCodec<?>) propertyMeta.getValueCodec()).isBinary())
+					{
+						log.warn(
+								"The property '{}' of entity '{}' is written as JSON, binary values cannot be written in a column family validating values as UTF8Type",
+								propertyMeta.getPropertyName(), entityMeta.getClassName());
+						switchToTextCodec(propertyMeta);
+					}
+				}
+			}
 		}
 	}
+
+	@SuppressWarnings("unchecked")
+	private <K, V> void switchToTextCodec(PropertyMeta<K, V> propertyMeta)
+	{
+		propertyMeta.setValueCodec(((JacksonValueCodec<V>) propertyMeta.getValueCodec())
+				.textCodec());
+	}
 }
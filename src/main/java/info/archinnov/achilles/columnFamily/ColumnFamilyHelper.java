@@ -2,9 +2,11 @@ package info.archinnov.achilles.columnFamily;
 
 import static info.archinnov.achilles.serializer.SerializerUtils.OBJECT_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.TYPED_VALUE_SRZ;
 import info.archinnov.achilles.entity.PropertyHelper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.exception.InvalidColumnFamilyException;
 
 import java.util.regex.Matcher;
@@ -32,7 +34,8 @@ public class ColumnFamilyHelper
 	private static final Logger log = LoggerFactory.getLogger(ColumnFamilyHelper.class);
 
 	private static final String DYNAMIC_TYPE_ALIASES = "(a=>AsciiType,b=>BytesType,c=>BooleanType,d=>DateType,e=>DecimalType,z=>DoubleType,f=>FloatType,i=>IntegerType,j=>Int32Type,x=>LexicalUUIDType,l=>LongType,t=>TimeUUIDType,s=>UTF8Type,u=>UUIDType)";
-	private String COMPARATOR_TYPE_AND_ALIAS = "DynamicCompositeType(f=>org.apache.cassandra.db.marshal.FloatType,d=>org.apache.cassandra.db.marshal.DateType,e=>org.apache.cassandra.db.marshal.DecimalType,b=>org.apache.cassandra.db.marshal.BytesType,c=>org.apache.cassandra.db.marshal.BooleanType,a=>org.apache.cassandra.db.marshal.AsciiType,l=>org.apache.cassandra.db.marshal.LongType,j=>org.apache.cassandra.db.marshal.Int32Type,i=>org.apache.cassandra.db.marshal.IntegerType,u=>org.apache.cassandra.db.marshal.UUIDType,t=>org.apache.cassandra.db.marshal.TimeUUIDType,s=>org.apache.cassandra.db.marshal.UTF8Type,z=>org.apache.cassandra.db.marshal.DoubleType,x=>org.apache.cassandra.db.marshal.LexicalUUIDType)";
+	public static final String DYNAMIC_COMPOSITE_COMPARATOR_TYPE = "DynamicCompositeType(f=>org.apache.cassandra.db.marshal.FloatType,d=>org.apache.cassandra.db.marshal.DateType,e=>org.apache.cassandra.db.marshal.DecimalType,b=>org.apache.cassandra.db.marshal.BytesType,c=>org.apache.cassandra.db.marshal.BooleanType,a=>org.apache.cassandra.db.marshal.AsciiType,l=>org.apache.cassandra.db.marshal.LongType,j=>org.apache.cassandra.db.marshal.Int32Type,i=>org.apache.cassandra.db.marshal.IntegerType,u=>org.apache.cassandra.db.marshal.UUIDType,t=>org.apache.cassandra.db.marshal.TimeUUIDType,s=>org.apache.cassandra.db.marshal.UTF8Type,z=>org.apache.cassandra.db.marshal.DoubleType,x=>org.apache.cassandra.db.marshal.LexicalUUIDType)";
+	private String COMPARATOR_TYPE_AND_ALIAS = DYNAMIC_COMPOSITE_COMPARATOR_TYPE;
 
 	public static final Pattern CF_PATTERN = Pattern.compile("[a-zA-Z0-9_]{1,48}");
 	public PropertyHelper helper = new PropertyHelper();
@@ -51,7 +54,7 @@ public class ColumnFamilyHelper
 
 		cfDef.setKeyValidationClass(keyValidationType);
 		cfDef.setComparatorTypeAlias(DYNAMIC_TYPE_ALIASES);
-		cfDef.setDefaultValidationClass(STRING_SRZ.getComparatorType().getTypeName());
+		cfDef.setDefaultValidationClass(TYPED_VALUE_SRZ.getComparatorType().getTypeName());
 		cfDef.setComment("Column family for entity '" + entityName + "'");
 
 		StringBuilder builder = new StringBuilder("\n\n");
@@ -63,7 +66,7 @@ public class ColumnFamilyHelper
 				ComparatorType.DYNAMICCOMPOSITETYPE.getTypeName());
 		builder.append(DYNAMIC_TYPE_ALIASES).append("'\n");
 		builder.append("\t\tand default_validation_class = ")
-				.append(ComparatorType.UTF8TYPE.getTypeName()).append("\n");
+				.append(ComparatorType.BYTESTYPE.getTypeName()).append("\n");
 		builder.append("\t\tand comment = 'Column family for entity ").append(entityName)
 				.append("'\n\n");
 
@@ -105,6 +108,10 @@ public class ColumnFamilyHelper
 		}
 
 		String defaultValidationType = valueSerializer.getComparatorType().getTypeName();
+		if (propertyMeta.type() == PropertyType.COUNTER_WIDE_MAP)
+		{
+			defaultValidationType = ComparatorType.COUNTERTYPE.getClassName();
+		}
 		cfDef.setDefaultValidationClass(defaultValidationType);
 		cfDef.setComment("Column family for entity '" + columnFamilyName + "'");
 
@@ -128,6 +135,66 @@ public class ColumnFamilyHelper
 		return cfDef;
 	}
 
+	public ColumnFamilyDefinition buildCounterCF(String keyspaceName, Serializer<?> idSerializer,
+			String columnFamilyName, String entityName)
+	{
+		ColumnFamilyDefinition cfDef = HFactory.createColumnFamilyDefinition(keyspaceName,
+				columnFamilyName, ComparatorType.COMPOSITETYPE);
+
+		String keyValidationType = idSerializer.getComparatorType().getTypeName();
+		String comparatorTypesAlias = "(" + ComparatorType.UTF8TYPE.getTypeName() + ")";
+
+		cfDef.setKeyValidationClass(keyValidationType);
+		cfDef.setComparatorTypeAlias(comparatorTypesAlias);
+		cfDef.setDefaultValidationClass(ComparatorType.COUNTERTYPE.getClassName());
+		cfDef.setComment("Counter column family for entity '" + entityName + "'");
+
+		StringBuilder builder = new StringBuilder("\n\n");
+		builder.append("Create counter column family for entity ");
+		builder.append("'").append(entityName).append("' : \n");
+		builder.append("\tcreate column family ").append(columnFamilyName).append("\n");
+		builder.append("\t\twith key_validation_class = ").append(keyValidationType).append("\n");
+		builder.append("\t\tand comparator = '").append(ComparatorType.COMPOSITETYPE.getTypeName());
+		builder.append(comparatorTypesAlias).append("'\n");
+		builder.append("\t\tand default_validation_class = ")
+				.append(ComparatorType.COUNTERTYPE.getTypeName()).append("\n");
+		builder.append("\t\tand comment = 'Counter column family for entity ").append(entityName)
+				.append("'\n\n");
+
+		log.debug(builder.toString());
+
+		return cfDef;
+	}
+
+	public void validateCounterCF(ColumnFamilyDefinition cfDef, Serializer<?> idSerializer,
+			String columnFamilyName)
+	{
+		log.trace("Validating counter column family {} definition", columnFamilyName);
+
+		String keyValidationType = idSerializer.getComparatorType().getClassName();
+		if (!StringUtils.equals(cfDef.getKeyValidationClass(), keyValidationType))
+		{
+			throw new InvalidColumnFamilyException("The column family '" + columnFamilyName
+					+ "' key validation class should be '" + keyValidationType + "'");
+		}
+
+		if (!StringUtils.equals(cfDef.getDefaultValidationClass(),
+				ComparatorType.COUNTERTYPE.getClassName()))
+		{
+			throw new InvalidColumnFamilyException("The column family '" + columnFamilyName
+					+ "' default validation class should be '"
+					+ ComparatorType.COUNTERTYPE.getClassName() + "'");
+		}
+
+		String comparatorType = "CompositeType(" + ComparatorType.UTF8TYPE.getClassName() + ")";
+		if (cfDef.getComparatorType() == null
+				|| !StringUtils.equals(cfDef.getComparatorType().getTypeName(), comparatorType))
+		{
+			throw new InvalidColumnFamilyException("The column family '" + columnFamilyName
+					+ "' comparator type should be '" + comparatorType + "'");
+		}
+	}
+
 	public void validateCFWithEntityMeta(ColumnFamilyDefinition cfDef, EntityMeta<?> entityMeta)
 	{
 
@@ -182,6 +249,15 @@ public class ColumnFamilyHelper
 			throw new InvalidColumnFamilyException("The column family '" + externalColumnFamilyName
 					+ "' comparator type should be '" + comparatorTypeAlias + "'");
 		}
+
+		if (propertyMeta.type() == PropertyType.COUNTER_WIDE_MAP
+				&& !StringUtils.equals(cfDef.getDefaultValidationClass(),
+						ComparatorType.COUNTERTYPE.getClassName()))
+		{
+			throw new InvalidColumnFamilyException("The column family '" + externalColumnFamilyName
+					+ "' default validation class should be '"
+					+ ComparatorType.COUNTERTYPE.getClassName() + "'");
+		}
 	}
 
 	public static String normalizerAndValidateColumnFamilyName(String cfName)
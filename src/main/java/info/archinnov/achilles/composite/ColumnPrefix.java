@@ -0,0 +1,67 @@
+package info.archinnov.achilles.composite;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.BYTE_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+
+import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+/**
+ * ColumnPrefix
+ *
+ * @author DuyHai DOAN
+ *
+ *         (type flag, property name) components shared by all the column names of a property,
+ *         serialized once. The serialized form of the property name component depends on its
+ *         equality, so one buffer is kept for each equality. The buffers are shared and must not
+ *         be written to
+ *
+ */
+public class ColumnPrefix
+{
+	static final String BYTES_COMPARATOR = BYTE_SRZ.getComparatorType().getTypeName();
+	static final String UTF8_COMPARATOR = STRING_SRZ.getComparatorType().getTypeName();
+
+	private final byte[] flag;
+	private final String propertyName;
+	private final Map<ComponentEquality, ByteBuffer> serializedByEquality = new EnumMap<ComponentEquality, ByteBuffer>(
+			ComponentEquality.class);
+
+	public ColumnPrefix(PropertyType type, String propertyName) {
+		this.flag = type.flag();
+		this.propertyName = propertyName;
+		for (ComponentEquality equality : ComponentEquality.values())
+		{
+			DynamicComposite composite = new DynamicComposite();
+			composite.setComponent(0, flag, BYTE_SRZ, BYTES_COMPARATOR);
+			composite.setComponent(1, propertyName, STRING_SRZ, UTF8_COMPARATOR, equality);
+			serializedByEquality.put(equality, composite.serialize());
+		}
+	}
+
+	/**
+	 * Type flag, shared by all the column names of the property. Must not be modified
+	 */
+	public byte[] getFlag()
+	{
+		return flag;
+	}
+
+	public String getPropertyName()
+	{
+		return propertyName;
+	}
+
+	/**
+	 * Serialized prefix, the property name component ending with the given equality
+	 */
+	public ByteBuffer serialized(ComponentEquality nameEquality)
+	{
+		return serializedByEquality.get(nameEquality).duplicate();
+	}
+}
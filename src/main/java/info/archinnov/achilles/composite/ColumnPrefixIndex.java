@@ -0,0 +1,154 @@
+package info.archinnov.achilles.composite;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.SERIAL_VERSION_UID;
+import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+
+/**
+ * ColumnPrefixIndex
+ *
+ * @author DuyHai DOAN
+ *
+ *         Open addressing table from the serialized (type flag, property name) prefixes of an
+ *         entity to their PropertyMeta.
+ *
+ *         Serialized column names are matched in place: the prefix length is read from the
+ *         component headers, hashed and compared byte by byte, without deserializing the column
+ *         name nor decoding the property name
+ *
+ */
+public class ColumnPrefixIndex
+{
+	private static final int ALIAS_MASK = 0x8000;
+	private static final byte[] SERIAL_VERSION_UID_PREFIX = toBytes(new ColumnPrefix(
+			SERIAL_VERSION_UID, SERIAL_VERSION_UID.name()));
+
+	private final byte[][] prefixes;
+	private final PropertyMeta<?, ?>[] propertyMetas;
+	private final int mask;
+
+	public ColumnPrefixIndex(Collection<PropertyMeta<?, ?>> metas) {
+		int capacity = Integer.highestOneBit(Math.max(metas.size(), 1) * 2) * 2;
+		this.prefixes = new byte[capacity][];
+		this.propertyMetas = new PropertyMeta<?, ?>[capacity];
+		this.mask = capacity - 1;
+
+		for (PropertyMeta<?, ?> propertyMeta : metas)
+		{
+			byte[] prefix = toBytes(propertyMeta.getColumnPrefix());
+			int slot = hash(ByteBuffer.wrap(prefix), 0, prefix.length) & mask;
+			while (prefixes[slot] != null)
+			{
+				slot = (slot + 1) & mask;
+			}
+			prefixes[slot] = prefix;
+			propertyMetas[slot] = propertyMeta;
+		}
+	}
+
+	/**
+	 * Find the property of a serialized column name
+	 *
+	 * @return the PropertyMeta, or null when no property of the entity has this prefix
+	 */
+	public PropertyMeta<?, ?> find(ByteBuffer columnName)
+	{
+		int length = prefixLength(columnName);
+		if (length < 0)
+		{
+			return null;
+		}
+
+		int start = columnName.position();
+		int slot = hash(columnName, start, length) & mask;
+		while (prefixes[slot] != null)
+		{
+			if (matches(prefixes[slot], columnName, start, length))
+			{
+				return propertyMetas[slot];
+			}
+			slot = (slot + 1) & mask;
+		}
+		return null;
+	}
+
+	public boolean isSerialVersionUID(ByteBuffer columnName)
+	{
+		int length = prefixLength(columnName);
+		return length >= 0
+				&& matches(SERIAL_VERSION_UID_PREFIX, columnName, columnName.position(), length);
+	}
+
+	/**
+	 * Length of the first two components, read from their headers. -1 when the column name is
+	 * shorter than its headers announce
+	 */
+	static int prefixLength(ByteBuffer columnName)
+	{
+		int start = columnName.position();
+		int limit = columnName.limit();
+		int offset = start;
+		for (int component = 0; component < 2; component++)
+		{
+			if (offset + 2 > limit)
+			{
+				return -1;
+			}
+			int header = columnName.getShort(offset) & 0xFFFF;
+			offset += 2;
+			if ((header & ALIAS_MASK) == 0)
+			{
+				offset += header;
+			}
+
+			if (offset + 2 > limit)
+			{
+				return -1;
+			}
+			int valueLength = columnName.getShort(offset) & 0xFFFF;
+			offset += 2 + valueLength + 1;
+			if (offset > limit)
+			{
+				return -1;
+			}
+		}
+		return offset - start;
+	}
+
+	private static int hash(ByteBuffer bytes, int start, int length)
+	{
+		int hash = 1;
+		for (int i = start; i < start + length; i++)
+		{
+			hash = 31 * hash + bytes.get(i);
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean matches(byte[] prefix, ByteBuffer columnName, int start, int length)
+	{
+		if (prefix.length != length)
+		{
+			return false;
+		}
+		for (int i = 0; i < length; i++)
+		{
+			if (prefix[i] != columnName.get(start + i))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static byte[] toBytes(ColumnPrefix columnPrefix)
+	{
+		ByteBuffer serialized = columnPrefix.serialized(EQUAL);
+		byte[] bytes = new byte[serialized.remaining()];
+		serialized.get(bytes);
+		return bytes;
+	}
+}
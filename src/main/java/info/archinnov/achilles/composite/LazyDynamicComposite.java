@@ -0,0 +1,243 @@
+package info.archinnov.achilles.composite;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import me.prettyprint.hector.api.Serializer;
+import me.prettyprint.hector.api.beans.AbstractComposite;
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+/**
+ * LazyDynamicComposite
+ *
+ * @author DuyHai DOAN
+ *
+ *         Column name read from Cassandra, kept serialized until one of its components is
+ *         accessed. Columns whose names are only matched against serialized prefixes are never
+ *         deserialized
+ *
+ */
+public class LazyDynamicComposite extends DynamicComposite
+{
+	private static final long serialVersionUID = 1L;
+
+	private ByteBuffer raw;
+
+	public LazyDynamicComposite(ByteBuffer raw) {
+		this.raw = raw.duplicate();
+	}
+
+	public boolean isMaterialized()
+	{
+		return raw == null;
+	}
+
+	private void materialize()
+	{
+		if (raw != null)
+		{
+			ByteBuffer bytes = raw;
+			raw = null;
+			super.deserialize(bytes);
+		}
+	}
+
+	@Override
+	public ByteBuffer serialize()
+	{
+		if (raw != null)
+		{
+			return raw.duplicate();
+		}
+		return super.serialize();
+	}
+
+	@Override
+	public void deserialize(ByteBuffer bytes)
+	{
+		raw = null;
+		super.deserialize(bytes);
+	}
+
+	@Override
+	public void setEquality(ComponentEquality equality)
+	{
+		materialize();
+		super.setEquality(equality);
+	}
+
+	@Override
+	public List<Component<?>> getComponents()
+	{
+		materialize();
+		return super.getComponents();
+	}
+
+	@Override
+	public void setComponents(List<Component<?>> components)
+	{
+		raw = null;
+		super.setComponents(components);
+	}
+
+	@Override
+	public void clear()
+	{
+		raw = null;
+		super.clear();
+	}
+
+	@Override
+	public int size()
+	{
+		materialize();
+		return super.size();
+	}
+
+	@Override
+	public <T> AbstractComposite addComponent(int index, T element,
+			ComponentEquality equality)
+	{
+		materialize();
+		return super.addComponent(index, element, equality);
+	}
+
+	@Override
+	public <T> AbstractComposite addComponent(T value, Serializer<T> s)
+	{
+		materialize();
+		return super.addComponent(value, s);
+	}
+
+	@Override
+	public <T> AbstractComposite addComponent(T value, Serializer<T> s, String comparator)
+	{
+		materialize();
+		return super.addComponent(value, s, comparator);
+	}
+
+	@Override
+	public <T> AbstractComposite addComponent(T value, Serializer<T> s, String comparator,
+			ComponentEquality equality)
+	{
+		materialize();
+		return super.addComponent(value, s, comparator, equality);
+	}
+
+	@Override
+	public <T> AbstractComposite addComponent(int index, T value, Serializer<T> s,
+			String comparator, ComponentEquality equality)
+	{
+		materialize();
+		return super.addComponent(index, value, s, comparator, equality);
+	}
+
+	@Override
+	public boolean addAll(Collection<? extends Object> c)
+	{
+		materialize();
+		return super.addAll(c);
+	}
+
+	@Override
+	public boolean containsAll(Collection<?> c)
+	{
+		materialize();
+		return super.containsAll(c);
+	}
+
+	@Override
+	public boolean removeAll(Collection<?> c)
+	{
+		materialize();
+		return super.removeAll(c);
+	}
+
+	@Override
+	public boolean retainAll(Collection<?> c)
+	{
+		materialize();
+		return super.retainAll(c);
+	}
+
+	@Override
+	public boolean addAll(int i, Collection<? extends Object> c)
+	{
+		materialize();
+		return super.addAll(i, c);
+	}
+
+	@Override
+	public void add(int index, Object element)
+	{
+		materialize();
+		super.add(index, element);
+	}
+
+	@Override
+	public Object remove(int index)
+	{
+		materialize();
+		return super.remove(index);
+	}
+
+	@Override
+	public <T> AbstractComposite setComponent(int index, T value, Serializer<T> s)
+	{
+		materialize();
+		return super.setComponent(index, value, s);
+	}
+
+	@Override
+	public <T> AbstractComposite setComponent(int index, T value, Serializer<T> s,
+			String comparator)
+	{
+		materialize();
+		return super.setComponent(index, value, s, comparator);
+	}
+
+	@Override
+	public <T> AbstractComposite setComponent(int index, T value, Serializer<T> s,
+			String comparator, ComponentEquality equality)
+	{
+		materialize();
+		return super.setComponent(index, value, s, comparator, equality);
+	}
+
+	@Override
+	public Object set(int index, Object element)
+	{
+		materialize();
+		return super.set(index, element);
+	}
+
+	@Override
+	public Object get(int i)
+	{
+		materialize();
+		return super.get(i);
+	}
+
+	@Override
+	public <T> T get(int i, Serializer<T> s) throws ClassCastException
+	{
+		materialize();
+		return super.get(i, s);
+	}
+
+	@Override
+	public Component<?> getComponent(int i)
+	{
+		materialize();
+		return super.getComponent(i);
+	}
+
+	@Override
+	public Iterator<Component<?>> componentsIterator()
+	{
+		materialize();
+		return super.componentsIterator();
+	}
+}
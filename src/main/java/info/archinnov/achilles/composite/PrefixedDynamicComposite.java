@@ -0,0 +1,112 @@
+package info.archinnov.achilles.composite;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.BYTE_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import me.prettyprint.hector.api.beans.DynamicComposite;
+import me.prettyprint.hector.api.ddl.ComparatorType;
+
+/**
+ * PrefixedDynamicComposite
+ *
+ * @author DuyHai DOAN
+ *
+ *         DynamicComposite whose (type flag, property name) components are taken from the
+ *         pre-serialized ColumnPrefix of the property. Only the components appended after them
+ *         are serialized, straight into a buffer of the exact size.
+ *
+ *         The serialized form is the same as the one of a plain DynamicComposite with the same
+ *         components. The first two components must not be replaced, apart from the equality of
+ *         the property name
+ *
+ */
+public class PrefixedDynamicComposite extends DynamicComposite
+{
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final int ALIAS_MASK = 0x8000;
+
+	private final ColumnPrefix prefix;
+
+	public PrefixedDynamicComposite(ColumnPrefix prefix) {
+		this.prefix = prefix;
+		setComponent(0, prefix.getFlag(), BYTE_SRZ, ColumnPrefix.BYTES_COMPARATOR);
+		setComponent(1, prefix.getPropertyName(), STRING_SRZ, ColumnPrefix.UTF8_COMPARATOR);
+	}
+
+	@Override
+	public ByteBuffer serialize()
+	{
+		List<Component<?>> components = getComponents();
+		int lastIndex = components.size() - 1;
+
+		ComponentEquality nameEquality = components.get(1).getEquality();
+		if (lastIndex == 1 && getEquality() != EQUAL)
+		{
+			nameEquality = getEquality();
+		}
+		ByteBuffer head = prefix.serialized(nameEquality);
+		if (lastIndex == 1)
+		{
+			return head;
+		}
+
+		int suffixCount = lastIndex - 1;
+		String[] comparators = new String[suffixCount];
+		ByteBuffer[] values = new ByteBuffer[suffixCount];
+		int size = head.remaining();
+		for (int i = 0; i < suffixCount; i++)
+		{
+			Component<?> component = components.get(i + 2);
+			comparators[i] = component.getComparator() == null ? ComparatorType.BYTESTYPE
+					.getTypeName() : component.getComparator();
+			ByteBuffer value = component.getBytes(component.getSerializer());
+			values[i] = value == null ? ByteBuffer.allocate(0) : value;
+
+			size += headerLength(comparators[i]) + 2 + values[i].remaining() + 1;
+		}
+
+		ByteBuffer serialized = ByteBuffer.allocate(size);
+		serialized.put(head);
+		for (int i = 0; i < suffixCount; i++)
+		{
+			writeHeader(serialized, comparators[i]);
+			serialized.putShort((short) values[i].remaining());
+			serialized.put(values[i].slice());
+
+			ComponentEquality equality = components.get(i + 2).getEquality();
+			if (i == suffixCount - 1 && getEquality() != EQUAL)
+			{
+				equality = getEquality();
+			}
+			serialized.put(equality.toByte());
+		}
+		serialized.flip();
+		return serialized;
+	}
+
+	private int headerLength(String comparator)
+	{
+		return DEFAULT_ALIAS_TO_COMPARATOR_MAPPING.containsValue(comparator) ? 2 : 2 + comparator
+				.getBytes(UTF_8).length;
+	}
+
+	private void writeHeader(ByteBuffer serialized, String comparator)
+	{
+		Byte alias = DEFAULT_ALIAS_TO_COMPARATOR_MAPPING.inverse().get(comparator);
+		if (alias != null)
+		{
+			serialized.putShort((short) (ALIAS_MASK | alias));
+		}
+		else
+		{
+			byte[] name = comparator.getBytes(UTF_8);
+			serialized.putShort((short) name.length);
+			serialized.put(name);
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package info.archinnov.achilles.composite.factory;
 
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.MultiKeyProperties;
@@ -144,4 +145,14 @@ public class CompositeKeyFactory
 
 		return queryComp;
 	}
+
+	public <K, V> Composite createForCounter(PropertyMeta<K, V> propertyMeta)
+	{
+		log.trace("Creating counter composite for propertyMeta {}", propertyMeta.getPropertyName());
+
+		Composite composite = new Composite();
+		composite.setComponent(0, propertyMeta.getPropertyName(), STRING_SRZ, STRING_SRZ
+				.getComparatorType().getTypeName());
+		return composite;
+	}
 }
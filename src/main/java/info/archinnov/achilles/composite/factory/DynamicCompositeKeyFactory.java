@@ -1,13 +1,13 @@
 package info.archinnov.achilles.composite.factory;
 
-import static info.archinnov.achilles.serializer.SerializerUtils.BYTE_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.INT_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
+import info.archinnov.achilles.composite.ColumnPrefix;
+import info.archinnov.achilles.composite.PrefixedDynamicComposite;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.MultiKeyProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
-import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.type.WideMap;
 import info.archinnov.achilles.helper.CompositeHelper;
 import info.archinnov.achilles.validation.Validator;
@@ -28,6 +28,9 @@ import org.slf4j.LoggerFactory;
 public class DynamicCompositeKeyFactory {
     private static final Logger log = LoggerFactory.getLogger(DynamicCompositeKeyFactory.class);
 
+    private static final String UTF8_COMPARATOR = STRING_SRZ.getComparatorType().getTypeName();
+    private static final String INT_COMPARATOR = INT_SRZ.getComparatorType().getTypeName();
+
     private CompositeHelper compositeHelper = new CompositeHelper();
     private EntityHelper entityHelper = new EntityHelper();
 
@@ -35,22 +38,15 @@ public class DynamicCompositeKeyFactory {
         log.trace("Creating base dynamic composite for propertyMeta {} for batch insert",
                 propertyMeta.getPropertyName());
 
-        DynamicComposite composite = new DynamicComposite();
-        composite.setComponent(0, propertyMeta.type().flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName());
-        composite.setComponent(1, propertyMeta.getPropertyName(), STRING_SRZ, STRING_SRZ.getComparatorType()
-                .getTypeName());
-        return composite;
+        return new PrefixedDynamicComposite(propertyMeta.getColumnPrefix());
     }
 
     public <K, V> DynamicComposite createForBatchInsertMultiValue(PropertyMeta<K, V> propertyMeta, int hashOrPosition) {
         log.trace("Creating base dynamic composite for propertyMeta {} for batch insert",
                 propertyMeta.getPropertyName());
 
-        DynamicComposite composite = new DynamicComposite();
-        composite.setComponent(0, propertyMeta.type().flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName());
-        composite.setComponent(1, propertyMeta.getPropertyName(), STRING_SRZ, STRING_SRZ.getComparatorType()
-                .getTypeName());
-        composite.setComponent(2, hashOrPosition, INT_SRZ, INT_SRZ.getComparatorType().getTypeName());
+        DynamicComposite composite = new PrefixedDynamicComposite(propertyMeta.getColumnPrefix());
+        composite.setComponent(2, hashOrPosition, INT_SRZ, INT_COMPARATOR);
         return composite;
     }
 
@@ -59,15 +55,11 @@ public class DynamicCompositeKeyFactory {
 
         log.trace("Creating dynamic composite for propertyMeta {} for insert", propertyMeta.getPropertyName());
 
-        DynamicComposite composite = new DynamicComposite();
-        PropertyType type = propertyMeta.type();
+        DynamicComposite composite = new PrefixedDynamicComposite(propertyMeta.getColumnPrefix());
         String propertyName = propertyMeta.getPropertyName();
         Serializer<T> keySerializer = (Serializer<T>) propertyMeta.getKeySerializer();
 
         if (propertyMeta.isSingleKey()) {
-
-            composite.setComponent(0, type.flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName());
-            composite.setComponent(1, propertyName, STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
             composite.setComponent(2, key, keySerializer, keySerializer.getComparatorType().getTypeName());
         } else {
             MultiKeyProperties multiKeyProperties = propertyMeta.getMultiKeyProperties();
@@ -85,9 +77,6 @@ public class DynamicCompositeKeyFactory {
                         + "' should not be null");
             }
 
-            composite.setComponent(0, type.flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName());
-            composite.setComponent(1, propertyName, STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName());
-
             for (int i = 0; i < srzCount; i++) {
                 Serializer<Object> srz = (Serializer<Object>) componentSerializers.get(i);
                 composite.setComponent(i + 2, keyValues.get(i), srz, srz.getComparatorType().getTypeName());
@@ -99,9 +88,9 @@ public class DynamicCompositeKeyFactory {
     public <K, V> DynamicComposite createBaseForQuery(PropertyMeta<K, V> propertyMeta, ComponentEquality equality) {
         log.trace("Creating base dynamic composite for propertyMeta {} query", propertyMeta.getPropertyName());
 
-        DynamicComposite composite = new DynamicComposite();
-        composite.addComponent(0, propertyMeta.type().flag(), ComponentEquality.EQUAL);
-        composite.addComponent(1, propertyMeta.getPropertyName(), equality);
+        ColumnPrefix prefix = propertyMeta.getColumnPrefix();
+        DynamicComposite composite = new PrefixedDynamicComposite(prefix);
+        composite.setComponent(1, prefix.getPropertyName(), STRING_SRZ, UTF8_COMPARATOR, equality);
 
         return composite;
     }
@@ -111,18 +100,14 @@ public class DynamicCompositeKeyFactory {
             ComponentEquality equality) {
         log.trace("Creating dynamic composite for propertyMeta {} query", propertyMeta.getPropertyName());
 
-        DynamicComposite composite = new DynamicComposite();
-        PropertyType type = propertyMeta.type();
+        DynamicComposite composite = new PrefixedDynamicComposite(propertyMeta.getColumnPrefix());
         String propertyName = propertyMeta.getPropertyName();
 
         if (propertyMeta.isSingleKey()) {
-            composite.addComponent(0, type.flag(), ComponentEquality.EQUAL);
-
             if (value != null) {
-                composite.addComponent(1, propertyName, ComponentEquality.EQUAL);
                 composite.addComponent(2, value, equality);
             } else {
-                composite.addComponent(1, propertyName, equality);
+                composite.setComponent(1, propertyName, STRING_SRZ, UTF8_COMPARATOR, equality);
             }
         } else {
             MultiKeyProperties multiKeyProperties = propertyMeta.getMultiKeyProperties();
@@ -138,13 +123,7 @@ public class DynamicCompositeKeyFactory {
 
             int lastNotNullIndex = compositeHelper.findLastNonNullIndexForComponents(propertyName, keyValues);
 
-            composite.setComponent(0, type.flag(), BYTE_SRZ, BYTE_SRZ.getComparatorType().getTypeName(), EQUAL);
-            composite.setComponent(1, propertyName, STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName(), EQUAL);
-
             if (lastNotNullIndex >= 0) {
-                composite.setComponent(1, propertyName, STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName(),
-                        EQUAL);
-
                 for (int i = 0; i <= lastNotNullIndex; i++) {
                     Serializer<Object> srz = (Serializer<Object>) componentSerializers.get(i);
                     Object keyValue = keyValues.get(i);
@@ -155,8 +134,7 @@ public class DynamicCompositeKeyFactory {
                     }
                 }
             } else {
-                composite.setComponent(1, propertyName, STRING_SRZ, STRING_SRZ.getComparatorType().getTypeName(),
-                        equality);
+                composite.setComponent(1, propertyName, STRING_SRZ, UTF8_COMPARATOR, equality);
             }
         }
         return composite;
@@ -3,16 +3,27 @@ package info.archinnov.achilles.dao;
 import static me.prettyprint.hector.api.factory.HFactory.createCounterSliceQuery;
 import static me.prettyprint.hector.api.factory.HFactory.createSliceQuery;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.type.ExportFormat;
 import info.archinnov.achilles.entity.type.WideMap;
+import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.iterator.AchillesJoinSliceIterator;
 import info.archinnov.achilles.iterator.AchillesSliceIterator;
+import info.archinnov.achilles.iterator.AdaptivePageSizer;
 import info.archinnov.achilles.iterator.CounterColumnSliceIterator;
 import info.archinnov.achilles.serializer.SerializerUtils;
 import info.archinnov.achilles.validation.Validator;
 
+import java.io.File;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import me.prettyprint.cassandra.model.thrift.ThriftCounterColumnQuery;
 import me.prettyprint.cassandra.service.KeyIterator;
@@ -24,11 +35,14 @@ import me.prettyprint.hector.api.beans.HColumn;
 import me.prettyprint.hector.api.beans.HCounterColumn;
 import me.prettyprint.hector.api.beans.Rows;
 import me.prettyprint.hector.api.factory.HFactory;
+import me.prettyprint.hector.api.mutation.MutationResult;
 import me.prettyprint.hector.api.mutation.Mutator;
 import me.prettyprint.hector.api.query.CounterQuery;
 import me.prettyprint.hector.api.query.SliceCounterQuery;
 import me.prettyprint.hector.api.query.SliceQuery;
 
+import org.apache.cassandra.thrift.KeySlice;
+
 import com.google.common.base.Function;
 import com.google.common.collect.Lists;
 
@@ -48,6 +62,18 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 	protected String columnFamily;
 
 	public static int DEFAULT_LENGTH = 50;
+	public static int DEFAULT_REMOVE_CHUNK_SIZE = 1000;
+	public static int DEFAULT_TRUNCATE_BATCH_SIZE = 1000;
+	private static final int TRUNCATE_MIN_SPLITS = 16;
+
+	private ExecutorService prefetchExecutor;
+	private int prefetchDepth = 1;
+	private AdaptivePageSizer pageSizer;
+	private int removeChunkSize = DEFAULT_REMOVE_CHUNK_SIZE;
+	private ExecutorService removeExecutor;
+	private int removeMaxChunksInFlight = 1;
+	private volatile CounterAccumulator<K, N> counterAccumulator;
+	private TokenRangeHelper tokenRangeHelper;
 
 	protected Function<HColumn<N, V>, V> hColumnToValue = new Function<HColumn<N, V>, V>()
 	{
@@ -153,7 +179,7 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 	@SuppressWarnings("unchecked")
 	public List<HColumn<N, V>> getColumns(K key, List<N> names)
 	{
-		N[] columnsName = (N[]) names.toArray();
+		N[] columnsName = names.toArray((N[]) new AbstractComposite[names.size()]);
 		List<HColumn<N, V>> columns = new ArrayList<HColumn<N, V>>();
 		ColumnSlice<N, V> slices = HFactory
 				.createSliceQuery(keyspace, keySerializer, columnNameSerializer, valueSerializer)
@@ -180,40 +206,125 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 		mutator.addDeletion(key, columnFamily, name, columnNameSerializer);
 	}
 
-	public void removeColumnRange(K key, N start, N end)
+	public int removeColumnRange(K key, N start, N end)
 	{
-		this.removeColumnRange(key, start, end, false, Integer.MAX_VALUE);
+		return this.removeColumnRange(key, start, end, false, Integer.MAX_VALUE);
 	}
 
-	public void removeColumnRange(K key, N start, N end, boolean reverse, int count)
+	/**
+	 * Remove a range of columns, paging through the slice and deleting columns by chunks of
+	 * 
+	 * removeChunkSize. Chunks are executed on the remove executor if any
+	 * 
+	 * @return number of removed columns
+	 */
+	public int removeColumnRange(K key, N start, N end, boolean reverse, int count)
 	{
+		AchillesSliceIterator<K, N, V> iterator = buildRemoveIterator(key, start, end, reverse,
+				count);
+		LinkedList<Future<?>> pendingChunks = new LinkedList<Future<?>>();
+
 		Mutator<K> mutator = HFactory.createMutator(keyspace, keySerializer);
-		List<HColumn<N, V>> columns = createSliceQuery(keyspace, keySerializer,
-				columnNameSerializer, valueSerializer).setColumnFamily(columnFamily).setKey(key)
-				.setRange(start, end, reverse, count).execute().get().getColumns();
+		int removed = 0;
+		int chunkColumns = 0;
+		while (removed < count && iterator.hasNext())
+		{
+			mutator.addDeletion(key, columnFamily, iterator.next().getName(), columnNameSerializer);
+			removed++;
+			chunkColumns++;
+
+			if (chunkColumns == removeChunkSize)
+			{
+				executeChunk(mutator, pendingChunks);
+				mutator = HFactory.createMutator(keyspace, keySerializer);
+				chunkColumns = 0;
+			}
+		}
 
-		for (HColumn<N, V> column : columns)
+		if (chunkColumns > 0)
 		{
-			mutator.addDeletion(key, columnFamily, column.getName(), columnNameSerializer);
+			executeChunk(mutator, pendingChunks);
 		}
-		mutator.execute();
+		while (!pendingChunks.isEmpty())
+		{
+			await(pendingChunks.removeFirst());
+		}
+		return removed;
 	}
 
-	public void removeColumnRangeBatch(K key, N start, N end, Mutator<K> mutator)
+	public int removeColumnRangeBatch(K key, N start, N end, Mutator<K> mutator)
 	{
-		this.removeColumnRangeBatch(key, start, end, false, Integer.MAX_VALUE, mutator);
+		return this.removeColumnRangeBatch(key, start, end, false, Integer.MAX_VALUE, mutator);
 	}
 
-	public void removeColumnRangeBatch(K key, N start, N end, boolean reverse, int count,
+	public int removeColumnRangeBatch(K key, N start, N end, boolean reverse, int count,
 			Mutator<K> mutator)
 	{
-		List<HColumn<N, V>> columns = createSliceQuery(keyspace, keySerializer,
-				columnNameSerializer, valueSerializer).setColumnFamily(columnFamily).setKey(key)
-				.setRange(start, end, reverse, count).execute().get().getColumns();
+		AchillesSliceIterator<K, N, V> iterator = buildRemoveIterator(key, start, end, reverse,
+				count);
+
+		int removed = 0;
+		while (removed < count && iterator.hasNext())
+		{
+			mutator.addDeletion(key, columnFamily, iterator.next().getName(), columnNameSerializer);
+			removed++;
+		}
+		return removed;
+	}
+
+	private AchillesSliceIterator<K, N, V> buildRemoveIterator(K key, N start, N end,
+			boolean reverse, int count)
+	{
+		SliceQuery<K, N, V> query = createSliceQuery(keyspace, keySerializer, columnNameSerializer,
+				valueSerializer).setColumnFamily(columnFamily).setKey(key);
+
+		return new AchillesSliceIterator<K, N, V>(query, start, end, reverse, Math.min(count,
+				removeChunkSize));
+	}
 
-		for (HColumn<N, V> column : columns)
+	private void executeChunk(final Mutator<K> mutator, LinkedList<Future<?>> pendingChunks)
+	{
+		if (removeExecutor == null)
+		{
+			mutator.execute();
+		}
+		else
 		{
-			mutator.addDeletion(key, columnFamily, column.getName(), columnNameSerializer);
+			if (pendingChunks.size() >= removeMaxChunksInFlight)
+			{
+				await(pendingChunks.removeFirst());
+			}
+			pendingChunks.addLast(removeExecutor.submit(new Callable<MutationResult>()
+			{
+				@Override
+				public MutationResult call() throws Exception
+				{
+					return mutator.execute();
+				}
+			}));
+		}
+	}
+
+	protected <T> T await(Future<T> operation)
+	{
+		try
+		{
+			return operation.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new AchillesException("Interrupted while accessing column family '"
+					+ columnFamily + "'", e);
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) e.getCause();
+			}
+			throw new AchillesException("Error when accessing column family '" + columnFamily
+					+ "'", e.getCause());
 		}
 	}
 
@@ -276,7 +387,17 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 		SliceQuery<K, N, V> query = createSliceQuery(keyspace, keySerializer, columnNameSerializer,
 				valueSerializer).setColumnFamily(columnFamily).setKey(key);
 
-		return new AchillesSliceIterator<K, N, V>(query, startName, endName, reverse, length);
+		AchillesSliceIterator<K, N, V> iterator = new AchillesSliceIterator<K, N, V>(query,
+				startName, endName, reverse, length);
+		if (pageSizer != null)
+		{
+			iterator.adaptivePaging(pageSizer);
+		}
+		if (prefetchExecutor != null)
+		{
+			iterator.prefetch(prefetchExecutor, prefetchDepth);
+		}
+		return iterator;
 	}
 
 	public <KEY, VALUE> AchillesJoinSliceIterator<K, N, V, KEY, VALUE> getJoinColumnsIterator(
@@ -298,17 +419,34 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 		SliceQuery<K, N, V> query = createSliceQuery(keyspace, keySerializer, columnNameSerializer,
 				valueSerializer).setColumnFamily(columnFamily).setKey(key);
 
-		return new AchillesJoinSliceIterator<K, N, V, KEY, VALUE>(propertyMeta, query, startName,
-				endName, reversed, count);
+		AchillesJoinSliceIterator<K, N, V, KEY, VALUE> iterator = new AchillesJoinSliceIterator<K, N, V, KEY, VALUE>(
+				propertyMeta, query, startName, endName, reversed, count);
+		if (prefetchExecutor != null)
+		{
+			iterator.prefetch(prefetchExecutor, prefetchDepth);
+		}
+		return iterator;
 	}
 
 	public CounterColumnSliceIterator<K, N> getCounterColumnsIterator(K key, N startName,
 			boolean reverse, int length)
+	{
+		return getCounterColumnsIterator(key, startName, (N) null, reverse, length);
+	}
+
+	public CounterColumnSliceIterator<K, N> getCounterColumnsIterator(K key, N startName,
+			N endName, boolean reverse, int length)
 	{
 		SliceCounterQuery<K, N> query = createCounterSliceQuery(keyspace, keySerializer,
 				columnNameSerializer).setColumnFamily(columnFamily).setKey(key);
 
-		return new CounterColumnSliceIterator<K, N>(query, startName, (N) null, reverse, length);
+		CounterColumnSliceIterator<K, N> iterator = new CounterColumnSliceIterator<K, N>(query,
+				startName, endName, reverse, length);
+		if (pageSizer != null)
+		{
+			iterator.adaptivePaging(pageSizer);
+		}
+		return iterator;
 	}
 
 	public <KEY, NAME extends AbstractComposite, VALUE> AchillesSliceIterator<KEY, NAME, VALUE> getSpecificColumnsIterator(
@@ -318,17 +456,28 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 		SliceQuery<KEY, NAME, VALUE> query = createSliceQuery(keyspace, keySz, nameSz, valueSz)
 				.setColumnFamily(CF).setKey(key);
 
-		return new AchillesSliceIterator<KEY, NAME, VALUE>(query, startName, (NAME) null, reverse,
-				length);
+		AchillesSliceIterator<KEY, NAME, VALUE> iterator = new AchillesSliceIterator<KEY, NAME, VALUE>(
+				query, startName, (NAME) null, reverse, length);
+		if (pageSizer != null)
+		{
+			iterator.adaptivePaging(pageSizer);
+		}
+		return iterator;
 	}
 
 	public List<HCounterColumn<N>> findCounterColumnsRange(K key, N startName, boolean reverse,
 			int size)
+	{
+		return findCounterColumnsRange(key, startName, (N) null, reverse, size);
+	}
+
+	public List<HCounterColumn<N>> findCounterColumnsRange(K key, N startName, N endName,
+			boolean reverse, int size)
 	{
 		SliceCounterQuery<K, N> counterQuery = createCounterSliceQuery(keyspace, keySerializer,
 				columnNameSerializer).setColumnFamily(columnFamily).setKey(key);
 
-		return counterQuery.setRange(startName, (N) null, reverse, size).execute().get()
+		return counterQuery.setRange(startName, endName, reverse, size).execute().get()
 				.getColumns();
 	}
 
@@ -355,6 +504,11 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 
 	public void incrementCounter(K key, N name, Long value)
 	{
+		if (counterAccumulator != null)
+		{
+			counterAccumulator.add(key, name, value);
+			return;
+		}
 		Mutator<K> mutator = HFactory.createMutator(keyspace, keySerializer);
 		mutator.incrementCounter(key, columnFamily, name, value);
 		mutator.execute();
@@ -362,23 +516,151 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 
 	public void decrementCounter(K key, N name, Long value)
 	{
+		if (counterAccumulator != null)
+		{
+			counterAccumulator.add(key, name, -value);
+			return;
+		}
 		Mutator<K> mutator = HFactory.createMutator(keyspace, keySerializer);
 		mutator.decrementCounter(key, columnFamily, name, value);
 		mutator.execute();
 
 	}
 
+	public void incrementCounterBatch(K key, N name, Long value, Mutator<K> mutator)
+	{
+		mutator.addCounter(key, columnFamily,
+				HFactory.createCounterColumn(name, value, columnNameSerializer));
+	}
+
+	public void decrementCounterBatch(K key, N name, Long value, Mutator<K> mutator)
+	{
+		mutator.addCounter(key, columnFamily,
+				HFactory.createCounterColumn(name, -value, columnNameSerializer));
+	}
+
 	public void truncate()
 	{
 		Mutator<K> mutator = HFactory.createMutator(keyspace, keySerializer);
 		Iterator<K> iterator = new KeyIterator<K>(keyspace, columnFamily, keySerializer).iterator();
+		int batchRows = 0;
 		while (iterator.hasNext())
 		{
 			this.removeRowBatch(iterator.next(), mutator);
+			batchRows++;
+			if (batchRows == DEFAULT_TRUNCATE_BATCH_SIZE)
+			{
+				mutator.execute();
+				mutator = HFactory.createMutator(keyspace, keySerializer);
+				batchRows = 0;
+			}
 		}
 		mutator.execute();
 	}
 
+	/**
+	 * Remove all rows, splitting the ring into token ranges processed in parallel.
+	 * 
+	 * Each range is read by pages of batchSize keys and each page is removed with its own
+	 * 
+	 * mutation
+	 * 
+	 * @param executor
+	 *            executor processing the token ranges
+	 * @param batchSize
+	 *            maximum number of row deletions in one mutation
+	 * @return number of removed rows
+	 */
+	public long truncate(ExecutorService executor, final int batchSize)
+	{
+		Validator.validateNotNull(executor, "Truncate executor should not be null");
+		Validator.validateTrue(batchSize > 0, "Truncate batch size should be strictly positive");
+
+		final TokenRangeHelper tokenHelper = new TokenRangeHelper(keyspace);
+		List<Future<Long>> rangeTruncates = new ArrayList<Future<Long>>();
+		for (final Pair<String, String> range : tokenHelper.splitRing(TRUNCATE_MIN_SPLITS))
+		{
+			rangeTruncates.add(executor.submit(new Callable<Long>()
+			{
+				@Override
+				public Long call() throws Exception
+				{
+					return truncateTokenRange(tokenHelper, range, batchSize);
+				}
+			}));
+		}
+
+		long removed = 0;
+		for (Future<Long> rangeTruncate : rangeTruncates)
+		{
+			removed += await(rangeTruncate);
+		}
+		return removed;
+	}
+
+	private long truncateTokenRange(TokenRangeHelper tokenHelper, Pair<String, String> range,
+			int batchSize)
+	{
+		long removed = 0;
+		String startToken = range.left;
+		while (true)
+		{
+			List<KeySlice> rows = tokenHelper.findRangeSlices(columnFamily, startToken,
+					range.right, tokenHelper.keysOnlyPredicate(), batchSize);
+
+			Mutator<K> mutator = HFactory.createMutator(keyspace, keySerializer);
+			int batchRows = 0;
+			for (KeySlice row : rows)
+			{
+				// skip range ghosts, rows already deleted but not yet compacted
+				if (!row.getColumns().isEmpty())
+				{
+					this.removeRowBatch(keySerializer.fromByteBuffer(row.bufferForKey()), mutator);
+					batchRows++;
+				}
+			}
+			if (batchRows > 0)
+			{
+				mutator.execute();
+				removed += batchRows;
+			}
+
+			if (rows.size() < batchSize)
+			{
+				break;
+			}
+			startToken = tokenHelper.tokenOf(rows.get(rows.size() - 1).bufferForKey());
+			if (startToken.equals(range.right))
+			{
+				// start token = end token would mean the whole ring
+				break;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Export all rows to one file per token range, see ColumnFamilyExporter
+	 *
+	 * @return number of exported rows
+	 */
+	public long export(File directory, ExecutorService executor, int pageSize, ExportFormat format)
+	{
+		return new ColumnFamilyExporter(this).export(directory, executor, pageSize, format);
+	}
+
+	/**
+	 * Import the rows of the range files of a directory, see ColumnFamilyImporter
+	 *
+	 * @return number of imported rows
+	 */
+	public long importFrom(File directory, ExecutorService executor, int batchSize,
+			ExportFormat format)
+	{
+		return new ColumnFamilyImporter(this).importDirectory(directory, executor, batchSize,
+				format);
+	}
+
 	public long getCounterValue(K key, N name)
 	{
 		CounterQuery<K, N> counter = new ThriftCounterColumnQuery<K, N>(keyspace, keySerializer,
@@ -388,13 +670,15 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 
 		HCounterColumn<N> column = counter.execute().get();
 
+		long pendingDelta = counterAccumulator != null ? counterAccumulator.getPendingDelta(key,
+				name) : 0;
 		if (column == null)
 		{
-			return 0;
+			return pendingDelta;
 		}
 		else
 		{
-			return column.getValue();
+			return column.getValue() + pendingDelta;
 		}
 	}
 
@@ -403,8 +687,114 @@ public abstract class AbstractDao<K, N extends AbstractComposite, V>
 		return HFactory.createMutator(this.keyspace, this.keySerializer);
 	}
 
+	public AutoFlushMutator<K> buildAutoFlushMutator(int maxColumns, long maxBytes)
+	{
+		return new AutoFlushMutator<K>(buildMutator(), this.keySerializer, maxColumns, maxBytes);
+	}
+
 	public String getColumnFamily()
 	{
 		return columnFamily;
 	}
+
+	/**
+	 * Token range helper of the keyspace, shared by the scans of this dao
+	 */
+	public synchronized TokenRangeHelper getTokenRangeHelper()
+	{
+		if (tokenRangeHelper == null)
+		{
+			tokenRangeHelper = new TokenRangeHelper(keyspace);
+		}
+		return tokenRangeHelper;
+	}
+
+	/**
+	 * Enable background page prefetching for the column and join column iterators created by
+	 * this dao. Pass a null executor to disable it
+	 * 
+	 * @param executor
+	 *            executor running the page queries
+	 * @param depth
+	 *            maximum number of pages fetched ahead of the current one
+	 */
+	public void setPrefetch(ExecutorService executor, int depth)
+	{
+		Validator.validateTrue(depth > 0, "Prefetch depth should be strictly positive");
+		this.prefetchExecutor = executor;
+		this.prefetchDepth = depth;
+	}
+
+	/**
+	 * Let the column and counter column iterators created by this dao adapt their page size to
+	 * the observed column size and latency. Pass null to go back to fixed page sizes
+	 * 
+	 * @param pageSizer
+	 *            page sizing strategy
+	 */
+	public void setAdaptivePaging(AdaptivePageSizer pageSizer)
+	{
+		this.pageSizer = pageSizer;
+	}
+
+	/**
+	 * Configure range removal
+	 * 
+	 * @param chunkSize
+	 *            maximum number of column deletions sent in one mutation
+	 * @param executor
+	 *            executor sending the chunks concurrently. Null to send them from the calling
+	 *            thread
+	 * @param maxChunksInFlight
+	 *            maximum number of chunks submitted to the executor and not yet executed
+	 */
+	public void setChunkedRemoval(int chunkSize, ExecutorService executor, int maxChunksInFlight)
+	{
+		Validator.validateTrue(chunkSize > 0, "Remove chunk size should be strictly positive");
+		Validator.validateTrue(maxChunksInFlight > 0,
+				"Max remove chunks in flight should be strictly positive");
+		this.removeChunkSize = chunkSize;
+		this.removeExecutor = executor;
+		this.removeMaxChunksInFlight = maxChunksInFlight;
+	}
+
+	/**
+	 * Coalesce the increments and decrements of this dao in memory and write them as batch
+	 * mutations, at most every <em>flushInterval</em> milliseconds or as soon as
+	 * <em>maxPendingCounters</em> distinct counters are pending. Counters read through this dao
+	 * include the pending deltas. Counter increments made in batch mode are not affected
+	 * 
+	 * @param scheduler
+	 *            scheduler running the periodic flushes
+	 * @param flushInterval
+	 *            delay in milliseconds between two flushes
+	 * @param maxPendingCounters
+	 *            number of distinct pending counters triggering a flush
+	 * @return the accumulator, exposing flush metrics
+	 */
+	public CounterAccumulator<K, N> enableCounterCoalescing(ScheduledExecutorService scheduler,
+			long flushInterval, int maxPendingCounters)
+	{
+		Validator.validateTrue(counterAccumulator == null,
+				"Counter coalescing is already enabled for column family '" + columnFamily + "'");
+		CounterAccumulator<K, N> accumulator = new CounterAccumulator<K, N>(this,
+				columnNameSerializer, maxPendingCounters);
+		accumulator.start(scheduler, flushInterval, TimeUnit.MILLISECONDS);
+		this.counterAccumulator = accumulator;
+		return accumulator;
+	}
+
+	/**
+	 * Write the pending counter deltas and go back to one mutation per increment. Increments
+	 * running concurrently with this call may still be coalesced and left pending
+	 */
+	public void disableCounterCoalescing()
+	{
+		CounterAccumulator<K, N> accumulator = this.counterAccumulator;
+		if (accumulator != null)
+		{
+			this.counterAccumulator = null;
+			accumulator.shutdown();
+		}
+	}
 }
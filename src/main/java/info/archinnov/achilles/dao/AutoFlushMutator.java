@@ -0,0 +1,414 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.validation.Validator;
+
+import java.nio.ByteBuffer;
+
+import me.prettyprint.hector.api.Serializer;
+import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.beans.HCounterColumn;
+import me.prettyprint.hector.api.beans.HCounterSuperColumn;
+import me.prettyprint.hector.api.beans.HSuperColumn;
+import me.prettyprint.hector.api.mutation.MutationResult;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+/**
+ * AutoFlushMutator
+ *
+ * @author DuyHai DOAN
+ *
+ *         Mutator executing its pending mutations as soon as the next one would push the batch
+ *         over <em>maxColumns</em> columns or <em>maxBytes</em> estimated serialized bytes, so
+ *         that a batch never exceeds the Thrift frame size.
+ *
+ *         Sizes are estimated from the serialized key, column family name, column names and
+ *         values, plus a fixed overhead per mutation. A single mutation larger than the thresholds
+ *         is still sent in its own batch
+ *
+ */
+public class AutoFlushMutator<K> implements Mutator<K>
+{
+	public static final int DEFAULT_MAX_COLUMNS = 10000;
+	public static final long DEFAULT_MAX_BYTES = 8 * 1024 * 1024;
+
+	// Thrift struct headers, timestamp and ttl of a mutation
+	static final int MUTATION_OVERHEAD = 32;
+
+	private final Mutator<K> delegate;
+	private final Serializer<K> keySerializer;
+	private final int maxColumns;
+	private final long maxBytes;
+
+	private int pendingColumns = 0;
+	private long pendingBytes = 0;
+	private int flushCount = 0;
+
+	public AutoFlushMutator(Mutator<K> delegate, Serializer<K> keySerializer, int maxColumns,
+			long maxBytes) {
+		Validator.validateNotNull(delegate, "Mutator should not be null");
+		Validator.validateNotNull(keySerializer, "Key serializer should not be null");
+		Validator.validateTrue(maxColumns > 0, "Max columns should be strictly positive");
+		Validator.validateTrue(maxBytes > 0, "Max bytes should be strictly positive");
+
+		this.delegate = delegate;
+		this.keySerializer = keySerializer;
+		this.maxColumns = maxColumns;
+		this.maxBytes = maxBytes;
+	}
+
+	@Override
+	public <N, V> Mutator<K> addInsertion(K key, String cf, HColumn<N, V> c)
+	{
+		beforeAdd(1, keySize(key, cf) + columnSize(c));
+		delegate.addInsertion(key, cf, c);
+		return this;
+	}
+
+	@Override
+	public <SN, N, V> Mutator<K> addInsertion(K key, String cf, HSuperColumn<SN, N, V> sc)
+	{
+		beforeAdd(sc.getSize(), keySize(key, cf) + superColumnSize(sc));
+		delegate.addInsertion(key, cf, sc);
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(K key, String cf, N columnName, Serializer<N> nameSerializer)
+	{
+		beforeAdd(1, keySize(key, cf) + nameSize(columnName, nameSerializer));
+		delegate.addDeletion(key, cf, columnName, nameSerializer);
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(K key, String cf, N columnName,
+			Serializer<N> nameSerializer, long clock)
+	{
+		beforeAdd(1, keySize(key, cf) + nameSize(columnName, nameSerializer));
+		delegate.addDeletion(key, cf, columnName, nameSerializer, clock);
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(K key, String cf)
+	{
+		beforeAdd(1, keySize(key, cf));
+		delegate.addDeletion(key, cf);
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(K key, String cf, long clock)
+	{
+		beforeAdd(1, keySize(key, cf));
+		delegate.addDeletion(key, cf, clock);
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(Iterable<K> keys, String cf)
+	{
+		for (K key : keys)
+		{
+			addDeletion(key, cf);
+		}
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(Iterable<K> keys, String cf, long clock)
+	{
+		for (K key : keys)
+		{
+			addDeletion(key, cf, clock);
+		}
+		return this;
+	}
+
+	@Override
+	public <SN> Mutator<K> addSuperDelete(K key, String cf, SN sColumnName,
+			Serializer<SN> sNameSerializer)
+	{
+		beforeAdd(1, keySize(key, cf) + nameSize(sColumnName, sNameSerializer));
+		delegate.addSuperDelete(key, cf, sColumnName, sNameSerializer);
+		return this;
+	}
+
+	@Override
+	public <SN, N, V> Mutator<K> addSubDelete(K key, String cf, HSuperColumn<SN, N, V> sc)
+	{
+		beforeAdd(sc.getSize(), keySize(key, cf) + superColumnSize(sc));
+		delegate.addSubDelete(key, cf, sc);
+		return this;
+	}
+
+	@Override
+	public <SN, N, V> Mutator<K> addSubDelete(K key, String cf, HSuperColumn<SN, N, V> sc,
+			long clock)
+	{
+		beforeAdd(sc.getSize(), keySize(key, cf) + superColumnSize(sc));
+		delegate.addSubDelete(key, cf, sc, clock);
+		return this;
+	}
+
+	@Override
+	public <SN, N> Mutator<K> addSubDelete(K key, String cf, SN sColumnName, N columnName,
+			Serializer<SN> sNameSerializer, Serializer<N> nameSerializer)
+	{
+		beforeAdd(1, keySize(key, cf) + nameSize(sColumnName, sNameSerializer)
+				+ nameSize(columnName, nameSerializer));
+		delegate.addSubDelete(key, cf, sColumnName, columnName, sNameSerializer, nameSerializer);
+		return this;
+	}
+
+	@Override
+	public <SN, N> Mutator<K> addSubDelete(K key, String cf, SN sColumnName, N columnName,
+			Serializer<SN> sNameSerializer, Serializer<N> nameSerializer, long clock)
+	{
+		beforeAdd(1, keySize(key, cf) + nameSize(sColumnName, sNameSerializer)
+				+ nameSize(columnName, nameSerializer));
+		delegate.addSubDelete(key, cf, sColumnName, columnName, sNameSerializer, nameSerializer,
+				clock);
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addCounter(K key, String cf, HCounterColumn<N> c)
+	{
+		beforeAdd(1, keySize(key, cf) + counterSize(c));
+		delegate.addCounter(key, cf, c);
+		return this;
+	}
+
+	@Override
+	public <SN, N> Mutator<K> addCounter(K key, String cf, HCounterSuperColumn<SN, N> sc)
+	{
+		beforeAdd(sc.getSize(), keySize(key, cf) + counterSuperColumnSize(sc));
+		delegate.addCounter(key, cf, sc);
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addCounterDeletion(K key, String cf, N counterColumnName,
+			Serializer<N> nameSerializer)
+	{
+		beforeAdd(1, keySize(key, cf) + nameSize(counterColumnName, nameSerializer));
+		delegate.addCounterDeletion(key, cf, counterColumnName, nameSerializer);
+		return this;
+	}
+
+	@Override
+	public <N> Mutator<K> addCounterDeletion(K key, String cf)
+	{
+		beforeAdd(1, keySize(key, cf));
+		delegate.addCounterDeletion(key, cf);
+		return this;
+	}
+
+	@Override
+	public <SN, N> Mutator<K> addCounterSubDeletion(K key, String cf, HCounterSuperColumn<SN, N> sc)
+	{
+		beforeAdd(sc.getSize(), keySize(key, cf) + counterSuperColumnSize(sc));
+		delegate.addCounterSubDeletion(key, cf, sc);
+		return this;
+	}
+
+	@Override
+	public MutationResult execute()
+	{
+		reset();
+		return delegate.execute();
+	}
+
+	@Override
+	public Mutator<K> discardPendingMutations()
+	{
+		reset();
+		delegate.discardPendingMutations();
+		return this;
+	}
+
+	@Override
+	public int getPendingMutationCount()
+	{
+		return delegate.getPendingMutationCount();
+	}
+
+	// Immediate operations execute the pending mutations along with their own
+
+	@Override
+	public <N, V> MutationResult insert(K key, String cf, HColumn<N, V> c)
+	{
+		reset();
+		return delegate.insert(key, cf, c);
+	}
+
+	@Override
+	public <SN, N, V> MutationResult insert(K key, String cf, HSuperColumn<SN, N, V> superColumn)
+	{
+		reset();
+		return delegate.insert(key, cf, superColumn);
+	}
+
+	@Override
+	public <N> MutationResult delete(K key, String cf, N columnName, Serializer<N> nameSerializer)
+	{
+		reset();
+		return delegate.delete(key, cf, columnName, nameSerializer);
+	}
+
+	@Override
+	public <N> MutationResult delete(K key, String cf, N columnName, Serializer<N> nameSerializer,
+			long clock)
+	{
+		reset();
+		return delegate.delete(key, cf, columnName, nameSerializer, clock);
+	}
+
+	@Override
+	public <SN, N> MutationResult subDelete(K key, String cf, SN supercolumnName, N columnName,
+			Serializer<SN> sNameSerializer, Serializer<N> nameSerializer)
+	{
+		reset();
+		return delegate.subDelete(key, cf, supercolumnName, columnName, sNameSerializer,
+				nameSerializer);
+	}
+
+	@Override
+	public <SN> MutationResult superDelete(K key, String cf, SN supercolumnName,
+			Serializer<SN> sNameSerializer)
+	{
+		reset();
+		return delegate.superDelete(key, cf, supercolumnName, sNameSerializer);
+	}
+
+	@Override
+	public <N> MutationResult insertCounter(K key, String cf, HCounterColumn<N> c)
+	{
+		reset();
+		return delegate.insertCounter(key, cf, c);
+	}
+
+	@Override
+	public <SN, N> MutationResult insertCounter(K key, String cf,
+			HCounterSuperColumn<SN, N> superColumn)
+	{
+		reset();
+		return delegate.insertCounter(key, cf, superColumn);
+	}
+
+	@Override
+	public <N> MutationResult incrementCounter(K key, String cf, N columnName, long increment)
+	{
+		reset();
+		return delegate.incrementCounter(key, cf, columnName, increment);
+	}
+
+	@Override
+	public <N> MutationResult decrementCounter(K key, String cf, N columnName, long increment)
+	{
+		reset();
+		return delegate.decrementCounter(key, cf, columnName, increment);
+	}
+
+	@Override
+	public <N> MutationResult deleteCounter(K key, String cf, N counterColumnName,
+			Serializer<N> nameSerializer)
+	{
+		reset();
+		return delegate.deleteCounter(key, cf, counterColumnName, nameSerializer);
+	}
+
+	@Override
+	public <SN, N> MutationResult subDeleteCounter(K key, String cf, SN supercolumnName,
+			N columnName, Serializer<SN> sNameSerializer, Serializer<N> nameSerializer)
+	{
+		reset();
+		return delegate.subDeleteCounter(key, cf, supercolumnName, columnName, sNameSerializer,
+				nameSerializer);
+	}
+
+	private void beforeAdd(int columns, long bytes)
+	{
+		if (pendingColumns > 0
+				&& (pendingColumns + columns > maxColumns || pendingBytes + bytes > maxBytes))
+		{
+			delegate.execute();
+			flushCount++;
+			reset();
+		}
+		pendingColumns += columns;
+		pendingBytes += bytes;
+	}
+
+	private void reset()
+	{
+		pendingColumns = 0;
+		pendingBytes = 0;
+	}
+
+	private long keySize(K key, String cf)
+	{
+		return remaining(keySerializer.toByteBuffer(key)) + cf.length() + MUTATION_OVERHEAD;
+	}
+
+	private <N, V> long columnSize(HColumn<N, V> column)
+	{
+		return remaining(column.getNameBytes()) + remaining(column.getValueBytes());
+	}
+
+	private <SN, N, V> long superColumnSize(HSuperColumn<SN, N, V> superColumn)
+	{
+		long size = remaining(superColumn.getNameByteBuffer());
+		for (HColumn<N, V> column : superColumn.getColumns())
+		{
+			size += columnSize(column) + MUTATION_OVERHEAD;
+		}
+		return size;
+	}
+
+	private <N> long counterSize(HCounterColumn<N> column)
+	{
+		return remaining(column.getNameBytes()) + 8;
+	}
+
+	private <SN, N> long counterSuperColumnSize(HCounterSuperColumn<SN, N> superColumn)
+	{
+		long size = remaining(superColumn.getNameByteBuffer());
+		for (HCounterColumn<N> column : superColumn.getColumns())
+		{
+			size += counterSize(column) + MUTATION_OVERHEAD;
+		}
+		return size;
+	}
+
+	private <N> long nameSize(N name, Serializer<N> nameSerializer)
+	{
+		return remaining(nameSerializer.toByteBuffer(name));
+	}
+
+	private long remaining(ByteBuffer buffer)
+	{
+		return buffer == null ? 0 : buffer.remaining();
+	}
+
+	public int getPendingColumns()
+	{
+		return pendingColumns;
+	}
+
+	public long getPendingBytes()
+	{
+		return pendingBytes;
+	}
+
+	public int getFlushCount()
+	{
+		return flushCount;
+	}
+
+	public Mutator<K> getDelegate()
+	{
+		return delegate;
+	}
+}
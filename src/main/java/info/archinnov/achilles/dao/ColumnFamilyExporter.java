@@ -0,0 +1,234 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.entity.type.ExportFormat;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.io.File;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.thrift.KeySlice;
+import org.apache.cassandra.utils.ByteBufferUtil;
+
+/**
+ * ColumnFamilyExporter
+ *
+ * @author DuyHai DOAN
+ *
+ *         Export the raw rows of a column family to one file per token range, the token ranges
+ *         being read in parallel.
+ *
+ *         A range file is written as <em>range-NNNNN.ext.part</em> and renamed once complete.
+ *         Exporting again to the same directory skips the complete ranges and resumes a partial
+ *         one after its last complete row chunk
+ *
+ */
+public class ColumnFamilyExporter
+{
+	public static final String PART_SUFFIX = ".part";
+	public static final int DEFAULT_BUFFER_SIZE = 4 * 1024 * 1024;
+
+	static final int EXPORT_MIN_SPLITS = 16;
+	static final int COLUMN_PAGE_SIZE = 1000;
+
+	private final AbstractDao<?, ?, ?> dao;
+	private final int bufferSize;
+
+	public ColumnFamilyExporter(AbstractDao<?, ?, ?> dao) {
+		this(dao, DEFAULT_BUFFER_SIZE);
+	}
+
+	public ColumnFamilyExporter(AbstractDao<?, ?, ?> dao, int bufferSize) {
+		Validator.validateTrue(bufferSize > 0, "Export buffer size should be strictly positive");
+		this.dao = dao;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Export all rows of the column family
+	 *
+	 * @param directory
+	 *            directory receiving the range files
+	 * @param executor
+	 *            executor processing the token ranges
+	 * @param pageSize
+	 *            number of rows read by one range slice query
+	 * @param format
+	 *            format of the range files
+	 * @return number of rows exported by this call, rows of ranges exported by a previous call
+	 *         excluded
+	 */
+	public long export(File directory, ExecutorService executor, final int pageSize,
+			final ExportFormat format)
+	{
+		Validator.validateNotNull(directory, "Export directory should not be null");
+		Validator.validateNotNull(executor, "Export executor should not be null");
+		Validator.validateNotNull(format, "Export format should not be null");
+		Validator.validateTrue(pageSize > 0, "Export page size should be strictly positive");
+		Validator.validateTrue(directory.isDirectory() || directory.mkdirs(),
+				"Cannot create export directory '" + directory + "'");
+
+		final TokenRangeHelper tokenHelper = dao.getTokenRangeHelper();
+		List<Future<Long>> rangeExports = new ArrayList<Future<Long>>();
+		List<Pair<String, String>> ranges = tokenHelper.splitRing(EXPORT_MIN_SPLITS);
+		for (int i = 0; i < ranges.size(); i++)
+		{
+			final Pair<String, String> range = ranges.get(i);
+			final File rangeFile = new File(directory, String.format("range-%05d.%s", i,
+					format.getExtension()));
+			if (rangeFile.exists())
+			{
+				continue;
+			}
+			rangeExports.add(executor.submit(new Callable<Long>()
+			{
+				@Override
+				public Long call() throws Exception
+				{
+					return exportTokenRange(tokenHelper, range, rangeFile, pageSize, format);
+				}
+			}));
+		}
+
+		long exported = 0;
+		for (Future<Long> rangeExport : rangeExports)
+		{
+			exported += dao.await(rangeExport);
+		}
+		return exported;
+	}
+
+	private long exportTokenRange(TokenRangeHelper tokenHelper, Pair<String, String> range,
+			File rangeFile, int pageSize, ExportFormat format)
+	{
+		String columnFamily = dao.getColumnFamily();
+		File partFile = new File(rangeFile.getPath() + PART_SUFFIX);
+		Pair<ByteBuffer, ByteBuffer> lastChunk = null;
+		long position = 0;
+		if (partFile.exists())
+		{
+			ExportFileReader reader = null;
+			try
+			{
+				reader = new ExportFileReader(partFile, format, bufferSize);
+				if (columnFamily.equals(reader.getColumnFamily())
+						&& range.left.equals(reader.getStartToken())
+						&& range.right.equals(reader.getEndToken()))
+				{
+					Pair<ByteBuffer, List<ColumnOrSuperColumn>> chunk;
+					while ((chunk = reader.next()) != null)
+					{
+						lastChunk = Pair.create(chunk.left,
+								nameOf(chunk.right.get(chunk.right.size() - 1)));
+					}
+					position = reader.getValidLength();
+				}
+			}
+			catch (AchillesException e)
+			{
+				// unreadable header, export the range again
+				lastChunk = null;
+				position = 0;
+			}
+			finally
+			{
+				if (reader != null)
+				{
+					reader.close();
+				}
+			}
+		}
+
+		long exported = 0;
+		ExportFileWriter writer = new ExportFileWriter(partFile, format, bufferSize, position);
+		try
+		{
+			String startToken = range.left;
+			if (position == 0)
+			{
+				writer.writeHeader(columnFamily, range.left, range.right);
+			}
+			else if (lastChunk != null)
+			{
+				exportRemainingColumns(tokenHelper, writer, lastChunk.left, lastChunk.right);
+				startToken = tokenHelper.tokenOf(lastChunk.left);
+			}
+
+			while (!startToken.equals(range.right))
+			{
+				List<KeySlice> rows = tokenHelper.findRangeSlices(columnFamily, startToken,
+						range.right, tokenHelper.slicePredicate(ByteBufferUtil.EMPTY_BYTE_BUFFER,
+								ByteBufferUtil.EMPTY_BYTE_BUFFER, COLUMN_PAGE_SIZE), pageSize);
+				for (KeySlice row : rows)
+				{
+					List<ColumnOrSuperColumn> columns = row.getColumns();
+					// skip range ghosts, rows already deleted but not yet compacted
+					if (!columns.isEmpty())
+					{
+						writer.writeRow(row.bufferForKey(), columns);
+						exported++;
+						if (columns.size() == COLUMN_PAGE_SIZE)
+						{
+							exportRemainingColumns(tokenHelper, writer, row.bufferForKey(),
+									nameOf(columns.get(columns.size() - 1)));
+						}
+					}
+				}
+
+				if (rows.size() < pageSize)
+				{
+					break;
+				}
+				// start token = end token would mean the whole ring, the loop stops
+				startToken = tokenHelper.tokenOf(rows.get(rows.size() - 1).bufferForKey());
+			}
+		}
+		finally
+		{
+			writer.close();
+		}
+
+		Validator.validateTrue(partFile.renameTo(rangeFile), "Cannot rename export file '"
+				+ partFile + "' to '" + rangeFile + "'");
+		return exported;
+	}
+
+	private void exportRemainingColumns(TokenRangeHelper tokenHelper, ExportFileWriter writer,
+			ByteBuffer key, ByteBuffer lastName)
+	{
+		ByteBuffer startName = lastName;
+		while (true)
+		{
+			List<ColumnOrSuperColumn> columns = tokenHelper.findColumns(dao.getColumnFamily(), key,
+					tokenHelper.slicePredicate(startName, ByteBufferUtil.EMPTY_BYTE_BUFFER,
+							COLUMN_PAGE_SIZE + 1));
+			int fetched = columns.size();
+			if (fetched > 0 && nameOf(columns.get(0)).equals(startName))
+			{
+				// the start column is inclusive and was exported with the previous page
+				columns = columns.subList(1, fetched);
+			}
+			if (!columns.isEmpty())
+			{
+				writer.writeRow(key, columns);
+			}
+			if (fetched <= COLUMN_PAGE_SIZE)
+			{
+				break;
+			}
+			startName = nameOf(columns.get(columns.size() - 1));
+		}
+	}
+
+	private ByteBuffer nameOf(ColumnOrSuperColumn column)
+	{
+		return column.isSetCounter_column() ? column.getCounter_column().bufferForName() : column
+				.getColumn().bufferForName();
+	}
+}
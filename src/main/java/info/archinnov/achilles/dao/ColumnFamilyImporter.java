@@ -0,0 +1,260 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.entity.type.ExportFormat;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import me.prettyprint.cassandra.serializers.ByteBufferSerializer;
+import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.factory.HFactory;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+import org.apache.cassandra.thrift.Column;
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.thrift.CounterColumn;
+
+import com.google.common.io.Files;
+
+/**
+ * ColumnFamilyImporter
+ *
+ * @author DuyHai DOAN
+ *
+ *         Write back the rows of the range files produced by ColumnFamilyExporter, keeping the
+ *         column time to live. Columns are written with the import clock rather than their
+ *         exported timestamp, otherwise the tombstones of rows removed since the export would
+ *         shadow them.
+ *
+ *         After each batch mutation, the token of the last complete row is saved in a
+ *         <em>.progress</em> file so that an interrupted import resumes after it. An imported file
+ *         is marked by an <em>.imported</em> file and skipped by later imports.
+ *
+ *         Writing a column twice is harmless but a counter column is incremented again: rows of a
+ *         counter column family spanning an interrupted batch are counted twice on resume
+ *
+ */
+public class ColumnFamilyImporter
+{
+	public static final String PROGRESS_SUFFIX = ".progress";
+	public static final String IMPORTED_SUFFIX = ".imported";
+
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final AbstractDao<?, ?, ?> dao;
+	private final int bufferSize;
+
+	public ColumnFamilyImporter(AbstractDao<?, ?, ?> dao) {
+		this(dao, ColumnFamilyExporter.DEFAULT_BUFFER_SIZE);
+	}
+
+	public ColumnFamilyImporter(AbstractDao<?, ?, ?> dao, int bufferSize) {
+		Validator.validateTrue(bufferSize > 0, "Import buffer size should be strictly positive");
+		this.dao = dao;
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * Import the complete range files of a directory, in parallel
+	 *
+	 * @param directory
+	 *            directory of the range files
+	 * @param executor
+	 *            executor processing the range files
+	 * @param batchSize
+	 *            number of columns written by one mutation
+	 * @param format
+	 *            format of the range files
+	 * @return number of rows imported by this call
+	 */
+	public long importDirectory(File directory, ExecutorService executor, final int batchSize,
+			final ExportFormat format)
+	{
+		Validator.validateNotNull(directory, "Import directory should not be null");
+		Validator.validateNotNull(executor, "Import executor should not be null");
+		Validator.validateNotNull(format, "Import format should not be null");
+		Validator.validateTrue(batchSize > 0, "Import batch size should be strictly positive");
+		Validator.validateTrue(directory.isDirectory(), "The import directory '" + directory
+				+ "' does not exist");
+
+		final String extension = "." + format.getExtension();
+		File[] rangeFiles = directory.listFiles(new FilenameFilter()
+		{
+			@Override
+			public boolean accept(File dir, String name)
+			{
+				return name.endsWith(extension);
+			}
+		});
+		Arrays.sort(rangeFiles);
+
+		List<Future<Long>> fileImports = new ArrayList<Future<Long>>();
+		for (final File rangeFile : rangeFiles)
+		{
+			if (new File(rangeFile.getPath() + IMPORTED_SUFFIX).exists())
+			{
+				continue;
+			}
+			fileImports.add(executor.submit(new Callable<Long>()
+			{
+				@Override
+				public Long call() throws Exception
+				{
+					return importFile(rangeFile, batchSize, format);
+				}
+			}));
+		}
+
+		long imported = 0;
+		for (Future<Long> fileImport : fileImports)
+		{
+			imported += dao.await(fileImport);
+		}
+		return imported;
+	}
+
+	/**
+	 * Import one range file, resuming after the row saved in its progress file if any
+	 *
+	 * @return number of rows imported by this call
+	 */
+	public long importFile(File rangeFile, int batchSize, ExportFormat format)
+	{
+		String columnFamily = dao.getColumnFamily();
+		TokenRangeHelper tokenHelper = dao.getTokenRangeHelper();
+		File progressFile = new File(rangeFile.getPath() + PROGRESS_SUFFIX);
+		String resumeToken = progressFile.exists() ? readProgress(progressFile) : null;
+
+		long imported = 0;
+		ExportFileReader reader = new ExportFileReader(rangeFile, format, bufferSize);
+		try
+		{
+			Validator.validateTrue(columnFamily.equals(reader.getColumnFamily()),
+					"The export file '" + rangeFile + "' belongs to the column family '"
+							+ reader.getColumnFamily() + "', not '" + columnFamily + "'");
+
+			Mutator<ByteBuffer> mutator = HFactory.createMutator(dao.keyspace,
+					ByteBufferSerializer.get());
+			ByteBuffer currentKey = null;
+			ByteBuffer completedKey = null;
+			int pendingColumns = 0;
+
+			Pair<ByteBuffer, List<ColumnOrSuperColumn>> chunk;
+			while ((chunk = reader.next()) != null)
+			{
+				ByteBuffer key = chunk.left;
+				if (!key.equals(currentKey))
+				{
+					if (resumeToken != null
+							&& tokenHelper.compareTokens(tokenHelper.tokenOf(key), resumeToken) <= 0)
+					{
+						continue;
+					}
+					completedKey = currentKey;
+					currentKey = key;
+					imported++;
+				}
+
+				for (ColumnOrSuperColumn columnOrSuperColumn : chunk.right)
+				{
+					addColumn(mutator, columnFamily, key, columnOrSuperColumn);
+				}
+				pendingColumns += chunk.right.size();
+
+				if (pendingColumns >= batchSize)
+				{
+					mutator.execute();
+					pendingColumns = 0;
+					if (completedKey != null)
+					{
+						writeProgress(progressFile, tokenHelper.tokenOf(completedKey));
+					}
+				}
+			}
+			if (pendingColumns > 0)
+			{
+				mutator.execute();
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+
+		try
+		{
+			Files.touch(new File(rangeFile.getPath() + IMPORTED_SUFFIX));
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot mark export file '" + rangeFile + "' as imported",
+					e);
+		}
+		progressFile.delete();
+		return imported;
+	}
+
+	private void addColumn(Mutator<ByteBuffer> mutator, String columnFamily, ByteBuffer key,
+			ColumnOrSuperColumn columnOrSuperColumn)
+	{
+		if (columnOrSuperColumn.isSetCounter_column())
+		{
+			CounterColumn counterColumn = columnOrSuperColumn.getCounter_column();
+			mutator.addCounter(key, columnFamily, HFactory.createCounterColumn(
+					counterColumn.bufferForName(), counterColumn.getValue(),
+					ByteBufferSerializer.get()));
+		}
+		else
+		{
+			Column column = columnOrSuperColumn.getColumn();
+			HColumn<ByteBuffer, ByteBuffer> hColumn = HFactory.createColumn(
+					column.bufferForName(), column.bufferForValue(), ByteBufferSerializer.get(),
+					ByteBufferSerializer.get());
+			if (column.isSetTtl())
+			{
+				hColumn.setTtl(column.getTtl());
+			}
+			mutator.addInsertion(key, columnFamily, hColumn);
+		}
+	}
+
+	private String readProgress(File progressFile)
+	{
+		try
+		{
+			return Files.toString(progressFile, UTF_8).trim();
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot read import progress file '" + progressFile + "'",
+					e);
+		}
+	}
+
+	private void writeProgress(File progressFile, String token)
+	{
+		// write then rename so that an interruption never leaves a partial token
+		File temporaryFile = new File(progressFile.getPath() + ".tmp");
+		try
+		{
+			Files.write(token, temporaryFile, UTF_8);
+			Files.move(temporaryFile, progressFile);
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot write import progress file '" + progressFile
+					+ "'", e);
+		}
+	}
+}
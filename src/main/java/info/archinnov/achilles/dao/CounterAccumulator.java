@@ -0,0 +1,347 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.validation.Validator;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import me.prettyprint.cassandra.serializers.ByteBufferSerializer;
+import me.prettyprint.hector.api.Serializer;
+import me.prettyprint.hector.api.beans.AbstractComposite;
+import me.prettyprint.hector.api.factory.HFactory;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * CounterAccumulator
+ *
+ * @author DuyHai DOAN
+ *
+ *         Client-side coalescing of counter increments. Deltas are summed in memory per (row key,
+ *         column name) and written as a single batch mutation when <em>maxPendingCounters</em>
+ *         distinct counters are pending, on each scheduled flush, and on shutdown.
+ *
+ *         Adding a delta never blocks: pending sums live in a ConcurrentHashMap of AtomicLong
+ *         updated by compare-and-set. A flush drains each sum and marks it dead so that concurrent
+ *         adders move to a fresh entry instead of losing their delta. Deltas drained by a failed
+ *         flush are put back before the exception is rethrown
+ *
+ */
+public class CounterAccumulator<K, N extends AbstractComposite>
+{
+	private static final Logger log = LoggerFactory.getLogger(CounterAccumulator.class);
+
+	private static final long DEAD = Long.MIN_VALUE;
+
+	private final AbstractDao<K, N, ?> dao;
+	private final Serializer<N> columnNameSerializer;
+	private final int maxPendingCounters;
+
+	private final ConcurrentMap<CounterCell<K>, AtomicLong> pending = new ConcurrentHashMap<CounterCell<K>, AtomicLong>();
+	private final AtomicInteger pendingCounters = new AtomicInteger();
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final AtomicLong receivedDeltas = new AtomicLong();
+	private final AtomicLong flushedCounters = new AtomicLong();
+	private final AtomicLong flushCount = new AtomicLong();
+
+	private ScheduledFuture<?> scheduledFlush;
+
+	public CounterAccumulator(AbstractDao<K, N, ?> dao, Serializer<N> columnNameSerializer,
+			int maxPendingCounters)
+	{
+		Validator.validateNotNull(dao, "Counter dao should not be null");
+		Validator.validateTrue(maxPendingCounters > 0,
+				"Max pending counters should be strictly positive");
+		this.dao = dao;
+		this.columnNameSerializer = columnNameSerializer;
+		this.maxPendingCounters = maxPendingCounters;
+	}
+
+	/**
+	 * Add a delta to the pending sum of a counter. Flush from the calling thread when the
+	 * maximum number of pending counters is reached and no other flush is running
+	 *
+	 * @param key
+	 *            row key
+	 * @param name
+	 *            counter column name
+	 * @param delta
+	 *            value to add, negative to decrement
+	 */
+	public void add(K key, N name, long delta)
+	{
+		receivedDeltas.incrementAndGet();
+		accumulate(new CounterCell<K>(key, columnNameSerializer.toByteBuffer(name)), delta);
+
+		if (pendingCounters.get() >= maxPendingCounters && flushLock.tryLock())
+		{
+			try
+			{
+				doFlush();
+			}
+			finally
+			{
+				flushLock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Pending delta of a counter, not yet written to Cassandra
+	 */
+	public long getPendingDelta(K key, N name)
+	{
+		AtomicLong sum = pending.get(new CounterCell<K>(key,
+				columnNameSerializer.toByteBuffer(name)));
+		if (sum == null)
+		{
+			return 0;
+		}
+		long value = sum.get();
+		return value == DEAD ? 0 : value;
+	}
+
+	/**
+	 * Write all pending deltas in one batch mutation
+	 *
+	 * @return number of counter columns written
+	 */
+	public int flush()
+	{
+		flushLock.lock();
+		try
+		{
+			return doFlush();
+		}
+		finally
+		{
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * Flush periodically with the given scheduler
+	 */
+	public synchronized void start(ScheduledExecutorService scheduler, long flushInterval,
+			TimeUnit unit)
+	{
+		Validator.validateNotNull(scheduler, "Flush scheduler should not be null");
+		Validator.validateTrue(flushInterval > 0, "Flush interval should be strictly positive");
+		Validator.validateTrue(scheduledFlush == null, "Counter accumulator is already started");
+
+		scheduledFlush = scheduler.scheduleWithFixedDelay(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				try
+				{
+					flush();
+				}
+				catch (RuntimeException e)
+				{
+					log.warn("Scheduled flush of counters for column family '"
+							+ dao.getColumnFamily() + "' failed", e);
+				}
+			}
+		}, flushInterval, flushInterval, unit);
+	}
+
+	/**
+	 * Stop the scheduled flushes and write the remaining deltas
+	 */
+	public synchronized void shutdown()
+	{
+		if (scheduledFlush != null)
+		{
+			scheduledFlush.cancel(false);
+			scheduledFlush = null;
+		}
+		flush();
+	}
+
+	/**
+	 * Number of distinct counters with a pending delta
+	 */
+	public int getPendingCounters()
+	{
+		return pendingCounters.get();
+	}
+
+	/**
+	 * Sum of the absolute values of all pending deltas
+	 */
+	public long getPendingDeltas()
+	{
+		long total = 0;
+		for (AtomicLong sum : pending.values())
+		{
+			long value = sum.get();
+			if (value != DEAD)
+			{
+				total += Math.abs(value);
+			}
+		}
+		return total;
+	}
+
+	/**
+	 * Number of deltas added since creation
+	 */
+	public long getReceivedDeltas()
+	{
+		return receivedDeltas.get();
+	}
+
+	/**
+	 * Number of counter columns written since creation. The ratio with received deltas gives
+	 * the coalescing factor
+	 */
+	public long getFlushedCounters()
+	{
+		return flushedCounters.get();
+	}
+
+	public long getFlushCount()
+	{
+		return flushCount.get();
+	}
+
+	private void accumulate(CounterCell<K> cell, long delta)
+	{
+		while (true)
+		{
+			AtomicLong sum = pending.get(cell);
+			if (sum == null)
+			{
+				sum = pending.putIfAbsent(cell, new AtomicLong(delta));
+				if (sum == null)
+				{
+					pendingCounters.incrementAndGet();
+					return;
+				}
+			}
+
+			long current = sum.get();
+			if (current == DEAD)
+			{
+				// Drained by a flush, help removing it then retry on a fresh entry
+				pending.remove(cell, sum);
+			}
+			else if (sum.compareAndSet(current, current + delta))
+			{
+				return;
+			}
+		}
+	}
+
+	private int doFlush()
+	{
+		if (pending.isEmpty())
+		{
+			return 0;
+		}
+
+		Map<CounterCell<K>, Long> drained = new HashMap<CounterCell<K>, Long>();
+		for (Entry<CounterCell<K>, AtomicLong> entry : pending.entrySet())
+		{
+			AtomicLong sum = entry.getValue();
+			long delta = sum.getAndSet(DEAD);
+			if (delta == DEAD)
+			{
+				continue;
+			}
+			pending.remove(entry.getKey(), sum);
+			pendingCounters.decrementAndGet();
+			// The iteration can meet again a cell re-created by an adder after being drained
+			Long previous = drained.get(entry.getKey());
+			delta += previous == null ? 0 : previous;
+			if (delta != 0)
+			{
+				drained.put(entry.getKey(), delta);
+			}
+			else
+			{
+				drained.remove(entry.getKey());
+			}
+		}
+
+		if (drained.isEmpty())
+		{
+			return 0;
+		}
+
+		Mutator<K> mutator = dao.buildMutator();
+		String columnFamily = dao.getColumnFamily();
+		for (Entry<CounterCell<K>, Long> entry : drained.entrySet())
+		{
+			CounterCell<K> cell = entry.getKey();
+			mutator.addCounter(cell.key, columnFamily, HFactory.createCounterColumn(
+					cell.name.duplicate(), entry.getValue(), ByteBufferSerializer.get()));
+		}
+
+		try
+		{
+			mutator.execute();
+		}
+		catch (RuntimeException e)
+		{
+			for (Entry<CounterCell<K>, Long> entry : drained.entrySet())
+			{
+				accumulate(entry.getKey(), entry.getValue());
+			}
+			throw e;
+		}
+
+		log.trace("Flushed {} counters to column family '{}'", drained.size(), columnFamily);
+		flushCount.incrementAndGet();
+		flushedCounters.addAndGet(drained.size());
+		return drained.size();
+	}
+
+	private static class CounterCell<K>
+	{
+		private final K key;
+		private final ByteBuffer name;
+
+		private CounterCell(K key, ByteBuffer name)
+		{
+			this.key = key;
+			this.name = name;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return 31 * key.hashCode() + name.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (this == obj)
+			{
+				return true;
+			}
+			if (!(obj instanceof CounterCell))
+			{
+				return false;
+			}
+			CounterCell<?> other = (CounterCell<?>) obj;
+			return key.equals(other.key) && name.equals(other.name);
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.iterator.AdaptivePageSizer;
+import info.archinnov.achilles.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * DaoOptions
+ *
+ * @author DuyHai DOAN
+ *
+ *         Tuning of the daos created by an EntityManagerFactory. Options left unset keep the dao
+ *         defaults
+ *
+ */
+public class DaoOptions
+{
+	private static final Logger log = LoggerFactory.getLogger(DaoOptions.class);
+
+	private ExecutorService prefetchExecutor;
+	private int prefetchDepth = 1;
+	private AdaptivePageSizer pageSizer;
+	private Integer removeChunkSize;
+	private ExecutorService removeExecutor;
+	private int removeMaxChunksInFlight = 1;
+	private Integer eagerFetchChunkSize;
+	private ExecutorService eagerFetchExecutor;
+	private Integer eagerFetchPageSize;
+	private ScheduledExecutorService counterFlushScheduler;
+	private long counterFlushInterval;
+	private int maxPendingCounters;
+	private final List<AbstractDao<?, ?, ?>> coalescingDaos = new ArrayList<AbstractDao<?, ?, ?>>();
+	private Thread shutdownHook;
+
+	/**
+	 * Prefetch pages of the column and join column iterators in the background, see
+	 * AbstractDao.setPrefetch
+	 */
+	public DaoOptions prefetch(ExecutorService executor, int depth)
+	{
+		Validator.validateNotNull(executor, "Prefetch executor should not be null");
+		Validator.validateTrue(depth > 0, "Prefetch depth should be strictly positive");
+		this.prefetchExecutor = executor;
+		this.prefetchDepth = depth;
+		return this;
+	}
+
+	/**
+	 * Adapt the page size of the column and counter column iterators, see
+	 * AbstractDao.setAdaptivePaging
+	 */
+	public DaoOptions adaptivePaging(AdaptivePageSizer pageSizer)
+	{
+		this.pageSizer = pageSizer;
+		return this;
+	}
+
+	/**
+	 * Delete column ranges by chunks, see AbstractDao.setChunkedRemoval
+	 */
+	public DaoOptions chunkedRemoval(int chunkSize, ExecutorService executor, int maxChunksInFlight)
+	{
+		Validator.validateTrue(chunkSize > 0, "Remove chunk size should be strictly positive");
+		Validator.validateTrue(maxChunksInFlight > 0,
+				"Max remove chunks in flight should be strictly positive");
+		this.removeChunkSize = chunkSize;
+		this.removeExecutor = executor;
+		this.removeMaxChunksInFlight = maxChunksInFlight;
+		return this;
+	}
+
+	/**
+	 * Split the eager fetch of multiple entities into multiget chunks, see
+	 * GenericDynamicCompositeDao.setEagerFetchChunking
+	 */
+	public DaoOptions eagerFetchChunking(int chunkSize, ExecutorService executor)
+	{
+		Validator.validateTrue(chunkSize > 0, "Eager fetch chunk size should be strictly positive");
+		this.eagerFetchChunkSize = chunkSize;
+		this.eagerFetchExecutor = executor;
+		return this;
+	}
+
+	/**
+	 * Page size of the eager fetch of a single entity, see
+	 * GenericDynamicCompositeDao.setEagerFetchPageSize
+	 */
+	public DaoOptions eagerFetchPageSize(int pageSize)
+	{
+		Validator.validateTrue(pageSize > 0, "Eager fetch page size should be strictly positive");
+		this.eagerFetchPageSize = pageSize;
+		return this;
+	}
+
+	/**
+	 * Coalesce the increments of the entity counters and counter wide maps, see
+	 * AbstractDao.enableCounterCoalescing. A single JVM shutdown hook writes the deltas still
+	 * pending when the application stops, until close() is called
+	 */
+	public DaoOptions counterCoalescing(ScheduledExecutorService scheduler, long flushInterval,
+			int maxPendingCounters)
+	{
+		Validator.validateNotNull(scheduler, "Counter flush scheduler should not be null");
+		Validator.validateTrue(flushInterval > 0,
+				"Counter flush interval should be strictly positive");
+		Validator.validateTrue(maxPendingCounters > 0,
+				"Max pending counters should be strictly positive");
+		this.counterFlushScheduler = scheduler;
+		this.counterFlushInterval = flushInterval;
+		this.maxPendingCounters = maxPendingCounters;
+		return this;
+	}
+
+	public void configure(AbstractDao<?, ?, ?> dao)
+	{
+		if (prefetchExecutor != null)
+		{
+			dao.setPrefetch(prefetchExecutor, prefetchDepth);
+		}
+		if (pageSizer != null)
+		{
+			dao.setAdaptivePaging(pageSizer);
+		}
+		if (removeChunkSize != null)
+		{
+			dao.setChunkedRemoval(removeChunkSize, removeExecutor, removeMaxChunksInFlight);
+		}
+	}
+
+	public void configure(GenericDynamicCompositeDao<?> dao)
+	{
+		configure((AbstractDao<?, ?, ?>) dao);
+		if (eagerFetchChunkSize != null)
+		{
+			dao.setEagerFetchChunking(eagerFetchChunkSize, eagerFetchExecutor);
+		}
+		if (eagerFetchPageSize != null)
+		{
+			dao.setEagerFetchPageSize(eagerFetchPageSize);
+		}
+	}
+
+	public void configureCounterDao(AbstractDao<?, ?, ?> dao)
+	{
+		configure(dao);
+		if (counterFlushScheduler != null)
+		{
+			dao.enableCounterCoalescing(counterFlushScheduler, counterFlushInterval,
+					maxPendingCounters);
+			addCoalescingDao(dao);
+		}
+	}
+
+	/**
+	 * Write the pending counter deltas, stop the counter coalescing of the configured daos and
+	 * remove the JVM shutdown hook. Should be called when the EntityManagerFactory is discarded
+	 */
+	public synchronized void close()
+	{
+		if (shutdownHook != null)
+		{
+			try
+			{
+				Runtime.getRuntime().removeShutdownHook(shutdownHook);
+			}
+			catch (IllegalStateException e)
+			{
+				// JVM already shutting down, the hook flushes
+			}
+			shutdownHook = null;
+		}
+		stopCounterCoalescing();
+	}
+
+	private synchronized void addCoalescingDao(AbstractDao<?, ?, ?> dao)
+	{
+		coalescingDaos.add(dao);
+		if (shutdownHook == null)
+		{
+			shutdownHook = new Thread(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					stopCounterCoalescing();
+				}
+			}, "achilles-counter-flush");
+			Runtime.getRuntime().addShutdownHook(shutdownHook);
+		}
+	}
+
+	private synchronized void stopCounterCoalescing()
+	{
+		for (AbstractDao<?, ?, ?> dao : coalescingDaos)
+		{
+			try
+			{
+				dao.disableCounterCoalescing();
+			}
+			catch (RuntimeException e)
+			{
+				log.warn("Flush of counters for column family '" + dao.getColumnFamily()
+						+ "' failed", e);
+			}
+		}
+		coalescingDaos.clear();
+	}
+}
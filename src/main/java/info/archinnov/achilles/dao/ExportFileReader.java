@@ -0,0 +1,313 @@
+package info.archinnov.achilles.dao;
+
+import static info.archinnov.achilles.dao.ExportFileWriter.*;
+import info.archinnov.achilles.entity.type.ExportFormat;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.cassandra.thrift.Column;
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.thrift.CounterColumn;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.codehaus.jackson.JsonNode;
+import org.codehaus.jackson.map.ObjectMapper;
+
+/**
+ * ExportFileReader
+ *
+ * @author DuyHai DOAN
+ *
+ *         Read back the row chunks of a file written by ExportFileWriter. An incomplete chunk at
+ *         the end of the file, left by an interrupted export, is treated as the end of the file
+ *
+ */
+public class ExportFileReader implements Closeable
+{
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final ExportFormat format;
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+
+	private String columnFamily;
+	private String startToken;
+	private String endToken;
+	private long validLength;
+
+	public ExportFileReader(File exportFile, ExportFormat format, int bufferSize)
+	{
+		this.format = format;
+		try
+		{
+			this.file = new RandomAccessFile(exportFile, "r");
+			this.channel = file.getChannel();
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot open export file '" + exportFile + "'", e);
+		}
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+		buffer.flip();
+		readHeader(exportFile);
+	}
+
+	/**
+	 * Read the next row chunk
+	 *
+	 * @return row key and columns, null at the end of the file
+	 */
+	public Pair<ByteBuffer, List<ColumnOrSuperColumn>> next()
+	{
+		switch (format)
+		{
+			case BINARY:
+				return nextBinaryRow();
+			default:
+				return nextJsonRow();
+		}
+	}
+
+	public String getColumnFamily()
+	{
+		return columnFamily;
+	}
+
+	public String getStartToken()
+	{
+		return startToken;
+	}
+
+	public String getEndToken()
+	{
+		return endToken;
+	}
+
+	/**
+	 * Length of the header and of the complete row chunks read so far
+	 */
+	public long getValidLength()
+	{
+		return validLength;
+	}
+
+	@Override
+	public void close()
+	{
+		try
+		{
+			file.close();
+		}
+		catch (IOException e)
+		{
+			// nothing more to do
+		}
+	}
+
+	private void readHeader(File exportFile)
+	{
+		switch (format)
+		{
+			case BINARY:
+				ByteBuffer magic = readFully(8);
+				Validator.validateTrue(magic != null && magic.getInt() == MAGIC, "The file '"
+						+ exportFile + "' is not a binary export file");
+				Validator.validateTrue(magic.getInt() == VERSION, "The export file '" + exportFile
+						+ "' has an unsupported version");
+				columnFamily = readString();
+				startToken = readString();
+				endToken = readString();
+				Validator.validateNotNull(endToken, "The export file '" + exportFile
+						+ "' has a truncated header");
+				validLength = 20 + columnFamily.getBytes(UTF_8).length
+						+ startToken.getBytes(UTF_8).length + endToken.getBytes(UTF_8).length;
+				break;
+			case JSON_LINES:
+				JsonNode header = readJsonLine();
+				Validator.validateTrue(header != null && header.has("format")
+						&& JSON_FORMAT.equals(header.get("format").getTextValue()), "The file '"
+						+ exportFile + "' is not a JSON lines export file");
+				Validator.validateTrue(header.get("version").getIntValue() == VERSION,
+						"The export file '" + exportFile + "' has an unsupported version");
+				columnFamily = header.get("columnFamily").getTextValue();
+				startToken = header.get("startToken").getTextValue();
+				endToken = header.get("endToken").getTextValue();
+				break;
+		}
+	}
+
+	private Pair<ByteBuffer, List<ColumnOrSuperColumn>> nextBinaryRow()
+	{
+		ByteBuffer chunkLength = readFully(4);
+		if (chunkLength == null)
+		{
+			return null;
+		}
+		int length = chunkLength.getInt();
+		ByteBuffer chunk = readFully(length);
+		if (chunk == null)
+		{
+			return null;
+		}
+		validLength += 4 + length;
+
+		ByteBuffer key = slice(chunk);
+		int columnCount = chunk.getInt();
+		List<ColumnOrSuperColumn> columns = new ArrayList<ColumnOrSuperColumn>(columnCount);
+		for (int i = 0; i < columnCount; i++)
+		{
+			byte kind = chunk.get();
+			ByteBuffer name = slice(chunk);
+			if (kind == COUNTER_COLUMN)
+			{
+				columns.add(new ColumnOrSuperColumn().setCounter_column(new CounterColumn(name,
+						chunk.getLong())));
+			}
+			else
+			{
+				Column column = new Column(name);
+				column.setValue(slice(chunk));
+				column.setTimestamp(chunk.getLong());
+				int ttl = chunk.getInt();
+				if (ttl > 0)
+				{
+					column.setTtl(ttl);
+				}
+				columns.add(new ColumnOrSuperColumn().setColumn(column));
+			}
+		}
+		return Pair.create(key, columns);
+	}
+
+	private Pair<ByteBuffer, List<ColumnOrSuperColumn>> nextJsonRow()
+	{
+		JsonNode row = readJsonLine();
+		if (row == null)
+		{
+			return null;
+		}
+		ByteBuffer key = ByteBufferUtil.hexToBytes(row.get("key").getTextValue());
+		List<ColumnOrSuperColumn> columns = new ArrayList<ColumnOrSuperColumn>();
+		for (JsonNode node : row.get("columns"))
+		{
+			ByteBuffer name = ByteBufferUtil.hexToBytes(node.get("name").getTextValue());
+			if (node.has("counter"))
+			{
+				columns.add(new ColumnOrSuperColumn().setCounter_column(new CounterColumn(name,
+						node.get("counter").getLongValue())));
+			}
+			else
+			{
+				Column column = new Column(name);
+				column.setValue(ByteBufferUtil.hexToBytes(node.get("value").getTextValue()));
+				column.setTimestamp(node.get("timestamp").getLongValue());
+				int ttl = node.get("ttl").getIntValue();
+				if (ttl > 0)
+				{
+					column.setTtl(ttl);
+				}
+				columns.add(new ColumnOrSuperColumn().setColumn(column));
+			}
+		}
+		return Pair.create(key, columns);
+	}
+
+	private JsonNode readJsonLine()
+	{
+		ByteArrayOutputStream line = new ByteArrayOutputStream();
+		while (true)
+		{
+			if (!buffer.hasRemaining() && !fill())
+			{
+				// no line or a last line without its line feed
+				return null;
+			}
+			byte b = buffer.get();
+			if (b == '\n')
+			{
+				break;
+			}
+			line.write(b);
+		}
+		validLength += line.size() + 1;
+		try
+		{
+			return objectMapper.readTree(line.toByteArray());
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot parse export file line", e);
+		}
+	}
+
+	private String readString()
+	{
+		ByteBuffer length = readFully(4);
+		if (length == null)
+		{
+			return null;
+		}
+		ByteBuffer bytes = readFully(length.getInt());
+		return bytes == null ? null : new String(bytes.array(), UTF_8);
+	}
+
+	private ByteBuffer slice(ByteBuffer chunk)
+	{
+		int length = chunk.getInt();
+		ByteBuffer slice = chunk.duplicate();
+		slice.limit(slice.position() + length);
+		chunk.position(chunk.position() + length);
+		return slice.slice();
+	}
+
+	/**
+	 * Copy the next bytes to a heap buffer
+	 *
+	 * @return the bytes, null when the file ends before
+	 */
+	private ByteBuffer readFully(int length)
+	{
+		byte[] bytes = new byte[length];
+		int read = 0;
+		while (read < length)
+		{
+			if (!buffer.hasRemaining() && !fill())
+			{
+				return null;
+			}
+			int count = Math.min(length - read, buffer.remaining());
+			buffer.get(bytes, read, count);
+			read += count;
+		}
+		return ByteBuffer.wrap(bytes);
+	}
+
+	private boolean fill()
+	{
+		buffer.clear();
+		try
+		{
+			int read = 0;
+			while (read == 0)
+			{
+				read = channel.read(buffer);
+			}
+			buffer.flip();
+			return read > 0;
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot read export file", e);
+		}
+	}
+}
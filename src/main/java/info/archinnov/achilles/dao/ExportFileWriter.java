@@ -0,0 +1,306 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.entity.type.ExportFormat;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import org.apache.cassandra.thrift.Column;
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.thrift.CounterColumn;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.codehaus.jackson.JsonEncoding;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonGenerator;
+
+/**
+ * ExportFileWriter
+ *
+ * @author DuyHai DOAN
+ *
+ *         Write the rows of a token range to an export file through a file channel and a direct
+ *         buffer.
+ *
+ *         A binary file starts with MAGIC, VERSION and the column family, start token and end
+ *         token as length-prefixed UTF-8 strings. Each row chunk follows as [int chunk length]
+ *         [int key length][key][int column count] then the columns, either [COLUMN][int name
+ *         length][name][int value length][value][long timestamp][int ttl] or [COUNTER_COLUMN][int
+ *         name length][name][long value].
+ *
+ *         A JSON lines file starts with a header object, then one object per row chunk.
+ *
+ *         A row larger than one page of columns is written as several chunks with the same key
+ *
+ */
+public class ExportFileWriter implements Closeable
+{
+	static final int MAGIC = 0x41434858;
+	static final int VERSION = 1;
+	static final byte COLUMN = 0;
+	static final byte COUNTER_COLUMN = 1;
+	static final String JSON_FORMAT = "achilles-export";
+	static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final ExportFormat format;
+	private final RandomAccessFile file;
+	private final FileChannel channel;
+	private final ByteBuffer buffer;
+
+	private final JsonFactory jsonFactory = new JsonFactory();
+	private final ByteArrayOutputStream jsonLine = new ByteArrayOutputStream();
+
+	/**
+	 * Open an export file and write from the given position, dropping the bytes after it
+	 */
+	public ExportFileWriter(File exportFile, ExportFormat format, int bufferSize, long position)
+	{
+		this.format = format;
+		try
+		{
+			this.file = new RandomAccessFile(exportFile, "rw");
+			this.channel = file.getChannel();
+			channel.truncate(position);
+			channel.position(position);
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot open export file '" + exportFile + "'", e);
+		}
+		this.buffer = ByteBuffer.allocateDirect(bufferSize);
+	}
+
+	public void writeHeader(String columnFamily, String startToken, String endToken)
+	{
+		switch (format)
+		{
+			case BINARY:
+				byte[] columnFamilyBytes = columnFamily.getBytes(UTF_8);
+				byte[] startTokenBytes = startToken.getBytes(UTF_8);
+				byte[] endTokenBytes = endToken.getBytes(UTF_8);
+				ByteBuffer header = ByteBuffer.allocate(20 + columnFamilyBytes.length
+						+ startTokenBytes.length + endTokenBytes.length);
+				header.putInt(MAGIC).putInt(VERSION);
+				header.putInt(columnFamilyBytes.length).put(columnFamilyBytes);
+				header.putInt(startTokenBytes.length).put(startTokenBytes);
+				header.putInt(endTokenBytes.length).put(endTokenBytes);
+				header.flip();
+				write(header);
+				break;
+			case JSON_LINES:
+				try
+				{
+					JsonGenerator generator = startJsonLine();
+					generator.writeStartObject();
+					generator.writeStringField("format", JSON_FORMAT);
+					generator.writeNumberField("version", VERSION);
+					generator.writeStringField("columnFamily", columnFamily);
+					generator.writeStringField("startToken", startToken);
+					generator.writeStringField("endToken", endToken);
+					generator.writeEndObject();
+					endJsonLine(generator);
+				}
+				catch (IOException e)
+				{
+					throw new AchillesException("Cannot write export file header", e);
+				}
+				break;
+		}
+	}
+
+	public void writeRow(ByteBuffer key, List<ColumnOrSuperColumn> columns)
+	{
+		switch (format)
+		{
+			case BINARY:
+				writeBinaryRow(key, columns);
+				break;
+			case JSON_LINES:
+				writeJsonRow(key, columns);
+				break;
+		}
+	}
+
+	/**
+	 * Write the buffered bytes and close the file
+	 */
+	@Override
+	public void close()
+	{
+		try
+		{
+			flush();
+			channel.force(false);
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot write export file", e);
+		}
+		finally
+		{
+			try
+			{
+				file.close();
+			}
+			catch (IOException e)
+			{
+				// nothing more to do
+			}
+		}
+	}
+
+	private void writeBinaryRow(ByteBuffer key, List<ColumnOrSuperColumn> columns)
+	{
+		int chunkLength = 8 + key.remaining();
+		for (ColumnOrSuperColumn columnOrSuperColumn : columns)
+		{
+			if (columnOrSuperColumn.isSetCounter_column())
+			{
+				chunkLength += 13 + columnOrSuperColumn.getCounter_column().bufferForName()
+						.remaining();
+			}
+			else
+			{
+				Column column = columnOrSuperColumn.getColumn();
+				chunkLength += 21 + column.bufferForName().remaining()
+						+ column.bufferForValue().remaining();
+			}
+		}
+
+		ByteBuffer target = buffer;
+		if (4 + chunkLength > buffer.remaining())
+		{
+			flush();
+			if (4 + chunkLength > buffer.capacity())
+			{
+				target = ByteBuffer.allocate(4 + chunkLength);
+			}
+		}
+
+		target.putInt(chunkLength);
+		target.putInt(key.remaining()).put(key.duplicate());
+		target.putInt(columns.size());
+		for (ColumnOrSuperColumn columnOrSuperColumn : columns)
+		{
+			if (columnOrSuperColumn.isSetCounter_column())
+			{
+				CounterColumn counterColumn = columnOrSuperColumn.getCounter_column();
+				target.put(COUNTER_COLUMN);
+				target.putInt(counterColumn.bufferForName().remaining()).put(
+						counterColumn.bufferForName().duplicate());
+				target.putLong(counterColumn.getValue());
+			}
+			else
+			{
+				Column column = columnOrSuperColumn.getColumn();
+				target.put(COLUMN);
+				target.putInt(column.bufferForName().remaining()).put(
+						column.bufferForName().duplicate());
+				target.putInt(column.bufferForValue().remaining()).put(
+						column.bufferForValue().duplicate());
+				target.putLong(column.getTimestamp());
+				target.putInt(column.isSetTtl() ? column.getTtl() : 0);
+			}
+		}
+
+		if (target != buffer)
+		{
+			target.flip();
+			write(target);
+		}
+	}
+
+	private void writeJsonRow(ByteBuffer key, List<ColumnOrSuperColumn> columns)
+	{
+		try
+		{
+			JsonGenerator generator = startJsonLine();
+			generator.writeStartObject();
+			generator.writeStringField("key", ByteBufferUtil.bytesToHex(key));
+			generator.writeArrayFieldStart("columns");
+			for (ColumnOrSuperColumn columnOrSuperColumn : columns)
+			{
+				generator.writeStartObject();
+				if (columnOrSuperColumn.isSetCounter_column())
+				{
+					CounterColumn counterColumn = columnOrSuperColumn.getCounter_column();
+					generator.writeStringField("name",
+							ByteBufferUtil.bytesToHex(counterColumn.bufferForName()));
+					generator.writeNumberField("counter", counterColumn.getValue());
+				}
+				else
+				{
+					Column column = columnOrSuperColumn.getColumn();
+					generator.writeStringField("name",
+							ByteBufferUtil.bytesToHex(column.bufferForName()));
+					generator.writeStringField("value",
+							ByteBufferUtil.bytesToHex(column.bufferForValue()));
+					generator.writeNumberField("timestamp", column.getTimestamp());
+					generator.writeNumberField("ttl", column.isSetTtl() ? column.getTtl() : 0);
+				}
+				generator.writeEndObject();
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+			endJsonLine(generator);
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot write export file", e);
+		}
+	}
+
+	private JsonGenerator startJsonLine() throws IOException
+	{
+		jsonLine.reset();
+		return jsonFactory.createJsonGenerator(jsonLine, JsonEncoding.UTF8);
+	}
+
+	private void endJsonLine(JsonGenerator generator) throws IOException
+	{
+		generator.close();
+		jsonLine.write('\n');
+		byte[] line = jsonLine.toByteArray();
+		if (line.length > buffer.remaining())
+		{
+			flush();
+		}
+		if (line.length > buffer.capacity())
+		{
+			write(ByteBuffer.wrap(line));
+		}
+		else
+		{
+			buffer.put(line);
+		}
+	}
+
+	private void flush()
+	{
+		buffer.flip();
+		write(buffer);
+		buffer.clear();
+	}
+
+	private void write(ByteBuffer bytes)
+	{
+		try
+		{
+			while (bytes.hasRemaining())
+			{
+				channel.write(bytes);
+			}
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot write export file", e);
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package info.archinnov.achilles.dao;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.COMPOSITE_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import me.prettyprint.hector.api.Keyspace;
+import me.prettyprint.hector.api.Serializer;
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * GenericCounterDao
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class GenericCounterDao<K> extends AbstractDao<K, Composite, Long>
+{
+
+	private static final Logger log = LoggerFactory.getLogger(GenericCounterDao.class);
+
+	public GenericCounterDao(Keyspace keyspace, Serializer<K> keySrz, String cf) {
+
+		super(keyspace);
+
+		keySerializer = keySrz;
+		columnFamily = cf;
+		columnNameSerializer = COMPOSITE_SRZ;
+		valueSerializer = LONG_SRZ;
+
+		log.debug(
+				"Initializing GenericCounterDao for key serializer '{}', composite comparator and counter values",
+				keySrz.getComparatorType().getTypeName());
+	}
+}
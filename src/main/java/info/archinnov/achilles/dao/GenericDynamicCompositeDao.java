@@ -3,12 +3,20 @@ package info.archinnov.achilles.dao;
 import static info.archinnov.achilles.entity.metadata.PropertyType.END_EAGER;
 import static info.archinnov.achilles.entity.metadata.PropertyType.START_EAGER;
 import static info.archinnov.achilles.serializer.SerializerUtils.DYNA_COMP_SRZ;
-import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.LAZY_DYNA_COMP_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.TYPED_VALUE_SRZ;
+import info.archinnov.achilles.iterator.EagerTokenRangeIterator;
+import info.archinnov.achilles.serializer.TypedValueSerializer;
+import info.archinnov.achilles.validation.Validator;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
 
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.Serializer;
@@ -18,22 +26,33 @@ import me.prettyprint.hector.api.beans.HColumn;
 import me.prettyprint.hector.api.beans.Row;
 import me.prettyprint.hector.api.beans.Rows;
 
+import org.apache.cassandra.thrift.SlicePredicate;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+
 /**
  * GenericDynamicCompositeDao
  * 
  * @author DuyHai DOAN
  * 
  */
-public class GenericDynamicCompositeDao<K> extends AbstractDao<K, DynamicComposite, String>
+public class GenericDynamicCompositeDao<K> extends AbstractDao<K, DynamicComposite, Object>
 {
 	private static final Logger log = LoggerFactory.getLogger(GenericDynamicCompositeDao.class);
 
 	private DynamicComposite startCompositeForEagerFetch;
 	private DynamicComposite endCompositeForEagerFetch;
 
+	public static int DEFAULT_EAGER_FETCH_CHUNK_SIZE = 100;
+	public static int DEFAULT_EAGER_FETCH_PAGE_SIZE = 1000;
+
+	private int eagerFetchChunkSize = DEFAULT_EAGER_FETCH_CHUNK_SIZE;
+	private ExecutorService eagerFetchExecutor;
+	private int eagerFetchPageSize = DEFAULT_EAGER_FETCH_PAGE_SIZE;
+
 	protected GenericDynamicCompositeDao() {
 		this.initComposites();
 	}
@@ -44,39 +63,124 @@ public class GenericDynamicCompositeDao<K> extends AbstractDao<K, DynamicComposi
 		this.initComposites();
 		keySerializer = keySrz;
 		columnFamily = cf;
-		columnNameSerializer = DYNA_COMP_SRZ;
-		valueSerializer = STRING_SRZ;
+		columnNameSerializer = LAZY_DYNA_COMP_SRZ;
+		valueSerializer = TYPED_VALUE_SRZ;
 
 		log.debug(
-				"Initializing GenericDynamicCompositeDao for key serializer '{}', dynamic composite comparator and value serializer 'BytesType'",
+				"Initializing GenericDynamicCompositeDao for key serializer '{}', dynamic composite comparator and typed value serializer",
 				keySrz.getComparatorType().getTypeName());
 
 	}
 
-	public List<Pair<DynamicComposite, String>> eagerFetchEntity(K key)
+	public List<Pair<DynamicComposite, Object>> eagerFetchEntity(K key)
+	{
+		return Lists.newArrayList(this.eagerFetchEntityIterator(key));
+	}
+
+	/**
+	 * Iterate over the eager properties columns of an entity, fetched by slices of at most
+	 * eagerFetchPageSize columns
+	 */
+	public Iterator<Pair<DynamicComposite, Object>> eagerFetchEntityIterator(K key)
 	{
 		log.trace("Eager fetching properties for column family {} ", columnFamily);
 
-		return this.findColumnsRange(key, startCompositeForEagerFetch, endCompositeForEagerFetch,
-				false, Integer.MAX_VALUE);
+		return Iterators.transform(this.getColumnsIterator(key, startCompositeForEagerFetch,
+				endCompositeForEagerFetch, false, eagerFetchPageSize), hColumnToPair);
+	}
+
+	/**
+	 * Iterate over the rows of a token range with their eager properties columns, fetched by
+	 * range slice queries of at most pageSize rows
+	 * 
+	 * @param startToken
+	 *            start token, exclusive
+	 * @param endToken
+	 *            end token, inclusive
+	 * @param pageSize
+	 *            maximum number of rows fetched by one query
+	 */
+	public EagerTokenRangeIterator<K> eagerFetchTokenRange(String startToken, String endToken,
+			int pageSize)
+	{
+		log.trace("Eager fetching token range ({}, {}] for column family {} ", new Object[]
+		{
+				startToken,
+				endToken,
+				columnFamily
+		});
+
+		TokenRangeHelper tokenHelper = this.getTokenRangeHelper();
+		SlicePredicate predicate = tokenHelper.slicePredicate(
+				DYNA_COMP_SRZ.toByteBuffer(startCompositeForEagerFetch),
+				DYNA_COMP_SRZ.toByteBuffer(endCompositeForEagerFetch), eagerFetchPageSize);
+
+		return new EagerTokenRangeIterator<K>(this, tokenHelper, keySerializer,
+				columnNameSerializer, valueSerializer, predicate, startToken, endToken, pageSize);
 	}
 
-	public Map<K, List<Pair<DynamicComposite, String>>> eagerFetchEntities(List<K> keys)
+	public Map<K, List<Pair<DynamicComposite, Object>>> eagerFetchEntities(List<K> keys)
 	{
 		log.trace("Eager fetching properties for multiple entities in column family {} ",
 				columnFamily);
 
-		Map<K, List<Pair<DynamicComposite, String>>> map = new HashMap<K, List<Pair<DynamicComposite, String>>>();
+		Map<K, List<Pair<DynamicComposite, Object>>> map = new HashMap<K, List<Pair<DynamicComposite, Object>>>();
+
+		List<List<K>> chunks = Lists.partition(keys, eagerFetchChunkSize);
+		if (eagerFetchExecutor == null || chunks.size() < 2)
+		{
+			for (List<K> chunk : chunks)
+			{
+				map.putAll(eagerFetchChunk(chunk));
+			}
+		}
+		else
+		{
+			// The calling thread runs itself the chunks no pool thread has started yet, so it
+			// only waits for chunks being fetched. Callers running on the executor, like
+			// prefetched join pages, therefore cannot wait for tasks queued behind them
+			List<FutureTask<Map<K, List<Pair<DynamicComposite, Object>>>>> chunkFetches = new ArrayList<FutureTask<Map<K, List<Pair<DynamicComposite, Object>>>>>();
+			for (final List<K> chunk : chunks)
+			{
+				FutureTask<Map<K, List<Pair<DynamicComposite, Object>>>> chunkFetch = new FutureTask<Map<K, List<Pair<DynamicComposite, Object>>>>(
+						new Callable<Map<K, List<Pair<DynamicComposite, Object>>>>()
+						{
+							@Override
+							public Map<K, List<Pair<DynamicComposite, Object>>> call()
+							{
+								return eagerFetchChunk(chunk);
+							}
+						});
+				chunkFetches.add(chunkFetch);
+				if (chunkFetches.size() < chunks.size())
+				{
+					eagerFetchExecutor.execute(chunkFetch);
+				}
+			}
+			for (FutureTask<Map<K, List<Pair<DynamicComposite, Object>>>> chunkFetch : chunkFetches)
+			{
+				// no-op if a pool thread already started it
+				chunkFetch.run();
+				map.putAll(await(chunkFetch));
+			}
+		}
+
+		return map;
+	}
+
+	private Map<K, List<Pair<DynamicComposite, Object>>> eagerFetchChunk(List<K> keys)
+	{
+		Map<K, List<Pair<DynamicComposite, Object>>> map = new HashMap<K, List<Pair<DynamicComposite, Object>>>();
 
-		Rows<K, DynamicComposite, String> rows = this.multiGetSliceRange(keys,
+		Rows<K, DynamicComposite, Object> rows = this.multiGetSliceRange(keys,
 				startCompositeForEagerFetch, endCompositeForEagerFetch, false, Integer.MAX_VALUE);
 
-		for (Row<K, DynamicComposite, String> row : rows)
+		for (Row<K, DynamicComposite, Object> row : rows)
 		{
-			List<Pair<DynamicComposite, String>> columns = new ArrayList<Pair<DynamicComposite, String>>();
-			for (HColumn<DynamicComposite, String> column : row.getColumnSlice().getColumns())
+			List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
+			for (HColumn<DynamicComposite, Object> column : row.getColumnSlice().getColumns())
 			{
-				columns.add(new Pair<DynamicComposite, String>(column.getName(), column.getValue()));
+				columns.add(new Pair<DynamicComposite, Object>(column.getName(), column.getValue()));
 			}
 
 			map.put(row.getKey(), columns);
@@ -85,6 +189,48 @@ public class GenericDynamicCompositeDao<K> extends AbstractDao<K, DynamicComposi
 		return map;
 	}
 
+	/**
+	 * Split multiple entities eager fetch into multiget queries of at most chunkSize keys
+	 * 
+	 * @param chunkSize
+	 *            maximum number of keys in one multiget query
+	 * @param executor
+	 *            executor running the queries concurrently. Null to run them from the calling
+	 *            thread. The calling thread always fetches the last chunk and any chunk not yet
+	 *            started by the executor, so the executor can be shared with other options
+	 */
+	public void setEagerFetchChunking(int chunkSize, ExecutorService executor)
+	{
+		Validator.validateTrue(chunkSize > 0, "Eager fetch chunk size should be strictly positive");
+		this.eagerFetchChunkSize = chunkSize;
+		this.eagerFetchExecutor = executor;
+	}
+
+	/**
+	 * Maximum number of columns fetched by one slice when eager fetching a single entity
+	 */
+	public void setEagerFetchPageSize(int pageSize)
+	{
+		Validator.validateTrue(pageSize > 0, "Eager fetch page size should be strictly positive");
+		this.eagerFetchPageSize = pageSize;
+	}
+
+	/**
+	 * Write Long, Integer, UUID, Boolean, Date, Double, Float and enum values with their native
+	 * encoding, see TypedValueSerializer. Disable it for column families whose default validation
+	 * class is still UTF8Type
+	 */
+	public void setNativeValueEncoding(boolean nativeValueEncoding)
+	{
+		this.valueSerializer = nativeValueEncoding ? TypedValueSerializer.get()
+				: TypedValueSerializer.getJsonOnly();
+	}
+
+	public boolean isNativeValueEncoding()
+	{
+		return ((TypedValueSerializer) this.valueSerializer).isNativeEncoding();
+	}
+
 	private void initComposites()
 	{
 		startCompositeForEagerFetch = new DynamicComposite();
@@ -0,0 +1,129 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.cassandra.db.marshal.AbstractType;
+import org.apache.cassandra.db.marshal.TypeParser;
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.exceptions.ConfigurationException;
+import org.apache.cassandra.exceptions.SyntaxException;
+import org.apache.cassandra.io.sstable.AbstractSSTableSimpleWriter;
+import org.apache.cassandra.io.sstable.SSTableSimpleUnsortedWriter;
+
+/**
+ * SSTableColumnFamilyWriter
+ *
+ * @author DuyHai DOAN
+ *
+ *         Write the columns of one column family to SSTables in
+ *         <em>directory/keyspace/columnFamily</em>, the layout expected by sstableloader.
+ *
+ *         Rows are buffered in memory up to <em>bufferSizeInMB</em> then written sorted as a new
+ *         SSTable, so rows can be added in any order. Not thread-safe
+ *
+ */
+public class SSTableColumnFamilyWriter
+{
+	private final AbstractSSTableSimpleWriter writer;
+	private ByteBuffer currentKey;
+	private long columnCount = 0;
+
+	public SSTableColumnFamilyWriter(File directory, IPartitioner<?> partitioner,
+			String keyspaceName, String columnFamily, String comparatorType, int bufferSizeInMB)
+	{
+		Validator.validateTrue(bufferSizeInMB > 0, "Buffer size should be strictly positive");
+
+		File columnFamilyDirectory = new File(new File(directory, keyspaceName), columnFamily);
+		Validator.validateTrue(columnFamilyDirectory.isDirectory() || columnFamilyDirectory.mkdirs(),
+				"Cannot create the SSTable directory '" + columnFamilyDirectory.getAbsolutePath()
+						+ "'");
+
+		this.writer = new SSTableSimpleUnsortedWriter(columnFamilyDirectory, partitioner,
+				keyspaceName, columnFamily, parseComparator(comparatorType), null, bufferSizeInMB);
+	}
+
+	SSTableColumnFamilyWriter(AbstractSSTableSimpleWriter writer) {
+		this.writer = writer;
+	}
+
+	public void addColumn(ByteBuffer key, ByteBuffer name, ByteBuffer value, long timestamp,
+			int ttl)
+	{
+		switchRow(key);
+		if (ttl > 0)
+		{
+			writer.addExpiringColumn(name, value, timestamp, ttl, System.currentTimeMillis() + ttl
+					* 1000L);
+		}
+		else
+		{
+			writer.addColumn(name, value, timestamp);
+		}
+		columnCount++;
+	}
+
+	public void addCounter(ByteBuffer key, ByteBuffer name, long value)
+	{
+		switchRow(key);
+		writer.addCounterColumn(name, value);
+		columnCount++;
+	}
+
+	/**
+	 * Write the buffered rows and wait for the last SSTable to be complete
+	 */
+	public void close()
+	{
+		try
+		{
+			writer.close();
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot write SSTable", e);
+		}
+	}
+
+	public long getColumnCount()
+	{
+		return columnCount;
+	}
+
+	private void switchRow(ByteBuffer key)
+	{
+		if (key.equals(currentKey))
+		{
+			return;
+		}
+		try
+		{
+			writer.newRow(key);
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot write SSTable", e);
+		}
+		currentKey = key;
+	}
+
+	private AbstractType<?> parseComparator(String comparatorType)
+	{
+		try
+		{
+			return TypeParser.parse(comparatorType);
+		}
+		catch (SyntaxException e)
+		{
+			throw new AchillesException("Invalid comparator type '" + comparatorType + "'", e);
+		}
+		catch (ConfigurationException e)
+		{
+			throw new AchillesException("Invalid comparator type '" + comparatorType + "'", e);
+		}
+	}
+}
@@ -0,0 +1,302 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.util.Map;
+
+import me.prettyprint.cassandra.serializers.SerializerTypeInferer;
+import me.prettyprint.cassandra.service.CassandraHost;
+import me.prettyprint.hector.api.Serializer;
+import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.beans.HCounterColumn;
+import me.prettyprint.hector.api.beans.HCounterSuperColumn;
+import me.prettyprint.hector.api.beans.HSuperColumn;
+import me.prettyprint.hector.api.factory.HFactory;
+import me.prettyprint.hector.api.mutation.MutationResult;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+/**
+ * SSTableMutator
+ *
+ * @author DuyHai DOAN
+ *
+ *         Mutator writing insertions and counter columns to SSTable writers, one per column family,
+ *         instead of sending them to Cassandra. Lets the existing batch persistence code produce
+ *         SSTables for offline bulk loading.
+ *
+ *         Columns are handed to the writers as soon as they are added, execute() only resets the
+ *         pending count. Deletions have no meaning for a bulk load and are rejected
+ *
+ */
+public class SSTableMutator<K> implements Mutator<K>
+{
+	private static final MutationResult BUFFERED = new MutationResult()
+	{
+		@Override
+		public long getExecutionTimeMicro()
+		{
+			return 0;
+		}
+
+		@Override
+		public long getExecutionTimeNano()
+		{
+			return 0;
+		}
+
+		@Override
+		public CassandraHost getHostUsed()
+		{
+			return null;
+		}
+	};
+
+	private final Serializer<K> keySerializer;
+	private final Map<String, SSTableColumnFamilyWriter> writers;
+
+	private int pendingMutationCount = 0;
+
+	public SSTableMutator(Serializer<K> keySerializer, Map<String, SSTableColumnFamilyWriter> writers) {
+		Validator.validateNotNull(keySerializer, "Key serializer should not be null");
+		Validator.validateNotNull(writers, "SSTable writers should not be null");
+		this.keySerializer = keySerializer;
+		this.writers = writers;
+	}
+
+	@Override
+	public <N, V> Mutator<K> addInsertion(K key, String cf, HColumn<N, V> c)
+	{
+		writerFor(cf).addColumn(keySerializer.toByteBuffer(key), c.getNameBytes(),
+				c.getValueBytes(), c.getClock(), c.getTtl());
+		pendingMutationCount++;
+		return this;
+	}
+
+	@Override
+	public <SN, N, V> Mutator<K> addInsertion(K key, String cf, HSuperColumn<SN, N, V> sc)
+	{
+		throw new UnsupportedOperationException("Super columns cannot be written to SSTables");
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(K key, String cf, N columnName, Serializer<N> nameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(K key, String cf, N columnName,
+			Serializer<N> nameSerializer, long clock)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(K key, String cf)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(K key, String cf, long clock)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(Iterable<K> keys, String cf)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> Mutator<K> addDeletion(Iterable<K> keys, String cf, long clock)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN> Mutator<K> addSuperDelete(K key, String cf, SN sColumnName,
+			Serializer<SN> sNameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN, N, V> Mutator<K> addSubDelete(K key, String cf, HSuperColumn<SN, N, V> sc)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN, N, V> Mutator<K> addSubDelete(K key, String cf, HSuperColumn<SN, N, V> sc,
+			long clock)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN, N> Mutator<K> addSubDelete(K key, String cf, SN sColumnName, N columnName,
+			Serializer<SN> sNameSerializer, Serializer<N> nameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN, N> Mutator<K> addSubDelete(K key, String cf, SN sColumnName, N columnName,
+			Serializer<SN> sNameSerializer, Serializer<N> nameSerializer, long clock)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> Mutator<K> addCounter(K key, String cf, HCounterColumn<N> c)
+	{
+		writerFor(cf).addCounter(keySerializer.toByteBuffer(key), c.getNameBytes(), c.getValue());
+		pendingMutationCount++;
+		return this;
+	}
+
+	@Override
+	public <SN, N> Mutator<K> addCounter(K key, String cf, HCounterSuperColumn<SN, N> sc)
+	{
+		throw new UnsupportedOperationException("Super columns cannot be written to SSTables");
+	}
+
+	@Override
+	public <N> Mutator<K> addCounterDeletion(K key, String cf, N counterColumnName,
+			Serializer<N> nameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> Mutator<K> addCounterDeletion(K key, String cf)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN, N> Mutator<K> addCounterSubDeletion(K key, String cf, HCounterSuperColumn<SN, N> sc)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public MutationResult execute()
+	{
+		pendingMutationCount = 0;
+		return BUFFERED;
+	}
+
+	@Override
+	public Mutator<K> discardPendingMutations()
+	{
+		throw new UnsupportedOperationException(
+				"Columns already handed to the SSTable writers cannot be discarded");
+	}
+
+	@Override
+	public int getPendingMutationCount()
+	{
+		return pendingMutationCount;
+	}
+
+	@Override
+	public <N, V> MutationResult insert(K key, String cf, HColumn<N, V> c)
+	{
+		addInsertion(key, cf, c);
+		return execute();
+	}
+
+	@Override
+	public <SN, N, V> MutationResult insert(K key, String cf, HSuperColumn<SN, N, V> superColumn)
+	{
+		throw new UnsupportedOperationException("Super columns cannot be written to SSTables");
+	}
+
+	@Override
+	public <N> MutationResult delete(K key, String cf, N columnName, Serializer<N> nameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> MutationResult delete(K key, String cf, N columnName, Serializer<N> nameSerializer,
+			long clock)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN, N> MutationResult subDelete(K key, String cf, SN supercolumnName, N columnName,
+			Serializer<SN> sNameSerializer, Serializer<N> nameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN> MutationResult superDelete(K key, String cf, SN supercolumnName,
+			Serializer<SN> sNameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <N> MutationResult insertCounter(K key, String cf, HCounterColumn<N> c)
+	{
+		addCounter(key, cf, c);
+		return execute();
+	}
+
+	@Override
+	public <SN, N> MutationResult insertCounter(K key, String cf,
+			HCounterSuperColumn<SN, N> superColumn)
+	{
+		throw new UnsupportedOperationException("Super columns cannot be written to SSTables");
+	}
+
+	@Override
+	public <N> MutationResult incrementCounter(K key, String cf, N columnName, long increment)
+	{
+		return insertCounter(key, cf, HFactory.createCounterColumn(columnName, increment,
+				SerializerTypeInferer.getSerializer(columnName)));
+	}
+
+	@Override
+	public <N> MutationResult decrementCounter(K key, String cf, N columnName, long increment)
+	{
+		return insertCounter(key, cf, HFactory.createCounterColumn(columnName, -increment,
+				SerializerTypeInferer.getSerializer(columnName)));
+	}
+
+	@Override
+	public <N> MutationResult deleteCounter(K key, String cf, N counterColumnName,
+			Serializer<N> nameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	@Override
+	public <SN, N> MutationResult subDeleteCounter(K key, String cf, SN supercolumnName,
+			N columnName, Serializer<SN> sNameSerializer, Serializer<N> nameSerializer)
+	{
+		throw unsupportedDeletion();
+	}
+
+	private SSTableColumnFamilyWriter writerFor(String cf)
+	{
+		SSTableColumnFamilyWriter writer = writers.get(cf);
+		if (writer == null)
+		{
+			throw new AchillesException("No SSTable writer for the column family '" + cf + "'");
+		}
+		return writer;
+	}
+
+	private UnsupportedOperationException unsupportedDeletion()
+	{
+		return new UnsupportedOperationException("Deletions cannot be written to SSTables");
+	}
+}
@@ -0,0 +1,324 @@
+package info.archinnov.achilles.dao;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import me.prettyprint.cassandra.model.ExecutingKeyspace;
+import me.prettyprint.cassandra.model.thrift.ThriftConverter;
+import me.prettyprint.cassandra.service.Operation;
+import me.prettyprint.cassandra.service.OperationType;
+import me.prettyprint.hector.api.Keyspace;
+
+import org.apache.cassandra.dht.IPartitioner;
+import org.apache.cassandra.dht.Token;
+import org.apache.cassandra.thrift.Cassandra;
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.thrift.ColumnParent;
+import org.apache.cassandra.thrift.KeyRange;
+import org.apache.cassandra.thrift.KeySlice;
+import org.apache.cassandra.thrift.SlicePredicate;
+import org.apache.cassandra.thrift.SliceRange;
+import org.apache.cassandra.thrift.TokenRange;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.cassandra.utils.FBUtilities;
+
+/**
+ * TokenRangeHelper
+ *
+ * @author DuyHai DOAN
+ *
+ *         Split the ring into token ranges and read them with raw Thrift range slice queries, since
+ *         Hector range queries only accept keys as bounds.
+ *
+ *         Token ranges are Pair(start token exclusive, end token inclusive)
+ *
+ */
+public class TokenRangeHelper
+{
+	private final ExecutingKeyspace keyspace;
+	private IPartitioner<?> partitioner;
+
+	public TokenRangeHelper(Keyspace keyspace) {
+		Validator.validateTrue(keyspace instanceof ExecutingKeyspace,
+				"Token range operations require an ExecutingKeyspace");
+		this.keyspace = (ExecutingKeyspace) keyspace;
+	}
+
+	/**
+	 * Describe the ring and split its ranges until there are at least minSplits ranges
+	 *
+	 * @param minSplits
+	 *            minimum number of token ranges
+	 * @return token ranges covering the whole ring
+	 */
+	public List<Pair<String, String>> splitRing(int minSplits)
+	{
+		List<Pair<String, String>> ranges = new ArrayList<Pair<String, String>>();
+		for (TokenRange tokenRange : describeRing())
+		{
+			ranges.add(Pair.create(tokenRange.getStart_token(), tokenRange.getEnd_token()));
+		}
+
+		while (ranges.size() < minSplits)
+		{
+			List<Pair<String, String>> splitRanges = new ArrayList<Pair<String, String>>();
+			for (Pair<String, String> range : ranges)
+			{
+				String midToken = midpoint(range.left, range.right);
+				if (midToken.equals(range.left) || midToken.equals(range.right))
+				{
+					splitRanges.add(range);
+				}
+				else
+				{
+					splitRanges.add(Pair.create(range.left, midToken));
+					splitRanges.add(Pair.create(midToken, range.right));
+				}
+			}
+			if (splitRanges.size() == ranges.size())
+			{
+				break;
+			}
+			ranges = splitRanges;
+		}
+		return unwrap(ranges);
+	}
+
+	/**
+	 * Find a page of rows in a token range
+	 *
+	 * @param columnFamily
+	 *            column family to read
+	 * @param startToken
+	 *            start token, exclusive
+	 * @param endToken
+	 *            end token, inclusive
+	 * @param predicate
+	 *            columns to fetch for each row
+	 * @param count
+	 *            maximum number of rows
+	 * @return rows, in token order
+	 */
+	public List<KeySlice> findRangeSlices(String columnFamily, String startToken, String endToken,
+			SlicePredicate predicate, int count)
+	{
+		if (!isMinimum(endToken))
+		{
+			return executeRangeSlices(columnFamily, startToken, endToken, predicate, count);
+		}
+
+		// Token ranges cannot wrap so (start, min] is read as the whole ring starting after start,
+		// keeping only rows before the wrap
+		List<KeySlice> rows = executeRangeSlices(columnFamily, startToken, startToken, predicate,
+				count);
+		List<KeySlice> tailRows = new ArrayList<KeySlice>();
+		for (KeySlice row : rows)
+		{
+			if (!isMinimum(startToken)
+					&& compareTokens(tokenOf(row.bufferForKey()), startToken) <= 0)
+			{
+				break;
+			}
+			tailRows.add(row);
+		}
+		return tailRows;
+	}
+
+	/**
+	 * Find a slice of columns of one row
+	 *
+	 * @param columnFamily
+	 *            column family to read
+	 * @param key
+	 *            serialized row key
+	 * @param predicate
+	 *            columns to fetch
+	 * @return columns, in comparator order
+	 */
+	public List<ColumnOrSuperColumn> findColumns(final String columnFamily, final ByteBuffer key,
+			final SlicePredicate predicate)
+	{
+		return keyspace.doExecuteOperation(
+				new Operation<List<ColumnOrSuperColumn>>(OperationType.READ)
+				{
+					@Override
+					public List<ColumnOrSuperColumn> execute(Cassandra.Client cassandra)
+							throws Exception
+					{
+						return cassandra.get_slice(key.duplicate(), new ColumnParent(columnFamily),
+								predicate, ThriftConverter.consistencyLevel(consistencyLevelPolicy
+										.get(operationType)));
+					}
+				}).get();
+	}
+
+	/**
+	 * Predicate fetching at most one column per row, to tell live rows from range ghosts
+	 */
+	public SlicePredicate keysOnlyPredicate()
+	{
+		return slicePredicate(ByteBufferUtil.EMPTY_BYTE_BUFFER, ByteBufferUtil.EMPTY_BYTE_BUFFER,
+				1);
+	}
+
+	public SlicePredicate slicePredicate(ByteBuffer start, ByteBuffer finish, int count)
+	{
+		SlicePredicate predicate = new SlicePredicate();
+		predicate.setSlice_range(new SliceRange(start, finish, false, count));
+		return predicate;
+	}
+
+	/**
+	 * Token of a row key, to be used as exclusive start token of the next page
+	 */
+	@SuppressWarnings(
+	{
+			"rawtypes",
+			"unchecked"
+	})
+	public String tokenOf(ByteBuffer key)
+	{
+		IPartitioner<?> partitioner = partitioner();
+		Token token = partitioner.getToken(key);
+		return partitioner.getTokenFactory().toString(token);
+	}
+
+	/**
+	 * Split ranges wrapping around the ring at the minimum token, since range slices by token
+	 * reject a start token sorting after the end token. Ranges ending at the minimum token are
+	 * handled by findRangeSlices
+	 */
+	@SuppressWarnings(
+	{
+			"rawtypes",
+			"unchecked"
+	})
+	private List<Pair<String, String>> unwrap(List<Pair<String, String>> ranges)
+	{
+		IPartitioner<?> partitioner = partitioner();
+		Token.TokenFactory tokenFactory = partitioner.getTokenFactory();
+		Token minToken = partitioner.getMinimumToken();
+		String minTokenString = tokenFactory.toString(minToken);
+
+		List<Pair<String, String>> unwrapped = new ArrayList<Pair<String, String>>();
+		for (Pair<String, String> range : ranges)
+		{
+			Token left = tokenFactory.fromString(range.left);
+			Token right = tokenFactory.fromString(range.right);
+			if (left.compareTo(right) < 0 || right.equals(minToken))
+			{
+				unwrapped.add(range);
+			}
+			else
+			{
+				unwrapped.add(Pair.create(range.left, minTokenString));
+				if (!left.equals(minToken))
+				{
+					unwrapped.add(Pair.create(minTokenString, range.right));
+				}
+			}
+		}
+		return unwrapped;
+	}
+
+	private List<KeySlice> executeRangeSlices(final String columnFamily, final String startToken,
+			final String endToken, final SlicePredicate predicate, final int count)
+	{
+		return keyspace.doExecuteOperation(new Operation<List<KeySlice>>(OperationType.READ)
+		{
+			@Override
+			public List<KeySlice> execute(Cassandra.Client cassandra) throws Exception
+			{
+				KeyRange keyRange = new KeyRange(count);
+				keyRange.setStart_token(startToken);
+				keyRange.setEnd_token(endToken);
+
+				return cassandra.get_range_slices(new ColumnParent(columnFamily), predicate,
+						keyRange, ThriftConverter.consistencyLevel(consistencyLevelPolicy
+								.get(operationType)));
+			}
+		}).get();
+	}
+
+	@SuppressWarnings(
+	{
+			"rawtypes",
+			"unchecked"
+	})
+	private boolean isMinimum(String token)
+	{
+		IPartitioner<?> partitioner = partitioner();
+		return partitioner.getTokenFactory().fromString(token)
+				.equals(partitioner.getMinimumToken());
+	}
+
+	/**
+	 * Compare two tokens in ring order
+	 */
+	@SuppressWarnings(
+	{
+			"rawtypes",
+			"unchecked"
+	})
+	public int compareTokens(String token, String otherToken)
+	{
+		Token.TokenFactory tokenFactory = partitioner().getTokenFactory();
+		return tokenFactory.fromString(token).compareTo(tokenFactory.fromString(otherToken));
+	}
+
+	@SuppressWarnings(
+	{
+			"rawtypes",
+			"unchecked"
+	})
+	private String midpoint(String startToken, String endToken)
+	{
+		IPartitioner<?> partitioner = partitioner();
+		Token.TokenFactory tokenFactory = partitioner.getTokenFactory();
+		Token midToken = partitioner.midpoint(tokenFactory.fromString(startToken),
+				tokenFactory.fromString(endToken));
+		return tokenFactory.toString(midToken);
+	}
+
+	private List<TokenRange> describeRing()
+	{
+		return keyspace.doExecuteOperation(new Operation<List<TokenRange>>(OperationType.META_READ)
+		{
+			@Override
+			public List<TokenRange> execute(Cassandra.Client cassandra) throws Exception
+			{
+				return cassandra.describe_ring(keyspace.getKeyspaceName());
+			}
+		}).get();
+	}
+
+	private synchronized IPartitioner<?> partitioner()
+	{
+		if (partitioner == null)
+		{
+			String partitionerName = keyspace.doExecuteOperation(
+					new Operation<String>(OperationType.META_READ)
+					{
+						@Override
+						public String execute(Cassandra.Client cassandra) throws Exception
+						{
+							return cassandra.describe_partitioner();
+						}
+					}).get();
+			try
+			{
+				partitioner = FBUtilities.newPartitioner(partitionerName);
+			}
+			catch (Exception e)
+			{
+				throw new AchillesException("Cannot instantiate partitioner '" + partitionerName
+						+ "'", e);
+			}
+		}
+		return partitioner;
+	}
+}
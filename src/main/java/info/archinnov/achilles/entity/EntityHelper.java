@@ -6,6 +6,7 @@ import info.archinnov.achilles.entity.parser.PropertyFilter;
 import info.archinnov.achilles.entity.type.WideMap;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.exception.BeanMappingException;
+import info.archinnov.achilles.proxy.EntityProxyFactory;
 import info.archinnov.achilles.proxy.interceptor.AchillesInterceptor;
 import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
 import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptorBuilder;
@@ -21,7 +22,6 @@ import java.util.Set;
 
 import javax.persistence.Table;
 
-import net.sf.cglib.proxy.Enhancer;
 import net.sf.cglib.proxy.Factory;
 
 import org.apache.commons.lang.StringUtils;
@@ -173,6 +173,41 @@ public class EntityHelper
 		}
 	}
 
+	public Object getValueFromField(Object target, PropertyMeta<?, ?> propertyMeta)
+	{
+		Object value = null;
+
+		if (target != null)
+		{
+			try
+			{
+				value = MethodInvoker.invoke(propertyMeta.getGetterFastMethod(),
+						propertyMeta.getGetter(), target);
+			}
+			catch (Exception e)
+			{
+				throw new RuntimeException(e);
+			}
+		}
+		return value;
+	}
+
+	public void setValueToField(Object target, PropertyMeta<?, ?> propertyMeta, Object value)
+	{
+		if (target != null)
+		{
+			try
+			{
+				MethodInvoker.invoke(propertyMeta.getSetterFastMethod(), propertyMeta.getSetter(),
+						target, value);
+			}
+			catch (Exception e)
+			{
+				throw new RuntimeException(e);
+			}
+		}
+	}
+
 	public <ID> ID getKey(Object entity, PropertyMeta<Void, ID> idMeta)
 	{
 
@@ -180,7 +215,8 @@ public class EntityHelper
 		{
 			try
 			{
-				Object value = idMeta.getGetter().invoke(entity);
+				Object value = MethodInvoker.invoke(idMeta.getGetterFastMethod(),
+						idMeta.getGetter(), entity);
 				return idMeta.castValue(value);
 			}
 			catch (Exception e)
@@ -314,7 +350,8 @@ public class EntityHelper
 		Object key;
 		try
 		{
-			key = entityMeta.getIdMeta().getGetter().invoke(entity);
+			PropertyMeta<Void, ?> idMeta = entityMeta.getIdMeta();
+			key = MethodInvoker.invoke(idMeta.getGetterFastMethod(), idMeta.getGetter(), entity);
 		}
 		catch (Exception e)
 		{
@@ -349,8 +386,13 @@ public class EntityHelper
 		return multiKeyValues;
 	}
 
-	@SuppressWarnings("unchecked")
 	public <T> T buildProxy(T entity, EntityMeta<?> entityMeta)
+	{
+		return buildProxy(entity, entityMeta, new HashSet<Method>());
+	}
+
+	@SuppressWarnings("unchecked")
+	public <T> T buildProxy(T entity, EntityMeta<?> entityMeta, Set<Method> unloadedEagerGetters)
 	{
 		if (entity == null)
 		{
@@ -359,12 +401,9 @@ public class EntityHelper
 
 		Validator.validateNotNull(entityMeta, "entityMeta for proxy builder should not be");
 
-		Enhancer enhancer = new Enhancer();
-		enhancer.setSuperclass(entity.getClass());
-
-		enhancer.setCallback(JpaEntityInterceptorBuilder.builder(entityMeta, entity).build());
-
-		return (T) enhancer.create();
+		return (T) EntityProxyFactory.newProxy(entity.getClass(), entityMeta,
+				JpaEntityInterceptorBuilder.builder(entityMeta, entity)
+						.unloadedEagerGetters(unloadedEagerGetters).build());
 	}
 
 	@SuppressWarnings("unchecked")
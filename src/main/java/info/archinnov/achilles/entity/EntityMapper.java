@@ -1,7 +1,7 @@
 package info.archinnov.achilles.entity;
 
-import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
 import info.archinnov.achilles.columnFamily.ColumnFamilyHelper;
+import info.archinnov.achilles.composite.ColumnPrefixIndex;
 import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -9,7 +9,9 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.type.KeyValue;
 import info.archinnov.achilles.exception.AchillesException;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -17,7 +19,6 @@ import java.util.Set;
 
 import me.prettyprint.hector.api.beans.DynamicComposite;
 
-import org.apache.commons.lang.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,9 +35,19 @@ public class EntityMapper
 
 	private EntityHelper helper = new EntityHelper();
 
+	public <T, ID> void setEagerPropertiesToEntity(ID key,
+			List<Pair<DynamicComposite, Object>> columns, EntityMeta<ID> entityMeta, T entity)
+	{
+		this.setEagerPropertiesToEntity(key, columns.iterator(), entityMeta, entity);
+	}
+
+	/**
+	 * Set eager properties to entity while iterating over the columns, so that columns can be
+	 * fetched page by page
+	 */
 	@SuppressWarnings("unchecked")
 	public <T, ID> void setEagerPropertiesToEntity(ID key,
-			List<Pair<DynamicComposite, String>> columns, EntityMeta<ID> entityMeta, T entity)
+			Iterator<Pair<DynamicComposite, Object>> columns, EntityMeta<ID> entityMeta, T entity)
 	{
 
 		log.trace("Set eager properties to entity {} ", entityMeta.getClassName());
@@ -48,14 +59,18 @@ public class EntityMapper
 		setIdToEntity(key, entityMeta.getIdMeta(), entity);
 
 		Map<String, PropertyMeta<?, ?>> propertyMetas = entityMeta.getPropertyMetas();
+		ColumnPrefixIndex prefixIndex = entityMeta.getColumnPrefixIndex();
 
-		for (Pair<DynamicComposite, String> pair : columns)
+		while (columns.hasNext())
 		{
-			String propertyName = pair.left.get(1, STRING_SRZ);
+			Pair<DynamicComposite, Object> pair = columns.next();
+			ByteBuffer columnName = pair.left.serialize();
+			PropertyMeta<?, ?> propertyMeta = prefixIndex.find(columnName);
 
-			if (StringUtils.equals(propertyName, PropertyType.SERIAL_VERSION_UID.name()))
+			if (propertyMeta == null)
 			{
-				if (Long.parseLong(pair.right) != entityMeta.getSerialVersionUID())
+				if (prefixIndex.isSerialVersionUID(columnName)
+						&& Long.parseLong(pair.right.toString()) != entityMeta.getSerialVersionUID())
 				{
 					throw new IllegalStateException(
 							"Saved serialVersionUID does not match current serialVersionUID for entity '"
@@ -64,8 +79,6 @@ public class EntityMapper
 				continue;
 			}
 
-			PropertyMeta<?, ?> propertyMeta = propertyMetas.get(propertyName);
-
 			if (propertyMeta.type() == PropertyType.SIMPLE)
 			{
 				setSimplePropertyToEntity(pair.right, propertyMeta, entity);
@@ -85,9 +98,9 @@ public class EntityMapper
 
 			else if (propertyMeta.type() == PropertyType.MAP)
 			{
-				PropertyMeta<?, ?> mapMeta = (PropertyMeta<?, ?>) propertyMeta;
+				PropertyMeta<Object, Object> mapMeta = (PropertyMeta<Object, Object>) propertyMeta;
 
-				addToMap(mapProperties, mapMeta, propertyMeta.getKeyValueFromString(pair.right));
+				addToMap(mapProperties, mapMeta, mapMeta.getKeyValueFromString(pair.right));
 			}
 		}
 
@@ -147,7 +160,7 @@ public class EntityMapper
 
 	@SuppressWarnings("unchecked")
 	protected <K, V> void addToMap(Map<String, Map<?, ?>> mapProperties,
-			PropertyMeta<K, V> mapMeta, KeyValue<?, ?> keyValue)
+			PropertyMeta<K, V> mapMeta, KeyValue<K, V> keyValue)
 	{
 		String propertyName = mapMeta.getPropertyName();
 
@@ -161,7 +174,7 @@ public class EntityMapper
 		{
 			map = (Map<K, V>) mapProperties.get(propertyName);
 		}
-		map.put((K) keyValue.getKey(), mapMeta.castValue(keyValue.getValue()));
+		map.put(keyValue.getKey(), keyValue.getValue());
 	}
 
 	public <T, ID> void setIdToEntity(ID key, PropertyMeta<?, ?> keyMeta, T entity)
@@ -169,7 +182,7 @@ public class EntityMapper
 		log.trace("Set primary key to entity {} ", entity);
 		try
 		{
-			helper.setValueToField(entity, keyMeta.getSetter(), key);
+			helper.setValueToField(entity, keyMeta, key);
 		}
 		catch (Exception e)
 		{
@@ -177,13 +190,13 @@ public class EntityMapper
 		}
 	}
 
-	public <T, ID> void setSimplePropertyToEntity(String value, PropertyMeta<?, ?> propertyMeta,
+	public <T, ID> void setSimplePropertyToEntity(Object value, PropertyMeta<?, ?> propertyMeta,
 			T entity)
 	{
 		log.trace("Set simple property {} to entity {} ", propertyMeta.getPropertyName(), entity);
 		try
 		{
-			helper.setValueToField(entity, propertyMeta.getSetter(),
+			helper.setValueToField(entity, propertyMeta,
 					propertyMeta.getValueFromString(value));
 		}
 		catch (Exception e)
@@ -197,7 +210,7 @@ public class EntityMapper
 		log.trace("Set list property {} to entity {} ", listMeta.getPropertyName(), entity);
 		try
 		{
-			helper.setValueToField(entity, listMeta.getSetter(), list);
+			helper.setValueToField(entity, listMeta, list);
 		}
 		catch (Exception e)
 		{
@@ -210,7 +223,7 @@ public class EntityMapper
 		log.trace("Set set property {} to entity {} ", setMeta.getPropertyName(), entity);
 		try
 		{
-			helper.setValueToField(entity, setMeta.getSetter(), set);
+			helper.setValueToField(entity, setMeta, set);
 		}
 		catch (Exception e)
 		{
@@ -223,7 +236,7 @@ public class EntityMapper
 		log.trace("Set map property {} to entity {} ", mapMeta.getPropertyName(), entity);
 		try
 		{
-			helper.setValueToField(entity, mapMeta.getSetter(), map);
+			helper.setValueToField(entity, mapMeta, map);
 		}
 		catch (Exception e)
 		{
@@ -33,10 +33,10 @@ public class JoinEntityHelper
 				+ "' should not be null");
 
 		Map<ID, T> entitiesByKey = new HashMap<ID, T>();
-		Map<ID, List<Pair<DynamicComposite, String>>> rows = entityMeta.getEntityDao()
+		Map<ID, List<Pair<DynamicComposite, Object>>> rows = entityMeta.getEntityDao()
 				.eagerFetchEntities(keys);
 
-		for (Entry<ID, List<Pair<DynamicComposite, String>>> entry : rows.entrySet())
+		for (Entry<ID, List<Pair<DynamicComposite, Object>>> entry : rows.entrySet())
 		{
 			T entity;
 			try
@@ -44,11 +44,11 @@ public class JoinEntityHelper
 				entity = entityClass.newInstance();
 
 				ID key = entry.getKey();
-				List<Pair<DynamicComposite, String>> columns = entry.getValue();
+				List<Pair<DynamicComposite, Object>> columns = entry.getValue();
 				if (columns.size() > 0)
 				{
 					mapper.setEagerPropertiesToEntity(key, columns, entityMeta, entity);
-					helper.setValueToField(entity, entityMeta.getIdMeta().getSetter(), key);
+					helper.setValueToField(entity, entityMeta.getIdMeta(), key);
 					entitiesByKey.put(key, entity);
 				}
 			}
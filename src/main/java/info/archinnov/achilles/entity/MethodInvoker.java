@@ -0,0 +1,66 @@
+package info.archinnov.achilles.entity;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import net.sf.cglib.reflect.FastClass;
+import net.sf.cglib.reflect.FastMethod;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * MethodInvoker
+ *
+ * @author DuyHai DOAN
+ *
+ *         Invokes entity accessors through cglib generated FastClass, dispatching on the method
+ *         index instead of going through Method.invoke. The FastMethod of each accessor is
+ *         generated at bootstrap and kept on its PropertyMeta. Methods whose class cannot be
+ *         enhanced are invoked by reflection
+ *
+ */
+public class MethodInvoker
+{
+	private static final Logger log = LoggerFactory.getLogger(MethodInvoker.class);
+
+	/**
+	 * Generated accessor of the method, or null when it should be invoked by reflection
+	 */
+	public static FastMethod fastMethod(Method method)
+	{
+		if (method == null)
+		{
+			return null;
+		}
+		try
+		{
+			Class<?> type = method.getDeclaringClass();
+			FastClass fastClass = FastClass.create(type.getClassLoader(), type);
+
+			// FastClass.getMethod prints to System.err instead of failing for unknown methods
+			if (fastClass.getIndex(method.getName(), method.getParameterTypes()) >= 0)
+			{
+				return fastClass.getMethod(method);
+			}
+			log.warn("Cannot find fast accessor for method '{}', falling back to reflection",
+					method);
+		}
+		catch (Exception e)
+		{
+			log.warn("Cannot generate fast accessor for method '{}', falling back to reflection",
+					method, e);
+		}
+		return null;
+	}
+
+	public static Object invoke(FastMethod fastMethod, Method method, Object target,
+			Object... args) throws InvocationTargetException, IllegalAccessException
+	{
+		if (fastMethod != null)
+		{
+			return fastMethod.invoke(target, args);
+		}
+		return method.invoke(target, args);
+	}
+}
@@ -1,23 +1,37 @@
 package info.archinnov.achilles.entity.manager;
 
+import info.archinnov.achilles.dao.AutoFlushMutator;
 import info.archinnov.achilles.entity.EntityHelper;
+import info.archinnov.achilles.entity.MethodInvoker;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.operations.EntityExporter;
 import info.archinnov.achilles.entity.operations.EntityLoader;
 import info.archinnov.achilles.entity.operations.EntityMerger;
 import info.archinnov.achilles.entity.operations.EntityPersister;
 import info.archinnov.achilles.entity.operations.EntityRefresher;
+import info.archinnov.achilles.entity.operations.EntityScanner;
 import info.archinnov.achilles.entity.operations.EntityValidator;
+import info.archinnov.achilles.entity.type.EntityScanHandler;
+import info.archinnov.achilles.entity.type.ExportFormat;
+import info.archinnov.achilles.iterator.EntityScanIterator;
 import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
 import info.archinnov.achilles.validation.Validator;
 
+import java.io.File;
 import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityTransaction;
@@ -53,6 +67,8 @@ public class ThriftEntityManager implements EntityManager
 
 	private EntityPersister persister = new EntityPersister();
 	private EntityLoader loader = new EntityLoader();
+	private EntityScanner scanner = new EntityScanner();
+	private EntityExporter exporter = new EntityExporter();
 	private EntityMerger merger = new EntityMerger();
 	private EntityRefresher entityRefresher = new EntityRefresher();
 	private EntityHelper helper = new EntityHelper();
@@ -174,6 +190,107 @@ public class ThriftEntityManager implements EntityManager
 		return entity;
 	}
 
+	/**
+	 * Find an entity, fetching only some of its eager properties.
+	 * 
+	 * Simple properties are read with a single by-name column slice.
+	 * 
+	 * Other eager properties are loaded on first access, lazy properties stay lazy.
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKey
+	 *            Primary key (Cassandra row key) of the entity to load
+	 * @param propertyNames
+	 *            Names of the properties to fetch
+	 * @return Found entity or null if no entity is found
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T findPartial(Class<T> entityClass, Object primaryKey, Set<String> propertyNames)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		Validator.validateNotNull(primaryKey, "Entity primaryKey should not be null");
+		Validator.validateNotNull(propertyNames, "Property names should not be null");
+
+		EntityMeta<Serializable> entityMeta = (EntityMeta<Serializable>) this.entityMetaMap
+				.get(entityClass);
+
+		T entity = this.loader.loadPartial(entityClass, (Serializable) primaryKey, entityMeta,
+				propertyNames);
+
+		if (entity != null)
+		{
+			Set<Method> unloadedEagerGetters = new HashSet<Method>();
+			for (PropertyMeta<?, ?> propertyMeta : entityMeta.getPropertyMetas().values())
+			{
+				if (!propertyMeta.type().isLazy()
+						&& !propertyNames.contains(propertyMeta.getPropertyName()))
+				{
+					unloadedEagerGetters.add(propertyMeta.getGetter());
+				}
+			}
+			entity = helper.buildProxy(entity, entityMeta, unloadedEagerGetters);
+		}
+
+		return entity;
+	}
+
+	/**
+	 * Find a list of entities with a single multiget query.
+	 * 
+	 * Entities are returned as proxies, in the order of the given primary keys.
+	 * 
+	 * Primary keys with no matching entity are skipped, duplicated primary keys are fetched once
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKeys
+	 *            Primary keys (Cassandra row keys) of the entities to load
+	 * @return Found entities, in primary keys order
+	 */
+	public <T, ID> List<T> findAll(Class<T> entityClass, Collection<ID> primaryKeys)
+	{
+		return new ArrayList<T>(this.findAllAsMap(entityClass, primaryKeys).values());
+	}
+
+	/**
+	 * Find a map of entities with a single multiget query.
+	 * 
+	 * Entities are returned as proxies, indexed by their primary key. The map iteration order is
+	 * 
+	 * the order of the given primary keys. Primary keys with no matching entity are not present
+	 * 
+	 * in the map
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param primaryKeys
+	 *            Primary keys (Cassandra row keys) of the entities to load
+	 * @return Found entities, indexed by primary key
+	 */
+	@SuppressWarnings("unchecked")
+	public <T, ID> Map<ID, T> findAllAsMap(Class<T> entityClass, Collection<ID> primaryKeys)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		Validator.validateNotNull(primaryKeys, "Entity primaryKeys should not be null");
+
+		EntityMeta<ID> entityMeta = (EntityMeta<ID>) this.entityMetaMap.get(entityClass);
+
+		List<ID> keys = new ArrayList<ID>(new LinkedHashSet<ID>(primaryKeys));
+		Map<ID, T> entitiesByKey = this.loader.loadAll(entityClass, keys, entityMeta);
+
+		Map<ID, T> proxiesByKey = new LinkedHashMap<ID, T>();
+		for (ID key : keys)
+		{
+			T entity = entitiesByKey.get(key);
+			if (entity != null)
+			{
+				proxiesByKey.put(key, helper.buildProxy(entity, entityMeta));
+			}
+		}
+		return proxiesByKey;
+	}
+
 	/**
 	 * Find an entity. Works exactly as find(Class<T> entityClass, Object primaryKey)
 	 * 
@@ -378,9 +495,31 @@ public class ThriftEntityManager implements EntityManager
 	 * The batch does not affect dirty checking of other fields.
 	 * 
 	 * It only works on <strong>WideMap</strong> fields
+	 * 
+	 * Mutators are flushed automatically every 10000 columns or 8MB
+	 */
+	public <T> void startBatch(T entity)
+	{
+		startBatch(entity, AutoFlushMutator.DEFAULT_MAX_COLUMNS,
+				AutoFlushMutator.DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Start a batch session using Hector mutators flushed automatically
+	 * 
+	 * as soon as a batch would exceed maxColumns columns or maxBytes bytes.
+	 * 
+	 * Flushed mutations are not rolled back if a later flush fails
+	 * 
+	 * @param entity
+	 *            Managed entity
+	 * @param maxColumns
+	 *            maximum number of columns in one batch
+	 * @param maxBytes
+	 *            maximum estimated size in bytes of one batch
 	 */
 	@SuppressWarnings("unchecked")
-	public <ID, T> void startBatch(T entity)
+	public <ID, T> void startBatch(T entity, int maxColumns, long maxBytes)
 	{
 		helper.ensureProxy(entity);
 
@@ -395,11 +534,12 @@ public class ThriftEntityManager implements EntityManager
 			if (propertyMeta.isJoin())
 			{
 				mutatorMap.put(propertyMeta.getPropertyName(), propertyMeta.getJoinProperties()
-						.getEntityMeta().getEntityDao().buildMutator());
+						.getEntityMeta().getEntityDao()
+						.buildAutoFlushMutator(maxColumns, maxBytes));
 			}
 		}
 
-		mutator = entityMeta.getEntityDao().buildMutator();
+		mutator = entityMeta.getEntityDao().buildAutoFlushMutator(maxColumns, maxBytes);
 
 		Factory proxy = (Factory) entity;
 		JpaEntityInterceptor<ID, T> interceptor = (JpaEntityInterceptor<ID, T>) proxy
@@ -437,9 +577,157 @@ public class ThriftEntityManager implements EntityManager
 		}
 	}
 
+	/**
+	 * Remove all entities of a type, along with their external WideMap column families.
+	 * 
+	 * The ring is split into token ranges processed in parallel on the executor
+	 * 
+	 * Each range is removed by mutations of at most batchSize rows
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param executor
+	 *            executor processing the token ranges
+	 * @param batchSize
+	 *            maximum number of row deletions in one mutation
+	 * @return number of removed entities
+	 */
+	public long truncate(Class<?> entityClass, ExecutorService executor, int batchSize)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		EntityMeta<?> entityMeta = this.entityMetaMap.get(entityClass);
+		Validator.validateNotNull(entityMeta, "The entity class '" + entityClass.getCanonicalName()
+				+ "' is not managed");
+
+		return this.persister.truncate(entityMeta, executor, batchSize);
+	}
+
+	/**
+	 * Export the raw rows of all column families of an entity type to local files.
+	 *
+	 * The ring is split into token ranges exported in parallel on the executor, one file per
+	 *
+	 * range. Exporting again to the same directory resumes an interrupted export
+	 *
+	 * @param entityClass
+	 *            Entity type
+	 * @param directory
+	 *            export directory, one sub-directory per column family
+	 * @param executor
+	 *            executor processing the token ranges
+	 * @param pageSize
+	 *            maximum number of rows read by one range query
+	 * @param format
+	 *            binary or JSON lines files
+	 * @return number of exported entities
+	 */
+	public long export(Class<?> entityClass, File directory, ExecutorService executor,
+			int pageSize, ExportFormat format)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		EntityMeta<?> entityMeta = this.entityMetaMap.get(entityClass);
+		Validator.validateNotNull(entityMeta, "The entity class '" + entityClass.getCanonicalName()
+				+ "' is not managed");
+
+		return this.exporter.export(entityMeta, directory, executor, pageSize, format);
+	}
+
+	/**
+	 * Import the files written by export() for an entity type.
+	 *
+	 * Importing again from the same directory resumes an interrupted import
+	 *
+	 * @param entityClass
+	 *            Entity type
+	 * @param directory
+	 *            export directory
+	 * @param executor
+	 *            executor processing the range files
+	 * @param batchSize
+	 *            maximum number of columns written by one mutation
+	 * @param format
+	 *            format of the exported files
+	 * @return number of imported entities
+	 */
+	public long importFrom(Class<?> entityClass, File directory, ExecutorService executor,
+			int batchSize, ExportFormat format)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		EntityMeta<?> entityMeta = this.entityMetaMap.get(entityClass);
+		Validator.validateNotNull(entityMeta, "The entity class '" + entityClass.getCanonicalName()
+				+ "' is not managed");
+
+		return this.exporter.importFrom(entityMeta, directory, executor, batchSize, format);
+	}
+
+	/**
+	 * Visit all entities of a type.
+	 * 
+	 * The ring is split into token ranges scanned in parallel on the executor. Each range is read
+	 * 
+	 * by pages of pageSize rows with their eager properties, and the next page is fetched once the
+	 * 
+	 * handler has processed the current one
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param executor
+	 *            executor scanning the token ranges. Its size bounds the number of concurrent
+	 *            range queries
+	 * @param pageSize
+	 *            maximum number of entities read by one range query
+	 * @param handler
+	 *            callback receiving the entities as proxies, called concurrently
+	 * @return number of scanned entities
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> long scan(Class<T> entityClass, ExecutorService executor, int pageSize,
+			EntityScanHandler<T> handler)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		EntityMeta<Serializable> entityMeta = (EntityMeta<Serializable>) this.entityMetaMap
+				.get(entityClass);
+
+		return this.scanner.scan(entityClass, entityMeta, executor, pageSize, handler);
+	}
+
+	/**
+	 * Visit all entities of a type through an iterator.
+	 * 
+	 * Works as scan(Class<T> entityClass, ExecutorService executor, int pageSize,
+	 * 
+	 * EntityScanHandler<T> handler) except that the scanned entities are buffered for the
+	 * 
+	 * iterator, the range scans waiting when bufferSize entities are not consumed yet.
+	 * 
+	 * Close the iterator to stop a scan before its end
+	 * 
+	 * @param entityClass
+	 *            Entity type
+	 * @param executor
+	 *            executor scanning the token ranges
+	 * @param pageSize
+	 *            maximum number of entities read by one range query
+	 * @param bufferSize
+	 *            maximum number of scanned entities not consumed yet
+	 * @return iterator over the entities, as proxies
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> EntityScanIterator<T> scanIterator(Class<T> entityClass, ExecutorService executor,
+			int pageSize, int bufferSize)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		EntityMeta<Serializable> entityMeta = (EntityMeta<Serializable>) this.entityMetaMap
+				.get(entityClass);
+
+		return this.scanner.scanIterator(entityClass, entityMeta, executor, pageSize, bufferSize);
+	}
+
 	/**
 	 * Initialize all lazy fields of a 'managed' entity, except WideMap fields.
 	 * 
+	 * Eager fields not fetched by findPartial() are initialized too.
+	 * 
 	 * Raise an IllegalStateException if the entity is not 'managed'
 	 * 
 	 */
@@ -448,16 +736,19 @@ public class ThriftEntityManager implements EntityManager
 		helper.ensureProxy(entity);
 
 		Object realObject = helper.getRealObject(entity);
+		Set<Method> unloadedEagerGetters = helper.getInterceptor(entity).getUnloadedEagerGetters();
 
 		EntityMeta<?> entityMeta = entityMetaMap.get(realObject.getClass());
 		for (PropertyMeta<?, ?> propertyMeta : entityMeta.getPropertyMetas().values())
 		{
 			PropertyType type = propertyMeta.type();
-			if (type.isLazy() && !type.isWideMap())
+			if ((type.isLazy() && !type.isWideMap())
+					|| unloadedEagerGetters.contains(propertyMeta.getGetter()))
 			{
 				try
 				{
-					propertyMeta.getGetter().invoke(entity);
+					MethodInvoker.invoke(propertyMeta.getGetterFastMethod(),
+							propertyMeta.getGetter(), entity);
 				}
 				catch (Exception e)
 				{
@@ -2,16 +2,23 @@ package info.archinnov.achilles.entity.manager;
 
 import static info.archinnov.achilles.validation.Validator.validateNotEmpty;
 import static info.archinnov.achilles.validation.Validator.validateNotNull;
+import info.archinnov.achilles.codec.ValueCodecFactory;
 import info.archinnov.achilles.columnFamily.ColumnFamilyCreator;
+import info.archinnov.achilles.dao.DaoOptions;
 import info.archinnov.achilles.dao.Pair;
+import info.archinnov.achilles.entity.metadata.CompressionStats;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.operations.EntityBulkLoader;
 import info.archinnov.achilles.entity.parser.EntityExplorer;
 import info.archinnov.achilles.entity.parser.EntityParser;
 import info.archinnov.achilles.exception.BeanMappingException;
 import info.archinnov.achilles.json.DefaultObjectMapperFactory;
 import info.archinnov.achilles.json.ObjectMapperFactory;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -25,6 +32,7 @@ import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.factory.HFactory;
 
+import org.apache.cassandra.dht.IPartitioner;
 import org.apache.commons.lang.StringUtils;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.slf4j.Logger;
@@ -50,6 +58,7 @@ public class ThriftEntityManagerFactoryImpl implements AchillesEntityManagerFact
 	private Keyspace keyspace;
 	private ColumnFamilyCreator columnFamilyCreator;
 	private ObjectMapperFactory objectMapperFactory = new DefaultObjectMapperFactory();
+	private DaoOptions daoOptions;
 
 	protected ThriftEntityManagerFactoryImpl() {}
 
@@ -484,6 +493,71 @@ public class ThriftEntityManagerFactoryImpl implements AchillesEntityManagerFact
 	 */
 	public ThriftEntityManagerFactoryImpl(Cluster cluster, Keyspace keyspace,
 			List<String> entityPackages, boolean forceCFCreation, ObjectMapperFactory factory)
+	{
+		this(cluster, keyspace, entityPackages, forceCFCreation, factory, null);
+	}
+
+	/**
+	 * Create a new ThriftEntityManagerFactoryImpl
+	 * 
+	 * @param cluster
+	 *            A me.prettyprint.hector.api.Cluster object from Hector API
+	 * @param keyspace
+	 *            A me.prettyprint.hector.api.Keyspace object from Hector API
+	 * @param entityPackages
+	 *            List of packages
+	 * @param forceCFCreation
+	 *            If true, Achilles will create the missing column family.
+	 * 
+	 *            In any case, Achilles check for the existence and validates existing column family for each entity
+	 * @param factory
+	 *            An implementation of the info.archinnov.achilles.json.ObjectMapperFactory interface.
+	 * 
+	 *            This factory returns a Jackson ObjectMapper based on entity type
+	 * @param codecFactory
+	 *            An implementation of the info.archinnov.achilles.codec.ValueCodecFactory interface.
+	 * 
+	 *            This factory returns the codec of the property values without native encoding, based on entity
+	 *            type. If null, values are encoded as JSON with the ObjectMapper of their entity
+	 * @return ThriftEntityManagerFactoryImpl
+	 */
+	public ThriftEntityManagerFactoryImpl(Cluster cluster, Keyspace keyspace,
+			List<String> entityPackages, boolean forceCFCreation, ObjectMapperFactory factory,
+			ValueCodecFactory codecFactory)
+	{
+		this(cluster, keyspace, entityPackages, forceCFCreation, factory, codecFactory, null);
+	}
+
+	/**
+	 * Create a new ThriftEntityManagerFactoryImpl
+	 * 
+	 * @param cluster
+	 *            A me.prettyprint.hector.api.Cluster object from Hector API
+	 * @param keyspace
+	 *            A me.prettyprint.hector.api.Keyspace object from Hector API
+	 * @param entityPackages
+	 *            List of packages
+	 * @param forceCFCreation
+	 *            If true, Achilles will create the missing column family.
+	 * 
+	 *            In any case, Achilles check for the existence and validates existing column family for each entity
+	 * @param factory
+	 *            An implementation of the info.archinnov.achilles.json.ObjectMapperFactory interface.
+	 * 
+	 *            This factory returns a Jackson ObjectMapper based on entity type
+	 * @param codecFactory
+	 *            An implementation of the info.archinnov.achilles.codec.ValueCodecFactory interface.
+	 * 
+	 *            This factory returns the codec of the property values without native encoding, based on entity
+	 *            type. If null, values are encoded as JSON with the ObjectMapper of their entity
+	 * @param daoOptions
+	 *            Tuning of the daos: page prefetch, adaptive paging, chunked range removal and
+	 *            eager fetch chunking and paging. If null, the daos keep their defaults
+	 * @return ThriftEntityManagerFactoryImpl
+	 */
+	public ThriftEntityManagerFactoryImpl(Cluster cluster, Keyspace keyspace,
+			List<String> entityPackages, boolean forceCFCreation, ObjectMapperFactory factory,
+			ValueCodecFactory codecFactory, DaoOptions daoOptions)
 	{
 		log.info(
 				"Initializing Achilles Thrift-based EntityManagerFactory for cluster '{}' and keyspace '{}' ",
@@ -498,7 +572,8 @@ public class ThriftEntityManagerFactoryImpl implements AchillesEntityManagerFact
 		this.forceColumnFamilyCreation = forceCFCreation;
 		this.columnFamilyCreator = new ColumnFamilyCreator(this.cluster, this.keyspace);
 		this.objectMapperFactory = factory != null ? factory : objectMapperFactory;
-		this.entityParser = new EntityParser(this.objectMapperFactory);
+		this.entityParser = new EntityParser(this.objectMapperFactory, codecFactory);
+		this.daoOptions = daoOptions;
 		this.bootstrap();
 	}
 
@@ -528,6 +603,81 @@ public class ThriftEntityManagerFactoryImpl implements AchillesEntityManagerFact
 	public ThriftEntityManagerFactoryImpl(String cassandraHost, String clusterName,
 			String keyspaceName, List<String> entityPackages, boolean forceCFCreation,
 			ObjectMapperFactory factory)
+	{
+		this(cassandraHost, clusterName, keyspaceName, entityPackages, forceCFCreation, factory,
+				null);
+	}
+
+	/**
+	 * Create a new ThriftEntityManagerFactoryImpl
+	 * 
+	 * @param cassandraHost
+	 *            Hostname and port to connect to a Cassandra cluster.
+	 * 
+	 *            Example: localhost:9160
+	 * @param clusterName
+	 *            The cluster name to connect to
+	 * @param keyspaceName
+	 *            The keyspace to use
+	 * @param entityPackages
+	 *            List of packages
+	 * @param forceCFCreation
+	 *            If true, Achilles will create the missing column family.
+	 * 
+	 *            In any case, Achilles check for the existence and validates existing column family for each entity
+	 * @param factory
+	 *            An implementation of the info.archinnov.achilles.json.ObjectMapperFactory interface.
+	 * 
+	 *            This factory returns a Jackson ObjectMapper based on entity type
+	 * @param codecFactory
+	 *            An implementation of the info.archinnov.achilles.codec.ValueCodecFactory interface.
+	 * 
+	 *            This factory returns the codec of the property values without native encoding, based on entity
+	 *            type. If null, values are encoded as JSON with the ObjectMapper of their entity
+	 * @return ThriftEntityManagerFactoryImpl
+	 */
+	public ThriftEntityManagerFactoryImpl(String cassandraHost, String clusterName,
+			String keyspaceName, List<String> entityPackages, boolean forceCFCreation,
+			ObjectMapperFactory factory, ValueCodecFactory codecFactory)
+	{
+		this(cassandraHost, clusterName, keyspaceName, entityPackages, forceCFCreation, factory,
+				codecFactory, null);
+	}
+
+	/**
+	 * Create a new ThriftEntityManagerFactoryImpl
+	 * 
+	 * @param cassandraHost
+	 *            Hostname and port to connect to a Cassandra cluster.
+	 * 
+	 *            Example: localhost:9160
+	 * @param clusterName
+	 *            The cluster name to connect to
+	 * @param keyspaceName
+	 *            The keyspace to use
+	 * @param entityPackages
+	 *            List of packages
+	 * @param forceCFCreation
+	 *            If true, Achilles will create the missing column family.
+	 * 
+	 *            In any case, Achilles check for the existence and validates existing column family for each entity
+	 * @param factory
+	 *            An implementation of the info.archinnov.achilles.json.ObjectMapperFactory interface.
+	 * 
+	 *            This factory returns a Jackson ObjectMapper based on entity type
+	 * @param codecFactory
+	 *            An implementation of the info.archinnov.achilles.codec.ValueCodecFactory interface.
+	 * 
+	 *            This factory returns the codec of the property values without native encoding, based on entity
+	 *            type. If null, values are encoded as JSON with the ObjectMapper of their entity
+	 * @param daoOptions
+	 *            Tuning of the daos: page prefetch, adaptive paging, chunked range removal and
+	 *            eager fetch chunking and paging. If null, the daos keep their defaults
+	 * @return ThriftEntityManagerFactoryImpl
+	 */
+	public ThriftEntityManagerFactoryImpl(String cassandraHost, String clusterName,
+			String keyspaceName, List<String> entityPackages, boolean forceCFCreation,
+			ObjectMapperFactory factory, ValueCodecFactory codecFactory, DaoOptions daoOptions)
 	{
 		log.info(
 				"Initializing Achilles Thrift-based EntityManagerFactory for cassandra host {}, cluster '{}' and keyspace '{}' ",
@@ -545,7 +695,8 @@ public class ThriftEntityManagerFactoryImpl implements AchillesEntityManagerFact
 		this.forceColumnFamilyCreation = forceCFCreation;
 		this.columnFamilyCreator = new ColumnFamilyCreator(this.cluster, this.keyspace);
 		this.objectMapperFactory = factory != null ? factory : objectMapperFactory;
-		this.entityParser = new EntityParser(this.objectMapperFactory);
+		this.entityParser = new EntityParser(this.objectMapperFactory, codecFactory);
+		this.daoOptions = daoOptions;
 		this.bootstrap();
 	}
 
@@ -566,10 +717,51 @@ public class ThriftEntityManagerFactoryImpl implements AchillesEntityManagerFact
 			throw new RuntimeException(e);
 		}
 
+		this.configureDaos();
 		this.columnFamilyCreator.validateOrCreateColumnFamilies(this.entityMetaMap,
 				this.forceColumnFamilyCreation);
 	}
 
+	protected void configureDaos()
+	{
+		if (daoOptions == null)
+		{
+			return;
+		}
+
+		for (EntityMeta<?> entityMeta : entityMetaMap.values())
+		{
+			if (entityMeta.getEntityDao() != null)
+			{
+				daoOptions.configure(entityMeta.getEntityDao());
+			}
+			if (entityMeta.getColumnFamilyDao() != null)
+			{
+				daoOptions.configure(entityMeta.getColumnFamilyDao());
+			}
+			if (entityMeta.getCounterDao() != null)
+			{
+				daoOptions.configureCounterDao(entityMeta.getCounterDao());
+			}
+			for (PropertyMeta<?, ?> propertyMeta : entityMeta.getPropertyMetas().values())
+			{
+				ExternalWideMapProperties<?> externalProperties = propertyMeta
+						.getExternalWideMapProperties();
+				if (externalProperties != null && externalProperties.getExternalWideMapDao() != null)
+				{
+					if (propertyMeta.type() == PropertyType.COUNTER_WIDE_MAP)
+					{
+						daoOptions.configureCounterDao(externalProperties.getExternalWideMapDao());
+					}
+					else
+					{
+						daoOptions.configure(externalProperties.getExternalWideMapDao());
+					}
+				}
+			}
+		}
+	}
+
 	protected void discoverEntities() throws ClassNotFoundException, IOException
 	{
 		log.info("Start discovery of entities searching in packages '{}'",
@@ -627,6 +819,53 @@ public class ThriftEntityManagerFactoryImpl implements AchillesEntityManagerFact
 		return new ThriftEntityManager(entityMetaMap);
 	}
 
+	/**
+	 * Create a bulk loader writing entities and WideMap values to SSTables instead of sending them
+	 * to Cassandra.
+	 *
+	 * The SSTables are written in directory/keyspace/columnFamily and can be streamed to the
+	 * cluster with sstableloader once the loader is closed. The JVM should have access to the
+	 * cluster cassandra.yaml, through the cassandra.config system property
+	 *
+	 * @param directory
+	 *            Root directory of the SSTables
+	 * @param partitioner
+	 *            Partitioner of the cluster
+	 * @param bufferSizeInMB
+	 *            Size of the rows buffered in memory before a new SSTable is written
+	 * @return EntityBulkLoader, not thread-safe
+	 */
+	public EntityBulkLoader createBulkLoader(File directory, IPartitioner<?> partitioner,
+			int bufferSizeInMB)
+	{
+		return new EntityBulkLoader(keyspace.getKeyspaceName(), entityMetaMap, directory,
+				partitioner, bufferSizeInMB);
+	}
+
+	/**
+	 * Compression counters of the @Compressed properties of an entity
+	 *
+	 * @param entityClass
+	 *            Entity class
+	 * @return CompressionStats by property name
+	 */
+	public Map<String, CompressionStats> getCompressionStats(Class<?> entityClass)
+	{
+		EntityMeta<?> entityMeta = entityMetaMap.get(entityClass);
+		validateNotNull(entityMeta, "The class '" + entityClass.getCanonicalName()
+				+ "' is not a managed entity");
+
+		Map<String, CompressionStats> stats = new HashMap<String, CompressionStats>();
+		for (PropertyMeta<?, ?> propertyMeta : entityMeta.getPropertyMetas().values())
+		{
+			if (propertyMeta.getCompressionStats() != null)
+			{
+				stats.put(propertyMeta.getPropertyName(), propertyMeta.getCompressionStats());
+			}
+		}
+		return stats;
+	}
+
 	/**
 	 * Not supported operation. Will throw UnsupportedOperationException
 	 */
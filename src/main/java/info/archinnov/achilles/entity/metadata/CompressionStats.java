@@ -0,0 +1,78 @@
+package info.archinnov.achilles.entity.metadata;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * CompressionStats
+ *
+ * @author DuyHai DOAN
+ *
+ *         Compression counters of a @Compressed property, since the entity manager factory
+ *         creation
+ *
+ */
+public class CompressionStats
+{
+	private final AtomicLong compressedValues = new AtomicLong();
+	private final AtomicLong plainValues = new AtomicLong();
+	private final AtomicLong rawBytes = new AtomicLong();
+	private final AtomicLong compressedBytes = new AtomicLong();
+
+	public void recordCompressed(int rawLength, int compressedLength)
+	{
+		compressedValues.incrementAndGet();
+		rawBytes.addAndGet(rawLength);
+		compressedBytes.addAndGet(compressedLength);
+	}
+
+	public void recordPlain()
+	{
+		plainValues.incrementAndGet();
+	}
+
+	/**
+	 * Number of values written compressed
+	 */
+	public long getCompressedValues()
+	{
+		return compressedValues.get();
+	}
+
+	/**
+	 * Number of values written as is, below the threshold or not shrinking
+	 */
+	public long getPlainValues()
+	{
+		return plainValues.get();
+	}
+
+	/**
+	 * Size before compression of the values written compressed
+	 */
+	public long getRawBytes()
+	{
+		return rawBytes.get();
+	}
+
+	public long getCompressedBytes()
+	{
+		return compressedBytes.get();
+	}
+
+	/**
+	 * Compressed size over raw size of the values written compressed, 1 when none was
+	 */
+	public double getCompressionRatio()
+	{
+		long raw = rawBytes.get();
+		return raw == 0 ? 1d : (double) compressedBytes.get() / raw;
+	}
+
+	@Override
+	public String toString()
+	{
+		return "CompressionStats [compressedValues=" + getCompressedValues() + ", plainValues="
+				+ getPlainValues() + ", rawBytes=" + getRawBytes() + ", compressedBytes="
+				+ getCompressedBytes() + ", compressionRatio=" + getCompressionRatio() + "]";
+	}
+}
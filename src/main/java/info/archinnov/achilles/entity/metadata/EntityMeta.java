@@ -1,12 +1,15 @@
 package info.archinnov.achilles.entity.metadata;
 
+import info.archinnov.achilles.composite.ColumnPrefixIndex;
 import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.dao.GenericCounterDao;
 import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
 
 import java.lang.reflect.Method;
 import java.util.Map;
 
 import me.prettyprint.hector.api.Serializer;
+import net.sf.cglib.proxy.Factory;
 
 /**
  * EntityMeta
@@ -18,17 +21,23 @@ public class EntityMeta<ID>
 {
 
 	public static final String COLUMN_FAMILY_PATTERN = "[a-zA-Z0-9_]+";
+	public static final String COUNTER_COLUMN_FAMILY_SUFFIX = "_counters";
 	private String className;
 	private String columnFamilyName;
 	private Long serialVersionUID;
 	private Serializer<ID> idSerializer;
 	private Map<String, PropertyMeta<?, ?>> propertyMetas;
+	private ColumnPrefixIndex columnPrefixIndex;
+	private PropertyMeta<?, ?>[] propertyMetasByOrdinal;
 	private PropertyMeta<Void, ID> idMeta;
 	private GenericDynamicCompositeDao<ID> entityDao;
 	private GenericCompositeDao<ID, ?> columnFamilyDao;
+	private GenericCounterDao<ID> counterDao;
 	private Map<Method, PropertyMeta<?, ?>> getterMetas;
 	private Map<Method, PropertyMeta<?, ?>> setterMetas;
 	private boolean columnFamilyDirectMapping = false;
+	private Factory proxyPrototype;
+	private Factory unloadedProxyPrototype;
 
 	public String getClassName()
 	{
@@ -78,6 +87,40 @@ public class EntityMeta<ID>
 	public void setPropertyMetas(Map<String, PropertyMeta<?, ?>> propertyMetas)
 	{
 		this.propertyMetas = propertyMetas;
+		this.columnPrefixIndex = null;
+
+		this.propertyMetasByOrdinal = new PropertyMeta<?, ?>[propertyMetas.size()];
+		int ordinal = 0;
+		for (PropertyMeta<?, ?> propertyMeta : propertyMetas.values())
+		{
+			propertyMeta.setOrdinal(ordinal);
+			propertyMetasByOrdinal[ordinal++] = propertyMeta;
+		}
+	}
+
+	/**
+	 * Property with the given ordinal, ordinals being assigned when the properties are set
+	 */
+	public PropertyMeta<?, ?> getPropertyMeta(int ordinal)
+	{
+		return propertyMetasByOrdinal[ordinal];
+	}
+
+	public int getPropertyCount()
+	{
+		return propertyMetasByOrdinal == null ? 0 : propertyMetasByOrdinal.length;
+	}
+
+	/**
+	 * Serialized column name prefixes of the properties, built on first use
+	 */
+	public ColumnPrefixIndex getColumnPrefixIndex()
+	{
+		if (columnPrefixIndex == null)
+		{
+			columnPrefixIndex = new ColumnPrefixIndex(propertyMetas.values());
+		}
+		return columnPrefixIndex;
 	}
 
 	public PropertyMeta<Void, ID> getIdMeta()
@@ -139,4 +182,40 @@ public class EntityMeta<ID>
 	{
 		this.columnFamilyDao = columnFamilyDao;
 	}
+
+	public GenericCounterDao<ID> getCounterDao()
+	{
+		return counterDao;
+	}
+
+	public void setCounterDao(GenericCounterDao<ID> counterDao)
+	{
+		this.counterDao = counterDao;
+	}
+
+	/**
+	 * Prototype of the proxies whose eager properties are all loaded
+	 */
+	public Factory getProxyPrototype()
+	{
+		return proxyPrototype;
+	}
+
+	public void setProxyPrototype(Factory proxyPrototype)
+	{
+		this.proxyPrototype = proxyPrototype;
+	}
+
+	/**
+	 * Prototype of the proxies with eager properties left to load
+	 */
+	public Factory getUnloadedProxyPrototype()
+	{
+		return unloadedProxyPrototype;
+	}
+
+	public void setUnloadedProxyPrototype(Factory unloadedProxyPrototype)
+	{
+		this.unloadedProxyPrototype = unloadedProxyPrototype;
+	}
 }
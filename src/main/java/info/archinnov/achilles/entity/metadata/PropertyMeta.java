@@ -1,9 +1,16 @@
 package info.archinnov.achilles.entity.metadata;
 
 import static info.archinnov.achilles.entity.PropertyHelper.isSupportedType;
+import static info.archinnov.achilles.entity.metadata.PropertyType.JOIN_MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.MAP;
+import static info.archinnov.achilles.serializer.TypedValueSerializer.isNativeType;
+import info.archinnov.achilles.codec.JacksonValueCodec;
+import info.archinnov.achilles.codec.KeyValueCodec;
+import info.archinnov.achilles.codec.ValueCodec;
+import info.archinnov.achilles.composite.ColumnPrefix;
 import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.serializer.CompressedValue;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -14,6 +21,7 @@ import java.util.Map;
 import java.util.Set;
 
 import me.prettyprint.hector.api.Serializer;
+import net.sf.cglib.reflect.FastMethod;
 
 import org.codehaus.jackson.map.ObjectMapper;
 import org.slf4j.Logger;
@@ -28,14 +36,22 @@ import org.slf4j.LoggerFactory;
 public class PropertyMeta<K, V>
 {
 	private ObjectMapper objectMapper;
+	private ValueCodec<V> valueCodec;
+	private KeyValueCodec<K, Object> keyValueCodec;
+	private int compressionThreshold;
+	private CompressionStats compressionStats;
 	private PropertyType type;
 	private String propertyName;
+	private int ordinal;
+	private ColumnPrefix columnPrefix;
 	private Class<K> keyClass;
 	private Serializer<K> keySerializer;
 	private Class<V> valueClass;
 	private Serializer<V> valueSerializer;
 	private Method getter;
 	private Method setter;
+	private FastMethod getterFastMethod;
+	private FastMethod setterFastMethod;
 
 	private JoinProperties joinProperties;
 	private MultiKeyProperties multiKeyProperties;
@@ -53,6 +69,7 @@ public class PropertyMeta<K, V>
 	public void setType(PropertyType propertyType)
 	{
 		this.type = propertyType;
+		this.columnPrefix = null;
 	}
 
 	public List<V> newListInstance()
@@ -78,6 +95,19 @@ public class PropertyMeta<K, V>
 	public void setPropertyName(String propertyName)
 	{
 		this.propertyName = propertyName;
+		this.columnPrefix = null;
+	}
+
+	/**
+	 * Serialized (type flag, property name) prefix of the column names of this property
+	 */
+	public ColumnPrefix getColumnPrefix()
+	{
+		if (columnPrefix == null)
+		{
+			columnPrefix = new ColumnPrefix(type, propertyName);
+		}
+		return columnPrefix;
 	}
 
 	public Class<K> getKeyClass()
@@ -140,6 +170,32 @@ public class PropertyMeta<K, V>
 		this.setter = setter;
 	}
 
+	/**
+	 * Generated accessor of the getter, null to invoke the getter by reflection
+	 */
+	public FastMethod getGetterFastMethod()
+	{
+		return getterFastMethod;
+	}
+
+	public void setGetterFastMethod(FastMethod getterFastMethod)
+	{
+		this.getterFastMethod = getterFastMethod;
+	}
+
+	/**
+	 * Generated accessor of the setter, null to invoke the setter by reflection
+	 */
+	public FastMethod getSetterFastMethod()
+	{
+		return setterFastMethod;
+	}
+
+	public void setSetterFastMethod(FastMethod setterFastMethod)
+	{
+		this.setterFastMethod = setterFastMethod;
+	}
+
 	public MultiKeyProperties getMultiKeyProperties()
 	{
 		return multiKeyProperties;
@@ -155,6 +211,15 @@ public class PropertyMeta<K, V>
 		return keyClass.cast(object);
 	}
 
+	/**
+	 * Read a value of the entity column family, either a string or byte[] to decode with the
+	 * ValueCodec or a value decoded from its native encoding by TypedValueSerializer
+	 */
+	@SuppressWarnings(
+	{
+			"unchecked",
+			"rawtypes"
+	})
 	public V getValueFromString(Object object)
 	{
 		try
@@ -163,9 +228,22 @@ public class PropertyMeta<K, V>
 			{
 				return valueClass.cast(object);
 			}
+			else if (object instanceof byte[])
+			{
+				return valueCodec().decode(object);
+			}
+			else if (object != null && !(object instanceof String))
+			{
+				return (V) object;
+			}
+			else if (valueClass.isEnum() && object != null && !((String) object).startsWith("\""))
+			{
+				// native encoding of an enum is its bare name, its JSON is a quoted string
+				return (V) Enum.valueOf((Class) valueClass, (String) object);
+			}
 			else
 			{
-				return this.objectMapper.readValue((String) object, this.valueClass);
+				return valueCodec().decode(object);
 			}
 		}
 		catch (Exception e)
@@ -175,13 +253,16 @@ public class PropertyMeta<K, V>
 		}
 	}
 
+	/**
+	 * Decode a map entry with its key and value of the declared classes. For join maps, the
+	 * value is the serialized join id
+	 */
 	@SuppressWarnings("unchecked")
 	public KeyValue<K, V> getKeyValueFromString(Object object)
 	{
 		try
 		{
-			return (KeyValue<K, V>) this.objectMapper.readValue((String) object, KeyValue.class);
-
+			return (KeyValue<K, V>) keyValueCodec().decode(object);
 		}
 		catch (Exception e)
 		{
@@ -190,6 +271,7 @@ public class PropertyMeta<K, V>
 		}
 	}
 
+	@SuppressWarnings("unchecked")
 	public String writeValueToString(Object value)
 	{
 		try
@@ -198,6 +280,10 @@ public class PropertyMeta<K, V>
 			{
 				return (String) value;
 			}
+			else if (value instanceof KeyValue && isMap())
+			{
+				return keyValueCodec().encode((KeyValue<K, Object>) value);
+			}
 			else
 			{
 				return this.objectMapper.writeValueAsString(value);
@@ -210,6 +296,62 @@ public class PropertyMeta<K, V>
 		}
 	}
 
+	/**
+	 * Value to write in the entity column family. Strings and values of the types natively encoded
+	 * by TypedValueSerializer are returned as is, other values are encoded by the ValueCodec. Map
+	 * entries are written as JSON strings.
+	 *
+	 * Strings and encoded values of a @Compressed property reaching its threshold are returned as
+	 * a CompressedValue
+	 */
+	@SuppressWarnings("unchecked")
+	public Object writeValue(Object value)
+	{
+		if (value == null || type == MAP || type == LAZY_MAP)
+		{
+			return writeValueToString(value);
+		}
+		else if (isNativeType(valueClass))
+		{
+			return value;
+		}
+
+		Object encoded;
+		if (valueClass == String.class)
+		{
+			encoded = value;
+		}
+		else
+		{
+			try
+			{
+				encoded = valueCodec().encode((V) value);
+			}
+			catch (Exception e)
+			{
+				logger.error(e.getMessage(), e);
+				return null;
+			}
+		}
+		return compressionThreshold > 0 && encoded != null ? compress(encoded) : encoded;
+	}
+
+	private Object compress(Object encoded)
+	{
+		Object written = CompressedValue.compressIfLarger(encoded, compressionThreshold);
+		if (written instanceof CompressedValue)
+		{
+			CompressedValue compressedValue = (CompressedValue) written;
+			compressionStats.recordCompressed(compressedValue.getRawLength(),
+					compressedValue.getCompressed().length);
+		}
+		else
+		{
+			compressionStats.recordPlain();
+		}
+		return written;
+	}
+
 	public Object writeValueAsSupportedTypeOrString(V value)
 	{
 		try
@@ -305,6 +447,19 @@ public class PropertyMeta<K, V>
 		this.externalWideMapProperties = externalWideMapProperties;
 	}
 
+	/**
+	 * Dense index of the property in its entity, used to track the property state of proxies
+	 */
+	public int getOrdinal()
+	{
+		return ordinal;
+	}
+
+	public void setOrdinal(int ordinal)
+	{
+		this.ordinal = ordinal;
+	}
+
 	public boolean isSingleKey()
 	{
 		return singleKey;
@@ -319,4 +474,63 @@ public class PropertyMeta<K, V>
 	{
 		this.objectMapper = objectMapper;
 	}
+
+	public int getCompressionThreshold()
+	{
+		return compressionThreshold;
+	}
+
+	/**
+	 * Compress the values whose size reaches the threshold, 0 to disable compression
+	 */
+	public void setCompressionThreshold(int compressionThreshold)
+	{
+		this.compressionThreshold = compressionThreshold;
+		this.compressionStats = compressionThreshold > 0 ? new CompressionStats() : null;
+	}
+
+	/**
+	 * Compression counters, null when the property is not compressed
+	 */
+	public CompressionStats getCompressionStats()
+	{
+		return compressionStats;
+	}
+
+	public ValueCodec<V> getValueCodec()
+	{
+		return valueCodec;
+	}
+
+	public void setValueCodec(ValueCodec<V> valueCodec)
+	{
+		this.valueCodec = valueCodec;
+	}
+
+	@SuppressWarnings("unchecked")
+	private KeyValueCodec<K, Object> keyValueCodec()
+	{
+		if (keyValueCodec == null)
+		{
+			Class<?> entryValueClass = type.isJoinColumn() ? String.class : valueClass;
+			keyValueCodec = new KeyValueCodec<K, Object>(objectMapper, keyClass,
+					(Class<Object>) entryValueClass);
+		}
+		return keyValueCodec;
+	}
+
+	private boolean isMap()
+	{
+		return type == MAP || type == LAZY_MAP || type == JOIN_MAP;
+	}
+
+	private ValueCodec<V> valueCodec()
+	{
+		// property metas built without codec factory encode values with their ObjectMapper
+		if (valueCodec == null)
+		{
+			valueCodec = new JacksonValueCodec<V>(objectMapper, valueClass);
+		}
+		return valueCodec;
+	}
 }
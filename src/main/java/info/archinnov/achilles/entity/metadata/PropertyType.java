@@ -27,7 +27,9 @@ public enum PropertyType
 	JOIN_SET(70, true, true, false, false), //
 	JOIN_MAP(70, true, true, false, false), //
 	JOIN_WIDE_MAP(70, true, true, false, true), //
-	EXTERNAL_JOIN_WIDE_MAP(70, true, true, true, true);
+	EXTERNAL_JOIN_WIDE_MAP(70, true, true, true, true), //
+	COUNTER(70, true, false, false, false), //
+	COUNTER_WIDE_MAP(70, true, false, true, true);
 
 	private final int flag;
 	private final boolean joinColumn;
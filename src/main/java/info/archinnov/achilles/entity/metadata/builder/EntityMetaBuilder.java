@@ -4,9 +4,12 @@ import static info.archinnov.achilles.entity.PropertyHelper.isSupportedType;
 import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
 import info.archinnov.achilles.columnFamily.ColumnFamilyHelper;
 import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.dao.GenericCounterDao;
 import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
+import info.archinnov.achilles.entity.MethodInvoker;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Method;
@@ -82,6 +85,11 @@ public class EntityMetaBuilder<ID>
 		meta.setGetterMetas(Collections.unmodifiableMap(this.extractGetterMetas(propertyMetas)));
 		meta.setSetterMetas(Collections.unmodifiableMap(this.extractSetterMetas(propertyMetas)));
 		meta.setColumnFamilyDirectMapping(columnFamilyDirectMapping);
+		this.generateFastAccessors(idMeta);
+		for (PropertyMeta<?, ?> propertyMeta : propertyMetas.values())
+		{
+			this.generateFastAccessors(propertyMeta);
+		}
 
 		if (columnFamilyDirectMapping)
 		{
@@ -107,9 +115,36 @@ public class EntityMetaBuilder<ID>
 			meta.setEntityDao(new GenericDynamicCompositeDao(keyspace, idSerializer,
 					this.columnFamilyName));
 		}
+
+		if (hasCounter(propertyMetas))
+		{
+			String counterColumnFamilyName = ColumnFamilyHelper
+					.normalizerAndValidateColumnFamilyName(columnFamilyName
+							+ EntityMeta.COUNTER_COLUMN_FAMILY_SUFFIX);
+			meta.setCounterDao(new GenericCounterDao(keyspace, idSerializer,
+					counterColumnFamilyName));
+		}
 		return meta;
 	}
 
+	private void generateFastAccessors(PropertyMeta<?, ?> propertyMeta)
+	{
+		propertyMeta.setGetterFastMethod(MethodInvoker.fastMethod(propertyMeta.getGetter()));
+		propertyMeta.setSetterFastMethod(MethodInvoker.fastMethod(propertyMeta.getSetter()));
+	}
+
+	private boolean hasCounter(Map<String, PropertyMeta<?, ?>> propertyMetas)
+	{
+		for (PropertyMeta<?, ?> propertyMeta : propertyMetas.values())
+		{
+			if (propertyMeta.type() == PropertyType.COUNTER)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private Map<Method, PropertyMeta<?, ?>> extractGetterMetas(
 			Map<String, PropertyMeta<?, ?>> propertyMetas)
 	{
@@ -75,12 +75,14 @@ public class PropertyMetaFactory<K, V>
 			case LAZY_LIST:
 			case LAZY_SET:
 			case JOIN_SIMPLE:
+			case COUNTER:
 				meta = (PropertyMeta<K, V>) new PropertyMeta<Void, V>();
 				break;
 			case MAP:
 			case LAZY_MAP:
 			case WIDE_MAP:
 			case JOIN_WIDE_MAP:
+			case COUNTER_WIDE_MAP:
 				meta = new PropertyMeta<K, V>();
 				break;
 
@@ -0,0 +1,203 @@
+package info.archinnov.achilles.entity.operations;
+
+import info.archinnov.achilles.columnFamily.ColumnFamilyHelper;
+import info.archinnov.achilles.composite.factory.CompositeKeyFactory;
+import info.archinnov.achilles.composite.factory.DynamicCompositeKeyFactory;
+import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.dao.SSTableColumnFamilyWriter;
+import info.archinnov.achilles.dao.SSTableMutator;
+import info.archinnov.achilles.entity.EntityHelper;
+import info.archinnov.achilles.entity.PropertyHelper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.cassandra.dht.IPartitioner;
+
+/**
+ * EntityBulkLoader
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class EntityBulkLoader implements Closeable
+{
+	private final String keyspaceName;
+	private final Map<Class<?>, EntityMeta<?>> entityMetaMap;
+	private final File directory;
+	private final IPartitioner<?> partitioner;
+	private final int bufferSizeInMB;
+
+	private final Map<String, SSTableColumnFamilyWriter> writers = new HashMap<String, SSTableColumnFamilyWriter>();
+
+	private EntityPersister persister = new EntityPersister();
+	private EntityHelper helper = new EntityHelper();
+	private PropertyHelper propertyHelper = new PropertyHelper();
+	private DynamicCompositeKeyFactory keyFactory = new DynamicCompositeKeyFactory();
+	private CompositeKeyFactory compositeKeyFactory = new CompositeKeyFactory();
+
+	public EntityBulkLoader(String keyspaceName, Map<Class<?>, EntityMeta<?>> entityMetaMap,
+			File directory, IPartitioner<?> partitioner, int bufferSizeInMB)
+	{
+		Validator.validateNotBlank(keyspaceName, "Keyspace name should not be blank");
+		Validator.validateNotNull(directory, "SSTable directory should not be null");
+		Validator.validateNotNull(partitioner, "Partitioner should not be null");
+		Validator.validateTrue(bufferSizeInMB > 0, "Buffer size should be strictly positive");
+
+		this.keyspaceName = keyspaceName;
+		this.entityMetaMap = entityMetaMap;
+		this.directory = directory;
+		this.partitioner = partitioner;
+		this.bufferSizeInMB = bufferSizeInMB;
+	}
+
+	/**
+	 * Write the properties of an entity, with the same layout as persist(). Join properties
+	 * should be null, their cascade needs the cluster
+	 */
+	@SuppressWarnings("unchecked")
+	public <ID> void write(Object entity)
+	{
+		Validator.validateNotNull(entity, "Entity should not be null");
+		Object realEntity = helper.unproxy(entity);
+		EntityMeta<ID> entityMeta = (EntityMeta<ID>) findEntityMeta(realEntity.getClass());
+
+		Validator.validateFalse(entityMeta.isColumnFamilyDirectMapping(), "The entity '"
+				+ entityMeta.getClassName()
+				+ "' is mapped directly to a column family, its values are written by writeWideMap()");
+
+		for (PropertyMeta<?, ?> propertyMeta : entityMeta.getPropertyMetas().values())
+		{
+			if (propertyMeta.isJoin())
+			{
+				Validator.validateTrue(
+						helper.getValueFromField(realEntity, propertyMeta) == null,
+						"The join property '" + propertyMeta.getPropertyName() + "' of entity '"
+								+ entityMeta.getClassName() + "' cannot be bulk loaded");
+			}
+		}
+
+		registerWriter(entityMeta.getColumnFamilyName(),
+				ColumnFamilyHelper.DYNAMIC_COMPOSITE_COMPARATOR_TYPE);
+		persister.persist(realEntity, entityMeta,
+				new SSTableMutator<ID>(entityMeta.getIdSerializer(), writers));
+	}
+
+	/**
+	 * Write one key/value of a WideMap property, stored in the entity row, in an external column
+	 * family or in the column family mapped directly by the entity
+	 */
+	public <ID, K, V> void writeWideMap(Class<?> entityClass, ID primaryKey,
+			String propertyName, K key, V value)
+	{
+		this.writeWideMap(entityClass, primaryKey, propertyName, key, value, 0);
+	}
+
+	/**
+	 * Write one key/value of a WideMap property with a time to live in seconds
+	 */
+	@SuppressWarnings("unchecked")
+	public <ID, K, V> void writeWideMap(Class<?> entityClass, ID primaryKey,
+			String propertyName, K key, V value, int ttl)
+	{
+		Validator.validateNotNull(primaryKey, "Primary key should not be null");
+		Validator.validateNotNull(key, "WideMap key should not be null");
+
+		EntityMeta<ID> entityMeta = (EntityMeta<ID>) findEntityMeta(entityClass);
+		PropertyMeta<K, V> propertyMeta = (PropertyMeta<K, V>) entityMeta.getPropertyMetas().get(
+				propertyName);
+		Validator.validateNotNull(propertyMeta, "The property '" + propertyName
+				+ "' does not exist for entity '" + entityMeta.getClassName() + "'");
+
+		SSTableMutator<ID> mutator = new SSTableMutator<ID>(entityMeta.getIdSerializer(), writers);
+		switch (propertyMeta.type())
+		{
+			case WIDE_MAP:
+				if (entityMeta.isColumnFamilyDirectMapping())
+				{
+					writeCompositeColumn(entityMeta.getColumnFamilyName(),
+							(GenericCompositeDao<ID, Object>) entityMeta.getColumnFamilyDao(),
+							propertyMeta, primaryKey, key, value, ttl, mutator);
+				}
+				else
+				{
+					registerWriter(entityMeta.getColumnFamilyName(),
+							ColumnFamilyHelper.DYNAMIC_COMPOSITE_COMPARATOR_TYPE);
+					entityMeta.getEntityDao().setValueBatch(primaryKey,
+							keyFactory.createForInsert(propertyMeta, key),
+							propertyMeta.writeValue(value), ttl, mutator);
+				}
+				break;
+			case EXTERNAL_WIDE_MAP:
+				writeCompositeColumn(propertyMeta.getExternalWideMapProperties()
+						.getExternalColumnFamilyName(),
+						(GenericCompositeDao<ID, Object>) propertyMeta
+								.getExternalWideMapProperties().getExternalWideMapDao(),
+						propertyMeta, primaryKey, key, value, ttl, mutator);
+				break;
+			default:
+				throw new AchillesException("The property '" + propertyName + "' of entity '"
+						+ entityMeta.getClassName() + "' is not a WideMap of values");
+		}
+	}
+
+	/**
+	 * Write the buffered rows of all column families. The SSTables are complete once this method
+	 * returns
+	 */
+	@Override
+	public void close()
+	{
+		AchillesException failure = null;
+		for (SSTableColumnFamilyWriter writer : writers.values())
+		{
+			try
+			{
+				writer.close();
+			}
+			catch (AchillesException e)
+			{
+				failure = failure == null ? e : failure;
+			}
+		}
+		writers.clear();
+		if (failure != null)
+		{
+			throw failure;
+		}
+	}
+
+	private <ID, K, V> void writeCompositeColumn(String columnFamily,
+			GenericCompositeDao<ID, Object> dao, PropertyMeta<K, V> propertyMeta, ID primaryKey,
+			K key, V value, int ttl, SSTableMutator<ID> mutator)
+	{
+		registerWriter(columnFamily,
+				propertyHelper.determineCompatatorTypeAliasForCompositeCF(propertyMeta, false));
+		dao.setValueBatch(primaryKey, compositeKeyFactory.createBaseComposite(propertyMeta, key),
+				propertyMeta.writeValueAsSupportedTypeOrString(value), ttl, mutator);
+	}
+
+	private EntityMeta<?> findEntityMeta(Class<?> entityClass)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		EntityMeta<?> entityMeta = entityMetaMap.get(entityClass);
+		Validator.validateNotNull(entityMeta, "The entity class '" + entityClass.getCanonicalName()
+				+ "' is not managed");
+		return entityMeta;
+	}
+
+	private void registerWriter(String columnFamily, String comparatorType)
+	{
+		if (!writers.containsKey(columnFamily))
+		{
+			writers.put(columnFamily, new SSTableColumnFamilyWriter(directory, partitioner,
+					keyspaceName, columnFamily, comparatorType, bufferSizeInMB));
+		}
+	}
+}
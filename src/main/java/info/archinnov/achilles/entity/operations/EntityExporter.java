@@ -0,0 +1,94 @@
+package info.archinnov.achilles.entity.operations;
+
+import info.archinnov.achilles.dao.AbstractDao;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.type.ExportFormat;
+import info.archinnov.achilles.validation.Validator;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * EntityExporter
+ *
+ * @author DuyHai DOAN
+ *
+ *         Export and import the column families of an entity type: entity or directly mapped
+ *         column family, external WideMap column families and counter column family. Each column
+ *         family has its own sub-directory named after it
+ *
+ */
+public class EntityExporter
+{
+	public <ID> long export(EntityMeta<ID> entityMeta, File directory, ExecutorService executor,
+			int pageSize, ExportFormat format)
+	{
+		Validator.validateNotNull(directory, "Export directory should not be null");
+		List<AbstractDao<ID, ?, ?>> daos = findDaos(entityMeta);
+		long exported = daos.get(0).export(subDirectory(directory, daos.get(0)), executor,
+				pageSize, format);
+		for (AbstractDao<ID, ?, ?> dao : daos.subList(1, daos.size()))
+		{
+			dao.export(subDirectory(directory, dao), executor, pageSize, format);
+		}
+		return exported;
+	}
+
+	public <ID> long importFrom(EntityMeta<ID> entityMeta, File directory,
+			ExecutorService executor, int batchSize, ExportFormat format)
+	{
+		Validator.validateNotNull(directory, "Import directory should not be null");
+		List<AbstractDao<ID, ?, ?>> daos = findDaos(entityMeta);
+		long imported = daos.get(0).importFrom(subDirectory(directory, daos.get(0)), executor,
+				batchSize, format);
+		for (AbstractDao<ID, ?, ?> dao : daos.subList(1, daos.size()))
+		{
+			File columnFamilyDirectory = subDirectory(directory, dao);
+			if (columnFamilyDirectory.isDirectory())
+			{
+				dao.importFrom(columnFamilyDirectory, executor, batchSize, format);
+			}
+		}
+		return imported;
+	}
+
+	/**
+	 * Daos of the column families of an entity type, the one storing the entity rows first
+	 */
+	@SuppressWarnings("unchecked")
+	private <ID> List<AbstractDao<ID, ?, ?>> findDaos(EntityMeta<ID> entityMeta)
+	{
+		List<AbstractDao<ID, ?, ?>> daos = new ArrayList<AbstractDao<ID, ?, ?>>();
+		if (entityMeta.isColumnFamilyDirectMapping())
+		{
+			daos.add(entityMeta.getColumnFamilyDao());
+		}
+		else
+		{
+			daos.add(entityMeta.getEntityDao());
+		}
+		for (PropertyMeta<?, ?> propertyMeta : entityMeta.getPropertyMetas().values())
+		{
+			ExternalWideMapProperties<ID> externalWideMapProperties = (ExternalWideMapProperties<ID>) propertyMeta
+					.getExternalWideMapProperties();
+			if (externalWideMapProperties != null)
+			{
+				daos.add(externalWideMapProperties.getExternalWideMapDao());
+			}
+		}
+		if (entityMeta.getCounterDao() != null)
+		{
+			daos.add((AbstractDao<ID, ?, ?>) entityMeta.getCounterDao());
+		}
+		return daos;
+	}
+
+	private File subDirectory(File directory, AbstractDao<?, ?, ?> dao)
+	{
+		return new File(directory, dao.getColumnFamily());
+	}
+}
@@ -7,16 +7,21 @@ import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
 import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.EntityMapper;
+import info.archinnov.achilles.entity.JoinEntityHelper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.type.KeyValue;
 import info.archinnov.achilles.validation.Validator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.DynamicComposite;
+import me.prettyprint.hector.api.beans.HColumn;
 import org.apache.commons.lang.StringUtils;
 
 /**
@@ -30,6 +35,7 @@ public class EntityLoader {
     private EntityMapper mapper = new EntityMapper();
     private EntityHelper helper = new EntityHelper();
     private JoinEntityLoader joinLoader = new JoinEntityLoader();
+    private JoinEntityHelper joinHelper = new JoinEntityHelper();
 
     public <T, ID> T load(Class<T> entityClass, ID key, EntityMeta<ID> entityMeta) {
         Validator.validateNotNull(entityClass, "Entity class should not be null");
@@ -42,13 +48,14 @@ public class EntityLoader {
 
             if (entityMeta.isColumnFamilyDirectMapping()) {
                 entity = entityClass.newInstance();
-                helper.setValueToField(entity, entityMeta.getIdMeta().getSetter(), key);
+                helper.setValueToField(entity, entityMeta.getIdMeta(), key);
             } else {
-                List<Pair<DynamicComposite, String>> columns = entityMeta.getEntityDao().eagerFetchEntity(key);
-                if (columns.size() > 0) {
+                Iterator<Pair<DynamicComposite, Object>> columns = entityMeta.getEntityDao()
+                        .eagerFetchEntityIterator(key);
+                if (columns.hasNext()) {
                     entity = entityClass.newInstance();
                     mapper.setEagerPropertiesToEntity(key, columns, entityMeta, entity);
-                    helper.setValueToField(entity, entityMeta.getIdMeta().getSetter(), key);
+                    helper.setValueToField(entity, entityMeta.getIdMeta(), key);
 
                 }
             }
@@ -60,19 +67,101 @@ public class EntityLoader {
         return entity;
     }
 
-    protected <ID, V> Long loadVersionSerialUID(ID key, GenericDynamicCompositeDao<ID> dao) {
-        DynamicComposite composite = new DynamicComposite();
-        composite.addComponent(0, PropertyType.SERIAL_VERSION_UID.flag(), ComponentEquality.EQUAL);
-        composite.addComponent(1, PropertyType.SERIAL_VERSION_UID.name(), ComponentEquality.EQUAL);
+    /**
+     * Load only the given eager properties of an entity. Simple properties are fetched with a
+     * single by-name column slice, along with the serialVersionUID column telling whether the
+     * entity exists. Lazy properties are left to be loaded on access
+     */
+    public <T, ID> T loadPartial(Class<T> entityClass, ID key, EntityMeta<ID> entityMeta,
+            Set<String> propertyNames) {
+        Validator.validateNotNull(entityClass, "Entity class should not be null");
+        Validator.validateNotNull(key, "Entity '" + entityClass.getCanonicalName() + "' key should not be null");
+        Validator.validateNotNull(entityMeta, "Entity meta for '" + entityClass.getCanonicalName()
+                + "' should not be null");
+        Validator.validateNotNull(propertyNames, "Property names should not be null");
+
+        if (entityMeta.isColumnFamilyDirectMapping()) {
+            return this.load(entityClass, key, entityMeta);
+        }
+
+        List<DynamicComposite> columnNames = new ArrayList<DynamicComposite>();
+        columnNames.add(serialVersionUIDComposite());
+        List<PropertyMeta<?, ?>> collectionMetas = new ArrayList<PropertyMeta<?, ?>>();
+
+        for (String propertyName : propertyNames) {
+            PropertyMeta<?, ?> propertyMeta = entityMeta.getPropertyMetas().get(propertyName);
+            Validator.validateNotNull(propertyMeta, "Property '" + propertyName + "' does not exist in entity '"
+                    + entityClass.getCanonicalName() + "'");
 
-        String serialVersionUIDString = dao.getValue(key, composite);
-        if (StringUtils.isNotBlank(serialVersionUIDString)) {
-            return Long.parseLong(serialVersionUIDString);
+            if (propertyMeta.type() == PropertyType.SIMPLE) {
+                columnNames.add(keyFactory.createForBatchInsertSingleValue(propertyMeta));
+            } else if (!propertyMeta.type().isLazy()) {
+                collectionMetas.add(propertyMeta);
+            }
+        }
+
+        T entity = null;
+        try {
+            GenericDynamicCompositeDao<ID> dao = entityMeta.getEntityDao();
+            List<HColumn<DynamicComposite, Object>> columns = dao.getColumns(key, columnNames);
+            if (columns.size() > 0) {
+                List<Pair<DynamicComposite, Object>> pairs = new ArrayList<Pair<DynamicComposite, Object>>();
+                for (HColumn<DynamicComposite, Object> column : columns) {
+                    pairs.add(new Pair<DynamicComposite, Object>(column.getName(), column.getValue()));
+                }
+
+                entity = entityClass.newInstance();
+                mapper.setEagerPropertiesToEntity(key, pairs, entityMeta, entity);
+                helper.setValueToField(entity, entityMeta.getIdMeta(), key);
+
+                for (PropertyMeta<?, ?> collectionMeta : collectionMetas) {
+                    this.loadPropertyIntoObject(entity, key, dao, collectionMeta);
+                }
+            }
+        } catch (Exception e) {
+            throw new RuntimeException("Error when loading entity type '" + entityClass.getCanonicalName()
+                    + "' with key '" + key + "'", e);
+        }
+        return entity;
+    }
+
+    public <T, ID> Map<ID, T> loadAll(Class<T> entityClass, List<ID> keys, EntityMeta<ID> entityMeta) {
+        Validator.validateNotNull(entityClass, "Entity class should not be null");
+        Validator.validateNotNull(keys, "Entity '" + entityClass.getCanonicalName() + "' keys should not be null");
+        Validator.validateNotNull(entityMeta, "Entity meta for '" + entityClass.getCanonicalName()
+                + "' should not be null");
+
+        Map<ID, T> entitiesByKey = new HashMap<ID, T>();
+        if (keys.isEmpty()) {
+            return entitiesByKey;
+        }
+
+        if (entityMeta.isColumnFamilyDirectMapping()) {
+            for (ID key : keys) {
+                entitiesByKey.put(key, this.load(entityClass, key, entityMeta));
+            }
+        } else {
+            entitiesByKey = joinHelper.loadJoinEntities(entityClass, keys, entityMeta);
+        }
+        return entitiesByKey;
+    }
+
+    protected <ID, V> Long loadVersionSerialUID(ID key, GenericDynamicCompositeDao<ID> dao) {
+        Object serialVersionUID = dao.getValue(key, serialVersionUIDComposite());
+        if (serialVersionUID != null && StringUtils.isNotBlank(serialVersionUID.toString())) {
+            return Long.parseLong(serialVersionUID.toString());
         } else {
             return null;
         }
     }
 
+    private DynamicComposite serialVersionUIDComposite() {
+        DynamicComposite composite = new DynamicComposite();
+        composite.addComponent(0, PropertyType.SERIAL_VERSION_UID.flag(), ComponentEquality.EQUAL);
+        composite.addComponent(1, PropertyType.SERIAL_VERSION_UID.name(), ComponentEquality.EQUAL);
+        return composite;
+    }
+
     protected <ID, V> V loadSimpleProperty(ID key, GenericDynamicCompositeDao<ID> dao, PropertyMeta<?, V> propertyMeta) {
         DynamicComposite composite = keyFactory.createBaseForQuery(propertyMeta, EQUAL);
         return propertyMeta.getValueFromString(dao.getValue(key, composite));
@@ -82,10 +171,10 @@ public class EntityLoader {
             PropertyMeta<?, V> listPropertyMeta) {
         DynamicComposite start = keyFactory.createBaseForQuery(listPropertyMeta, EQUAL);
         DynamicComposite end = keyFactory.createBaseForQuery(listPropertyMeta, GREATER_THAN_EQUAL);
-        List<Pair<DynamicComposite, String>> columns = dao
+        List<Pair<DynamicComposite, Object>> columns = dao
                 .findColumnsRange(key, start, end, false, Integer.MAX_VALUE);
         List<V> list = listPropertyMeta.newListInstance();
-        for (Pair<DynamicComposite, String> pair : columns) {
+        for (Pair<DynamicComposite, Object> pair : columns) {
             list.add(listPropertyMeta.getValueFromString(pair.right));
         }
         return list;
@@ -96,10 +185,10 @@ public class EntityLoader {
 
         DynamicComposite start = keyFactory.createBaseForQuery(setPropertyMeta, EQUAL);
         DynamicComposite end = keyFactory.createBaseForQuery(setPropertyMeta, GREATER_THAN_EQUAL);
-        List<Pair<DynamicComposite, String>> columns = dao
+        List<Pair<DynamicComposite, Object>> columns = dao
                 .findColumnsRange(key, start, end, false, Integer.MAX_VALUE);
         Set<V> set = setPropertyMeta.newSetInstance();
-        for (Pair<DynamicComposite, String> pair : columns) {
+        for (Pair<DynamicComposite, Object> pair : columns) {
             set.add(setPropertyMeta.getValueFromString(pair.right));
         }
         return set;
@@ -110,15 +199,14 @@ public class EntityLoader {
 
         DynamicComposite start = keyFactory.createBaseForQuery(mapPropertyMeta, EQUAL);
         DynamicComposite end = keyFactory.createBaseForQuery(mapPropertyMeta, GREATER_THAN_EQUAL);
-        List<Pair<DynamicComposite, String>> columns = dao
+        List<Pair<DynamicComposite, Object>> columns = dao
                 .findColumnsRange(key, start, end, false, Integer.MAX_VALUE);
         Map<K, V> map = mapPropertyMeta.newMapInstance();
 
-        Class<K> keyClass = mapPropertyMeta.getKeyClass();
-        for (Pair<DynamicComposite, String> pair : columns) {
+        for (Pair<DynamicComposite, Object> pair : columns) {
             KeyValue<K, V> holder = mapPropertyMeta.getKeyValueFromString(pair.right);
 
-            map.put(keyClass.cast(holder.getKey()), mapPropertyMeta.getValueFromString(holder.getValue()));
+            map.put(holder.getKey(), holder.getValue());
         }
         return map;
     }
@@ -158,7 +246,7 @@ public class EntityLoader {
             default:
                 return;
         }
-        helper.setValueToField(realObject, propertyMeta.getSetter(), value);
+        helper.setValueToField(realObject, propertyMeta, value);
     }
 
     @SuppressWarnings("unchecked")
@@ -169,7 +257,7 @@ public class EntityLoader {
 
         DynamicComposite composite = keyFactory.createBaseForQuery(propertyMeta, EQUAL);
 
-        String stringJoinId = dao.getValue(key, composite);
+        Object stringJoinId = dao.getValue(key, composite);
 
         if (stringJoinId != null) {
             JOIN_ID joinId = joinIdMeta.getValueFromString(stringJoinId);
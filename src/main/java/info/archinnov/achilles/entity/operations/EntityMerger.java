@@ -9,10 +9,10 @@ import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.JoinProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
 import info.archinnov.achilles.validation.Validator;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -51,15 +51,16 @@ public class EntityMerger
 
 			GenericDynamicCompositeDao<ID> dao = entityMeta.getEntityDao();
 
-			Map<Method, PropertyMeta<?, ?>> dirtyMap = interceptor.getDirtyMap();
+			PropertyBitSet dirtyProperties = interceptor.getDirtyProperties();
 
-			if (dirtyMap.size() > 0)
+			if (!dirtyProperties.isEmpty())
 			{
 				Mutator<ID> mutator = dao.buildMutator();
 
-				for (Entry<Method, PropertyMeta<?, ?>> entry : dirtyMap.entrySet())
+				for (int ordinal = dirtyProperties.nextSetBit(0); ordinal >= 0; ordinal = dirtyProperties
+						.nextSetBit(ordinal + 1))
 				{
-					PropertyMeta<?, ?> propertyMeta = entry.getValue();
+					PropertyMeta<?, ?> propertyMeta = entityMeta.getPropertyMeta(ordinal);
 					ID key = interceptor.getKey();
 					if (propertyMeta.type() != SIMPLE || propertyMeta.type() != JOIN_SIMPLE)
 					{
@@ -71,7 +72,7 @@ public class EntityMerger
 				mutator.execute();
 			}
 
-			dirtyMap.clear();
+			dirtyProperties.clear();
 
 			for (Entry<String, PropertyMeta<?, ?>> entry : entityMeta.getPropertyMetas().entrySet())
 			{
@@ -119,18 +120,18 @@ public class EntityMerger
 	private <T> void mergeJoinProperty(T entity, PropertyMeta<?, ?> propertyMeta)
 	{
 		JoinProperties joinProperties = propertyMeta.getJoinProperties();
-		Object joinEntity = helper.getValueFromField(entity, propertyMeta.getGetter());
+		Object joinEntity = helper.getValueFromField(entity, propertyMeta);
 		if (joinEntity != null)
 		{
 			Object mergedEntity = this.mergeEntity(joinEntity, joinProperties.getEntityMeta());
-			helper.setValueToField(entity, propertyMeta.getSetter(), mergedEntity);
+			helper.setValueToField(entity, propertyMeta, mergedEntity);
 		}
 	}
 
 	private <T> void mergeJoinListProperty(T entity, PropertyMeta<?, ?> propertyMeta)
 	{
 		JoinProperties joinProperties = propertyMeta.getJoinProperties();
-		List<?> joinEntities = (List<?>) helper.getValueFromField(entity, propertyMeta.getGetter());
+		List<?> joinEntities = (List<?>) helper.getValueFromField(entity, propertyMeta);
 		List<Object> mergedEntities = new ArrayList<Object>();
 		if (joinEntities != null)
 		{
@@ -140,13 +141,13 @@ public class EntityMerger
 				mergedEntities.add(mergedEntity);
 			}
 		}
-		helper.setValueToField(entity, propertyMeta.getSetter(), mergedEntities);
+		helper.setValueToField(entity, propertyMeta, mergedEntities);
 	}
 
 	private <T> void mergeJoinSetProperty(T entity, PropertyMeta<?, ?> propertyMeta)
 	{
 		JoinProperties joinProperties = propertyMeta.getJoinProperties();
-		Set<?> joinEntities = (Set<?>) helper.getValueFromField(entity, propertyMeta.getGetter());
+		Set<?> joinEntities = (Set<?>) helper.getValueFromField(entity, propertyMeta);
 		Set<Object> mergedEntities = new HashSet<Object>();
 		if (joinEntities != null)
 		{
@@ -156,14 +157,13 @@ public class EntityMerger
 				mergedEntities.add(mergedEntity);
 			}
 		}
-		helper.setValueToField(entity, propertyMeta.getSetter(), mergedEntities);
+		helper.setValueToField(entity, propertyMeta, mergedEntities);
 	}
 
 	private <T> void mergeJoinMapProperty(T entity, PropertyMeta<?, ?> propertyMeta)
 	{
 		JoinProperties joinProperties = propertyMeta.getJoinProperties();
-		Map<?, ?> joinEntitiesMap = (Map<?, ?>) helper.getValueFromField(entity,
-				propertyMeta.getGetter());
+		Map<?, ?> joinEntitiesMap = (Map<?, ?>) helper.getValueFromField(entity, propertyMeta);
 		Map<Object, Object> mergedEntitiesMap = new HashMap<Object, Object>();
 		if (joinEntitiesMap != null)
 		{
@@ -174,7 +174,7 @@ public class EntityMerger
 				mergedEntitiesMap.put(joinEntityEntry.getKey(), mergedEntity);
 			}
 		}
-		helper.setValueToField(entity, propertyMeta.getSetter(), mergedEntitiesMap);
+		helper.setValueToField(entity, propertyMeta, mergedEntitiesMap);
 	}
 
 	public void setPersister(EntityPersister persister)
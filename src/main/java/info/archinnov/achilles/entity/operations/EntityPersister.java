@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import javax.persistence.CascadeType;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.DynamicComposite;
@@ -83,7 +84,7 @@ public class EntityPersister {
     protected <ID> void batchPersistSimpleProperty(Object entity, ID key, GenericDynamicCompositeDao<ID> dao,
             PropertyMeta<?, ?> propertyMeta, Mutator<ID> mutator) {
         DynamicComposite name = keyFactory.createForBatchInsertSingleValue(propertyMeta);
-        String value = propertyMeta.writeValueToString(helper.getValueFromField(entity, propertyMeta.getGetter()));
+        Object value = propertyMeta.writeValue(helper.getValueFromField(entity, propertyMeta));
         if (value != null) {
             dao.insertColumnBatch(key, name, value, mutator);
         }
@@ -93,10 +94,10 @@ public class EntityPersister {
             PropertyMeta<?, ?> propertyMeta, Mutator<ID> mutator) {
         JoinProperties joinProperties = propertyMeta.getJoinProperties();
         PropertyMeta<Void, ?> idMeta = propertyMeta.joinIdMeta();
-        Object joinEntity = helper.getValueFromField(entity, propertyMeta.getGetter());
+        Object joinEntity = helper.getValueFromField(entity, propertyMeta);
 
         if (joinEntity != null) {
-            String joinId = idMeta.writeValueToString(this.cascadePersistOrEnsureExists(joinEntity, joinProperties));
+            Object joinId = idMeta.writeValue(this.cascadePersistOrEnsureExists(joinEntity, joinProperties));
 
             if (joinId != null) {
                 DynamicComposite joinName = keyFactory.createForBatchInsertSingleValue(propertyMeta);
@@ -144,15 +145,15 @@ public class EntityPersister {
     private <ID> void batchPersistListProperty(Object entity, ID key, GenericDynamicCompositeDao<ID> dao,
             PropertyMeta<?, ?> propertyMeta, Mutator<ID> mutator) {
 
-        List<?> list = (List<?>) helper.getValueFromField(entity, propertyMeta.getGetter());
+        List<?> list = (List<?>) helper.getValueFromField(entity, propertyMeta);
         int count = 0;
         if (list != null) {
             for (Object value : list) {
                 DynamicComposite name = keyFactory.createForBatchInsertMultiValue(propertyMeta, count);
 
-                String stringValue = propertyMeta.writeValueToString(value);
-                if (stringValue != null) {
-                    dao.insertColumnBatch(key, name, stringValue, mutator);
+                Object columnValue = propertyMeta.writeValue(value);
+                if (columnValue != null) {
+                    dao.insertColumnBatch(key, name, columnValue, mutator);
                 }
                 count++;
             }
@@ -167,17 +168,17 @@ public class EntityPersister {
         PropertyMeta<Void, ?> idMeta = joinEntityMeta.getIdMeta();
         Mutator<?> joinMutator = joinEntityMeta.getEntityDao().buildMutator();
 
-        Collection<?> list = (Collection<?>) helper.getValueFromField(entity, propertyMeta.getGetter());
+        Collection<?> list = (Collection<?>) helper.getValueFromField(entity, propertyMeta);
         int count = 0;
         if (list != null) {
             for (Object joinEntity : list) {
                 DynamicComposite name = keyFactory.createForBatchInsertMultiValue(propertyMeta, count);
 
-                Object joinEntityId = helper.getValueFromField(joinEntity, idMeta.getGetter());
+                Object joinEntityId = helper.getValueFromField(joinEntity, idMeta);
 
-                String joinEntityIdStringValue = idMeta.writeValueToString(joinEntityId);
-                if (joinEntityIdStringValue != null) {
-                    dao.insertColumnBatch(key, name, joinEntityIdStringValue, mutator);
+                Object joinEntityIdValue = idMeta.writeValue(joinEntityId);
+                if (joinEntityIdValue != null) {
+                    dao.insertColumnBatch(key, name, joinEntityIdValue, mutator);
                     this.cascadePersistOrEnsureExists(joinEntity, joinProperties, joinMutator);
                 }
                 count++;
@@ -189,14 +190,14 @@ public class EntityPersister {
 
     protected <ID> void batchPersistSetProperty(Object entity, ID key, GenericDynamicCompositeDao<ID> dao,
             PropertyMeta<?, ?> propertyMeta, Mutator<ID> mutator) {
-        Set<?> set = (Set<?>) helper.getValueFromField(entity, propertyMeta.getGetter());
+        Set<?> set = (Set<?>) helper.getValueFromField(entity, propertyMeta);
         if (set != null) {
             for (Object value : set) {
                 DynamicComposite name = keyFactory.createForBatchInsertMultiValue(propertyMeta, value.hashCode());
 
-                String stringValue = propertyMeta.writeValueToString(value);
-                if (stringValue != null) {
-                    dao.insertColumnBatch(key, name, stringValue, mutator);
+                Object columnValue = propertyMeta.writeValue(value);
+                if (columnValue != null) {
+                    dao.insertColumnBatch(key, name, columnValue, mutator);
                 }
             }
         }
@@ -206,7 +207,7 @@ public class EntityPersister {
     protected <ID, K, V> void batchPersistMapProperty(Object entity, ID key, GenericDynamicCompositeDao<ID> dao,
             PropertyMeta<K, V> propertyMeta, Mutator<ID> mutator) {
 
-        Map<K, V> map = (Map<K, V>) helper.getValueFromField(entity, propertyMeta.getGetter());
+        Map<K, V> map = (Map<K, V>) helper.getValueFromField(entity, propertyMeta);
         if (map != null) {
             for (Entry<K, V> entry : map.entrySet()) {
                 DynamicComposite name = keyFactory.createForBatchInsertMultiValue(propertyMeta, entry.getKey()
@@ -227,18 +228,18 @@ public class EntityPersister {
         PropertyMeta<Void, ?> idMeta = joinEntityMeta.getIdMeta();
         Mutator<?> joinMutator = joinEntityMeta.getEntityDao().buildMutator();
 
-        Map<K, V> map = (Map<K, V>) helper.getValueFromField(entity, propertyMeta.getGetter());
+        Map<K, V> map = (Map<K, V>) helper.getValueFromField(entity, propertyMeta);
         if (map != null) {
             for (Entry<K, V> entry : map.entrySet()) {
                 DynamicComposite name = keyFactory.createForBatchInsertMultiValue(propertyMeta, entry.getKey()
                         .hashCode());
 
                 V joinEntity = entry.getValue();
-                Object joinEntityId = helper.getValueFromField(joinEntity, idMeta.getGetter());
-                String joinEntityIdStringValue = idMeta.writeValueToString(joinEntityId);
+                Object joinEntityId = helper.getValueFromField(joinEntity, idMeta);
+                String joinEntityIdValue = idMeta.writeValueToString(joinEntityId);
 
                 String value = propertyMeta.writeValueToString(new KeyValue<K, String>(entry.getKey(),
-                        joinEntityIdStringValue));
+                        joinEntityIdValue));
                 dao.insertColumnBatch(key, name, value, mutator);
                 this.cascadePersistOrEnsureExists(joinEntity, joinProperties, joinMutator);
             }
@@ -305,6 +306,31 @@ public class EntityPersister {
                 externalWideMapProperties.getExternalWideMapDao().removeRow(id);
             }
         }
+        if (entityMeta.getCounterDao() != null) {
+            entityMeta.getCounterDao().removeRow(id);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <ID> long truncate(EntityMeta<ID> entityMeta, ExecutorService executor, int batchSize) {
+        AbstractDao<ID, ?, ?> dao;
+        if (entityMeta.isColumnFamilyDirectMapping()) {
+            dao = entityMeta.getColumnFamilyDao();
+        } else {
+            dao = entityMeta.getEntityDao();
+        }
+        long removed = dao.truncate(executor, batchSize);
+        for (PropertyMeta<?, ?> propertyMeta : entityMeta.getPropertyMetas().values()) {
+            ExternalWideMapProperties<ID> externalWideMapProperties = (ExternalWideMapProperties<ID>) propertyMeta
+                    .getExternalWideMapProperties();
+            if (externalWideMapProperties != null) {
+                externalWideMapProperties.getExternalWideMapDao().truncate(executor, batchSize);
+            }
+        }
+        if (entityMeta.getCounterDao() != null) {
+            entityMeta.getCounterDao().truncate(executor, batchSize);
+        }
+        return removed;
     }
 
     public <ID, V> void removeProperty(ID key, GenericDynamicCompositeDao<ID> dao, PropertyMeta<?, V> propertyMeta) {
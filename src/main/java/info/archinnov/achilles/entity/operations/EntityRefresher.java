@@ -38,8 +38,9 @@ public class EntityRefresher
 
 		T freshEntity = this.loader.load(entityClass, primaryKey, entityMeta);
 
-		interceptor.getDirtyMap().clear();
+		interceptor.getDirtyProperties().clear();
 		interceptor.getLazyLoaded().clear();
+		interceptor.getUnloadedEagerGetters().clear();
 		interceptor.setTarget(freshEntity);
 	}
 }
@@ -0,0 +1,210 @@
+package info.archinnov.achilles.entity.operations;
+
+import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
+import info.archinnov.achilles.dao.Pair;
+import info.archinnov.achilles.entity.EntityHelper;
+import info.archinnov.achilles.entity.EntityMapper;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.type.EntityScanHandler;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.iterator.EagerTokenRangeIterator;
+import info.archinnov.achilles.iterator.EntityScanIterator;
+import info.archinnov.achilles.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+/**
+ * EntityScanner
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class EntityScanner
+{
+	public static final int SCAN_MIN_SPLITS = 16;
+
+	private EntityMapper mapper = new EntityMapper();
+	private EntityHelper helper = new EntityHelper();
+
+	/**
+	 * Scan all the entities of a type, one task per token range on the executor, and pass them
+	 * to the handler
+	 * 
+	 * @return number of scanned entities
+	 */
+	public <T, ID> long scan(final Class<T> entityClass, final EntityMeta<ID> entityMeta,
+			ExecutorService executor, final int pageSize, final EntityScanHandler<T> handler)
+	{
+		validateScan(entityClass, entityMeta, executor, pageSize);
+		Validator.validateNotNull(handler, "Entity scan handler should not be null");
+
+		List<Future<Long>> rangeScans = new ArrayList<Future<Long>>();
+		for (final Pair<String, String> range : splitRing(entityMeta))
+		{
+			rangeScans.add(executor.submit(new Callable<Long>()
+			{
+				@Override
+				public Long call() throws Exception
+				{
+					return scanRange(entityClass, entityMeta, range, pageSize, handler);
+				}
+			}));
+		}
+
+		long scanned = 0;
+		try
+		{
+			for (Future<Long> rangeScan : rangeScans)
+			{
+				scanned += await(rangeScan, entityMeta);
+			}
+		}
+		finally
+		{
+			for (Future<Long> rangeScan : rangeScans)
+			{
+				rangeScan.cancel(true);
+			}
+		}
+		return scanned;
+	}
+
+	/**
+	 * Scan all the entities of a type, one task per token range on the executor, and stream them
+	 * through an iterator buffering at most bufferSize entities
+	 */
+	public <T, ID> EntityScanIterator<T> scanIterator(final Class<T> entityClass,
+			final EntityMeta<ID> entityMeta, ExecutorService executor, final int pageSize,
+			int bufferSize)
+	{
+		validateScan(entityClass, entityMeta, executor, pageSize);
+		Validator.validateTrue(bufferSize > 0, "Entity scan buffer size should be strictly positive");
+
+		List<Pair<String, String>> ranges = splitRing(entityMeta);
+		final EntityScanIterator<T> iterator = new EntityScanIterator<T>(bufferSize, ranges.size());
+		final EntityScanHandler<T> handler = new EntityScanHandler<T>()
+		{
+			@Override
+			public void onEntity(T entity)
+			{
+				if (!iterator.offer(entity))
+				{
+					throw new ScanClosedException();
+				}
+			}
+		};
+
+		for (final Pair<String, String> range : ranges)
+		{
+			executor.submit(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					try
+					{
+						scanRange(entityClass, entityMeta, range, pageSize, handler);
+						iterator.rangeDone();
+					}
+					catch (ScanClosedException e)
+					{
+						// consumer closed the iterator
+					}
+					catch (Throwable e)
+					{
+						iterator.rangeFailed(e);
+					}
+				}
+			});
+		}
+		return iterator;
+	}
+
+	private <T, ID> long scanRange(Class<T> entityClass, EntityMeta<ID> entityMeta,
+			Pair<String, String> range, int pageSize, EntityScanHandler<T> handler)
+	{
+		EagerTokenRangeIterator<ID> rows = entityMeta.getEntityDao().eagerFetchTokenRange(
+				range.left, range.right, pageSize);
+
+		long scanned = 0;
+		while (rows.hasNext())
+		{
+			Pair<ID, List<Pair<DynamicComposite, Object>>> row = rows.next();
+			handler.onEntity(buildEntity(entityClass, entityMeta, row.left, row.right));
+			scanned++;
+		}
+		return scanned;
+	}
+
+	private <T, ID> T buildEntity(Class<T> entityClass, EntityMeta<ID> entityMeta, ID key,
+			List<Pair<DynamicComposite, Object>> columns)
+	{
+		T entity;
+		try
+		{
+			entity = entityClass.newInstance();
+		}
+		catch (Exception e)
+		{
+			throw new RuntimeException("Error when loading entity type '"
+					+ entityClass.getCanonicalName() + "' with key '" + key + "'", e);
+		}
+		mapper.setEagerPropertiesToEntity(key, columns, entityMeta, entity);
+		helper.setValueToField(entity, entityMeta.getIdMeta(), key);
+		return helper.buildProxy(entity, entityMeta);
+	}
+
+	private <ID> List<Pair<String, String>> splitRing(EntityMeta<ID> entityMeta)
+	{
+		GenericDynamicCompositeDao<ID> dao = entityMeta.getEntityDao();
+		return dao.getTokenRangeHelper().splitRing(SCAN_MIN_SPLITS);
+	}
+
+	private void validateScan(Class<?> entityClass, EntityMeta<?> entityMeta,
+			ExecutorService executor, int pageSize)
+	{
+		Validator.validateNotNull(entityClass, "Entity class should not be null");
+		Validator.validateNotNull(entityMeta, "The entity class '" + entityClass.getCanonicalName()
+				+ "' is not managed");
+		Validator.validateFalse(entityMeta.isColumnFamilyDirectMapping(), "The entity class '"
+				+ entityClass.getCanonicalName()
+				+ "' is mapped directly to a column family and cannot be scanned");
+		Validator.validateNotNull(executor, "Entity scan executor should not be null");
+		Validator.validateTrue(pageSize > 0, "Entity scan page size should be strictly positive");
+	}
+
+	private <V> V await(Future<V> operation, EntityMeta<?> entityMeta)
+	{
+		try
+		{
+			return operation.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new AchillesException("Interrupted while scanning entities '"
+					+ entityMeta.getClassName() + "'", e);
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) e.getCause();
+			}
+			throw new AchillesException("Error when scanning entities '"
+					+ entityMeta.getClassName() + "'", e.getCause());
+		}
+	}
+
+	private static class ScanClosedException extends RuntimeException
+	{
+		private static final long serialVersionUID = 1L;
+	}
+}
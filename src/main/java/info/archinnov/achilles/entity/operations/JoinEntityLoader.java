@@ -37,14 +37,14 @@ public class JoinEntityLoader
 	{
 		DynamicComposite start = keyFactory.createBaseForQuery(propertyMeta, EQUAL);
 		DynamicComposite end = keyFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL);
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(key, start, end, false,
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(key, start, end, false,
 				Integer.MAX_VALUE);
 		List<JOIN_ID> joinIds = new ArrayList<JOIN_ID>();
 
 		EntityMeta<JOIN_ID> joinMeta = (EntityMeta<JOIN_ID>) propertyMeta.joinMeta();
 		PropertyMeta<Void, ?> joinIdMeta = propertyMeta.joinIdMeta();
 
-		for (Pair<DynamicComposite, String> pair : columns)
+		for (Pair<DynamicComposite, Object> pair : columns)
 		{
 			joinIds.add((JOIN_ID) joinIdMeta.getValueFromString(pair.right));
 		}
@@ -71,7 +71,7 @@ public class JoinEntityLoader
 
 		DynamicComposite start = keyFactory.createBaseForQuery(propertyMeta, EQUAL);
 		DynamicComposite end = keyFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL);
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(key, start, end, false,
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(key, start, end, false,
 				Integer.MAX_VALUE);
 
 		List<JOIN_ID> joinIds = new ArrayList<JOIN_ID>();
@@ -80,7 +80,7 @@ public class JoinEntityLoader
 		PropertyMeta<Void, JOIN_ID> joinIdMeta = (PropertyMeta<Void, JOIN_ID>) propertyMeta
 				.joinIdMeta();
 
-		for (Pair<DynamicComposite, String> pair : columns)
+		for (Pair<DynamicComposite, Object> pair : columns)
 		{
 			joinIds.add(joinIdMeta.getValueFromString(pair.right));
 		}
@@ -107,7 +107,7 @@ public class JoinEntityLoader
 
 		DynamicComposite start = keyFactory.createBaseForQuery(propertyMeta, EQUAL);
 		DynamicComposite end = keyFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL);
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(key, start, end, false,
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(key, start, end, false,
 				Integer.MAX_VALUE);
 
 		EntityMeta<JOIN_ID> joinMeta = (EntityMeta<JOIN_ID>) propertyMeta.joinMeta();
@@ -117,16 +117,14 @@ public class JoinEntityLoader
 		Map<K, V> map = propertyMeta.newMapInstance();
 		Map<K, JOIN_ID> partialMap = new HashMap<K, JOIN_ID>();
 
-		Class<K> keyClass = propertyMeta.getKeyClass();
-
 		List<JOIN_ID> joinIds = new ArrayList<JOIN_ID>();
 
-		for (Pair<DynamicComposite, String> pair : columns)
+		for (Pair<DynamicComposite, Object> pair : columns)
 		{
 			KeyValue<K, V> holder = propertyMeta.getKeyValueFromString(pair.right);
 
 			JOIN_ID joinId = joinIdMeta.getValueFromString(holder.getValue());
-			partialMap.put(keyClass.cast(holder.getKey()), joinId);
+			partialMap.put(holder.getKey(), joinId);
 			joinIds.add(joinId);
 		}
 
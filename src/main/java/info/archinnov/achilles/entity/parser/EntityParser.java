@@ -1,8 +1,20 @@
 package info.archinnov.achilles.entity.parser;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.COUNTER;
 import static info.archinnov.achilles.entity.metadata.PropertyType.EXTERNAL_JOIN_WIDE_MAP;
+import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_LIST;
+import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_SET;
+import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_SIMPLE;
+import static info.archinnov.achilles.entity.metadata.PropertyType.LIST;
+import static info.archinnov.achilles.entity.metadata.PropertyType.SET;
+import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
 import static info.archinnov.achilles.entity.metadata.PropertyType.WIDE_MAP;
 import static info.archinnov.achilles.entity.metadata.builder.EntityMetaBuilder.entityMetaBuilder;
+import info.archinnov.achilles.annotations.Codec;
+import info.archinnov.achilles.annotations.Compressed;
+import info.archinnov.achilles.codec.JacksonValueCodecFactory;
+import info.archinnov.achilles.codec.ValueCodecFactory;
+import info.archinnov.achilles.columnFamily.ColumnFamilyHelper;
 import info.archinnov.achilles.dao.GenericCompositeDao;
 import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.EntityHelper;
@@ -10,8 +22,10 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.type.CounterWideMap;
 import info.archinnov.achilles.exception.BeanMappingException;
 import info.archinnov.achilles.json.ObjectMapperFactory;
+import info.archinnov.achilles.proxy.EntityProxyFactory;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Field;
@@ -41,11 +55,20 @@ public class EntityParser
 	private PropertyFilter filter = new PropertyFilter();
 	private EntityHelper helper = new EntityHelper();
 	private ObjectMapperFactory objectMapperFactory;
+	private ValueCodecFactory valueCodecFactory;
+	private Map<Class<? extends ValueCodecFactory>, ValueCodecFactory> annotatedCodecFactories = new HashMap<Class<? extends ValueCodecFactory>, ValueCodecFactory>();
 
 	public EntityParser(ObjectMapperFactory objectMapperFactory) {
+		this(objectMapperFactory, null);
+	}
+
+	public EntityParser(ObjectMapperFactory objectMapperFactory,
+			ValueCodecFactory valueCodecFactory) {
 		Validator.validateNotNull(objectMapperFactory,
 				"A non null ObjectMapperFactory is required for creating an EntityParser");
 		this.objectMapperFactory = objectMapperFactory;
+		this.valueCodecFactory = valueCodecFactory != null ? valueCodecFactory
+				: new JacksonValueCodecFactory(objectMapperFactory);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -85,8 +108,13 @@ public class EntityParser
 
 			else if (filter.hasAnnotation(field, Column.class))
 			{
-				parser.parse(propertyMetas, externalWideMaps, entityClass, field, false,
-						objectMapper);
+				PropertyMeta<?, ?> propertyMeta = parser.parse(propertyMetas, externalWideMaps,
+						entityClass, field, false, objectMapper);
+				if (propertyMeta != null)
+				{
+					bindValueCodec(entityClass, field, propertyMeta);
+					bindCompression(entityClass, field, propertyMeta);
+				}
 			}
 			else if (filter.hasAnnotation(field, JoinColumn.class))
 			{
@@ -101,11 +129,18 @@ public class EntityParser
 		// Deferred external wide map fields parsing
 		for (Entry<Field, String> entry : externalWideMaps.entrySet())
 		{
+			Field field = entry.getKey();
 			String propertyName = entry.getValue();
-			propertyMetas.put(
-					propertyName,
-					parser.parseExternalWideMapProperty(keyspace, idMeta, entityClass,
-							entry.getKey(), propertyName, objectMapper));
+			if (CounterWideMap.class.isAssignableFrom(field.getType()))
+			{
+				propertyMetas.put(propertyName, parser.parseCounterWideMapProperty(keyspace,
+						idMeta, entityClass, field, propertyName, objectMapper));
+			}
+			else
+			{
+				propertyMetas.put(propertyName, parser.parseExternalWideMapProperty(keyspace,
+						idMeta, entityClass, field, propertyName, objectMapper));
+			}
 		}
 
 		// Deferred external join wide map fields parsing
@@ -122,15 +157,20 @@ public class EntityParser
 
 		validatePropertyMetas(entityClass, propertyMetas, columnFamilyDirectMapping);
 		validateColumnFamily(entityClass, columnFamilyDirectMapping, propertyMetas);
+		validateCounterColumnFamily(entityClass, columnFamilyName, propertyMetas);
 
-		return new Pair<EntityMeta<?>, Map<PropertyMeta<?, ?>, Class<?>>>(//
-				entityMetaBuilder((PropertyMeta<Void, Object>) idMeta).keyspace(keyspace)
-						.className(entityClass.getCanonicalName()) //
-						.columnFamilyName(columnFamilyName) //
-						.serialVersionUID(serialVersionUID) //
-						.propertyMetas(propertyMetas) //
-						.columnFamilyDirectMapping(columnFamilyDirectMapping) //
-						.build(), //
+		EntityMeta<?> entityMeta = entityMetaBuilder((PropertyMeta<Void, Object>) idMeta)
+				.keyspace(keyspace) //
+				.className(entityClass.getCanonicalName()) //
+				.columnFamilyName(columnFamilyName) //
+				.serialVersionUID(serialVersionUID) //
+				.propertyMetas(propertyMetas) //
+				.columnFamilyDirectMapping(columnFamilyDirectMapping) //
+				.build();
+
+		EntityProxyFactory.createPrototypes(entityClass, entityMeta);
+
+		return new Pair<EntityMeta<?>, Map<PropertyMeta<?, ?>, Class<?>>>(entityMeta,
 				joinPropertyMetaToBeFilled);
 	}
 
@@ -176,6 +216,52 @@ public class EntityParser
 		}
 	}
 
+	private <V> void bindValueCodec(Class<?> entityClass, Field field,
+			PropertyMeta<?, V> propertyMeta)
+	{
+		ValueCodecFactory codecFactory = valueCodecFactory;
+		Codec codec = field.getAnnotation(Codec.class);
+		if (codec != null)
+		{
+			codecFactory = annotatedCodecFactories.get(codec.value());
+			if (codecFactory == null)
+			{
+				try
+				{
+					codecFactory = codec.value().newInstance();
+				}
+				catch (Exception e)
+				{
+					throw new BeanMappingException("Cannot instantiate the ValueCodecFactory '"
+							+ codec.value().getCanonicalName() + "' of the property '"
+							+ propertyMeta.getPropertyName() + "' of entity '"
+							+ entityClass.getCanonicalName() + "'", e);
+				}
+				annotatedCodecFactories.put(codec.value(), codecFactory);
+			}
+		}
+		propertyMeta.setValueCodec(codecFactory.getCodec(entityClass, propertyMeta.getValueClass()));
+	}
+
+	private void bindCompression(Class<?> entityClass, Field field,
+			PropertyMeta<?, ?> propertyMeta)
+	{
+		Compressed compressed = field.getAnnotation(Compressed.class);
+		if (compressed != null)
+		{
+			PropertyType type = propertyMeta.type();
+			Validator.validateTrue(type == SIMPLE || type == LAZY_SIMPLE || type == LIST
+					|| type == LAZY_LIST || type == SET || type == LAZY_SET || type == WIDE_MAP,
+					"The property '" + propertyMeta.getPropertyName() + "' of entity '"
+							+ entityClass.getCanonicalName() + "' of type " + type
+							+ " cannot be @Compressed");
+			Validator.validateTrue(compressed.threshold() > 0, "The compression threshold of '"
+					+ propertyMeta.getPropertyName() + "' of entity '"
+					+ entityClass.getCanonicalName() + "' should be strictly positive");
+			propertyMeta.setCompressionThreshold(compressed.threshold());
+		}
+	}
+
 	private void validateIdMeta(Class<?> entityClass, PropertyMeta<Void, ?> idMeta)
 	{
 		if (idMeta == null)
@@ -220,4 +306,27 @@ public class EntityParser
 		}
 	}
 
+	private void validateCounterColumnFamily(Class<?> entityClass, String columnFamilyName,
+			Map<String, PropertyMeta<?, ?>> propertyMetas)
+	{
+		for (PropertyMeta<?, ?> propertyMeta : propertyMetas.values())
+		{
+			if (propertyMeta.type() == COUNTER)
+			{
+				String counterColumnFamilyName = ColumnFamilyHelper
+						.normalizerAndValidateColumnFamilyName(columnFamilyName)
+						+ EntityMeta.COUNTER_COLUMN_FAMILY_SUFFIX;
+
+				if (!ColumnFamilyHelper.CF_PATTERN.matcher(counterColumnFamilyName).matches())
+				{
+					throw new BeanMappingException("The counter column family name '"
+							+ counterColumnFamilyName + "' of entity '"
+							+ entityClass.getCanonicalName()
+							+ "' is invalid. It should be at most 48 characters long");
+				}
+				return;
+			}
+		}
+	}
+
 }
@@ -2,6 +2,8 @@ package info.archinnov.achilles.entity.parser;
 
 import static info.archinnov.achilles.entity.PropertyHelper.allowedTypes;
 import static info.archinnov.achilles.entity.PropertyHelper.isSupportedType;
+import static info.archinnov.achilles.entity.metadata.PropertyType.COUNTER;
+import static info.archinnov.achilles.entity.metadata.PropertyType.COUNTER_WIDE_MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.EXTERNAL_WIDE_MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_LIST;
 import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_MAP;
@@ -12,6 +14,7 @@ import static info.archinnov.achilles.entity.metadata.PropertyType.MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.SET;
 import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
 import static info.archinnov.achilles.entity.metadata.factory.PropertyMetaFactory.factory;
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
 import info.archinnov.achilles.dao.GenericCompositeDao;
 import info.archinnov.achilles.entity.EntityHelper;
@@ -20,6 +23,8 @@ import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
 import info.archinnov.achilles.entity.metadata.MultiKeyProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.type.Counter;
+import info.archinnov.achilles.entity.type.CounterWideMap;
 import info.archinnov.achilles.entity.type.MultiKey;
 import info.archinnov.achilles.entity.type.WideMap;
 import info.archinnov.achilles.exception.BeanMappingException;
@@ -85,6 +90,16 @@ public class PropertyParser
 		{
 			externalWideMaps.put(field, propertyName);
 		}
+		else if (CounterWideMap.class.isAssignableFrom(field.getType()))
+		{
+			Validator.validateFalse(joinColumn, "The CounterWideMap property '" + propertyName
+					+ "' of entity '" + entityClass.getCanonicalName()
+					+ "' cannot be a join column");
+			Validator.validateNotBlank(externalTableName, "The CounterWideMap property '"
+					+ propertyName + "' of entity '" + entityClass.getCanonicalName()
+					+ "' should declare its counter column family with @Column(table=...)");
+			externalWideMaps.put(field, propertyName);
+		}
 		else
 		{
 			Class<?> fieldType = field.getType();
@@ -109,6 +124,14 @@ public class PropertyParser
 				propertyMeta = parseWideMapProperty(entityClass, field, propertyName, objectMapper);
 			}
 
+			else if (Counter.class.isAssignableFrom(fieldType))
+			{
+				Validator.validateFalse(joinColumn, "The Counter property '" + propertyName
+						+ "' of entity '" + entityClass.getCanonicalName()
+						+ "' cannot be a join column");
+				propertyMeta = parseCounterProperty(entityClass, field, propertyName, objectMapper);
+			}
+
 			else
 			{
 				propertyMeta = parseSimpleProperty(entityClass, field, propertyName, objectMapper);
@@ -136,6 +159,18 @@ public class PropertyParser
 
 	}
 
+	public PropertyMeta<Void, Long> parseCounterProperty(Class<?> beanClass, Field field,
+			String propertyName, ObjectMapper objectMapper)
+	{
+		Method[] accessors = entityHelper.findAccessors(beanClass, field);
+
+		return factory(Long.class) //
+				.objectMapper(objectMapper) //
+				.type(COUNTER) //
+				.propertyName(propertyName) //
+				.accessors(accessors).build();
+	}
+
 	public PropertyMeta<Void, ?> parseListProperty(Class<?> beanClass, Field field,
 			String propertyName, ObjectMapper objectMapper)
 	{
@@ -240,21 +275,7 @@ public class PropertyParser
 			{
 				keyClass = (Class<?>) actualTypeArguments[0];
 				valueClass = (Class<?>) actualTypeArguments[1];
-
-				if (MultiKey.class.isAssignableFrom(keyClass))
-				{
-					multiKeyProperties = propertyHelper.parseMultiKey(keyClass);
-				}
-				else
-				{
-					Validator
-							.validateAllowedTypes(
-									keyClass,
-									allowedTypes,
-									"The class '"
-											+ keyClass.getCanonicalName()
-											+ "' is not allowed as WideMap key. Did you forget to implement MultiKey interface ?");
-				}
+				multiKeyProperties = parseWideMapKey(keyClass);
 			}
 			else
 			{
@@ -283,6 +304,63 @@ public class PropertyParser
 				.build();
 	}
 
+	public <ID> PropertyMeta<?, ?> parseCounterWideMapProperty(Keyspace keyspace,
+			PropertyMeta<Void, ID> idMeta, Class<?> beanClass, Field field, String propertyName,
+			ObjectMapper objectMapper)
+	{
+		Class<?> keyClass;
+		Type genericType = field.getGenericType();
+		if (genericType instanceof ParameterizedType)
+		{
+			keyClass = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
+		}
+		else
+		{
+			throw new BeanMappingException(
+					"The CounterWideMap type should be parameterized for the entity "
+							+ beanClass.getCanonicalName());
+		}
+		MultiKeyProperties multiKeyProperties = parseWideMapKey(keyClass);
+		Method[] accessors = entityHelper.findAccessors(beanClass, field);
+
+		PropertyMeta<?, Long> propertyMeta = factory(keyClass, Long.class) //
+				.objectMapper(objectMapper) //
+				.type(COUNTER_WIDE_MAP) //
+				.propertyName(propertyName) //
+				.accessors(accessors) //
+				.multiKeyProperties(multiKeyProperties) //
+				.build();
+
+		String counterColumnFamilyName = field.getAnnotation(Column.class).table();
+		GenericCompositeDao<ID, Long> dao = new GenericCompositeDao<ID, Long>(keyspace,
+				idMeta.getValueSerializer(), LONG_SRZ, counterColumnFamilyName);
+
+		propertyMeta.setExternalWideMapProperties(new ExternalWideMapProperties<ID>(
+				counterColumnFamilyName, dao, idMeta.getValueSerializer()));
+
+		return propertyMeta;
+	}
+
+	private MultiKeyProperties parseWideMapKey(Class<?> keyClass)
+	{
+		MultiKeyProperties multiKeyProperties = null;
+		if (MultiKey.class.isAssignableFrom(keyClass))
+		{
+			multiKeyProperties = propertyHelper.parseMultiKey(keyClass);
+		}
+		else
+		{
+			Validator
+					.validateAllowedTypes(
+							keyClass,
+							allowedTypes,
+							"The class '"
+									+ keyClass.getCanonicalName()
+									+ "' is not allowed as WideMap key. Did you forget to implement MultiKey interface ?");
+		}
+		return multiKeyProperties;
+	}
+
 	@SuppressWarnings(
 	{
 			"unchecked",
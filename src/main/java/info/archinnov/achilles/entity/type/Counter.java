@@ -0,0 +1,43 @@
+package info.archinnov.achilles.entity.type;
+
+/**
+ * Counter
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public interface Counter
+{
+	/**
+	 * Read the current value of the counter
+	 *
+	 * @return counter value, 0 if the counter has never been incremented
+	 */
+	public Long get();
+
+	/**
+	 * Increment the counter by 1
+	 */
+	public void incr();
+
+	/**
+	 * Increment the counter by the given value, without reading it first
+	 *
+	 * @param increment
+	 *            Value to add
+	 */
+	public void incr(Long increment);
+
+	/**
+	 * Decrement the counter by 1
+	 */
+	public void decr();
+
+	/**
+	 * Decrement the counter by the given value, without reading it first
+	 *
+	 * @param decrement
+	 *            Value to subtract
+	 */
+	public void decr(Long decrement);
+}
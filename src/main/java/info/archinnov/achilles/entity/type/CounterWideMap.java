@@ -0,0 +1,146 @@
+package info.archinnov.achilles.entity.type;
+
+import info.archinnov.achilles.entity.type.WideMap.BoundingMode;
+import info.archinnov.achilles.entity.type.WideMap.OrderingMode;
+
+import java.util.List;
+
+/**
+ * CounterWideMap
+ * 
+ * Wide map of counters, one counter per key
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public interface CounterWideMap<K>
+{
+	/**
+	 * Read the counter value of a key
+	 * 
+	 * @param key
+	 *            Search key. Can be a multi key
+	 * @return counter value, 0 if the counter has never been incremented
+	 */
+	public Long get(K key);
+
+	/**
+	 * Increment the counter of a key by 1
+	 * 
+	 * @param key
+	 *            Counter key. Can be a multi key
+	 */
+	public void incr(K key);
+
+	/**
+	 * Increment the counter of a key, without reading it first
+	 * 
+	 * @param key
+	 *            Counter key. Can be a multi key
+	 * @param delta
+	 *            Value to add
+	 */
+	public void incr(K key, Long delta);
+
+	/**
+	 * Decrement the counter of a key by 1
+	 * 
+	 * @param key
+	 *            Counter key. Can be a multi key
+	 */
+	public void decr(K key);
+
+	/**
+	 * Decrement the counter of a key, without reading it first
+	 * 
+	 * @param key
+	 *            Counter key. Can be a multi key
+	 * @param delta
+	 *            Value to subtract
+	 */
+	public void decr(K key, Long delta);
+
+	/**
+	 * Find a range of key/counter value, bounds inclusive
+	 * 
+	 * @param start
+	 *            Start key, inclusive
+	 * @param end
+	 *            End key, inclusive. Should be less than start key with respect to the default comparator
+	 * @param count
+	 *            Maximum number of key/counter value pairs to be fetched
+	 * @return List of key/counter value pairs
+	 */
+	public List<KeyValue<K, Long>> find(K start, K end, int count);
+
+	/**
+	 * Find a range of key/counter value, bounds inclusive, in reversed order
+	 * 
+	 * @param start
+	 *            Start key, inclusive
+	 * @param end
+	 *            End key, inclusive. Should be greater than start key with respect to the default comparator
+	 * @param count
+	 *            Maximum number of key/counter value pairs to be fetched
+	 * @return List of key/counter value pairs
+	 */
+	public List<KeyValue<K, Long>> findReverse(K start, K end, int count);
+
+	/**
+	 * Find a range of key/counter value
+	 * 
+	 * @param start
+	 *            Start key
+	 * @param end
+	 *            End key. Should be less/greater than start key depending on the ordering
+	 * @param count
+	 *            Maximum number of key/counter value pairs to be fetched
+	 * @param bounds
+	 *            Bounds specified mode
+	 * @param ordering
+	 *            Order specified mode
+	 * @return List of key/counter value pairs
+	 */
+	public List<KeyValue<K, Long>> find(K start, K end, int count, BoundingMode bounds,
+			OrderingMode ordering);
+
+	/**
+	 * Find a key/counter value iterator over all the keys. Start = null & end = null
+	 * 
+	 * Default count = 100;
+	 * 
+	 * @return KeyValue iterator
+	 */
+	public KeyValueIterator<K, Long> iterator();
+
+	/**
+	 * Find a key/counter value iterator, bounds inclusive
+	 * 
+	 * @param start
+	 *            Start key, inclusive
+	 * @param end
+	 *            End key, inclusive. Should be less than start key with respect to the default comparator
+	 * @param count
+	 *            size of the batch to be loaded by the iterator
+	 * @return KeyValue iterator
+	 */
+	public KeyValueIterator<K, Long> iterator(K start, K end, int count);
+
+	/**
+	 * Find a key/counter value iterator
+	 * 
+	 * @param start
+	 *            Start key
+	 * @param end
+	 *            End key. Should be less/greater than start key depending on the ordering
+	 * @param count
+	 *            size of the batch to be loaded by the iterator
+	 * @param bounds
+	 *            Bounds specified mode
+	 * @param ordering
+	 *            Order specified mode
+	 * @return KeyValue iterator
+	 */
+	public KeyValueIterator<K, Long> iterator(K start, K end, int count, BoundingMode bounds,
+			OrderingMode ordering);
+}
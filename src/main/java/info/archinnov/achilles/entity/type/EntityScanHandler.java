@@ -0,0 +1,22 @@
+package info.archinnov.achilles.entity.type;
+
+/**
+ * EntityScanHandler
+ * 
+ * Callback receiving the entities of a full column family scan
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public interface EntityScanHandler<T>
+{
+	/**
+	 * Handle a scanned entity. Called concurrently by the threads scanning the token ranges. The
+	 * next page of a token range is not fetched until this method returns for all the entities
+	 * of the current page
+	 * 
+	 * @param entity
+	 *            scanned entity, as a managed proxy
+	 */
+	public void onEntity(T entity);
+}
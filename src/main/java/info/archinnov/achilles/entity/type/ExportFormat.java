@@ -0,0 +1,33 @@
+package info.archinnov.achilles.entity.type;
+
+/**
+ * ExportFormat
+ *
+ * Format of the files written by a column family export
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public enum ExportFormat
+{
+	/**
+	 * Length-prefixed raw bytes of row keys and columns
+	 */
+	BINARY("bin"),
+
+	/**
+	 * One JSON object per row, keys, column names and values as hexadecimal strings
+	 */
+	JSON_LINES("json");
+
+	private String extension;
+
+	private ExportFormat(String extension) {
+		this.extension = extension;
+	}
+
+	public String getExtension()
+	{
+		return extension;
+	}
+}
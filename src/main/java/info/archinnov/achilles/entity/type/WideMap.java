@@ -491,8 +491,9 @@ public interface WideMap<K, V>
 	 *            Start key, inclusive
 	 * @param end
 	 *            End key, inclusive
+	 * @return number of removed key/value pairs
 	 */
-	public void remove(K start, K end);
+	public int remove(K start, K end);
 
 	/**
 	 * Remove a rang of key/value pairs, bounds exclusive
@@ -501,8 +502,9 @@ public interface WideMap<K, V>
 	 *            Start key, exclusive
 	 * @param end
 	 *            End key, exclusive
+	 * @return number of removed key/value pairs
 	 */
-	public void removeBoundsExclusive(K start, K end);
+	public int removeBoundsExclusive(K start, K end);
 
 	/**
 	 * Remove a rang of key/value pairs
@@ -513,26 +515,35 @@ public interface WideMap<K, V>
 	 *            End key, exclusive
 	 * @param bounds
 	 * 			  Bounds specified mode
+	 * @return number of removed key/value pairs
 	 */
-	public void remove(K start, K end, BoundingMode bounds);
+	public int remove(K start, K end, BoundingMode bounds);
 
 	/**
 	 * Remove the first key/value pair
+	 * 
+	 * @return number of removed key/value pairs
 	 */
-	public void removeFirst();
+	public int removeFirst();
 
 	/**
 	 * Remove the n first key/value pairs
+	 * 
+	 * @return number of removed key/value pairs
 	 */
-	public void removeFirst(int count);
+	public int removeFirst(int count);
 
 	/**
 	 * Remove the last key/value pair
+	 * 
+	 * @return number of removed key/value pairs
 	 */
-	public void removeLast();
+	public int removeLast();
 
 	/**
 	 * Remove the n last key/value pairs
+	 * 
+	 * @return number of removed key/value pairs
 	 */
-	public void removeLast(int count);
+	public int removeLast(int count);
 }
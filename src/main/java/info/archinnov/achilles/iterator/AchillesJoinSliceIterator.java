@@ -1,16 +1,17 @@
 package info.archinnov.achilles.iterator;
 
 import static info.archinnov.achilles.dao.AbstractDao.DEFAULT_LENGTH;
-import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.JoinEntityHelper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.iterator.SlicePrefetcher.PageLoader;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 
 import me.prettyprint.cassandra.service.ColumnSliceIterator.ColumnSliceFinish;
 import me.prettyprint.hector.api.beans.AbstractComposite;
@@ -39,6 +40,7 @@ public class AchillesJoinSliceIterator<K, N extends AbstractComposite, V, KEY, V
 	private int columns = 0;
 	private PropertyMeta<KEY, VALUE> propertyMeta;
 	private JoinEntityHelper joinHelper = new JoinEntityHelper();
+	private SlicePrefetcher<N, HColumn<N, VALUE>> prefetcher;
 
 	public AchillesJoinSliceIterator(PropertyMeta<KEY, VALUE> propertyMeta,
 			SliceQuery<K, N, V> query, N start, final N finish, boolean reversed)
@@ -79,9 +81,62 @@ public class AchillesJoinSliceIterator<K, N extends AbstractComposite, V, KEY, V
 		this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
 	}
 
+	/**
+	 * Fetch the next pages, along with their join entities, on the given executor while the
+	 * 
+	 * current page is consumed.
+	 * 
+	 * Should be called before the iteration starts
+	 * 
+	 * @param executor
+	 *            executor running the page queries
+	 * @param depth
+	 *            maximum number of pages fetched ahead of the current one
+	 * @return this iterator
+	 */
+	public AchillesJoinSliceIterator<K, N, V, KEY, VALUE> prefetch(ExecutorService executor,
+			int depth)
+	{
+		this.prefetcher = new SlicePrefetcher<N, HColumn<N, VALUE>>(executor, depth,
+				new PageLoader<N, HColumn<N, VALUE>>()
+				{
+					@Override
+					public List<HColumn<N, VALUE>> loadPage(N start)
+					{
+						if (start != null)
+						{
+							query.setRange(start, finish.function(), reversed, count);
+						}
+						return fetchPage();
+					}
+
+					@Override
+					public N nextStart(HColumn<N, VALUE> lastColumn)
+					{
+						N start = lastColumn.getNameSerializer().fromByteBuffer(
+								lastColumn.getNameBytes());
+						excludeStart(start);
+						return start;
+					}
+
+					@Override
+					public boolean isLastPage(List<HColumn<N, VALUE>> page)
+					{
+						// only need to do another query if maximum columns were retrieved
+						return page.size() < count;
+					}
+				});
+		return this;
+	}
+
 	@Override
 	public boolean hasNext()
 	{
+		if (prefetcher != null)
+		{
+			return hasNextPrefetched();
+		}
+
 		if (iterator == null)
 		{
 			loadEntities();
@@ -91,14 +146,7 @@ public class AchillesJoinSliceIterator<K, N extends AbstractComposite, V, KEY, V
 		{ // only need to do another query if maximum columns were retrieved
 
 			// Exclude start from the query because is has been already fetched
-			if (reversed)
-			{
-				start.setEquality(ComponentEquality.LESS_THAN_EQUAL);
-			}
-			else
-			{
-				start.setEquality(ComponentEquality.GREATER_THAN_EQUAL);
-			}
+			excludeStart(start);
 
 			query.setRange(start, finish.function(), reversed, count);
 			loadEntities();
@@ -108,12 +156,43 @@ public class AchillesJoinSliceIterator<K, N extends AbstractComposite, V, KEY, V
 		return iterator.hasNext();
 	}
 
-	@SuppressWarnings("unchecked")
+	private boolean hasNextPrefetched()
+	{
+		while (iterator == null || !iterator.hasNext())
+		{
+			List<HColumn<N, VALUE>> page = prefetcher.nextPage();
+			if (page == null)
+			{
+				return false;
+			}
+			iterator = page.iterator();
+		}
+		return true;
+	}
+
+	private void excludeStart(N name)
+	{
+		if (reversed)
+		{
+			name.setEquality(ComponentEquality.LESS_THAN_EQUAL);
+		}
+		else
+		{
+			name.setEquality(ComponentEquality.GREATER_THAN_EQUAL);
+		}
+	}
+
 	private void loadEntities()
+	{
+		iterator = fetchPage().iterator();
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<HColumn<N, VALUE>> fetchPage()
 	{
 		Iterator<HColumn<N, V>> iter = query.execute().get().getColumns().iterator();
 		List<V> joinIds = new ArrayList<V>();
-		Map<V, Pair<N, Integer>> hColumMap = new HashMap<V, Pair<N, Integer>>();
+		Map<V, HColumn<N, V>> hColumMap = new HashMap<V, HColumn<N, V>>();
 
 		while (iter.hasNext())
 		{
@@ -133,7 +212,7 @@ public class AchillesJoinSliceIterator<K, N extends AbstractComposite, V, KEY, V
 
 			}
 			joinIds.add(joinId);
-			hColumMap.put(joinId, new Pair<N, Integer>(hColumn.getName(), hColumn.getTtl()));
+			hColumMap.put(joinId, hColumn);
 		}
 		List<HColumn<N, VALUE>> joinedHColumns = new ArrayList<HColumn<N, VALUE>>();
 
@@ -145,18 +224,15 @@ public class AchillesJoinSliceIterator<K, N extends AbstractComposite, V, KEY, V
 
 			for (V joinId : joinIds)
 			{
-				Pair<N, Integer> pair = hColumMap.get(joinId);
-				N name = pair.left;
-				Integer ttl = pair.right;
-
-				HColumn<N, VALUE> joinedHColumn = new JoinHColumn<N, VALUE>();
+				// keep the serialized name so that prefetched pages can start after this column
+				HColumn<N, VALUE> joinedHColumn = new JoinHColumn<N, VALUE>(hColumMap.get(joinId));
 
-				joinedHColumn.setName(name).setValue(loadedEntities.get(joinId)).setTtl(ttl);
+				joinedHColumn.setValue(loadedEntities.get(joinId));
 				joinedHColumns.add(joinedHColumn);
 			}
 		}
 
-		iterator = joinedHColumns.iterator();
+		return joinedHColumns;
 	}
 
 	@Override
@@ -166,6 +242,10 @@ public class AchillesJoinSliceIterator<K, N extends AbstractComposite, V, KEY, V
 		start = column.getName();
 		columns++;
 
+		if (prefetcher != null)
+		{
+			prefetcher.prefetch();
+		}
 		return column;
 	}
 
@@ -10,8 +10,12 @@ package info.archinnov.achilles.iterator;
  */
 
 import static info.archinnov.achilles.dao.AbstractDao.DEFAULT_LENGTH;
+import info.archinnov.achilles.iterator.SlicePrefetcher.PageLoader;
 
+import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import me.prettyprint.hector.api.beans.AbstractComposite;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
@@ -28,7 +32,10 @@ public class AchillesSliceIterator<K, N extends AbstractComposite, V> implements
 	private ColumnSliceFinish<N> finish;
 	private boolean reversed;
 	private int count = DEFAULT_LENGTH;
+	private int nextCount = DEFAULT_LENGTH;
 	private int columns = 0;
+	private SlicePrefetcher<N, HColumn<N, V>> prefetcher;
+	private AdaptivePageSizer pageSizer;
 
 	public AchillesSliceIterator(SliceQuery<K, N, V> query, N start, final N finish,
 			boolean reversed)
@@ -64,37 +71,152 @@ public class AchillesSliceIterator<K, N extends AbstractComposite, V> implements
 		this.finish = finish;
 		this.reversed = reversed;
 		this.count = count;
+		this.nextCount = count;
 		this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
 	}
 
+	/**
+	 * Adapt the column count of each query to the size and latency of the previous page.
+	 * 
+	 * Should be called before the iteration starts
+	 * 
+	 * @param pageSizer
+	 *            page sizing strategy
+	 * @return this iterator
+	 */
+	public AchillesSliceIterator<K, N, V> adaptivePaging(AdaptivePageSizer pageSizer)
+	{
+		this.pageSizer = pageSizer;
+		this.count = pageSizer.initialCount(count);
+		this.nextCount = this.count;
+		this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
+		return this;
+	}
+
+	/**
+	 * Fetch the next pages on the given executor while the current page is consumed.
+	 * 
+	 * Should be called before the iteration starts
+	 * 
+	 * @param executor
+	 *            executor running the page queries
+	 * @param depth
+	 *            maximum number of pages fetched ahead of the current one
+	 * @return this iterator
+	 */
+	public AchillesSliceIterator<K, N, V> prefetch(ExecutorService executor, int depth)
+	{
+		this.prefetcher = new SlicePrefetcher<N, HColumn<N, V>>(executor, depth,
+				new PageLoader<N, HColumn<N, V>>()
+				{
+					@Override
+					public List<HColumn<N, V>> loadPage(N start)
+					{
+						if (start != null)
+						{
+							count = nextCount;
+							query.setRange(start, finish.function(), reversed, count);
+						}
+						return executeQuery();
+					}
+
+					@Override
+					public N nextStart(HColumn<N, V> lastColumn)
+					{
+						N start = lastColumn.getNameSerializer().fromByteBuffer(
+								lastColumn.getNameBytes());
+						excludeStart(start);
+						return start;
+					}
+
+					@Override
+					public boolean isLastPage(List<HColumn<N, V>> page)
+					{
+						// only need to do another query if maximum columns were retrieved
+						return page.size() < count;
+					}
+				});
+		return this;
+	}
+
 	@Override
 	public boolean hasNext()
 	{
+		if (prefetcher != null)
+		{
+			return hasNextPrefetched();
+		}
+
 		if (iterator == null)
 		{
-			iterator = query.execute().get().getColumns().iterator();
+			iterator = executeQuery().iterator();
 		}
 		else if (!iterator.hasNext() && columns == count)
 		{ // only need to do another query if maximum columns were retrieved
 
 			// Exclude start from the query because is has been already fetched
-			if (reversed)
-			{
-				start.setEquality(ComponentEquality.LESS_THAN_EQUAL);
-			}
-			else
-			{
-				start.setEquality(ComponentEquality.GREATER_THAN_EQUAL);
-			}
+			excludeStart(start);
 
+			count = nextCount;
 			query.setRange(start, finish.function(), reversed, count);
-			iterator = query.execute().get().getColumns().iterator();
+			iterator = executeQuery().iterator();
 			columns = 0;
 		}
 
 		return iterator.hasNext();
 	}
 
+	private List<HColumn<N, V>> executeQuery()
+	{
+		if (pageSizer == null)
+		{
+			return query.execute().get().getColumns();
+		}
+
+		long startTime = System.currentTimeMillis();
+		List<HColumn<N, V>> page = query.execute().get().getColumns();
+		long latency = System.currentTimeMillis() - startTime;
+
+		long pageBytes = 0;
+		for (HColumn<N, V> column : page)
+		{
+			pageBytes += remaining(column.getNameBytes()) + remaining(column.getValueBytes());
+		}
+		nextCount = pageSizer.nextCount(count, page.size(), pageBytes, latency);
+		return page;
+	}
+
+	private int remaining(ByteBuffer buffer)
+	{
+		return buffer == null ? 0 : buffer.remaining();
+	}
+
+	private boolean hasNextPrefetched()
+	{
+		while (iterator == null || !iterator.hasNext())
+		{
+			List<HColumn<N, V>> page = prefetcher.nextPage();
+			if (page == null)
+			{
+				return false;
+			}
+			iterator = page.iterator();
+		}
+		return true;
+	}
+
+	private void excludeStart(N name)
+	{
+		if (reversed)
+		{
+			name.setEquality(ComponentEquality.LESS_THAN_EQUAL);
+		}
+		else
+		{
+			name.setEquality(ComponentEquality.GREATER_THAN_EQUAL);
+		}
+	}
+
 	@Override
 	public HColumn<N, V> next()
 	{
@@ -102,6 +224,10 @@ public class AchillesSliceIterator<K, N extends AbstractComposite, V> implements
 		start = column.getName();
 		columns++;
 
+		if (prefetcher != null)
+		{
+			prefetcher.prefetch();
+		}
 		return column;
 	}
 
@@ -0,0 +1,119 @@
+package info.archinnov.achilles.iterator;
+
+import info.archinnov.achilles.validation.Validator;
+
+/**
+ * AdaptivePageSizer
+ *
+ * @author DuyHai DOAN
+ *
+ *         Compute the column count of the next slice query from the last fetched page, so that
+ *         pages weigh about <em>targetPageBytes</em>.
+ *
+ *         The count can at most double from one page to the next and is halved when a page takes
+ *         longer than <em>maxPageLatencyMillis</em> to fetch. It always stays between
+ *         <em>minCount</em> and <em>maxCount</em>.
+ *
+ *         Instances are immutable and can be shared between iterators
+ *
+ */
+public class AdaptivePageSizer
+{
+	public static final int DEFAULT_TARGET_PAGE_BYTES = 512 * 1024;
+	public static final int DEFAULT_MIN_COUNT = 10;
+	public static final int DEFAULT_MAX_COUNT = 10000;
+	public static final long DEFAULT_MAX_PAGE_LATENCY_MILLIS = 500;
+
+	private final int targetPageBytes;
+	private final int minCount;
+	private final int maxCount;
+	private final long maxPageLatencyMillis;
+
+	public AdaptivePageSizer() {
+		this(DEFAULT_TARGET_PAGE_BYTES, DEFAULT_MIN_COUNT, DEFAULT_MAX_COUNT,
+				DEFAULT_MAX_PAGE_LATENCY_MILLIS);
+	}
+
+	public AdaptivePageSizer(int targetPageBytes, int minCount, int maxCount,
+			long maxPageLatencyMillis) {
+		Validator.validateTrue(targetPageBytes > 0, "Target page bytes should be strictly positive");
+		Validator.validateTrue(minCount > 0, "Min count should be strictly positive");
+		Validator.validateTrue(maxCount >= minCount,
+				"Max count should be greater than or equal to min count");
+		Validator.validateTrue(maxPageLatencyMillis > 0,
+				"Max page latency should be strictly positive");
+
+		this.targetPageBytes = targetPageBytes;
+		this.minCount = minCount;
+		this.maxCount = maxCount;
+		this.maxPageLatencyMillis = maxPageLatencyMillis;
+	}
+
+	/**
+	 * Initial count, capped between min and max count
+	 *
+	 * @param requestedCount
+	 *            count requested by the caller
+	 * @return count for the first page
+	 */
+	public int initialCount(int requestedCount)
+	{
+		return cap(requestedCount);
+	}
+
+	/**
+	 * Count for the next page
+	 *
+	 * @param currentCount
+	 *            count requested for the last page
+	 * @param columns
+	 *            number of columns in the last page
+	 * @param pageBytes
+	 *            size in bytes of the last page
+	 * @param latencyMillis
+	 *            time spent fetching the last page
+	 * @return count for the next page
+	 */
+	public int nextCount(int currentCount, int columns, long pageBytes, long latencyMillis)
+	{
+		if (columns == 0)
+		{
+			return currentCount;
+		}
+
+		long bytesPerColumn = Math.max(1L, pageBytes / columns);
+		long nextCount = Math.min(targetPageBytes / bytesPerColumn, 2L * currentCount);
+
+		if (latencyMillis > maxPageLatencyMillis)
+		{
+			nextCount = Math.min(nextCount, currentCount / 2);
+		}
+
+		return cap(nextCount);
+	}
+
+	private int cap(long count)
+	{
+		return (int) Math.max(minCount, Math.min(maxCount, count));
+	}
+
+	public int getTargetPageBytes()
+	{
+		return targetPageBytes;
+	}
+
+	public int getMinCount()
+	{
+		return minCount;
+	}
+
+	public int getMaxCount()
+	{
+		return maxCount;
+	}
+
+	public long getMaxPageLatencyMillis()
+	{
+		return maxPageLatencyMillis;
+	}
+}
@@ -1,5 +1,6 @@
 package info.archinnov.achilles.iterator;
 
+import java.nio.ByteBuffer;
 import java.util.Iterator;
 import java.util.List;
 
@@ -18,13 +19,16 @@ public class CounterColumnSliceIterator<K, N> implements Iterator<HCounterColumn
 {
 
 	private static final int DEFAULT_COUNT = 100;
+	private static final int COUNTER_VALUE_BYTES = 8;
 	private SliceCounterQuery<K, N> query;
 	private Iterator<HCounterColumn<N>> iterator;
 	private N start;
 	private ColumnSliceFinish<N> finish;
 	private boolean reversed;
 	private int count = DEFAULT_COUNT;
+	private int nextCount = DEFAULT_COUNT;
 	private int columns = 0;
+	private AdaptivePageSizer pageSizer;
 
 	/**
 	 * Constructor
@@ -112,21 +116,41 @@ public class CounterColumnSliceIterator<K, N> implements Iterator<HCounterColumn
 		this.finish = finish;
 		this.reversed = reversed;
 		this.count = count;
+		this.nextCount = count;
 		this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
 	}
 
+	/**
+	 * Adapt the column count of each query to the size and latency of the previous page.
+	 * 
+	 * Should be called before the iteration starts
+	 * 
+	 * @param pageSizer
+	 *            page sizing strategy
+	 * @return this iterator
+	 */
+	public CounterColumnSliceIterator<K, N> adaptivePaging(AdaptivePageSizer pageSizer)
+	{
+		this.pageSizer = pageSizer;
+		this.count = pageSizer.initialCount(count);
+		this.nextCount = this.count;
+		this.query.setRange(this.start, this.finish.function(), this.reversed, this.count);
+		return this;
+	}
+
 	@Override
 	public boolean hasNext()
 	{
 		if (iterator == null)
 		{
-			iterator = query.execute().get().getColumns().iterator();
+			iterator = executeQuery().iterator();
 		}
 		else if (!iterator.hasNext() && columns == count)
 		{ // only need to do another query if maximum columns were retrieved
+			count = nextCount;
 			query.setRange(start, finish.function(), reversed, count);
 			columns = 0;
-			List<HCounterColumn<N>> list = query.execute().get().getColumns();
+			List<HCounterColumn<N>> list = executeQuery();
 			iterator = list.iterator();
 
 			if (iterator.hasNext())
@@ -145,6 +169,27 @@ public class CounterColumnSliceIterator<K, N> implements Iterator<HCounterColumn
 		return iterator.hasNext();
 	}
 
+	private List<HCounterColumn<N>> executeQuery()
+	{
+		if (pageSizer == null)
+		{
+			return query.execute().get().getColumns();
+		}
+
+		long startTime = System.currentTimeMillis();
+		List<HCounterColumn<N>> page = query.execute().get().getColumns();
+		long latency = System.currentTimeMillis() - startTime;
+
+		long pageBytes = 0;
+		for (HCounterColumn<N> column : page)
+		{
+			ByteBuffer nameBytes = column.getNameBytes();
+			pageBytes += (nameBytes == null ? 0 : nameBytes.remaining()) + COUNTER_VALUE_BYTES;
+		}
+		nextCount = pageSizer.nextCount(count, page.size(), pageBytes, latency);
+		return page;
+	}
+
 	@Override
 	public HCounterColumn<N> next()
 	{
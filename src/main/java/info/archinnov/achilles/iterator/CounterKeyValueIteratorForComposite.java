@@ -0,0 +1,82 @@
+package info.archinnov.achilles.iterator;
+
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.entity.type.KeyValueIterator;
+import info.archinnov.achilles.iterator.factory.KeyValueFactory;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.HCounterColumn;
+
+/**
+ * CounterKeyValueIteratorForComposite
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterKeyValueIteratorForComposite<K> implements KeyValueIterator<K, Long>
+{
+	private KeyValueFactory factory = new KeyValueFactory();
+	private Iterator<HCounterColumn<Composite>> counterSliceIterator;
+	private PropertyMeta<K, Long> wideMapMeta;
+
+	public CounterKeyValueIteratorForComposite(
+			Iterator<HCounterColumn<Composite>> counterSliceIterator,
+			PropertyMeta<K, Long> wideMapMeta)
+	{
+		this.counterSliceIterator = counterSliceIterator;
+		this.wideMapMeta = wideMapMeta;
+	}
+
+	@Override
+	public boolean hasNext()
+	{
+		return this.counterSliceIterator.hasNext();
+	}
+
+	@Override
+	public KeyValue<K, Long> next()
+	{
+		return factory.createCounterKeyValueForComposite(wideMapMeta, nextColumn());
+	}
+
+	@Override
+	public K nextKey()
+	{
+		return factory.createCounterKeyForComposite(wideMapMeta, nextColumn());
+	}
+
+	@Override
+	public Long nextValue()
+	{
+		return nextColumn().getValue();
+	}
+
+	/**
+	 * Counter columns cannot have a ttl, always 0
+	 */
+	@Override
+	public Integer nextTtl()
+	{
+		nextColumn();
+		return 0;
+	}
+
+	private HCounterColumn<Composite> nextColumn()
+	{
+		if (!this.counterSliceIterator.hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		return this.counterSliceIterator.next();
+	}
+
+	@Override
+	public void remove()
+	{
+		throw new UnsupportedOperationException("Remove from counter iterator is not supported");
+	}
+}
@@ -0,0 +1,148 @@
+package info.archinnov.achilles.iterator;
+
+import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
+import info.archinnov.achilles.dao.Pair;
+import info.archinnov.achilles.dao.TokenRangeHelper;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import me.prettyprint.hector.api.Serializer;
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+import org.apache.cassandra.thrift.Column;
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.thrift.KeySlice;
+import org.apache.cassandra.thrift.SlicePredicate;
+
+/**
+ * EagerTokenRangeIterator
+ *
+ * @author DuyHai DOAN
+ *
+ *         Iterate over the rows of a token range, with their eager properties columns. Rows are
+ *         fetched by pages of pageSize rows with range slice queries. A row having more eager
+ *         columns than the predicate count is read again with a paged single row query.
+ *
+ *         Range ghosts, rows deleted but not yet compacted, are skipped
+ *
+ */
+public class EagerTokenRangeIterator<K> implements
+		Iterator<Pair<K, List<Pair<DynamicComposite, Object>>>>
+{
+	private final GenericDynamicCompositeDao<K> dao;
+	private final TokenRangeHelper tokenHelper;
+	private final Serializer<K> keySerializer;
+	private final Serializer<DynamicComposite> columnNameSerializer;
+	private final Serializer<Object> valueSerializer;
+	private final SlicePredicate predicate;
+	private final int rowColumnLimit;
+	private final String endToken;
+	private final int pageSize;
+
+	private String startToken;
+	private boolean lastPage = false;
+	private String lastToken;
+	private LinkedList<KeySlice> rows = new LinkedList<KeySlice>();
+
+	public EagerTokenRangeIterator(GenericDynamicCompositeDao<K> dao,
+			TokenRangeHelper tokenHelper, Serializer<K> keySerializer,
+			Serializer<DynamicComposite> columnNameSerializer, Serializer<Object> valueSerializer,
+			SlicePredicate predicate, String startToken, String endToken, int pageSize)
+	{
+		this.dao = dao;
+		this.tokenHelper = tokenHelper;
+		this.keySerializer = keySerializer;
+		this.columnNameSerializer = columnNameSerializer;
+		this.valueSerializer = valueSerializer;
+		this.predicate = predicate;
+		this.rowColumnLimit = predicate.getSlice_range().getCount();
+		this.startToken = startToken;
+		this.endToken = endToken;
+		this.pageSize = pageSize;
+	}
+
+	@Override
+	public boolean hasNext()
+	{
+		while (rows.isEmpty() && !lastPage)
+		{
+			fetchPage();
+		}
+		return !rows.isEmpty();
+	}
+
+	@Override
+	public Pair<K, List<Pair<DynamicComposite, Object>>> next()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+
+		KeySlice row = rows.removeFirst();
+		K key = keySerializer.fromByteBuffer(row.bufferForKey().duplicate());
+		lastToken = tokenHelper.tokenOf(row.bufferForKey().duplicate());
+
+		List<Pair<DynamicComposite, Object>> columns;
+		if (row.getColumns().size() >= rowColumnLimit)
+		{
+			columns = dao.eagerFetchEntity(key);
+		}
+		else
+		{
+			columns = new ArrayList<Pair<DynamicComposite, Object>>(row.getColumns().size());
+			for (ColumnOrSuperColumn columnOrSuperColumn : row.getColumns())
+			{
+				Column column = columnOrSuperColumn.getColumn();
+				columns.add(new Pair<DynamicComposite, Object>(columnNameSerializer
+						.fromByteBuffer(column.bufferForName()), valueSerializer
+						.fromByteBuffer(column.bufferForValue())));
+			}
+		}
+		return new Pair<K, List<Pair<DynamicComposite, Object>>>(key, columns);
+	}
+
+	/**
+	 * Token of the last row returned by next(), null if no row has been returned yet. Scanning
+	 * again from this token, exclusive, resumes the iteration after this row
+	 */
+	public String getLastToken()
+	{
+		return lastToken;
+	}
+
+	@Override
+	public void remove()
+	{
+		throw new UnsupportedOperationException("Cannot remove rows from a token range iterator");
+	}
+
+	private void fetchPage()
+	{
+		List<KeySlice> page = tokenHelper.findRangeSlices(dao.getColumnFamily(), startToken,
+				endToken, predicate, pageSize);
+
+		if (page.size() < pageSize)
+		{
+			lastPage = true;
+		}
+		else
+		{
+			startToken = tokenHelper.tokenOf(page.get(page.size() - 1).bufferForKey().duplicate());
+			// start token = end token would mean the whole ring
+			lastPage = startToken.equals(endToken);
+		}
+
+		for (KeySlice row : page)
+		{
+			if (!row.getColumns().isEmpty())
+			{
+				rows.add(row);
+			}
+		}
+	}
+}
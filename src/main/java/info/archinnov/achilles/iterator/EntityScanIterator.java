@@ -0,0 +1,168 @@
+package info.archinnov.achilles.iterator;
+
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EntityScanIterator
+ *
+ * @author DuyHai DOAN
+ *
+ *         Iterator over the entities produced concurrently by token range scans. Entities go
+ *         through a bounded queue: a scanning thread blocks when the queue is full, until the
+ *         consumer catches up.
+ *
+ *         The first error of a range scan is rethrown by hasNext(). Closing the iterator before
+ *         the end releases the scanning threads
+ *
+ */
+public class EntityScanIterator<T> implements Iterator<T>, Closeable
+{
+	private static final Object END_OF_RANGE = new Object();
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private final BlockingQueue<Object> queue;
+	private final int rangeCount;
+	private int finishedRanges = 0;
+	private T next;
+	private volatile boolean closed = false;
+
+	public EntityScanIterator(int bufferSize, int rangeCount)
+	{
+		this.queue = new ArrayBlockingQueue<Object>(bufferSize);
+		this.rangeCount = rangeCount;
+	}
+
+	/**
+	 * Add an entity, waiting for the consumer if the buffer is full
+	 *
+	 * @return false if the iterator has been closed, meaning the scan should stop
+	 */
+	public boolean offer(T entity)
+	{
+		return enqueue(entity);
+	}
+
+	/**
+	 * Signal the end of a token range scan
+	 */
+	public void rangeDone()
+	{
+		enqueue(END_OF_RANGE);
+	}
+
+	/**
+	 * Signal the failure of a token range scan
+	 */
+	public void rangeFailed(Throwable failure)
+	{
+		enqueue(new ScanFailure(failure));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public boolean hasNext()
+	{
+		while (next == null && !closed && finishedRanges < rangeCount)
+		{
+			Object element;
+			try
+			{
+				element = queue.take();
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new AchillesException("Interrupted while waiting for scanned entities", e);
+			}
+
+			if (element == END_OF_RANGE)
+			{
+				finishedRanges++;
+			}
+			else if (element instanceof ScanFailure)
+			{
+				close();
+				Throwable cause = ((ScanFailure) element).cause;
+				if (cause instanceof RuntimeException)
+				{
+					throw (RuntimeException) cause;
+				}
+				throw new AchillesException("Error when scanning entities", cause);
+			}
+			else
+			{
+				next = (T) element;
+			}
+		}
+		return next != null;
+	}
+
+	@Override
+	public T next()
+	{
+		if (!hasNext())
+		{
+			throw new NoSuchElementException();
+		}
+		T entity = next;
+		next = null;
+		return entity;
+	}
+
+	@Override
+	public void remove()
+	{
+		throw new UnsupportedOperationException("Cannot remove entities from a scan iterator");
+	}
+
+	/**
+	 * Stop the scan. Scanning threads blocked on a full buffer return
+	 */
+	@Override
+	public void close()
+	{
+		closed = true;
+		queue.clear();
+	}
+
+	public boolean isClosed()
+	{
+		return closed;
+	}
+
+	private boolean enqueue(Object element)
+	{
+		try
+		{
+			while (!closed)
+			{
+				if (queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS))
+				{
+					return true;
+				}
+			}
+			return false;
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private static class ScanFailure
+	{
+		private final Throwable cause;
+
+		private ScanFailure(Throwable cause) {
+			this.cause = cause;
+		}
+	}
+}
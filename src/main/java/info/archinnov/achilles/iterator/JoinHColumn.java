@@ -17,6 +17,23 @@ public class JoinHColumn<N, V> implements HColumn<N, V>
 	private N name;
 	private V value;
 	private int ttl;
+	private Serializer<N> nameSerializer;
+	private ByteBuffer nameBytes;
+
+	public JoinHColumn() {}
+
+	/**
+	 * Join column keeping the name, serialized name and ttl of the fetched column
+	 * 
+	 * @param column
+	 *            column holding the join id
+	 */
+	public JoinHColumn(HColumn<N, ?> column) {
+		this.name = column.getName();
+		this.ttl = column.getTtl();
+		this.nameSerializer = column.getNameSerializer();
+		this.nameBytes = column.getNameBytes();
+	}
 
 	@Override
 	public HColumn<N, V> setName(N name)
@@ -53,7 +70,7 @@ public class JoinHColumn<N, V> implements HColumn<N, V>
 	@Override
 	public ByteBuffer getNameBytes()
 	{
-		return null;
+		return nameBytes == null ? null : nameBytes.duplicate();
 	}
 
 	@Override
@@ -87,6 +104,8 @@ public class JoinHColumn<N, V> implements HColumn<N, V>
 		this.name = null;
 		this.value = null;
 		this.ttl = 0;
+		this.nameSerializer = null;
+		this.nameBytes = null;
 		return this;
 	}
 
@@ -101,7 +120,7 @@ public class JoinHColumn<N, V> implements HColumn<N, V>
 	@Override
 	public Serializer<N> getNameSerializer()
 	{
-		return null;
+		return nameSerializer;
 	}
 
 	@Override
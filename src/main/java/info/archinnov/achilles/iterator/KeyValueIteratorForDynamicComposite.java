@@ -21,11 +21,11 @@ public class KeyValueIteratorForDynamicComposite<K, V> implements KeyValueIterat
 {
 	private KeyValueFactory factory = new KeyValueFactory();
 
-	private Iterator<HColumn<DynamicComposite, String>> achillesSliceIterator;
+	private Iterator<HColumn<DynamicComposite, Object>> achillesSliceIterator;
 	private PropertyMeta<K, V> wideMapMeta;
 
 	public KeyValueIteratorForDynamicComposite(
-			Iterator<HColumn<DynamicComposite, String>> columnSliceIterator,
+			Iterator<HColumn<DynamicComposite, Object>> columnSliceIterator,
 			PropertyMeta<K, V> wideMapMeta)
 	{
 		this.achillesSliceIterator = columnSliceIterator;
@@ -44,7 +44,7 @@ public class KeyValueIteratorForDynamicComposite<K, V> implements KeyValueIterat
 		KeyValue<K, V> keyValue = null;
 		if (this.achillesSliceIterator.hasNext())
 		{
-			HColumn<DynamicComposite, String> column = this.achillesSliceIterator.next();
+			HColumn<DynamicComposite, Object> column = this.achillesSliceIterator.next();
 
 			keyValue = factory.createKeyValueForDynamicComposite(wideMapMeta, column);
 		}
@@ -61,7 +61,7 @@ public class KeyValueIteratorForDynamicComposite<K, V> implements KeyValueIterat
 		K key = null;
 		if (this.achillesSliceIterator.hasNext())
 		{
-			HColumn<DynamicComposite, String> column = this.achillesSliceIterator.next();
+			HColumn<DynamicComposite, Object> column = this.achillesSliceIterator.next();
 			key = factory.createKeyForDynamicComposite(wideMapMeta, column);
 		}
 		else
@@ -77,7 +77,7 @@ public class KeyValueIteratorForDynamicComposite<K, V> implements KeyValueIterat
 		V value = null;
 		if (this.achillesSliceIterator.hasNext())
 		{
-			HColumn<DynamicComposite, String> column = this.achillesSliceIterator.next();
+			HColumn<DynamicComposite, Object> column = this.achillesSliceIterator.next();
 			value = factory.createValueForDynamicComposite(wideMapMeta, column);
 		}
 		else
@@ -93,7 +93,7 @@ public class KeyValueIteratorForDynamicComposite<K, V> implements KeyValueIterat
 		Integer ttl = null;
 		if (this.achillesSliceIterator.hasNext())
 		{
-			HColumn<DynamicComposite, String> column = this.achillesSliceIterator.next();
+			HColumn<DynamicComposite, Object> column = this.achillesSliceIterator.next();
 			ttl = factory.createTtlForDynamicComposite(column);
 		}
 		else
@@ -0,0 +1,159 @@
+package info.archinnov.achilles.iterator;
+
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.validation.Validator;
+
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import me.prettyprint.hector.api.beans.AbstractComposite;
+import me.prettyprint.hector.api.beans.HColumn;
+
+/**
+ * SlicePrefetcher
+ *
+ * @author DuyHai DOAN
+ *
+ *         Fetch the next pages of a column slice on a background executor while the current page
+ *         is consumed.
+ *
+ *         A page can only be requested once the previous one is fetched since its start is the
+ *         last column of the previous page. Pages are therefore loaded one after the other, at
+ *         most <em>depth</em> pages ahead of the consumer.
+ *
+ *         The start of the next page is a copy of the last column name, prepared on the
+ *         consuming thread, since that column may still be read by the consumer
+ *
+ */
+public class SlicePrefetcher<N extends AbstractComposite, C extends HColumn<N, ?>>
+{
+	private final ExecutorService executor;
+	private final int depth;
+	private final PageLoader<N, C> loader;
+
+	private final LinkedList<Future<List<C>>> pages = new LinkedList<Future<List<C>>>();
+	private Future<List<C>> lastRequested;
+	private boolean exhausted = false;
+
+	public SlicePrefetcher(ExecutorService executor, int depth, PageLoader<N, C> loader)
+	{
+		Validator.validateNotNull(executor, "Prefetch executor should not be null");
+		Validator.validateTrue(depth > 0, "Prefetch depth should be strictly positive");
+		this.executor = executor;
+		this.depth = depth;
+		this.loader = loader;
+	}
+
+	/**
+	 * Return the next page, waiting for it if it is not fetched yet, and request the following
+	 * pages in the background
+	 *
+	 * @return next page or null if the slice is exhausted
+	 */
+	public List<C> nextPage()
+	{
+		if (lastRequested == null)
+		{
+			request(null);
+		}
+
+		if (pages.isEmpty())
+		{
+			return null;
+		}
+
+		List<C> page = await(pages.removeFirst());
+		prefetch();
+		return page;
+	}
+
+	/**
+	 * Request as many pages as allowed by the prefetch depth, as long as the last requested page
+	 * is already fetched. Never blocks
+	 */
+	public void prefetch()
+	{
+		while (!exhausted && pages.size() < depth && lastRequested != null
+				&& lastRequested.isDone())
+		{
+			List<C> lastPage = await(lastRequested);
+			if (lastPage.isEmpty() || loader.isLastPage(lastPage))
+			{
+				exhausted = true;
+			}
+			else
+			{
+				request(loader.nextStart(lastPage.get(lastPage.size() - 1)));
+			}
+		}
+	}
+
+	private void request(final N start)
+	{
+		lastRequested = executor.submit(new Callable<List<C>>()
+		{
+			@Override
+			public List<C> call() throws Exception
+			{
+				return loader.loadPage(start);
+			}
+		});
+		pages.addLast(lastRequested);
+	}
+
+	private List<C> await(Future<List<C>> future)
+	{
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new AchillesException("Interrupted while waiting for a prefetched page", e);
+		}
+		catch (ExecutionException e)
+		{
+			if (e.getCause() instanceof RuntimeException)
+			{
+				throw (RuntimeException) e.getCause();
+			}
+			throw new AchillesException("Error when prefetching page", e.getCause());
+		}
+	}
+
+	public interface PageLoader<N, C>
+	{
+		/**
+		 * Load a page of columns, on the executor
+		 *
+		 * @param start
+		 *            start of the page returned by nextStart. Null for the first page
+		 * @return page of columns
+		 */
+		List<C> loadPage(N start);
+
+		/**
+		 * Prepare the start of the next page, on the consuming thread. The column itself should
+		 * not be modified
+		 * 
+		 * @param lastColumn
+		 *            last column of the previous page, to be excluded from the next page
+		 * @return start of the next page
+		 */
+		N nextStart(C lastColumn);
+
+		/**
+		 * Called once the page is loaded, before the next one is requested
+		 * 
+		 * @param page
+		 *            last loaded page
+		 * @return true if there is no need to load another page
+		 */
+		boolean isLastPage(List<C> page);
+	}
+}
@@ -6,6 +6,7 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.type.KeyValue;
 import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.beans.HCounterColumn;
 
 import com.google.common.base.Function;
 
@@ -114,16 +115,41 @@ public class CompositeTransformer
 
 	public <K, V> K buildKeyFromComposite(PropertyMeta<K, V> propertyMeta,
 			HColumn<Composite, ?> hColumn)
+	{
+		return buildKeyFromCompositeName(propertyMeta, hColumn.getName());
+	}
+
+	public <K, V> K buildKeyFromCompositeName(PropertyMeta<K, V> propertyMeta, Composite name)
 	{
 		K key;
 		if (propertyMeta.isSingleKey())
 		{
-			key = (K) hColumn.getName().get(0, propertyMeta.getKeySerializer());
+			key = (K) name.get(0, propertyMeta.getKeySerializer());
 		}
 		else
 		{
-			key = helper.buildMultiKeyForComposite(propertyMeta, hColumn.getName().getComponents());
+			key = helper.buildMultiKeyForComposite(propertyMeta, name.getComponents());
 		}
 		return key;
 	}
+
+	public <K, V> Function<HCounterColumn<Composite>, KeyValue<K, Long>> buildCounterKeyValueTransformer(
+			final PropertyMeta<K, V> propertyMeta)
+	{
+
+		return new Function<HCounterColumn<Composite>, KeyValue<K, Long>>()
+		{
+			public KeyValue<K, Long> apply(HCounterColumn<Composite> hColumn)
+			{
+				return buildCounterKeyValueFromComposite(propertyMeta, hColumn);
+			}
+		};
+	}
+
+	public <K, V> KeyValue<K, Long> buildCounterKeyValueFromComposite(
+			PropertyMeta<K, V> propertyMeta, HCounterColumn<Composite> hColumn)
+	{
+		K key = buildKeyFromCompositeName(propertyMeta, hColumn.getName());
+		return new KeyValue<K, Long>(key, hColumn.getValue());
+	}
 }
@@ -21,39 +21,39 @@ public class DynamicCompositeTransformer
 	private PropertyHelper helper = new PropertyHelper();
 	private EntityHelper entityHelper = new EntityHelper();
 
-	public <K, V> Function<HColumn<DynamicComposite, String>, K> buildKeyTransformer(
+	public <K, V> Function<HColumn<DynamicComposite, Object>, K> buildKeyTransformer(
 			final PropertyMeta<K, V> propertyMeta)
 	{
 
-		return new Function<HColumn<DynamicComposite, String>, K>()
+		return new Function<HColumn<DynamicComposite, Object>, K>()
 		{
-			public K apply(HColumn<DynamicComposite, String> hColumn)
+			public K apply(HColumn<DynamicComposite, Object> hColumn)
 			{
 				return buildKeyFromDynamicComposite(propertyMeta, hColumn);
 			}
 		};
 	}
 
-	public <K, V> Function<HColumn<DynamicComposite, String>, V> buildValueTransformer(
+	public <K, V> Function<HColumn<DynamicComposite, Object>, V> buildValueTransformer(
 			final PropertyMeta<K, V> propertyMeta)
 	{
 
-		return new Function<HColumn<DynamicComposite, String>, V>()
+		return new Function<HColumn<DynamicComposite, Object>, V>()
 		{
-			public V apply(HColumn<DynamicComposite, String> hColumn)
+			public V apply(HColumn<DynamicComposite, Object> hColumn)
 			{
 				return propertyMeta.getValueFromString(hColumn.getValue());
 			}
 		};
 	}
 
-	public <K, V> Function<HColumn<DynamicComposite, String>, Object> buildRawValueTransformer(
+	public <K, V> Function<HColumn<DynamicComposite, Object>, Object> buildRawValueTransformer(
 			final PropertyMeta<K, V> propertyMeta)
 	{
 
-		return new Function<HColumn<DynamicComposite, String>, Object>()
+		return new Function<HColumn<DynamicComposite, Object>, Object>()
 		{
-			public Object apply(HColumn<DynamicComposite, String> hColumn)
+			public Object apply(HColumn<DynamicComposite, Object> hColumn)
 			{
 				if (propertyMeta.type().isJoinColumn())
 				{
@@ -67,25 +67,25 @@ public class DynamicCompositeTransformer
 		};
 	}
 
-	public Function<HColumn<DynamicComposite, String>, Integer> buildTtlTransformer()
+	public Function<HColumn<DynamicComposite, Object>, Integer> buildTtlTransformer()
 	{
 
-		return new Function<HColumn<DynamicComposite, String>, Integer>()
+		return new Function<HColumn<DynamicComposite, Object>, Integer>()
 		{
-			public Integer apply(HColumn<DynamicComposite, String> hColumn)
+			public Integer apply(HColumn<DynamicComposite, Object> hColumn)
 			{
 				return hColumn.getTtl();
 			}
 		};
 	}
 
-	public <K, V> Function<HColumn<DynamicComposite, String>, KeyValue<K, V>> buildKeyValueTransformer(
+	public <K, V> Function<HColumn<DynamicComposite, Object>, KeyValue<K, V>> buildKeyValueTransformer(
 			final PropertyMeta<K, V> propertyMeta)
 	{
 
-		return new Function<HColumn<DynamicComposite, String>, KeyValue<K, V>>()
+		return new Function<HColumn<DynamicComposite, Object>, KeyValue<K, V>>()
 		{
-			public KeyValue<K, V> apply(HColumn<DynamicComposite, String> hColumn)
+			public KeyValue<K, V> apply(HColumn<DynamicComposite, Object> hColumn)
 			{
 				return buildKeyValueFromDynamicComposite(propertyMeta, hColumn);
 			}
@@ -93,7 +93,7 @@ public class DynamicCompositeTransformer
 	}
 
 	public <K, V> KeyValue<K, V> buildKeyValueFromDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			HColumn<DynamicComposite, String> hColumn)
+			HColumn<DynamicComposite, Object> hColumn)
 	{
 		K key = buildKeyFromDynamicComposite(propertyMeta, hColumn);
 		V value = this.buildValueFromDynamicComposite(propertyMeta, hColumn);
@@ -104,7 +104,7 @@ public class DynamicCompositeTransformer
 
 	@SuppressWarnings("unchecked")
 	public <K, V> V buildValueFromDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			HColumn<DynamicComposite, String> hColumn)
+			HColumn<DynamicComposite, Object> hColumn)
 	{
 		V value;
 		if (propertyMeta.isJoin())
@@ -120,7 +120,7 @@ public class DynamicCompositeTransformer
 	}
 
 	public <K, V> K buildKeyFromDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			HColumn<DynamicComposite, String> hColumn)
+			HColumn<DynamicComposite, Object> hColumn)
 	{
 		K key;
 		if (propertyMeta.isSingleKey())
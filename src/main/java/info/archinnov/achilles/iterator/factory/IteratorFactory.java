@@ -3,6 +3,7 @@ package info.archinnov.achilles.iterator.factory;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.type.KeyValueIterator;
 import info.archinnov.achilles.iterator.AchillesJoinSliceIterator;
+import info.archinnov.achilles.iterator.CounterKeyValueIteratorForComposite;
 import info.archinnov.achilles.iterator.KeyValueIteratorForComposite;
 import info.archinnov.achilles.iterator.KeyValueIteratorForDynamicComposite;
 
@@ -11,6 +12,7 @@ import java.util.Iterator;
 import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.beans.DynamicComposite;
 import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.beans.HCounterColumn;
 
 /**
  * IteratorFactory
@@ -26,8 +28,15 @@ public class IteratorFactory
 		return new KeyValueIteratorForComposite<K, V>(columnSliceIterator, propertyMeta);
 	}
 
+	public <K> KeyValueIterator<K, Long> createCounterKeyValueIteratorForComposite(
+			Iterator<HCounterColumn<Composite>> counterSliceIterator,
+			PropertyMeta<K, Long> propertyMeta)
+	{
+		return new CounterKeyValueIteratorForComposite<K>(counterSliceIterator, propertyMeta);
+	}
+
 	public <K, V> KeyValueIterator<K, V> createKeyValueIteratorForDynamicComposite(
-			Iterator<HColumn<DynamicComposite, String>> columnSliceIterator,
+			Iterator<HColumn<DynamicComposite, Object>> columnSliceIterator,
 			PropertyMeta<K, V> propertyMeta)
 	{
 		return new KeyValueIteratorForDynamicComposite<K, V>(columnSliceIterator, propertyMeta);
@@ -13,6 +13,7 @@ import java.util.Map;
 import me.prettyprint.hector.api.beans.Composite;
 import me.prettyprint.hector.api.beans.DynamicComposite;
 import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.beans.HCounterColumn;
 
 import com.google.common.collect.Lists;
 
@@ -31,30 +32,30 @@ public class KeyValueFactory
 
 	// Dynamic Composite
 	public <K, V> KeyValue<K, V> createKeyValueForDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			HColumn<DynamicComposite, String> hColumn)
+			HColumn<DynamicComposite, Object> hColumn)
 	{
 		return dynamicCompositeTransformer.buildKeyValueFromDynamicComposite(propertyMeta, hColumn);
 	}
 
 	public <K, V> K createKeyForDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			HColumn<DynamicComposite, String> hColumn)
+			HColumn<DynamicComposite, Object> hColumn)
 	{
 		return dynamicCompositeTransformer.buildKeyFromDynamicComposite(propertyMeta, hColumn);
 	}
 
 	public <K, V> V createValueForDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			HColumn<DynamicComposite, String> hColumn)
+			HColumn<DynamicComposite, Object> hColumn)
 	{
 		return dynamicCompositeTransformer.buildValueFromDynamicComposite(propertyMeta, hColumn);
 	}
 
-	public Integer createTtlForDynamicComposite(HColumn<DynamicComposite, String> hColumn)
+	public Integer createTtlForDynamicComposite(HColumn<DynamicComposite, Object> hColumn)
 	{
 		return hColumn.getTtl();
 	}
 
 	public <K, V> List<V> createValueListForDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			List<HColumn<DynamicComposite, String>> hColumns)
+			List<HColumn<DynamicComposite, Object>> hColumns)
 	{
 		return Lists.transform(hColumns,
 				dynamicCompositeTransformer.buildValueTransformer(propertyMeta));
@@ -66,7 +67,7 @@ public class KeyValueFactory
 			"rawtypes"
 	})
 	public <K, V> List<V> createJoinValueListForDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			List<HColumn<DynamicComposite, String>> hColumns)
+			List<HColumn<DynamicComposite, Object>> hColumns)
 	{
 		List<?> joinIds = Lists.transform(hColumns,
 				dynamicCompositeTransformer.buildRawValueTransformer(propertyMeta));
@@ -85,14 +86,14 @@ public class KeyValueFactory
 	}
 
 	public <K, V> List<K> createKeyListForDynamicComposite(PropertyMeta<K, V> propertyMeta,
-			List<HColumn<DynamicComposite, String>> hColumns)
+			List<HColumn<DynamicComposite, Object>> hColumns)
 	{
 		return Lists.transform(hColumns,
 				dynamicCompositeTransformer.buildKeyTransformer(propertyMeta));
 	}
 
 	public <K, V> List<KeyValue<K, V>> createKeyValueListForDynamicComposite(
-			PropertyMeta<K, V> propertyMeta, List<HColumn<DynamicComposite, String>> hColumns)
+			PropertyMeta<K, V> propertyMeta, List<HColumn<DynamicComposite, Object>> hColumns)
 	{
 		return Lists.transform(hColumns,
 				dynamicCompositeTransformer.buildKeyValueTransformer(propertyMeta));
@@ -104,7 +105,7 @@ public class KeyValueFactory
 			"rawtypes"
 	})
 	public <K, V> List<KeyValue<K, V>> createJoinKeyValueListForDynamicComposite(
-			PropertyMeta<K, V> propertyMeta, List<HColumn<DynamicComposite, String>> hColumns)
+			PropertyMeta<K, V> propertyMeta, List<HColumn<DynamicComposite, Object>> hColumns)
 	{
 		List<K> keys = Lists.transform(hColumns,
 				dynamicCompositeTransformer.buildKeyTransformer(propertyMeta));
@@ -222,4 +223,25 @@ public class KeyValueFactory
 		}
 		return result;
 	}
+
+	// Counter composite
+
+	public <K, V> KeyValue<K, Long> createCounterKeyValueForComposite(
+			PropertyMeta<K, V> propertyMeta, HCounterColumn<Composite> hColumn)
+	{
+		return compositeTransformer.buildCounterKeyValueFromComposite(propertyMeta, hColumn);
+	}
+
+	public <K, V> K createCounterKeyForComposite(PropertyMeta<K, V> propertyMeta,
+			HCounterColumn<Composite> hColumn)
+	{
+		return compositeTransformer.buildKeyFromCompositeName(propertyMeta, hColumn.getName());
+	}
+
+	public <K, V> List<KeyValue<K, Long>> createCounterKeyValueListForComposite(
+			PropertyMeta<K, V> propertyMeta, List<HCounterColumn<Composite>> hColumns)
+	{
+		return Lists.transform(hColumns,
+				compositeTransformer.buildCounterKeyValueTransformer(propertyMeta));
+	}
 }
@@ -0,0 +1,87 @@
+package info.archinnov.achilles.proxy;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import net.sf.cglib.proxy.CallbackFilter;
+
+/**
+ * EntityCallbackFilter
+ *
+ * @author DuyHai DOAN
+ *
+ *         Routes each method of an entity proxy class to its callback when the class is
+ *         generated. Id accessors, setters and getters needing interception go to the
+ *         interceptor, other public methods are dispatched directly to the target entity.
+ *
+ *         Two filters routing the same methods are equal, so that cglib reuses the proxy classes
+ *         of an entity parsed again, for example by another EntityManagerFactory
+ *
+ */
+public class EntityCallbackFilter implements CallbackFilter
+{
+	public static final int INTERCEPT = 0;
+	public static final int DISPATCH = 1;
+
+	private final Set<Method> interceptedMethods = new HashSet<Method>();
+
+	/**
+	 * @param dispatchEagerGetters
+	 *            dispatch eager simple getters directly, for proxies whose eager properties are
+	 *            all loaded
+	 */
+	public EntityCallbackFilter(EntityMeta<?> entityMeta, boolean dispatchEagerGetters) {
+		PropertyMeta<?, ?> idMeta = entityMeta.getIdMeta();
+		if (idMeta != null)
+		{
+			interceptedMethods.add(idMeta.getGetter());
+			interceptedMethods.add(idMeta.getSetter());
+		}
+		interceptedMethods.addAll(entityMeta.getSetterMetas().keySet());
+
+		for (Entry<Method, PropertyMeta<?, ?>> entry : entityMeta.getGetterMetas().entrySet())
+		{
+			if (!dispatchEagerGetters || entry.getValue().type() != PropertyType.SIMPLE)
+			{
+				interceptedMethods.add(entry.getKey());
+			}
+		}
+	}
+
+	@Override
+	public int accept(Method method)
+	{
+		if (!Modifier.isPublic(method.getModifiers()) || interceptedMethods.contains(method))
+		{
+			return INTERCEPT;
+		}
+		return DISPATCH;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return interceptedMethods.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj)
+		{
+			return true;
+		}
+		if (!(obj instanceof EntityCallbackFilter))
+		{
+			return false;
+		}
+		return interceptedMethods.equals(((EntityCallbackFilter) obj).interceptedMethods);
+	}
+}
@@ -0,0 +1,98 @@
+package info.archinnov.achilles.proxy;
+
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
+
+import java.lang.reflect.Method;
+
+import net.sf.cglib.proxy.Callback;
+import net.sf.cglib.proxy.Dispatcher;
+import net.sf.cglib.proxy.Enhancer;
+import net.sf.cglib.proxy.Factory;
+import net.sf.cglib.proxy.MethodInterceptor;
+import net.sf.cglib.proxy.MethodProxy;
+
+/**
+ * EntityProxyFactory
+ *
+ * @author DuyHai DOAN
+ *
+ *         Generates the proxy classes of an entity once and keeps a prototype instance of each
+ *         on the entity meta. New proxies are created from the prototype with
+ *         Factory.newInstance, without building an Enhancer nor looking up the generated class.
+ *
+ *         Methods are routed by an EntityCallbackFilter built from the entity meta. Proxies whose
+ *         eager properties are all loaded use a class dispatching eager simple getters directly to
+ *         the target; the other proxies use a class intercepting them so they can be loaded on
+ *         first access
+ *
+ */
+public class EntityProxyFactory
+{
+	/**
+	 * Callbacks of the prototypes, which are only used to create new proxies
+	 */
+	private static final MethodInterceptor PASS_THROUGH = new MethodInterceptor()
+	{
+		@Override
+		public Object intercept(Object obj, Method method, Object[] args, MethodProxy proxy)
+				throws Throwable
+		{
+			return proxy.invokeSuper(obj, args);
+		}
+	};
+
+	private static final Dispatcher NO_TARGET = new Dispatcher()
+	{
+		@Override
+		public Object loadObject() throws Exception
+		{
+			throw new IllegalStateException("Entity proxy prototypes have no target");
+		}
+	};
+
+	/**
+	 * Generate the proxy classes of the entity class and set their prototypes on the entity
+	 * meta, done at bootstrap
+	 */
+	public static void createPrototypes(Class<?> entityClass, EntityMeta<?> entityMeta)
+	{
+		entityMeta.setProxyPrototype(prototype(entityClass, entityMeta, true));
+		entityMeta.setUnloadedProxyPrototype(prototype(entityClass, entityMeta, false));
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> T newProxy(Class<T> entityClass, EntityMeta<?> entityMeta,
+			JpaEntityInterceptor<?, ?> interceptor)
+	{
+		boolean dispatchEagerGetters = interceptor.getUnloadedEagerGetters().isEmpty();
+		Factory prototype = dispatchEagerGetters ? entityMeta.getProxyPrototype() : entityMeta
+				.getUnloadedProxyPrototype();
+		if (prototype == null)
+		{
+			// entity meta not built by the EntityParser
+			prototype = prototype(entityClass, entityMeta, dispatchEagerGetters);
+		}
+
+		return (T) prototype.newInstance(new Callback[]
+		{
+				interceptor,
+				interceptor.getTargetDispatcher()
+		});
+	}
+
+	private static Factory prototype(Class<?> entityClass, EntityMeta<?> entityMeta,
+			boolean dispatchEagerGetters)
+	{
+		Enhancer enhancer = new Enhancer();
+		enhancer.setSuperclass(entityClass);
+		enhancer.setCallbackFilter(new EntityCallbackFilter(entityMeta, dispatchEagerGetters));
+		enhancer.setInterceptDuringConstruction(false);
+		enhancer.setCallbacks(new Callback[]
+		{
+				PASS_THROUGH,
+				NO_TARGET
+		});
+		return (Factory) enhancer.create();
+	}
+}
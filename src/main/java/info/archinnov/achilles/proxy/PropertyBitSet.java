@@ -0,0 +1,116 @@
+package info.archinnov.achilles.proxy;
+
+/**
+ * PropertyBitSet
+ *
+ * @author DuyHai DOAN
+ *
+ *         Set of property ordinals of a proxy, used for dirty and lazy loaded properties. The
+ *         first 64 ordinals are held in a single long, an array is allocated only for entities
+ *         with more properties
+ *
+ */
+public class PropertyBitSet
+{
+	private static final int WORD_SIZE = 64;
+
+	private long firstWord;
+	private final long[] nextWords;
+
+	public PropertyBitSet(int size) {
+		this.nextWords = size > WORD_SIZE ? new long[(size - 1) / WORD_SIZE] : null;
+	}
+
+	public void set(int ordinal)
+	{
+		if (ordinal < WORD_SIZE)
+		{
+			firstWord |= 1L << ordinal;
+		}
+		else
+		{
+			nextWords[ordinal / WORD_SIZE - 1] |= 1L << ordinal;
+		}
+	}
+
+	public void clear(int ordinal)
+	{
+		if (ordinal < WORD_SIZE)
+		{
+			firstWord &= ~(1L << ordinal);
+		}
+		else
+		{
+			nextWords[ordinal / WORD_SIZE - 1] &= ~(1L << ordinal);
+		}
+	}
+
+	public boolean get(int ordinal)
+	{
+		if (ordinal < WORD_SIZE)
+		{
+			return (firstWord & (1L << ordinal)) != 0;
+		}
+		return (nextWords[ordinal / WORD_SIZE - 1] & (1L << ordinal)) != 0;
+	}
+
+	/**
+	 * First ordinal set from the given one included, or -1 when there is none
+	 */
+	public int nextSetBit(int from)
+	{
+		int wordIndex = from / WORD_SIZE;
+		int wordCount = nextWords == null ? 1 : nextWords.length + 1;
+		if (wordIndex >= wordCount)
+		{
+			return -1;
+		}
+
+		long word = word(wordIndex) & (-1L << from);
+		while (word == 0)
+		{
+			wordIndex++;
+			if (wordIndex == wordCount)
+			{
+				return -1;
+			}
+			word = word(wordIndex);
+		}
+		return wordIndex * WORD_SIZE + Long.numberOfTrailingZeros(word);
+	}
+
+	public int cardinality()
+	{
+		int cardinality = Long.bitCount(firstWord);
+		if (nextWords != null)
+		{
+			for (long word : nextWords)
+			{
+				cardinality += Long.bitCount(word);
+			}
+		}
+		return cardinality;
+	}
+
+	public boolean isEmpty()
+	{
+		return nextSetBit(0) < 0;
+	}
+
+	public void clear()
+	{
+		firstWord = 0;
+		if (nextWords != null)
+		{
+			for (int i = 0; i < nextWords.length; i++)
+			{
+				nextWords[i] = 0;
+			}
+		}
+	}
+
+	private long word(int wordIndex)
+	{
+		return wordIndex == 0 ? firstWord : nextWords[wordIndex - 1];
+	}
+}
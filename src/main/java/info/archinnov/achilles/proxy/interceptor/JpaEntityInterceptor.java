@@ -3,6 +3,7 @@ package info.archinnov.achilles.proxy.interceptor;
 import info.archinnov.achilles.composite.factory.CompositeKeyFactory;
 import info.archinnov.achilles.composite.factory.DynamicCompositeKeyFactory;
 import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.dao.GenericCounterDao;
 import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -11,6 +12,9 @@ import info.archinnov.achilles.entity.operations.EntityPersister;
 import info.archinnov.achilles.helper.CompositeHelper;
 import info.archinnov.achilles.iterator.factory.IteratorFactory;
 import info.archinnov.achilles.iterator.factory.KeyValueFactory;
+import info.archinnov.achilles.proxy.PropertyBitSet;
+import info.archinnov.achilles.wrapper.builder.CounterWideMapWrapperBuilder;
+import info.archinnov.achilles.wrapper.builder.CounterWrapperBuilder;
 import info.archinnov.achilles.wrapper.builder.ExternalWideMapWrapperBuilder;
 import info.archinnov.achilles.wrapper.builder.JoinExternalWideMapWrapperBuilder;
 import info.archinnov.achilles.wrapper.builder.JoinWideMapWrapperBuilder;
@@ -25,6 +29,7 @@ import java.util.Map;
 import java.util.Set;
 
 import me.prettyprint.hector.api.mutation.Mutator;
+import net.sf.cglib.proxy.Dispatcher;
 import net.sf.cglib.proxy.MethodInterceptor;
 import net.sf.cglib.proxy.MethodProxy;
 
@@ -48,6 +53,7 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 
 	private GenericDynamicCompositeDao<ID> entityDao;
 	private GenericCompositeDao<ID, ?> columnFamilyDao;
+	private GenericCounterDao<ID> counterDao;
 	private Boolean directColumnFamilyMapping;
 
 	private T target;
@@ -56,11 +62,24 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 	private Method idSetter;
 	private Map<Method, PropertyMeta<?, ?>> getterMetas;
 	private Map<Method, PropertyMeta<?, ?>> setterMetas;
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-	private Set<Method> lazyLoaded;
+	private PropertyBitSet dirtyProperties;
+	private PropertyBitSet lazyLoaded;
+	private Set<Method> unloadedEagerGetters;
 	private Mutator<ID> mutator;
 	private Map<String, Mutator<?>> mutatorMap;
 
+	/**
+	 * Callback of the proxy methods not needing interception, see EntityCallbackFilter
+	 */
+	private final Dispatcher targetDispatcher = new Dispatcher()
+	{
+		@Override
+		public Object loadObject() throws Exception
+		{
+			return target;
+		}
+	};
+
 	@Override
 	public Object getTarget()
 	{
@@ -106,11 +125,11 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 	{
 		Object result;
 		PropertyMeta propertyMeta = this.getterMetas.get(method);
-		if (propertyMeta.type().isLazy() //
-				&& !this.lazyLoaded.contains(method))
+		if ((propertyMeta.type().isLazy() || this.unloadedEagerGetters.contains(method)) //
+				&& !this.lazyLoaded.get(propertyMeta.getOrdinal()))
 		{
 			this.loader.loadPropertyIntoObject(target, key, entityDao, propertyMeta);
-			this.lazyLoaded.add(method);
+			this.lazyLoaded.set(propertyMeta.getOrdinal());
 		}
 
 		switch (propertyMeta.type())
@@ -124,8 +143,7 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 			case JOIN_LIST:
 				List<?> list = (List<?>) proxy.invoke(target, args);
 				result = ListWrapperBuilder.builder(list) //
-						.dirtyMap(dirtyMap) //
-						.setter(propertyMeta.getSetter()) //
+						.dirtyProperties(dirtyProperties) //
 						.propertyMeta(propertyMeta) //
 						.helper(entityHelper) //
 						.build();
@@ -134,8 +152,7 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 			case LAZY_SET:
 			case JOIN_SET:
 				Set<?> set = (Set<?>) proxy.invoke(target, args);
-				result = SetWrapperBuilder.builder(set).dirtyMap(dirtyMap) //
-						.setter(propertyMeta.getSetter())//
+				result = SetWrapperBuilder.builder(set).dirtyProperties(dirtyProperties) //
 						.propertyMeta(propertyMeta) //
 						.helper(entityHelper) //
 						.build();
@@ -145,8 +162,7 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 			case JOIN_MAP:
 				Map<?, ?> map = (Map<?, ?>) proxy.invoke(target, args);
 				result = MapWrapperBuilder.builder(map)//
-						.dirtyMap(dirtyMap) //
-						.setter(propertyMeta.getSetter()) //
+						.dirtyProperties(dirtyProperties) //
 						.propertyMeta(propertyMeta) //
 						.helper(entityHelper) //
 						.build();
@@ -171,6 +187,12 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 			case EXTERNAL_JOIN_WIDE_MAP:
 				result = buildExternalJoinWideMapWrapper(propertyMeta);
 				break;
+			case COUNTER:
+				result = buildCounterWrapper(propertyMeta);
+				break;
+			case COUNTER_WIDE_MAP:
+				result = buildCounterWideMapWrapper(propertyMeta);
+				break;
 			default:
 				result = proxy.invoke(target, args);
 				break;
@@ -215,6 +237,31 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 				.build();
 	}
 
+	@SuppressWarnings("unchecked")
+	private <K> Object buildCounterWideMapWrapper(PropertyMeta<K, Long> propertyMeta)
+	{
+		return CounterWideMapWrapperBuilder
+				.builder(
+						key,
+						(GenericCompositeDao<ID, Long>) propertyMeta
+								.getExternalWideMapProperties().getExternalWideMapDao(),
+						propertyMeta) //
+				.interceptor(this) //
+				.compositeHelper(compositeHelper) //
+				.keyValueFactory(keyValueFactory) //
+				.iteratorFactory(iteratorFactory) //
+				.compositeKeyFactory(compositeKeyFactory) //
+				.build();
+	}
+
+	private Object buildCounterWrapper(PropertyMeta<?, ?> propertyMeta)
+	{
+		return CounterWrapperBuilder.builder(key, counterDao,
+				compositeKeyFactory.createForCounter(propertyMeta)) //
+				.interceptor(this) //
+				.build();
+	}
+
 	private <K extends Comparable<K>, V> Object buildWideMapWrapper(PropertyMeta<K, V> propertyMeta)
 	{
 		return WideMapWrapperBuilder.builder(key, entityDao, propertyMeta) //
@@ -266,27 +313,42 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 			case WIDE_MAP:
 			case JOIN_WIDE_MAP:
 			case EXTERNAL_WIDE_MAP:
+			case COUNTER_WIDE_MAP:
 				throw new UnsupportedOperationException(
 						"Cannot set value directly to a WideMap structure. Please call the getter first to get handle on the wrapper");
+			case COUNTER:
+				throw new UnsupportedOperationException(
+						"Cannot set value directly to a Counter. Please call the getter first to get handle on the wrapper");
 			default:
 
-				this.dirtyMap.put(method, propertyMeta);
+				this.dirtyProperties.set(propertyMeta.getOrdinal());
+				this.unloadedEagerGetters.remove(propertyMeta.getGetter());
 				result = proxy.invoke(target, args);
 		}
 
 		return result;
 	}
 
-	public Map<Method, PropertyMeta<?, ?>> getDirtyMap()
+	public Dispatcher getTargetDispatcher()
+	{
+		return targetDispatcher;
+	}
+
+	public PropertyBitSet getDirtyProperties()
 	{
-		return dirtyMap;
+		return dirtyProperties;
 	}
 
-	public Set<Method> getLazyLoaded()
+	public PropertyBitSet getLazyLoaded()
 	{
 		return lazyLoaded;
 	}
 
+	public Set<Method> getUnloadedEagerGetters()
+	{
+		return unloadedEagerGetters;
+	}
+
 	@Override
 	public ID getKey()
 	{
@@ -308,6 +370,11 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 		this.columnFamilyDao = columnFamilyDao;
 	}
 
+	void setCounterDao(GenericCounterDao<ID> counterDao)
+	{
+		this.counterDao = counterDao;
+	}
+
 	void setKey(ID key)
 	{
 		this.key = key;
@@ -333,16 +400,21 @@ public class JpaEntityInterceptor<ID, T> implements MethodInterceptor, AchillesI
 		this.setterMetas = setterMetas;
 	}
 
-	void setDirtyMap(Map<Method, PropertyMeta<?, ?>> dirtyMap)
+	void setDirtyProperties(PropertyBitSet dirtyProperties)
 	{
-		this.dirtyMap = dirtyMap;
+		this.dirtyProperties = dirtyProperties;
 	}
 
-	void setLazyLoaded(Set<Method> lazyLoaded)
+	void setLazyLoaded(PropertyBitSet lazyLoaded)
 	{
 		this.lazyLoaded = lazyLoaded;
 	}
 
+	void setUnloadedEagerGetters(Set<Method> unloadedEagerGetters)
+	{
+		this.unloadedEagerGetters = unloadedEagerGetters;
+	}
+
 	void setLoader(EntityLoader loader)
 	{
 		this.loader = loader;
@@ -2,12 +2,11 @@ package info.archinnov.achilles.proxy.interceptor;
 
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
-import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityLoader;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.validation.Validator;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -21,7 +20,8 @@ public class JpaEntityInterceptorBuilder<ID, T>
 {
 
 	private T target;
-	private Set<Method> lazyLoaded = new HashSet<Method>();
+	private PropertyBitSet lazyLoaded;
+	private Set<Method> unloadedEagerGetters = new HashSet<Method>();
 	private EntityMeta<ID> entityMeta;
 	private EntityHelper helper = new EntityHelper();
 	private EntityLoader loader = new EntityLoader();
@@ -39,12 +39,21 @@ public class JpaEntityInterceptorBuilder<ID, T>
 		this.target = entity;
 	}
 
-	public JpaEntityInterceptorBuilder<ID, T> lazyLoaded(Set<Method> lazyLoaded)
+	public JpaEntityInterceptorBuilder<ID, T> lazyLoaded(PropertyBitSet lazyLoaded)
 	{
 		this.lazyLoaded = lazyLoaded;
 		return this;
 	}
 
+	/**
+	 * Getters of eager properties not fetched with the entity, to be loaded on first access
+	 */
+	public JpaEntityInterceptorBuilder<ID, T> unloadedEagerGetters(Set<Method> unloadedEagerGetters)
+	{
+		this.unloadedEagerGetters = unloadedEagerGetters;
+		return this;
+	}
+
 	@SuppressWarnings("unchecked")
 	public JpaEntityInterceptor<ID, T> build()
 	{
@@ -69,6 +78,7 @@ public class JpaEntityInterceptorBuilder<ID, T>
 
 		}
 		Validator.validateNotNull(entityMeta.getIdMeta(), "Id metadata");
+		interceptor.setCounterDao(entityMeta.getCounterDao());
 
 		interceptor.setTarget(target);
 		interceptor.setGetterMetas(entityMeta.getGetterMetas());
@@ -78,12 +88,16 @@ public class JpaEntityInterceptorBuilder<ID, T>
 
 		if (this.lazyLoaded == null)
 		{
-			this.lazyLoaded = new HashSet<Method>();
+			this.lazyLoaded = new PropertyBitSet(entityMeta.getPropertyCount());
 		}
 		interceptor.setLazyLoaded(this.lazyLoaded);
-		interceptor.setDirtyMap(new HashMap<Method, PropertyMeta<?, ?>>());
-		interceptor.setKey((ID) helper
-				.getValueFromField(target, entityMeta.getIdMeta().getGetter()));
+		if (this.unloadedEagerGetters == null)
+		{
+			this.unloadedEagerGetters = new HashSet<Method>();
+		}
+		interceptor.setUnloadedEagerGetters(this.unloadedEagerGetters);
+		interceptor.setDirtyProperties(new PropertyBitSet(entityMeta.getPropertyCount()));
+		interceptor.setKey((ID) helper.getValueFromField(target, entityMeta.getIdMeta()));
 
 		interceptor.setLoader(loader);
 		return interceptor;
@@ -0,0 +1,105 @@
+package info.archinnov.achilles.serializer;
+
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+import org.xerial.snappy.Snappy;
+
+/**
+ * CompressedValue
+ *
+ * @author DuyHai DOAN
+ *
+ *         Snappy compressed form of a string or byte[] column value, written by
+ *         TypedValueSerializer behind its own type tag. The serializer uncompresses it on read, so
+ *         that entity loading sees the original string or byte[]
+ *
+ */
+public class CompressedValue
+{
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private final byte[] compressed;
+	private final boolean text;
+	private final int rawLength;
+
+	private CompressedValue(byte[] compressed, boolean text, int rawLength) {
+		this.compressed = compressed;
+		this.text = text;
+		this.rawLength = rawLength;
+	}
+
+	/**
+	 * Compress a string or byte[] value whose size reaches the threshold
+	 *
+	 * @return the CompressedValue, or the value itself when it is shorter than the threshold or
+	 *         does not shrink
+	 */
+	public static Object compressIfLarger(Object value, int threshold)
+	{
+		boolean text = value instanceof String;
+		byte[] raw;
+		if (text)
+		{
+			String string = (String) value;
+			// a char takes at most 3 UTF-8 bytes, skip the encoding of short strings
+			if (string.length() * 3L < threshold)
+			{
+				return value;
+			}
+			raw = string.getBytes(UTF_8);
+		}
+		else
+		{
+			raw = (byte[]) value;
+		}
+
+		if (raw.length < threshold)
+		{
+			return value;
+		}
+		try
+		{
+			byte[] compressed = Snappy.compress(raw);
+			return compressed.length < raw.length ? new CompressedValue(compressed, text,
+					raw.length) : value;
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot compress value", e);
+		}
+	}
+
+	static Object uncompress(ByteBuffer payload, boolean text)
+	{
+		byte[] compressed = new byte[payload.remaining()];
+		payload.duplicate().get(compressed);
+		try
+		{
+			byte[] raw = Snappy.uncompress(compressed);
+			return text ? new String(raw, UTF_8) : raw;
+		}
+		catch (IOException e)
+		{
+			throw new AchillesException("Cannot uncompress value", e);
+		}
+	}
+
+	public byte[] getCompressed()
+	{
+		return compressed;
+	}
+
+	public boolean isText()
+	{
+		return text;
+	}
+
+	public int getRawLength()
+	{
+		return rawLength;
+	}
+}
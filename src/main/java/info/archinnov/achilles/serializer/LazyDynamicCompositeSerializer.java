@@ -0,0 +1,36 @@
+package info.archinnov.achilles.serializer;
+
+import info.archinnov.achilles.composite.LazyDynamicComposite;
+
+import java.nio.ByteBuffer;
+
+import me.prettyprint.cassandra.serializers.DynamicCompositeSerializer;
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+/**
+ * LazyDynamicCompositeSerializer
+ *
+ * @author DuyHai DOAN
+ *
+ *         Dynamic composite serializer reading column names as LazyDynamicComposite
+ *
+ */
+public class LazyDynamicCompositeSerializer extends DynamicCompositeSerializer
+{
+	private static final LazyDynamicCompositeSerializer INSTANCE = new LazyDynamicCompositeSerializer();
+
+	public static LazyDynamicCompositeSerializer get()
+	{
+		return INSTANCE;
+	}
+
+	@Override
+	public DynamicComposite fromByteBuffer(ByteBuffer byteBuffer)
+	{
+		if (byteBuffer == null)
+		{
+			return null;
+		}
+		return new LazyDynamicComposite(byteBuffer);
+	}
+}
@@ -28,9 +28,11 @@ public class SerializerUtils
 	public static final TimeUUIDSerializer TIMEUUID_SRZ = TimeUUIDSerializer.get();
 	public static final CompositeSerializer COMPOSITE_SRZ = CompositeSerializer.get();
 	public static final DynamicCompositeSerializer DYNA_COMP_SRZ = DynamicCompositeSerializer.get();
+	public static final LazyDynamicCompositeSerializer LAZY_DYNA_COMP_SRZ = LazyDynamicCompositeSerializer.get();
 	public static final DateSerializer DATE_SRZ = DateSerializer.get();
 	public static final DoubleSerializer DOUBLE_SRZ = DoubleSerializer.get();
 	public static final ObjectSerializer OBJECT_SRZ = ObjectSerializer.get();
 	public static final BytesArraySerializer BYTE_SRZ = BytesArraySerializer.get();
 	public static final CharSerializer CHAR_SRZ = CharSerializer.get();
+	public static final TypedValueSerializer TYPED_VALUE_SRZ = TypedValueSerializer.get();
 }
@@ -0,0 +1,246 @@
+package info.archinnov.achilles.serializer;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.*;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.UUID;
+
+import me.prettyprint.cassandra.serializers.AbstractSerializer;
+import me.prettyprint.cassandra.serializers.BooleanSerializer;
+import me.prettyprint.cassandra.serializers.FloatSerializer;
+import me.prettyprint.hector.api.ddl.ComparatorType;
+
+import org.codehaus.jackson.map.ObjectMapper;
+
+/**
+ * TypedValueSerializer
+ *
+ * @author DuyHai DOAN
+ *
+ *         Serializer of the entity column family values.
+ *
+ *         Strings, including the JSON strings of complex values, are written as UTF-8 bytes.
+ *         Long, Integer, UUID, Boolean, Date, Double, Float and enum values are written with their
+ *         native Cassandra encoding, prefixed by [MARKER][VERSION][type tag]. A JSON or UTF-8
+ *         string never starts with the 0x00 marker, so values written before the native encoding
+ *         are still read as strings.
+ *
+ *         Enum values are read back as their name, left to PropertyMeta to convert. The byte[]
+ *         produced by binary ValueCodecs are stored with the same prefix, as well as the
+ *         CompressedValue of @Compressed properties, which are read back uncompressed.
+ *
+ *         With native encoding disabled, for column families still validating values as UTF-8,
+ *         non string values are written as JSON strings and byte[] or compressed values are
+ *         rejected
+ *
+ */
+public class TypedValueSerializer extends AbstractSerializer<Object>
+{
+	public static final byte MARKER = 0x00;
+	public static final byte VERSION = 0x01;
+
+	static final byte LONG_TAG = 'l';
+	static final byte INTEGER_TAG = 'j';
+	static final byte UUID_TAG = 'u';
+	static final byte BOOLEAN_TAG = 'c';
+	static final byte DATE_TAG = 'd';
+	static final byte DOUBLE_TAG = 'z';
+	static final byte FLOAT_TAG = 'f';
+	static final byte STRING_TAG = 's';
+	static final byte ENUM_TAG = 'e';
+	static final byte BYTES_TAG = 'b';
+	static final byte COMPRESSED_STRING_TAG = 'X';
+	static final byte COMPRESSED_BYTES_TAG = 'Y';
+
+	private static final TypedValueSerializer nativeInstance = new TypedValueSerializer(true);
+	private static final TypedValueSerializer jsonInstance = new TypedValueSerializer(false);
+
+	private final boolean nativeEncoding;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private TypedValueSerializer(boolean nativeEncoding) {
+		this.nativeEncoding = nativeEncoding;
+	}
+
+	public static TypedValueSerializer get()
+	{
+		return nativeInstance;
+	}
+
+	/**
+	 * Serializer writing only UTF-8 strings, non string values being converted to JSON
+	 */
+	public static TypedValueSerializer getJsonOnly()
+	{
+		return jsonInstance;
+	}
+
+	/**
+	 * Whether values of this class are written with their native encoding
+	 */
+	public static boolean isNativeType(Class<?> valueClass)
+	{
+		return valueClass == Long.class || valueClass == long.class
+				|| valueClass == Integer.class || valueClass == int.class
+				|| valueClass == UUID.class || valueClass == Boolean.class
+				|| valueClass == boolean.class || valueClass == Date.class
+				|| valueClass == Double.class || valueClass == double.class
+				|| valueClass == Float.class || valueClass == float.class || valueClass.isEnum();
+	}
+
+	@Override
+	public ByteBuffer toByteBuffer(Object value)
+	{
+		if (value == null)
+		{
+			return null;
+		}
+		if (value instanceof String)
+		{
+			String string = (String) value;
+			// escaped in both modes since values are read back the same way, the prefix being
+			// valid UTF-8
+			if (string.length() > 0 && string.charAt(0) == MARKER)
+			{
+				return encode(STRING_TAG, STRING_SRZ.toByteBuffer(string));
+			}
+			return STRING_SRZ.toByteBuffer(string);
+		}
+		if (!nativeEncoding)
+		{
+			if (value instanceof byte[] || value instanceof CompressedValue)
+			{
+				throw new IllegalArgumentException(
+						"Binary values cannot be written in a column family validating values as UTF8Type");
+			}
+			return STRING_SRZ.toByteBuffer(toJson(value));
+		}
+
+		if (value instanceof Long)
+		{
+			return encode(LONG_TAG, LONG_SRZ.toByteBuffer((Long) value));
+		}
+		else if (value instanceof Integer)
+		{
+			return encode(INTEGER_TAG, INT_SRZ.toByteBuffer((Integer) value));
+		}
+		else if (value instanceof UUID)
+		{
+			return encode(UUID_TAG, UUID_SRZ.toByteBuffer((UUID) value));
+		}
+		else if (value instanceof Boolean)
+		{
+			return encode(BOOLEAN_TAG, BooleanSerializer.get().toByteBuffer((Boolean) value));
+		}
+		else if (value instanceof Date)
+		{
+			return encode(DATE_TAG, DATE_SRZ.toByteBuffer((Date) value));
+		}
+		else if (value instanceof Double)
+		{
+			return encode(DOUBLE_TAG, DOUBLE_SRZ.toByteBuffer((Double) value));
+		}
+		else if (value instanceof Float)
+		{
+			return encode(FLOAT_TAG, FloatSerializer.get().toByteBuffer((Float) value));
+		}
+		else if (value instanceof Enum)
+		{
+			return encode(ENUM_TAG, STRING_SRZ.toByteBuffer(((Enum<?>) value).name()));
+		}
+		else if (value instanceof byte[])
+		{
+			return encode(BYTES_TAG, ByteBuffer.wrap((byte[]) value));
+		}
+		else if (value instanceof CompressedValue)
+		{
+			CompressedValue compressedValue = (CompressedValue) value;
+			return encode(compressedValue.isText() ? COMPRESSED_STRING_TAG : COMPRESSED_BYTES_TAG,
+					ByteBuffer.wrap(compressedValue.getCompressed()));
+		}
+		return STRING_SRZ.toByteBuffer(toJson(value));
+	}
+
+	@Override
+	public Object fromByteBuffer(ByteBuffer byteBuffer)
+	{
+		if (byteBuffer == null)
+		{
+			return null;
+		}
+		if (byteBuffer.remaining() < 3 || byteBuffer.get(byteBuffer.position()) != MARKER)
+		{
+			return STRING_SRZ.fromByteBuffer(byteBuffer);
+		}
+
+		ByteBuffer bytes = byteBuffer.duplicate();
+		bytes.get();
+		byte version = bytes.get();
+		if (version != VERSION)
+		{
+			throw new IllegalArgumentException("Unsupported typed value version " + version);
+		}
+		byte tag = bytes.get();
+		ByteBuffer payload = bytes.slice();
+		switch (tag)
+		{
+			case LONG_TAG:
+				return LONG_SRZ.fromByteBuffer(payload);
+			case INTEGER_TAG:
+				return INT_SRZ.fromByteBuffer(payload);
+			case UUID_TAG:
+				return UUID_SRZ.fromByteBuffer(payload);
+			case BOOLEAN_TAG:
+				return BooleanSerializer.get().fromByteBuffer(payload);
+			case DATE_TAG:
+				return DATE_SRZ.fromByteBuffer(payload);
+			case DOUBLE_TAG:
+				return DOUBLE_SRZ.fromByteBuffer(payload);
+			case FLOAT_TAG:
+				return FloatSerializer.get().fromByteBuffer(payload);
+			case STRING_TAG:
+			case ENUM_TAG:
+				return STRING_SRZ.fromByteBuffer(payload);
+			case BYTES_TAG:
+				return BYTE_SRZ.fromByteBuffer(payload);
+			case COMPRESSED_STRING_TAG:
+				return CompressedValue.uncompress(payload, true);
+			case COMPRESSED_BYTES_TAG:
+				return CompressedValue.uncompress(payload, false);
+			default:
+				throw new IllegalArgumentException("Unknown typed value tag '" + (char) tag + "'");
+		}
+	}
+
+	@Override
+	public ComparatorType getComparatorType()
+	{
+		return nativeEncoding ? ComparatorType.BYTESTYPE : ComparatorType.UTF8TYPE;
+	}
+
+	public boolean isNativeEncoding()
+	{
+		return nativeEncoding;
+	}
+
+	private ByteBuffer encode(byte tag, ByteBuffer payload)
+	{
+		ByteBuffer bytes = ByteBuffer.allocate(3 + payload.remaining());
+		bytes.put(MARKER).put(VERSION).put(tag).put(payload.duplicate());
+		bytes.flip();
+		return bytes;
+	}
+
+	private String toJson(Object value)
+	{
+		try
+		{
+			return objectMapper.writeValueAsString(value);
+		}
+		catch (Exception e)
+		{
+			throw new IllegalArgumentException("Cannot write value '" + value + "' as JSON", e);
+		}
+	}
+}
@@ -261,27 +261,27 @@ public abstract class AbstractWideMapWrapper<K, V> implements WideMap<K, V>
 	}
 
 	@Override
-	public void remove(K start, K end)
+	public int remove(K start, K end)
 	{
-		remove(start, end, BoundingMode.INCLUSIVE_BOUNDS);
+		return remove(start, end, BoundingMode.INCLUSIVE_BOUNDS);
 	}
 
 	@Override
-	public void removeBoundsExclusive(K start, K end)
+	public int removeBoundsExclusive(K start, K end)
 	{
-		remove(start, end, BoundingMode.EXCLUSIVE_BOUNDS);
+		return remove(start, end, BoundingMode.EXCLUSIVE_BOUNDS);
 	}
 
 	@Override
-	public void removeFirst()
+	public int removeFirst()
 	{
-		removeFirst(1);
+		return removeFirst(1);
 	}
 
 	@Override
-	public void removeLast()
+	public int removeLast()
 	{
-		removeLast(1);
+		return removeLast(1);
 	}
 
 	public AchillesInterceptor getInterceptor()
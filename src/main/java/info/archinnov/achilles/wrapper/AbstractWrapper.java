@@ -3,9 +3,7 @@ package info.archinnov.achilles.wrapper;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
-
-import java.lang.reflect.Method;
-import java.util.Map;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 
 /**
  * AbstractWrapper
@@ -15,24 +13,18 @@ import java.util.Map;
  */
 public abstract class AbstractWrapper<K, V>
 {
-	protected Map<Method, PropertyMeta<?, ?>> dirtyMap;
-	protected Method setter;
+	protected PropertyBitSet dirtyProperties;
 	protected PropertyMeta<K, V> propertyMeta;
 	protected EntityHelper helper;
 
-	public Map<Method, PropertyMeta<?, ?>> getDirtyMap()
-	{
-		return dirtyMap;
-	}
-
-	public void setDirtyMap(Map<Method, PropertyMeta<?, ?>> dirtyMap)
+	public PropertyBitSet getDirtyProperties()
 	{
-		this.dirtyMap = dirtyMap;
+		return dirtyProperties;
 	}
 
-	public void setSetter(Method setter)
+	public void setDirtyProperties(PropertyBitSet dirtyProperties)
 	{
-		this.setter = setter;
+		this.dirtyProperties = dirtyProperties;
 	}
 
 	public void setPropertyMeta(PropertyMeta<K, V> propertyMeta)
@@ -42,10 +34,7 @@ public abstract class AbstractWrapper<K, V>
 
 	protected void markDirty()
 	{
-		if (!dirtyMap.containsKey(this.setter))
-		{
-			dirtyMap.put(this.setter, this.propertyMeta);
-		}
+		dirtyProperties.set(this.propertyMeta.getOrdinal());
 	}
 
 	public void setHelper(EntityHelper helper)
@@ -66,8 +66,7 @@ public class CollectionWrapper<V> extends AbstractWrapper<Void, V> implements Co
     @Override
     public Iterator<V> iterator() {
         return builder(this.target.iterator()) //
-                .dirtyMap(dirtyMap) //
-                .setter(setter) //
+                .dirtyProperties(dirtyProperties) //
                 .propertyMeta(propertyMeta) //
                 .helper(helper) //
                 .build();
@@ -0,0 +1,191 @@
+package info.archinnov.achilles.wrapper;
+
+import info.archinnov.achilles.composite.factory.CompositeKeyFactory;
+import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.type.CounterWideMap;
+import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.entity.type.KeyValueIterator;
+import info.archinnov.achilles.entity.type.WideMap.BoundingMode;
+import info.archinnov.achilles.entity.type.WideMap.OrderingMode;
+import info.archinnov.achilles.helper.CompositeHelper;
+import info.archinnov.achilles.iterator.CounterColumnSliceIterator;
+import info.archinnov.achilles.iterator.factory.IteratorFactory;
+import info.archinnov.achilles.iterator.factory.KeyValueFactory;
+import info.archinnov.achilles.proxy.interceptor.AchillesInterceptor;
+
+import java.util.List;
+
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.HCounterColumn;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+/**
+ * CounterWideMapWrapper
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterWideMapWrapper<ID, K> implements CounterWideMap<K>
+{
+	private static final int DEFAULT_COUNT = 100;
+
+	private ID id;
+	private GenericCompositeDao<ID, Long> dao;
+	private PropertyMeta<K, Long> propertyMeta;
+	private AchillesInterceptor interceptor;
+	private CompositeHelper compositeHelper;
+	private KeyValueFactory keyValueFactory;
+	private IteratorFactory iteratorFactory;
+	private CompositeKeyFactory compositeKeyFactory;
+
+	@Override
+	public Long get(K key)
+	{
+		return dao.getCounterValue(id, buildComposite(key));
+	}
+
+	@Override
+	public void incr(K key)
+	{
+		incr(key, 1L);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void incr(K key, Long delta)
+	{
+		if (interceptor.isBatchMode())
+		{
+			dao.incrementCounterBatch(id, buildComposite(key), delta,
+					(Mutator<ID>) interceptor.getMutator());
+		}
+		else
+		{
+			dao.incrementCounter(id, buildComposite(key), delta);
+		}
+	}
+
+	@Override
+	public void decr(K key)
+	{
+		decr(key, 1L);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void decr(K key, Long delta)
+	{
+		if (interceptor.isBatchMode())
+		{
+			dao.decrementCounterBatch(id, buildComposite(key), delta,
+					(Mutator<ID>) interceptor.getMutator());
+		}
+		else
+		{
+			dao.decrementCounter(id, buildComposite(key), delta);
+		}
+	}
+
+	@Override
+	public List<KeyValue<K, Long>> find(K start, K end, int count)
+	{
+		return find(start, end, count, BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.ASCENDING);
+	}
+
+	@Override
+	public List<KeyValue<K, Long>> findReverse(K start, K end, int count)
+	{
+		return find(start, end, count, BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.DESCENDING);
+	}
+
+	@Override
+	public List<KeyValue<K, Long>> find(K start, K end, int count, BoundingMode bounds,
+			OrderingMode ordering)
+	{
+		compositeHelper.checkBounds(propertyMeta, start, end, ordering);
+
+		Composite[] composites = compositeKeyFactory.createForQuery(propertyMeta, start, end,
+				bounds, ordering);
+
+		List<HCounterColumn<Composite>> hColumns = dao.findCounterColumnsRange(id,
+				composites[0], composites[1], ordering.asBoolean(), count);
+
+		return keyValueFactory.createCounterKeyValueListForComposite(propertyMeta, hColumns);
+	}
+
+	@Override
+	public KeyValueIterator<K, Long> iterator()
+	{
+		return iterator(null, null, DEFAULT_COUNT, BoundingMode.INCLUSIVE_BOUNDS,
+				OrderingMode.ASCENDING);
+	}
+
+	@Override
+	public KeyValueIterator<K, Long> iterator(K start, K end, int count)
+	{
+		return iterator(start, end, count, BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.ASCENDING);
+	}
+
+	@Override
+	public KeyValueIterator<K, Long> iterator(K start, K end, int count, BoundingMode bounds,
+			OrderingMode ordering)
+	{
+		compositeHelper.checkBounds(propertyMeta, start, end, ordering);
+
+		Composite[] composites = compositeKeyFactory.createForQuery(propertyMeta, start, end,
+				bounds, ordering);
+
+		CounterColumnSliceIterator<ID, Composite> counterSliceIterator = dao
+				.getCounterColumnsIterator(id, composites[0], composites[1],
+						ordering.asBoolean(), count);
+
+		return iteratorFactory.createCounterKeyValueIteratorForComposite(counterSliceIterator,
+				propertyMeta);
+	}
+
+	private Composite buildComposite(K key)
+	{
+		return compositeKeyFactory.createBaseComposite(propertyMeta, key);
+	}
+
+	public void setId(ID id)
+	{
+		this.id = id;
+	}
+
+	public void setDao(GenericCompositeDao<ID, Long> dao)
+	{
+		this.dao = dao;
+	}
+
+	public void setWideMapMeta(PropertyMeta<K, Long> wideMapMeta)
+	{
+		this.propertyMeta = wideMapMeta;
+	}
+
+	public void setInterceptor(AchillesInterceptor interceptor)
+	{
+		this.interceptor = interceptor;
+	}
+
+	public void setCompositeHelper(CompositeHelper compositeHelper)
+	{
+		this.compositeHelper = compositeHelper;
+	}
+
+	public void setKeyValueFactory(KeyValueFactory keyValueFactory)
+	{
+		this.keyValueFactory = keyValueFactory;
+	}
+
+	public void setIteratorFactory(IteratorFactory iteratorFactory)
+	{
+		this.iteratorFactory = iteratorFactory;
+	}
+
+	public void setCompositeKeyFactory(CompositeKeyFactory compositeKeyFactory)
+	{
+		this.compositeKeyFactory = compositeKeyFactory;
+	}
+}
@@ -0,0 +1,90 @@
+package info.archinnov.achilles.wrapper;
+
+import info.archinnov.achilles.dao.GenericCounterDao;
+import info.archinnov.achilles.entity.type.Counter;
+import info.archinnov.achilles.proxy.interceptor.AchillesInterceptor;
+
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+/**
+ * CounterWrapper
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterWrapper<ID> implements Counter
+{
+	private ID id;
+	private GenericCounterDao<ID> dao;
+	private Composite columnName;
+	private AchillesInterceptor interceptor;
+
+	@Override
+	public Long get()
+	{
+		return dao.getCounterValue(id, columnName);
+	}
+
+	@Override
+	public void incr()
+	{
+		incr(1L);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void incr(Long increment)
+	{
+		if (interceptor.isBatchMode())
+		{
+			dao.incrementCounterBatch(id, columnName, increment,
+					(Mutator<ID>) interceptor.getMutator());
+		}
+		else
+		{
+			dao.incrementCounter(id, columnName, increment);
+		}
+	}
+
+	@Override
+	public void decr()
+	{
+		decr(1L);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public void decr(Long decrement)
+	{
+		if (interceptor.isBatchMode())
+		{
+			dao.decrementCounterBatch(id, columnName, decrement,
+					(Mutator<ID>) interceptor.getMutator());
+		}
+		else
+		{
+			dao.decrementCounter(id, columnName, decrement);
+		}
+	}
+
+	public void setId(ID id)
+	{
+		this.id = id;
+	}
+
+	public void setDao(GenericCounterDao<ID> dao)
+	{
+		this.dao = dao;
+	}
+
+	public void setColumnName(Composite columnName)
+	{
+		this.columnName = columnName;
+	}
+
+	public void setInterceptor(AchillesInterceptor interceptor)
+	{
+		this.interceptor = interceptor;
+	}
+}
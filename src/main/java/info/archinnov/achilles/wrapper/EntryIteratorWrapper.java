@@ -32,8 +32,7 @@ public class EntryIteratorWrapper<K, V> extends AbstractWrapper<K, V> implements
 	{
 		Entry<K, V> entry = this.target.next();
 		return builder(entry) //
-				.dirtyMap(dirtyMap) //
-				.setter(setter) //
+				.dirtyProperties(dirtyProperties) //
 				.propertyMeta(propertyMeta) //
 				.helper(helper) //
 				.build();
@@ -65,8 +65,7 @@ public class EntrySetWrapper<K, V> extends AbstractWrapper<K, V> implements Set<
 	public Iterator<Entry<K, V>> iterator()
 	{
 		return builder(this.target.iterator()) //
-				.dirtyMap(dirtyMap) //
-				.setter(setter) //
+				.dirtyProperties(dirtyProperties) //
 				.propertyMeta(propertyMeta) //
 				.helper(helper) //
 				.build();
@@ -121,8 +120,7 @@ public class EntrySetWrapper<K, V> extends AbstractWrapper<K, V> implements Set<
 			for (Map.Entry<K, V> entry : this.target)
 			{
 				array[i] = builder(entry) //
-						.dirtyMap(dirtyMap) //
-						.setter(setter) //
+						.dirtyProperties(dirtyProperties) //
 						.propertyMeta(propertyMeta) //
 						.helper(helper) //
 						.build();
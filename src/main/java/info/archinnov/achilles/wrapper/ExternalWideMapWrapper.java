@@ -144,25 +144,25 @@ public class ExternalWideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K,
 	}
 
 	@Override
-	public void remove(K start, K end, BoundingMode bounds)
+	public int remove(K start, K end, BoundingMode bounds)
 	{
 		compositeHelper.checkBounds(propertyMeta, start, end, OrderingMode.ASCENDING);
 		Composite[] composites = compositeKeyFactory.createForQuery(propertyMeta, start, end,
 				bounds, OrderingMode.ASCENDING);
-		dao.removeColumnRange(id, composites[0], composites[1]);
+		return dao.removeColumnRange(id, composites[0], composites[1]);
 	}
 
 	@Override
-	public void removeFirst(int count)
+	public int removeFirst(int count)
 	{
-		dao.removeColumnRange(id, null, null, false, count);
+		return dao.removeColumnRange(id, null, null, false, count);
 
 	}
 
 	@Override
-	public void removeLast(int count)
+	public int removeLast(int count)
 	{
-		dao.removeColumnRange(id, null, null, true, count);
+		return dao.removeColumnRange(id, null, null, true, count);
 	}
 
 	public void setId(ID id)
@@ -173,28 +173,28 @@ public class JoinExternalWideMapWrapper<ID, JOIN_ID, K, V> extends AbstractWideM
 	}
 
 	@Override
-	public void remove(K start, K end, BoundingMode bounds)
+	public int remove(K start, K end, BoundingMode bounds)
 	{
 		compositeHelper.checkBounds(propertyMeta, start, end, OrderingMode.ASCENDING);
 
 		Composite[] queryComps = compositeKeyFactory.createForQuery(//
 				propertyMeta, start, end, bounds, OrderingMode.ASCENDING);
 
-		dao.removeColumnRange(id, queryComps[0], queryComps[1]);
+		return dao.removeColumnRange(id, queryComps[0], queryComps[1]);
 
 	}
 
 	@Override
-	public void removeFirst(int count)
+	public int removeFirst(int count)
 	{
-		dao.removeColumnRange(id, null, null, false, count);
+		return dao.removeColumnRange(id, null, null, false, count);
 
 	}
 
 	@Override
-	public void removeLast(int count)
+	public int removeLast(int count)
 	{
-		dao.removeColumnRange(id, null, null, true, count);
+		return dao.removeColumnRange(id, null, null, true, count);
 	}
 
 	private Object persistOrEnsureJoinEntityExists(V value)
@@ -21,7 +21,7 @@ public class JoinWideMapWrapper<ID, K, V> extends WideMapWrapper<ID, K, V> {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     @Override
     public V get(K key) {
-        String joinId = entityDao.getValue(id, buildComposite(key));
+        Object joinId = entityDao.getValue(id, buildComposite(key));
         if (joinId != null) {
             EntityMeta<?> joinMeta = propertyMeta.joinMeta();
             PropertyMeta<Void, ?> joinIdMeta = propertyMeta.joinIdMeta();
@@ -40,10 +40,10 @@ public class JoinWideMapWrapper<ID, K, V> extends WideMapWrapper<ID, K, V> {
         Object joinId = persistOrEnsureJoinEntityExists(value);
         PropertyMeta<Void, ?> joinIdMeta = propertyMeta.joinIdMeta();
         if (this.interceptor.isBatchMode()) {
-            entityDao.setValueBatch(id, buildComposite(key), joinIdMeta.writeValueToString(joinId), ttl,
+            entityDao.setValueBatch(id, buildComposite(key), joinIdMeta.writeValue(joinId), ttl,
                     (Mutator<ID>) interceptor.getMutator());
         } else {
-            entityDao.setValue(id, buildComposite(key), joinIdMeta.writeValueToString(joinId), ttl);
+            entityDao.setValue(id, buildComposite(key), joinIdMeta.writeValue(joinId), ttl);
         }
     }
 
@@ -53,10 +53,10 @@ public class JoinWideMapWrapper<ID, K, V> extends WideMapWrapper<ID, K, V> {
         Object joinId = persistOrEnsureJoinEntityExists(value);
         PropertyMeta<Void, ?> joinIdMeta = propertyMeta.joinIdMeta();
         if (this.interceptor.isBatchMode()) {
-            entityDao.setValueBatch(id, buildComposite(key), joinIdMeta.writeValueToString(joinId),
+            entityDao.setValueBatch(id, buildComposite(key), joinIdMeta.writeValue(joinId),
                     (Mutator<ID>) interceptor.getMutator());
         } else {
-            entityDao.setValue(id, buildComposite(key), joinIdMeta.writeValueToString(joinId));
+            entityDao.setValue(id, buildComposite(key), joinIdMeta.writeValue(joinId));
         }
     }
 
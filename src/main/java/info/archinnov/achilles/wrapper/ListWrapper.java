@@ -71,8 +71,7 @@ public class ListWrapper<V> extends CollectionWrapper<V> implements List<V>
 		ListIterator<V> target = ((List<V>) super.target).listIterator();
 
 		return builder(target) //
-				.dirtyMap(dirtyMap) //
-				.setter(setter) //
+				.dirtyProperties(dirtyProperties) //
 				.propertyMeta(propertyMeta) //
 				.helper(helper) //
 				.build();
@@ -84,8 +83,7 @@ public class ListWrapper<V> extends CollectionWrapper<V> implements List<V>
 		ListIterator<V> target = ((List<V>) super.target).listIterator(arg0);
 
 		return builder(target) //
-				.dirtyMap(dirtyMap) //
-				.setter(setter) //
+				.dirtyProperties(dirtyProperties) //
 				.propertyMeta(propertyMeta) //
 				.helper(helper) //
 				.build();
@@ -113,8 +111,7 @@ public class ListWrapper<V> extends CollectionWrapper<V> implements List<V>
 		List<V> target = ((List<V>) super.target).subList(arg0, arg1);
 
 		return builder(target) //
-				.dirtyMap(dirtyMap) //
-				.setter(setter) //
+				.dirtyProperties(dirtyProperties) //
 				.propertyMeta(propertyMeta) //
 				.helper(helper) //
 				.build();
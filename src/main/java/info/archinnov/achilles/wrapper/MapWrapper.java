@@ -51,8 +51,7 @@ public class MapWrapper<K, V> extends AbstractWrapper<K, V> implements Map<K, V>
     public Set<java.util.Map.Entry<K, V>> entrySet() {
         Set<Entry<K, V>> targetEntrySet = this.target.entrySet();
         if (targetEntrySet.size() > 0) {
-            EntrySetWrapper<K, V> wrapperSet = builder(targetEntrySet).dirtyMap(dirtyMap) //
-                    .setter(setter) //
+            EntrySetWrapper<K, V> wrapperSet = builder(targetEntrySet).dirtyProperties(dirtyProperties) //
                     .propertyMeta(propertyMeta) //
                     .helper(helper) //
                     .build();
@@ -81,8 +80,7 @@ public class MapWrapper<K, V> extends AbstractWrapper<K, V> implements Map<K, V>
         Set<K> keySet = this.target.keySet();
         if (keySet.size() > 0) {
             KeySetWrapper<K> keySetWrapper = builder(keySet) //
-                    .dirtyMap(dirtyMap) //
-                    .setter(setter) //
+                    .dirtyProperties(dirtyProperties) //
                     .propertyMeta((PropertyMeta) propertyMeta) //
                     .helper(helper) //
                     .build();
@@ -129,8 +127,7 @@ public class MapWrapper<K, V> extends AbstractWrapper<K, V> implements Map<K, V>
 
         if (values.size() > 0) {
             ValueCollectionWrapper<V> collectionWrapper = builder(values) //
-                    .dirtyMap(dirtyMap) //
-                    .setter(setter) //
+                    .dirtyProperties(dirtyProperties) //
                     .propertyMeta((PropertyMeta) propertyMeta) //
                     .helper(helper) //
                     .build();
@@ -59,13 +59,13 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 		if (this.interceptor.isBatchMode())
 		{
 			entityDao.setValueBatch(id, buildComposite(key),
-					propertyMeta.writeValueToString(value), ttl,
+					propertyMeta.writeValue(value), ttl,
 					(Mutator<ID>) interceptor.getMutator());
 		}
 		else
 		{
 			entityDao
-					.setValue(id, buildComposite(key), propertyMeta.writeValueToString(value), ttl);
+					.setValue(id, buildComposite(key), propertyMeta.writeValue(value), ttl);
 		}
 	}
 
@@ -76,11 +76,11 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 		if (this.interceptor.isBatchMode())
 		{
 			entityDao.setValueBatch(id, buildComposite(key),
-					propertyMeta.writeValueToString(value), (Mutator<ID>) interceptor.getMutator());
+					propertyMeta.writeValue(value), (Mutator<ID>) interceptor.getMutator());
 		}
 		else
 		{
-			entityDao.setValue(id, buildComposite(key), propertyMeta.writeValueToString(value));
+			entityDao.setValue(id, buildComposite(key), propertyMeta.writeValue(value));
 		}
 	}
 
@@ -93,7 +93,7 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 		DynamicComposite[] queryComps = keyFactory.createForQuery( //
 				propertyMeta, start, end, bounds, ordering);
 
-		List<HColumn<DynamicComposite, String>> hColumns = entityDao.findRawColumnsRange(id,
+		List<HColumn<DynamicComposite, Object>> hColumns = entityDao.findRawColumnsRange(id,
 				queryComps[0], queryComps[1], count, ordering.asBoolean());
 
 		if (propertyMeta.isJoin())
@@ -117,7 +117,7 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 		DynamicComposite[] queryComps = keyFactory.createForQuery( //
 				propertyMeta, start, end, bounds,  ordering);
 
-		List<HColumn<DynamicComposite, String>> hColumns = entityDao.findRawColumnsRange(id,
+		List<HColumn<DynamicComposite, Object>> hColumns = entityDao.findRawColumnsRange(id,
 				queryComps[0], queryComps[1], count, ordering.asBoolean());
 		if (propertyMeta.isJoin())
 		{
@@ -139,7 +139,7 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 		DynamicComposite[] queryComps = keyFactory.createForQuery( //
 				propertyMeta, start, end, bounds, ordering);
 
-		List<HColumn<DynamicComposite, String>> hColumns = entityDao.findRawColumnsRange(id,
+		List<HColumn<DynamicComposite, Object>> hColumns = entityDao.findRawColumnsRange(id,
 				queryComps[0], queryComps[1], count, ordering.asBoolean());
 		return keyValueFactory.createKeyListForDynamicComposite(propertyMeta, hColumns);
 	}
@@ -154,7 +154,7 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 		if (propertyMeta.isJoin())
 		{
 			
-			AchillesJoinSliceIterator<ID, DynamicComposite, String, K, V> joinColumnSliceIterator = entityDao
+			AchillesJoinSliceIterator<ID, DynamicComposite, Object, K, V> joinColumnSliceIterator = entityDao
 					.getJoinColumnsIterator(propertyMeta, id, queryComps[0], queryComps[1],
 							ordering.asBoolean(), count);
 
@@ -165,7 +165,7 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 		else
 		{
 
-			AchillesSliceIterator<ID, DynamicComposite, String> columnSliceIterator = entityDao
+			AchillesSliceIterator<ID, DynamicComposite, Object> columnSliceIterator = entityDao
 					.getColumnsIterator(id, queryComps[0], queryComps[1], ordering.asBoolean(), count);
 
 			return iteratorFactory.createKeyValueIteratorForDynamicComposite(columnSliceIterator,
@@ -180,7 +180,7 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 	}
 
 	@Override
-	public void remove(K start, K end, BoundingMode bounds)
+	public int remove(K start, K end, BoundingMode bounds)
 	{
 
 		compositeHelper.checkBounds(propertyMeta, start, end, OrderingMode.ASCENDING);
@@ -188,20 +188,20 @@ public class WideMapWrapper<ID, K, V> extends AbstractWideMapWrapper<K, V>
 		DynamicComposite[] queryComps = keyFactory.createForQuery(//
 				propertyMeta, start, end, bounds, OrderingMode.ASCENDING);
 
-		entityDao.removeColumnRange(id, queryComps[0], queryComps[1]);
+		return entityDao.removeColumnRange(id, queryComps[0], queryComps[1]);
 	}
 
 	@Override
-	public void removeFirst(int count)
+	public int removeFirst(int count)
 	{
-		entityDao.removeColumnRange(id, null, null, false, count);
+		return entityDao.removeColumnRange(id, null, null, false, count);
 
 	}
 
 	@Override
-	public void removeLast(int count)
+	public int removeLast(int count)
 	{
-		entityDao.removeColumnRange(id, null, null, true, count);
+		return entityDao.removeColumnRange(id, null, null, true, count);
 	}
 
 	public void setId(ID id)
@@ -2,11 +2,9 @@ package info.archinnov.achilles.wrapper.builder;
 
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.wrapper.AbstractWrapper;
 
-import java.lang.reflect.Method;
-import java.util.Map;
-
 /**
  * AbstractWrapperBuilder
  * 
@@ -16,20 +14,13 @@ import java.util.Map;
 @SuppressWarnings("unchecked")
 public abstract class AbstractWrapperBuilder<T extends AbstractWrapperBuilder<T, K, V>, K, V>
 {
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 	private PropertyMeta<K, V> propertyMeta;
 	private EntityHelper helper;
 
-	public T dirtyMap(Map<Method, PropertyMeta<?, ?>> dirtyMap)
-	{
-		this.dirtyMap = dirtyMap;
-		return (T) this;
-	}
-
-	public T setter(Method setter)
+	public T dirtyProperties(PropertyBitSet dirtyProperties)
 	{
-		this.setter = setter;
+		this.dirtyProperties = dirtyProperties;
 		return (T) this;
 	}
 
@@ -47,8 +38,7 @@ public abstract class AbstractWrapperBuilder<T extends AbstractWrapperBuilder<T,
 
 	public void build(AbstractWrapper<K, V> wrapper)
 	{
-		wrapper.setDirtyMap(dirtyMap);
-		wrapper.setSetter(setter);
+		wrapper.setDirtyProperties(dirtyProperties);
 		wrapper.setPropertyMeta(propertyMeta);
 		wrapper.setHelper(helper);
 	}
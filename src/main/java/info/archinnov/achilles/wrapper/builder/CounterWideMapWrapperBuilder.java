@@ -0,0 +1,87 @@
+package info.archinnov.achilles.wrapper.builder;
+
+import info.archinnov.achilles.composite.factory.CompositeKeyFactory;
+import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.helper.CompositeHelper;
+import info.archinnov.achilles.iterator.factory.IteratorFactory;
+import info.archinnov.achilles.iterator.factory.KeyValueFactory;
+import info.archinnov.achilles.proxy.interceptor.AchillesInterceptor;
+import info.archinnov.achilles.wrapper.CounterWideMapWrapper;
+
+/**
+ * CounterWideMapWrapperBuilder
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterWideMapWrapperBuilder<ID, K>
+{
+	private ID id;
+	private GenericCompositeDao<ID, Long> dao;
+	private PropertyMeta<K, Long> wideMapMeta;
+	private AchillesInterceptor interceptor;
+	private CompositeHelper compositeHelper;
+	private KeyValueFactory keyValueFactory;
+	private IteratorFactory iteratorFactory;
+	private CompositeKeyFactory compositeKeyFactory;
+
+	public CounterWideMapWrapperBuilder(ID id, GenericCompositeDao<ID, Long> dao,
+			PropertyMeta<K, Long> wideMapMeta)
+	{
+		this.id = id;
+		this.dao = dao;
+		this.wideMapMeta = wideMapMeta;
+	}
+
+	public static <ID, K> CounterWideMapWrapperBuilder<ID, K> builder(ID id,
+			GenericCompositeDao<ID, Long> dao, PropertyMeta<K, Long> wideMapMeta)
+	{
+		return new CounterWideMapWrapperBuilder<ID, K>(id, dao, wideMapMeta);
+	}
+
+	public CounterWideMapWrapperBuilder<ID, K> interceptor(AchillesInterceptor interceptor)
+	{
+		this.interceptor = interceptor;
+		return this;
+	}
+
+	public CounterWideMapWrapperBuilder<ID, K> compositeHelper(CompositeHelper compositeHelper)
+	{
+		this.compositeHelper = compositeHelper;
+		return this;
+	}
+
+	public CounterWideMapWrapperBuilder<ID, K> keyValueFactory(KeyValueFactory keyValueFactory)
+	{
+		this.keyValueFactory = keyValueFactory;
+		return this;
+	}
+
+	public CounterWideMapWrapperBuilder<ID, K> iteratorFactory(IteratorFactory iteratorFactory)
+	{
+		this.iteratorFactory = iteratorFactory;
+		return this;
+	}
+
+	public CounterWideMapWrapperBuilder<ID, K> compositeKeyFactory(
+			CompositeKeyFactory compositeKeyFactory)
+	{
+		this.compositeKeyFactory = compositeKeyFactory;
+		return this;
+	}
+
+	public CounterWideMapWrapper<ID, K> build()
+	{
+		CounterWideMapWrapper<ID, K> wrapper = new CounterWideMapWrapper<ID, K>();
+		wrapper.setId(id);
+		wrapper.setDao(dao);
+		wrapper.setWideMapMeta(wideMapMeta);
+		wrapper.setInterceptor(interceptor);
+		wrapper.setCompositeHelper(compositeHelper);
+		wrapper.setCompositeKeyFactory(compositeKeyFactory);
+		wrapper.setIteratorFactory(iteratorFactory);
+		wrapper.setKeyValueFactory(keyValueFactory);
+		return wrapper;
+	}
+}
@@ -0,0 +1,48 @@
+package info.archinnov.achilles.wrapper.builder;
+
+import info.archinnov.achilles.dao.GenericCounterDao;
+import info.archinnov.achilles.proxy.interceptor.AchillesInterceptor;
+import info.archinnov.achilles.wrapper.CounterWrapper;
+import me.prettyprint.hector.api.beans.Composite;
+
+/**
+ * CounterWrapperBuilder
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterWrapperBuilder<ID>
+{
+	private ID id;
+	private GenericCounterDao<ID> dao;
+	private Composite columnName;
+	private AchillesInterceptor interceptor;
+
+	public CounterWrapperBuilder(ID id, GenericCounterDao<ID> dao, Composite columnName) {
+		this.id = id;
+		this.dao = dao;
+		this.columnName = columnName;
+	}
+
+	public static <ID> CounterWrapperBuilder<ID> builder(ID id, GenericCounterDao<ID> dao,
+			Composite columnName)
+	{
+		return new CounterWrapperBuilder<ID>(id, dao, columnName);
+	}
+
+	public CounterWrapperBuilder<ID> interceptor(AchillesInterceptor interceptor)
+	{
+		this.interceptor = interceptor;
+		return this;
+	}
+
+	public CounterWrapper<ID> build()
+	{
+		CounterWrapper<ID> wrapper = new CounterWrapper<ID>();
+		wrapper.setId(id);
+		wrapper.setDao(dao);
+		wrapper.setColumnName(columnName);
+		wrapper.setInterceptor(interceptor);
+		return wrapper;
+	}
+}
@@ -0,0 +1,110 @@
+package info.archinnov.achilles.codec;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.nio.ByteBuffer;
+
+import mapping.entity.UserBean;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * JacksonValueCodecTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class JacksonValueCodecTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void should_encode_and_decode_as_text() throws Exception
+	{
+		JacksonValueCodec<UserBean> codec = new JacksonValueCodec<UserBean>(objectMapper,
+				UserBean.class);
+		UserBean bean = bean();
+
+		Object encoded = codec.encode(bean);
+
+		assertThat(encoded).isEqualTo(objectMapper.writeValueAsString(bean));
+		assertThat(codec.decode(encoded).getName()).isEqualTo("DuyHai");
+	}
+
+	@Test
+	public void should_encode_and_decode_as_bytes() throws Exception
+	{
+		JacksonValueCodec<UserBean> codec = new JacksonValueCodec<UserBean>(objectMapper,
+				objectMapper, UserBean.class, true);
+		UserBean bean = bean();
+
+		Object encoded = codec.encode(bean);
+
+		assertThat(encoded).isInstanceOf(byte[].class);
+		assertThat(codec.decode(encoded).getName()).isEqualTo("DuyHai");
+		assertThat(codec.decode(ByteBuffer.wrap((byte[]) encoded)).getName()).isEqualTo(
+				"DuyHai");
+	}
+
+	@Test
+	public void should_decode_text_value_in_binary_mode() throws Exception
+	{
+		JacksonValueCodec<UserBean> codec = new JacksonValueCodec<UserBean>(objectMapper,
+				objectMapper, UserBean.class, true);
+
+		UserBean decoded = codec.decode(objectMapper.writeValueAsString(bean()));
+
+		assertThat(decoded.getName()).isEqualTo("DuyHai");
+	}
+
+	@Test
+	public void should_build_text_codec_from_binary_codec() throws Exception
+	{
+		JacksonValueCodec<UserBean> codec = new JacksonValueCodec<UserBean>(objectMapper,
+				objectMapper, UserBean.class, true);
+
+		JacksonValueCodec<UserBean> textCodec = codec.textCodec();
+		Object encoded = textCodec.encode(bean());
+
+		assertThat(textCodec.isBinary()).isFalse();
+		assertThat(encoded).isInstanceOf(String.class);
+		assertThat(textCodec.decode(encoded).getName()).isEqualTo("DuyHai");
+	}
+
+	@Test
+	public void should_encode_and_decode_null() throws Exception
+	{
+		JacksonValueCodec<UserBean> codec = new JacksonValueCodec<UserBean>(objectMapper,
+				UserBean.class);
+
+		assertThat(codec.encode(null)).isNull();
+		assertThat(codec.decode(null)).isNull();
+	}
+
+	@Test
+	public void should_exception_when_cannot_decode() throws Exception
+	{
+		JacksonValueCodec<UserBean> codec = new JacksonValueCodec<UserBean>(objectMapper,
+				UserBean.class);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot decode value of type 'mapping.entity.UserBean'");
+
+		codec.decode("{not json");
+	}
+
+	private UserBean bean()
+	{
+		UserBean bean = new UserBean();
+		bean.setName("DuyHai");
+		bean.setUserId(10L);
+		return bean;
+	}
+}
@@ -0,0 +1,81 @@
+package info.archinnov.achilles.codec;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.util.UUID;
+
+import mapping.entity.UserBean;
+import me.prettyprint.cassandra.utils.TimeUUIDUtils;
+
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * KeyValueCodecTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class KeyValueCodecTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void should_decode_key_and_value_to_declared_classes() throws Exception
+	{
+		KeyValueCodec<Long, UUID> codec = new KeyValueCodec<Long, UUID>(objectMapper, Long.class,
+				UUID.class);
+		UUID uuid = TimeUUIDUtils.getUniqueTimeUUIDinMillis();
+
+		KeyValue<Long, UUID> decoded = codec.decode(objectMapper
+				.writeValueAsString(new KeyValue<Long, UUID>(1L, uuid, 10)));
+
+		assertThat(decoded.getKey()).isEqualTo(1L);
+		assertThat(decoded.getValue()).isEqualTo(uuid);
+		assertThat(decoded.getTtl()).isEqualTo(10);
+	}
+
+	@Test
+	public void should_encode_and_decode_bean_value() throws Exception
+	{
+		KeyValueCodec<PropertyType, UserBean> codec = new KeyValueCodec<PropertyType, UserBean>(
+				objectMapper, PropertyType.class, UserBean.class);
+		UserBean bean = new UserBean();
+		bean.setName("DuyHai");
+
+		String encoded = codec.encode(new KeyValue<PropertyType, UserBean>(PropertyType.MAP, bean));
+		KeyValue<PropertyType, UserBean> decoded = codec.decode(encoded);
+
+		assertThat(decoded.getKey()).isEqualTo(PropertyType.MAP);
+		assertThat(decoded.getValue().getName()).isEqualTo("DuyHai");
+	}
+
+	@Test
+	public void should_decode_null() throws Exception
+	{
+		KeyValueCodec<Integer, String> codec = new KeyValueCodec<Integer, String>(objectMapper,
+				Integer.class, String.class);
+
+		assertThat(codec.decode(null)).isNull();
+	}
+
+	@Test
+	public void should_exception_when_cannot_decode() throws Exception
+	{
+		KeyValueCodec<Integer, String> codec = new KeyValueCodec<Integer, String>(objectMapper,
+				Integer.class, String.class);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot decode map entry");
+
+		codec.decode("{\"key\":\"not a number\"}");
+	}
+}
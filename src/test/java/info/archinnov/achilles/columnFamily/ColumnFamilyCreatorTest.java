@@ -1,5 +1,6 @@
 package info.archinnov.achilles.columnFamily;
 
+import static info.archinnov.achilles.entity.metadata.PropertyType.LIST;
 import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
 import static info.archinnov.achilles.entity.metadata.builder.EntityMetaBuilder.entityMetaBuilder;
 import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
@@ -7,6 +8,7 @@ import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import info.archinnov.achilles.codec.JacksonValueCodec;
 import info.archinnov.achilles.dao.GenericCompositeDao;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
@@ -24,8 +26,11 @@ import me.prettyprint.cassandra.model.BasicColumnFamilyDefinition;
 import me.prettyprint.hector.api.Cluster;
 import me.prettyprint.hector.api.Keyspace;
 import me.prettyprint.hector.api.ddl.ColumnFamilyDefinition;
+import me.prettyprint.hector.api.ddl.ComparatorType;
 import me.prettyprint.hector.api.ddl.KeyspaceDefinition;
 
+import org.codehaus.jackson.map.ObjectMapper;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -161,6 +166,46 @@ public class ColumnFamilyCreatorTest
 		verify(columnFamilyHelper).validateCFWithEntityMeta(cfDef, meta);
 	}
 
+	@Test
+	public void should_disable_native_value_encoding_for_utf8_column_family() throws Exception
+	{
+		prepareData();
+		BasicColumnFamilyDefinition cfDef = new BasicColumnFamilyDefinition();
+		cfDef.setName("testCF");
+		cfDef.setDefaultValidationClass(ComparatorType.UTF8TYPE.getClassName());
+
+		when(keyspaceDefinition.getCfDefs()).thenReturn(
+				Arrays.asList((ColumnFamilyDefinition) cfDef));
+
+		assertThat(meta.getEntityDao().isNativeValueEncoding()).isTrue();
+		creator.validateOrCreateColumnFamilies(entityMetaMap, true);
+		assertThat(meta.getEntityDao().isNativeValueEncoding()).isFalse();
+	}
+
+	@Test
+	public void should_write_binary_codec_values_as_json_for_utf8_column_family()
+			throws Exception
+	{
+		ObjectMapper objectMapper = new ObjectMapper();
+		PropertyMeta<Void, Long> listMeta = PropertyMetaFactory.factory(Void.class, Long.class)
+				.type(LIST).propertyName("friends").accessors(accessors).build();
+		listMeta.setValueCodec(new JacksonValueCodec<Long>(objectMapper, objectMapper,
+				Long.class, true));
+
+		prepareData(listMeta);
+		BasicColumnFamilyDefinition cfDef = new BasicColumnFamilyDefinition();
+		cfDef.setName("testCF");
+		cfDef.setDefaultValidationClass(ComparatorType.UTF8TYPE.getClassName());
+
+		when(keyspaceDefinition.getCfDefs()).thenReturn(
+				Arrays.asList((ColumnFamilyDefinition) cfDef));
+
+		creator.validateOrCreateColumnFamilies(entityMetaMap, true);
+
+		assertThat(((JacksonValueCodec<Long>) listMeta.getValueCodec()).isBinary()).isFalse();
+		assertThat(listMeta.getValueCodec().encode(12L)).isEqualTo("12");
+	}
+
 	@SuppressWarnings("unchecked")
 	@Test
 	public void should_validate_column_family_for_external_wide_map() throws Exception
@@ -9,6 +9,7 @@ import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.PropertyHelper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.exception.InvalidColumnFamilyException;
 
 import java.util.HashMap;
@@ -83,6 +84,8 @@ public class ColumnFamilyHelperTest
 		assertThat(cfDef.getComparatorType()).isEqualTo(ComparatorType.DYNAMICCOMPOSITETYPE);
 		assertThat(cfDef.getKeyValidationClass()).isEqualTo(
 				LONG_SRZ.getComparatorType().getTypeName());
+		assertThat(cfDef.getDefaultValidationClass()).isEqualTo(
+				ComparatorType.BYTESTYPE.getTypeName());
 	}
 
 	@Test
@@ -107,6 +110,76 @@ public class ColumnFamilyHelperTest
 
 	}
 
+	@Test
+	public void should_build_composite_column_family_for_counter_wide_map() throws Exception
+	{
+		PropertyMeta<String, Long> wideMapMeta = new PropertyMeta<String, Long>();
+		wideMapMeta.setValueClass(Long.class);
+		wideMapMeta.setType(PropertyType.COUNTER_WIDE_MAP);
+
+		when(helper.determineCompatatorTypeAliasForCompositeCF(wideMapMeta, true)).thenReturn(
+				"(UTF8Type)");
+
+		ColumnFamilyDefinition cfDef = columnFamilyHelper.buildCompositeCF("keyspace", wideMapMeta,
+				Long.class, "cf", "entity");
+
+		assertThat(cfDef.getComparatorType()).isEqualTo(ComparatorType.COMPOSITETYPE);
+		assertThat(cfDef.getDefaultValidationClass()).isEqualTo(
+				ComparatorType.COUNTERTYPE.getClassName());
+	}
+
+	@Test
+	public void should_build_counter_column_family() throws Exception
+	{
+		ColumnFamilyDefinition cfDef = columnFamilyHelper.buildCounterCF("keyspace", LONG_SRZ,
+				"cf_counters", "entity");
+
+		assertThat(cfDef.getComparatorType()).isEqualTo(ComparatorType.COMPOSITETYPE);
+		assertThat(cfDef.getComparatorTypeAlias()).isEqualTo("(UTF8Type)");
+		assertThat(cfDef.getKeyValidationClass()).isEqualTo(
+				LONG_SRZ.getComparatorType().getTypeName());
+		assertThat(cfDef.getDefaultValidationClass()).isEqualTo(
+				ComparatorType.COUNTERTYPE.getClassName());
+	}
+
+	@Test
+	public void should_validate_counter_column_family() throws Exception
+	{
+		when(cfDef.getKeyValidationClass()).thenReturn(
+				LONG_SRZ.getComparatorType().getClassName());
+		when(cfDef.getDefaultValidationClass()).thenReturn(
+				ComparatorType.COUNTERTYPE.getClassName());
+		when(cfDef.getComparatorType()).thenReturn(
+				ComparatorType.getByClassName("CompositeType("
+						+ ComparatorType.UTF8TYPE.getClassName() + ")"));
+
+		columnFamilyHelper.validateCounterCF(cfDef, LONG_SRZ, "cf_counters");
+	}
+
+	@Test(expected = InvalidColumnFamilyException.class)
+	public void should_exception_when_counter_cf_key_validation_class_does_not_match_id()
+			throws Exception
+	{
+		when(cfDef.getKeyValidationClass()).thenReturn(
+				STRING_SRZ.getComparatorType().getClassName());
+		when(cfDef.getDefaultValidationClass()).thenReturn(
+				ComparatorType.COUNTERTYPE.getClassName());
+
+		columnFamilyHelper.validateCounterCF(cfDef, LONG_SRZ, "cf_counters");
+	}
+
+	@Test(expected = InvalidColumnFamilyException.class)
+	public void should_exception_when_counter_cf_default_validation_class_not_counter()
+			throws Exception
+	{
+		when(cfDef.getKeyValidationClass()).thenReturn(
+				LONG_SRZ.getComparatorType().getClassName());
+		when(cfDef.getDefaultValidationClass()).thenReturn(
+				ComparatorType.UTF8TYPE.getClassName());
+
+		columnFamilyHelper.validateCounterCF(cfDef, LONG_SRZ, "cf_counters");
+	}
+
 	@Test
 	public void should_normalize_canonical_classname() throws Exception
 	{
@@ -226,4 +299,18 @@ public class ColumnFamilyHelperTest
 
 		columnFamilyHelper.validateCFWithEntityMeta(cfDef, entityMeta);
 	}
+
+	@Test(expected = InvalidColumnFamilyException.class)
+	public void should_exception_when_counter_wide_map_cf_not_counter_validated() throws Exception
+	{
+		when(cfDef.getKeyValidationClass()).thenReturn(LONG_SRZ.getComparatorType().getClassName());
+		when(propertyMeta.type()).thenReturn(PropertyType.COUNTER_WIDE_MAP);
+		when(helper.determineCompatatorTypeAliasForCompositeCF(propertyMeta, false)).thenReturn(
+				ComparatorType.COUNTERTYPE.getTypeName());
+		when(cfDef.getComparatorType()).thenReturn(ComparatorType.COUNTERTYPE);
+		when(cfDef.getDefaultValidationClass()).thenReturn(
+				ComparatorType.UTF8TYPE.getClassName());
+
+		columnFamilyHelper.validateCFWithPropertyMeta(cfDef, propertyMeta, "external_cf");
+	}
 }
@@ -47,6 +47,8 @@ public abstract class CassandraDaoTest
 
 	public static final Logger log = LoggerFactory.getLogger(CassandraDaoTest.class);
 
+	private static ThriftEntityManagerFactoryImpl emf;
+
 	private static ThriftEntityManager em;
 
 	static
@@ -91,9 +93,8 @@ public abstract class CassandraDaoTest
 					+ CASSANDRA_TEST_PORT);
 			keyspace = HFactory.createKeyspace(CASSANDRA_KEYSPACE_NAME, cluster);
 		}
-		ThriftEntityManagerFactoryImpl factory = new ThriftEntityManagerFactoryImpl(getCluster(),
-				getKeyspace(), ENTITY_PACKAGE, true);
-		em = (ThriftEntityManager) factory.createEntityManager();
+		emf = new ThriftEntityManagerFactoryImpl(getCluster(), getKeyspace(), ENTITY_PACKAGE, true);
+		em = (ThriftEntityManager) emf.createEntityManager();
 	}
 
 	private static File prepareEmbeddedCassandraConfig() throws IOException
@@ -124,6 +125,11 @@ public abstract class CassandraDaoTest
 		return keyspace;
 	}
 
+	public static ThriftEntityManagerFactoryImpl getEmf()
+	{
+		return emf;
+	}
+
 	public static ThriftEntityManager getEm()
 	{
 		return em;
@@ -0,0 +1,150 @@
+package info.archinnov.achilles.composite;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.LIST;
+import static info.archinnov.achilles.entity.metadata.PropertyType.SERIAL_VERSION_UID;
+import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
+import static info.archinnov.achilles.entity.metadata.PropertyType.WIDE_MAP;
+import static info.archinnov.achilles.serializer.SerializerUtils.INT_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+import org.junit.Test;
+
+/**
+ * ColumnPrefixIndexTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class ColumnPrefixIndexTest
+{
+	private PropertyMeta<Void, String> nameMeta = meta(SIMPLE, "name");
+	private PropertyMeta<Void, String> friendsMeta = meta(LIST, "friends");
+	private PropertyMeta<Integer, String> tweetsMeta = meta(WIDE_MAP, "tweets");
+
+	private ColumnPrefixIndex index = new ColumnPrefixIndex(Arrays.<PropertyMeta<?, ?>> asList(
+			nameMeta, friendsMeta, tweetsMeta));
+
+	@Test
+	public void should_find_property_of_column() throws Exception
+	{
+		assertThat((Object) index.find(composite(SIMPLE, "name").serialize())).isSameAs(nameMeta);
+		assertThat((Object) index.find(composite(LIST, "friends").serialize())).isSameAs(
+				friendsMeta);
+	}
+
+	@Test
+	public void should_find_property_of_column_with_suffix_components() throws Exception
+	{
+		DynamicComposite composite = composite(LIST, "friends");
+		composite.setComponent(2, 3, INT_SRZ, "Int32Type");
+
+		assertThat((Object) index.find(composite.serialize())).isSameAs(friendsMeta);
+	}
+
+	@Test
+	public void should_find_property_at_buffer_position() throws Exception
+	{
+		ByteBuffer serialized = composite(SIMPLE, "name").serialize();
+		ByteBuffer shifted = ByteBuffer.allocate(serialized.remaining() + 3);
+		shifted.position(3);
+		shifted.put(serialized);
+		shifted.position(3);
+
+		assertThat((Object) index.find(shifted)).isSameAs(nameMeta);
+		assertThat(shifted.position()).isEqualTo(3);
+	}
+
+	@Test
+	public void should_not_find_unknown_property() throws Exception
+	{
+		assertThat(index.find(composite(SIMPLE, "age").serialize())).isNull();
+	}
+
+	@Test
+	public void should_not_find_property_with_other_type() throws Exception
+	{
+		assertThat(index.find(composite(LIST, "name").serialize())).isNull();
+	}
+
+	@Test
+	public void should_not_find_property_of_truncated_column() throws Exception
+	{
+		ByteBuffer serialized = composite(SIMPLE, "name").serialize();
+		serialized.limit(serialized.limit() - 1);
+
+		assertThat(index.find(serialized)).isNull();
+		assertThat(index.find(ByteBuffer.allocate(1))).isNull();
+	}
+
+	@Test
+	public void should_find_properties_of_large_entity() throws Exception
+	{
+		List<PropertyMeta<?, ?>> metas = new ArrayList<PropertyMeta<?, ?>>();
+		for (int i = 0; i < 100; i++)
+		{
+			metas.add(meta(SIMPLE, "property" + i));
+		}
+		ColumnPrefixIndex largeIndex = new ColumnPrefixIndex(metas);
+
+		for (int i = 0; i < 100; i++)
+		{
+			assertThat((Object) largeIndex.find(composite(SIMPLE, "property" + i).serialize()))
+					.isSameAs(metas.get(i));
+		}
+		assertThat(largeIndex.find(composite(SIMPLE, "property100").serialize())).isNull();
+	}
+
+	@Test
+	public void should_detect_serial_version_uid_column() throws Exception
+	{
+		DynamicComposite composite = composite(SERIAL_VERSION_UID, SERIAL_VERSION_UID.name());
+
+		assertThat(index.isSerialVersionUID(composite.serialize())).isTrue();
+		assertThat(index.isSerialVersionUID(composite(SIMPLE, "name").serialize())).isFalse();
+	}
+
+	@Test
+	public void should_work_with_empty_entity() throws Exception
+	{
+		ColumnPrefixIndex emptyIndex = new ColumnPrefixIndex(new ArrayList<PropertyMeta<?, ?>>());
+
+		assertThat(emptyIndex.find(composite(SIMPLE, "name").serialize())).isNull();
+	}
+
+	@Test
+	public void should_compute_prefix_length() throws Exception
+	{
+		DynamicComposite composite = composite(SIMPLE, "name");
+		int prefixLength = composite.serialize().remaining();
+		composite.setComponent(2, "key", STRING_SRZ, "AsciiType");
+
+		assertThat(ColumnPrefixIndex.prefixLength(composite.serialize())).isEqualTo(prefixLength);
+	}
+
+	private DynamicComposite composite(PropertyType type, String propertyName)
+	{
+		DynamicComposite composite = new DynamicComposite();
+		composite.addComponent(0, type.flag(), EQUAL);
+		composite.addComponent(1, propertyName, EQUAL);
+		return composite;
+	}
+
+	private <K, V> PropertyMeta<K, V> meta(PropertyType type, String propertyName)
+	{
+		PropertyMeta<K, V> meta = new PropertyMeta<K, V>();
+		meta.setType(type);
+		meta.setPropertyName(propertyName);
+		return meta;
+	}
+}
@@ -0,0 +1,98 @@
+package info.archinnov.achilles.composite;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.BYTE_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.INT_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.GREATER_THAN_EQUAL;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+
+import java.nio.ByteBuffer;
+
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+import org.junit.Test;
+
+/**
+ * LazyDynamicCompositeTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class LazyDynamicCompositeTest
+{
+	@Test
+	public void should_return_raw_bytes_without_deserializing() throws Exception
+	{
+		ByteBuffer serialized = plain().serialize();
+		LazyDynamicComposite composite = new LazyDynamicComposite(serialized);
+
+		assertThat(composite.serialize()).isEqualTo(serialized);
+		assertThat(composite.isMaterialized()).isFalse();
+	}
+
+	@Test
+	public void should_not_move_raw_buffer_position() throws Exception
+	{
+		LazyDynamicComposite composite = new LazyDynamicComposite(plain().serialize());
+
+		composite.serialize().get();
+
+		assertThat(composite.serialize()).isEqualTo(plain().serialize());
+	}
+
+	@Test
+	public void should_deserialize_on_component_access() throws Exception
+	{
+		LazyDynamicComposite composite = new LazyDynamicComposite(plain().serialize());
+
+		assertThat(composite.get(1, STRING_SRZ)).isEqualTo("friends");
+		assertThat(composite.isMaterialized()).isTrue();
+		assertThat(composite.get(0, BYTE_SRZ)).isEqualTo(PropertyType.LIST.flag());
+		assertThat(composite.get(2, INT_SRZ)).isEqualTo(3);
+		assertThat(composite.size()).isEqualTo(3);
+		assertThat(composite.serialize()).isEqualTo(plain().serialize());
+	}
+
+	@Test
+	public void should_compare_as_plain_composite() throws Exception
+	{
+		LazyDynamicComposite composite = new LazyDynamicComposite(plain().serialize());
+
+		assertThat(composite.compareTo(plain())).isEqualTo(0);
+		assertThat(composite.isMaterialized()).isFalse();
+	}
+
+	@Test
+	public void should_deserialize_before_mutation() throws Exception
+	{
+		LazyDynamicComposite composite = new LazyDynamicComposite(plain().serialize());
+		composite.setComponent(2, 4, INT_SRZ, "Int32Type");
+
+		DynamicComposite expected = plain();
+		expected.setComponent(2, 4, INT_SRZ, "Int32Type");
+
+		assertThat(composite.serialize()).isEqualTo(expected.serialize());
+	}
+
+	@Test
+	public void should_deserialize_before_equality_change() throws Exception
+	{
+		LazyDynamicComposite composite = new LazyDynamicComposite(plain().serialize());
+		composite.setEquality(GREATER_THAN_EQUAL);
+
+		DynamicComposite expected = plain();
+		expected.setEquality(GREATER_THAN_EQUAL);
+
+		assertThat(composite.serialize()).isEqualTo(expected.serialize());
+	}
+
+	private DynamicComposite plain()
+	{
+		DynamicComposite composite = new DynamicComposite();
+		composite.setComponent(0, PropertyType.LIST.flag(), BYTE_SRZ, "BytesType");
+		composite.setComponent(1, "friends", STRING_SRZ, "UTF8Type");
+		composite.setComponent(2, 3, INT_SRZ, "Int32Type");
+		return composite;
+	}
+}
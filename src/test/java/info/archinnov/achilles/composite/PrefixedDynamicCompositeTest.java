@@ -0,0 +1,121 @@
+package info.archinnov.achilles.composite;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.BYTE_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.INT_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.UUID_SRZ;
+import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
+import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.GREATER_THAN_EQUAL;
+import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.LESS_THAN_EQUAL;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+
+import java.util.UUID;
+
+import me.prettyprint.cassandra.utils.TimeUUIDUtils;
+import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+import org.junit.Test;
+
+/**
+ * PrefixedDynamicCompositeTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class PrefixedDynamicCompositeTest
+{
+	private ColumnPrefix prefix = new ColumnPrefix(PropertyType.WIDE_MAP, "tweets");
+
+	@Test
+	public void should_serialize_prefix_only() throws Exception
+	{
+		for (ComponentEquality equality : ComponentEquality.values())
+		{
+			DynamicComposite composite = new PrefixedDynamicComposite(prefix);
+			composite.setComponent(1, "tweets", STRING_SRZ, "UTF8Type", equality);
+
+			assertThat(composite.serialize()).isEqualTo(plain(equality).serialize());
+		}
+	}
+
+	@Test
+	public void should_serialize_typed_components_as_plain_composite() throws Exception
+	{
+		UUID uuid = TimeUUIDUtils.getUniqueTimeUUIDinMillis();
+
+		DynamicComposite composite = new PrefixedDynamicComposite(prefix);
+		composite.setComponent(2, 12, INT_SRZ, "Int32Type");
+		composite.setComponent(3, uuid, UUID_SRZ, "UUIDType", LESS_THAN_EQUAL);
+
+		DynamicComposite expected = plain(EQUAL);
+		expected.setComponent(2, 12, INT_SRZ, "Int32Type");
+		expected.setComponent(3, uuid, UUID_SRZ, "UUIDType", LESS_THAN_EQUAL);
+
+		assertThat(composite.serialize()).isEqualTo(expected.serialize());
+	}
+
+	@Test
+	public void should_serialize_inferred_component_as_plain_composite() throws Exception
+	{
+		DynamicComposite composite = new PrefixedDynamicComposite(prefix);
+		composite.addComponent(2, 50L, GREATER_THAN_EQUAL);
+
+		DynamicComposite expected = new DynamicComposite();
+		expected.addComponent(0, PropertyType.WIDE_MAP.flag(), EQUAL);
+		expected.addComponent(1, "tweets", EQUAL);
+		expected.addComponent(2, 50L, GREATER_THAN_EQUAL);
+
+		assertThat(composite.serialize()).isEqualTo(expected.serialize());
+	}
+
+	@Test
+	public void should_apply_composite_equality_to_last_component() throws Exception
+	{
+		DynamicComposite composite = new PrefixedDynamicComposite(prefix);
+		composite.setComponent(2, 50L, LONG_SRZ, "LongType");
+		composite.setEquality(GREATER_THAN_EQUAL);
+
+		DynamicComposite expected = plain(EQUAL);
+		expected.setComponent(2, 50L, LONG_SRZ, "LongType");
+		expected.setEquality(GREATER_THAN_EQUAL);
+
+		assertThat(composite.serialize()).isEqualTo(expected.serialize());
+	}
+
+	@Test
+	public void should_serialize_comparator_without_alias() throws Exception
+	{
+		DynamicComposite composite = new PrefixedDynamicComposite(prefix);
+		composite.setComponent(2, "key", STRING_SRZ, "AsciiType");
+
+		DynamicComposite expected = plain(EQUAL);
+		expected.setComponent(2, "key", STRING_SRZ, "AsciiType");
+
+		assertThat(composite.serialize()).isEqualTo(expected.serialize());
+	}
+
+	@Test
+	public void should_read_back_components() throws Exception
+	{
+		DynamicComposite composite = new PrefixedDynamicComposite(prefix);
+		composite.setComponent(2, 12, INT_SRZ, "Int32Type");
+
+		DynamicComposite readBack = DynamicComposite.fromByteBuffer(composite.serialize());
+
+		assertThat(readBack.get(0, BYTE_SRZ)).isEqualTo(PropertyType.WIDE_MAP.flag());
+		assertThat(readBack.get(1, STRING_SRZ)).isEqualTo("tweets");
+		assertThat(readBack.get(2, INT_SRZ)).isEqualTo(12);
+		assertThat(composite.get(1)).isEqualTo("tweets");
+	}
+
+	private DynamicComposite plain(ComponentEquality nameEquality)
+	{
+		DynamicComposite composite = new DynamicComposite();
+		composite.setComponent(0, PropertyType.WIDE_MAP.flag(), BYTE_SRZ, "BytesType");
+		composite.setComponent(1, "tweets", STRING_SRZ, "UTF8Type", nameEquality);
+		return composite;
+	}
+}
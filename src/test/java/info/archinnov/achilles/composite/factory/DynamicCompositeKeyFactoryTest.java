@@ -15,6 +15,7 @@ import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEqualit
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import info.archinnov.achilles.composite.ColumnPrefix;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.MultiKeyProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -97,6 +98,7 @@ public class DynamicCompositeKeyFactoryTest
 
 		when(propertyMeta.getPropertyName()).thenReturn("name");
 		when(propertyMeta.type()).thenReturn(SIMPLE);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(SIMPLE, "name"));
 
 		DynamicComposite comp = keyFactory.createForBatchInsertMultiValue(propertyMeta, 0);
 
@@ -115,6 +117,7 @@ public class DynamicCompositeKeyFactoryTest
 		when(propertyMeta.getKeySerializer()).thenReturn(STRING_SRZ);
 		when(propertyMeta.getPropertyName()).thenReturn("name");
 		when(propertyMeta.type()).thenReturn(SIMPLE);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(SIMPLE, "name"));
 
 		DynamicComposite comp = keyFactory.createForInsert(propertyMeta, "256");
 
@@ -130,6 +133,7 @@ public class DynamicCompositeKeyFactoryTest
 
 		when(propertyMeta.getPropertyName()).thenReturn("friends");
 		when(propertyMeta.type()).thenReturn(LIST);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(LIST, "friends"));
 
 		DynamicComposite comp = keyFactory.createForBatchInsertMultiValue(propertyMeta, 0);
 
@@ -143,6 +147,7 @@ public class DynamicCompositeKeyFactoryTest
 	{
 		when(propertyMeta.getPropertyName()).thenReturn("followers");
 		when(propertyMeta.type()).thenReturn(SET);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(SET, "followers"));
 
 		DynamicComposite comp = keyFactory.createForBatchInsertMultiValue(propertyMeta, 12345);
 
@@ -156,6 +161,7 @@ public class DynamicCompositeKeyFactoryTest
 	{
 		when(propertyMeta.getPropertyName()).thenReturn("preferences");
 		when(propertyMeta.type()).thenReturn(MAP);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(MAP, "preferences"));
 
 		DynamicComposite comp = keyFactory.createForBatchInsertMultiValue(propertyMeta, -123933);
 
@@ -169,6 +175,7 @@ public class DynamicCompositeKeyFactoryTest
 	{
 		when(propertyMeta.getPropertyName()).thenReturn("friends");
 		when(propertyMeta.type()).thenReturn(LIST);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(LIST, "friends"));
 
 		DynamicComposite comp = keyFactory.createForQuery(propertyMeta, null, LESS_THAN_EQUAL);
 
@@ -185,6 +192,7 @@ public class DynamicCompositeKeyFactoryTest
 	{
 		when(propertyMeta.getPropertyName()).thenReturn("friends");
 		when(propertyMeta.type()).thenReturn(LIST);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(LIST, "friends"));
 
 		DynamicComposite comp = keyFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL);
 
@@ -200,6 +208,7 @@ public class DynamicCompositeKeyFactoryTest
 	{
 		when(propertyMeta.getPropertyName()).thenReturn("friends");
 		when(propertyMeta.type()).thenReturn(LIST);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(LIST, "friends"));
 
 		List<Integer> list = Arrays.asList(1, 2, 3);
 		DynamicComposite comp = keyFactory.createForQuery(propertyMeta, list, GREATER_THAN_EQUAL);
@@ -226,6 +235,8 @@ public class DynamicCompositeKeyFactoryTest
 
 		when(multiKeyProperties.getComponentSerializers()).thenReturn(serializers);
 		when(multiKeyPropertyMeta.getPropertyName()).thenReturn("property");
+		when(multiKeyPropertyMeta.getColumnPrefix()).thenReturn(
+				new ColumnPrefix(WIDE_MAP, "property"));
 
 		when(entityHelper.determineMultiKey(key, multiKeyProperties.getComponentGetters()))
 				.thenReturn(keyValues);
@@ -250,6 +261,8 @@ public class DynamicCompositeKeyFactoryTest
 
 		when(multiKeyProperties.getComponentSerializers()).thenReturn(serializers);
 		when(multiKeyPropertyMeta.getPropertyName()).thenReturn("property");
+		when(multiKeyPropertyMeta.getColumnPrefix()).thenReturn(
+				new ColumnPrefix(WIDE_MAP, "property"));
 
 		keyFactory.createForInsert(multiKeyPropertyMeta, keyValues);
 	}
@@ -264,6 +277,8 @@ public class DynamicCompositeKeyFactoryTest
 
 		when(multiKeyProperties.getComponentSerializers()).thenReturn(serializers);
 		when(multiKeyPropertyMeta.getPropertyName()).thenReturn("property");
+		when(multiKeyPropertyMeta.getColumnPrefix()).thenReturn(
+				new ColumnPrefix(WIDE_MAP, "property"));
 
 		keyFactory.createForInsert(multiKeyPropertyMeta, keyValues);
 	}
@@ -283,6 +298,8 @@ public class DynamicCompositeKeyFactoryTest
 		when(multiKeyProperties.getComponentGetters()).thenReturn(componentGetters);
 		when(multiKeyProperties.getComponentSerializers()).thenReturn(serializers);
 		when(multiKeyPropertyMeta.getPropertyName()).thenReturn("property");
+		when(multiKeyPropertyMeta.getColumnPrefix()).thenReturn(
+				new ColumnPrefix(WIDE_MAP, "property"));
 
 		when(entityHelper.determineMultiKey(tweetKey, componentGetters)).thenReturn(keyValues);
 		when(helper.findLastNonNullIndexForComponents("property", keyValues)).thenReturn(2);
@@ -300,6 +317,7 @@ public class DynamicCompositeKeyFactoryTest
 	{
 		when(propertyMeta.getPropertyName()).thenReturn("name");
 		when(propertyMeta.type()).thenReturn(SIMPLE);
+		when(propertyMeta.getColumnPrefix()).thenReturn(new ColumnPrefix(SIMPLE, "name"));
 
 		when(helper.determineEquality(BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.ASCENDING)).thenReturn(
 				new ComponentEquality[]
@@ -331,6 +349,8 @@ public class DynamicCompositeKeyFactoryTest
 
 		when(multiKeyProperties.getComponentSerializers()).thenReturn(componentSerializers);
 		when(multiKeyPropertyMeta.getPropertyName()).thenReturn("property");
+		when(multiKeyPropertyMeta.getColumnPrefix()).thenReturn(
+				new ColumnPrefix(WIDE_MAP, "property"));
 		when(multiKeyProperties.getComponentGetters()).thenReturn(componentGetters);
 
 		when(helper.determineEquality(BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.ASCENDING)).thenReturn(
@@ -0,0 +1,136 @@
+package info.archinnov.achilles.dao;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.util.Arrays;
+
+import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.factory.HFactory;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * AutoFlushMutatorTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AutoFlushMutatorTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Mock
+	private Mutator<Long> delegate;
+
+	@Test
+	public void should_flush_when_max_columns_reached() throws Exception
+	{
+		AutoFlushMutator<Long> mutator = new AutoFlushMutator<Long>(delegate, LONG_SRZ, 2,
+				1024 * 1024);
+
+		mutator.addInsertion(1L, "cf", column("name1", "value1"));
+		mutator.addInsertion(1L, "cf", column("name2", "value2"));
+
+		verify(delegate, never()).execute();
+		assertThat(mutator.getPendingColumns()).isEqualTo(2);
+
+		mutator.addInsertion(1L, "cf", column("name3", "value3"));
+
+		verify(delegate, times(1)).execute();
+		assertThat(mutator.getPendingColumns()).isEqualTo(1);
+		assertThat(mutator.getFlushCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_flush_when_max_bytes_reached() throws Exception
+	{
+		HColumn<String, String> column = column("name", "0123456789");
+		long columnBytes = 8 + "cf".length() + AutoFlushMutator.MUTATION_OVERHEAD + 4 + 10;
+
+		AutoFlushMutator<Long> mutator = new AutoFlushMutator<Long>(delegate, LONG_SRZ, 1000,
+				2 * columnBytes);
+
+		mutator.addInsertion(1L, "cf", column);
+		mutator.addInsertion(2L, "cf", column);
+
+		verify(delegate, never()).execute();
+		assertThat(mutator.getPendingBytes()).isEqualTo(2 * columnBytes);
+
+		mutator.addDeletion(3L, "cf", "name", STRING_SRZ);
+
+		verify(delegate, times(1)).execute();
+		assertThat(mutator.getPendingBytes()).isEqualTo(
+				8 + "cf".length() + AutoFlushMutator.MUTATION_OVERHEAD + 4);
+	}
+
+	@Test
+	public void should_not_flush_empty_batch_for_oversized_mutation() throws Exception
+	{
+		AutoFlushMutator<Long> mutator = new AutoFlushMutator<Long>(delegate, LONG_SRZ, 10, 10);
+
+		HColumn<String, String> column = column("name", "value");
+		mutator.addInsertion(1L, "cf", column);
+
+		verify(delegate, never()).execute();
+		verify(delegate).addInsertion(1L, "cf", column);
+		assertThat(mutator.getPendingColumns()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_count_each_key_of_row_deletions() throws Exception
+	{
+		AutoFlushMutator<Long> mutator = new AutoFlushMutator<Long>(delegate, LONG_SRZ, 2,
+				1024 * 1024);
+
+		mutator.addDeletion(Arrays.asList(1L, 2L, 3L), "cf");
+
+		verify(delegate).addDeletion(1L, "cf");
+		verify(delegate).addDeletion(2L, "cf");
+		verify(delegate).addDeletion(3L, "cf");
+		verify(delegate, times(1)).execute();
+		assertThat(mutator.getPendingColumns()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_reset_pending_counts_on_execute() throws Exception
+	{
+		AutoFlushMutator<Long> mutator = new AutoFlushMutator<Long>(delegate, LONG_SRZ, 2,
+				1024 * 1024);
+
+		mutator.addCounter(1L, "cf", HFactory.createCounterColumn("name", 10L, STRING_SRZ));
+		mutator.execute();
+
+		verify(delegate).execute();
+		assertThat(mutator.getPendingColumns()).isEqualTo(0);
+		assertThat(mutator.getPendingBytes()).isEqualTo(0L);
+		assertThat(mutator.getFlushCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void should_exception_when_max_columns_not_positive() throws Exception
+	{
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Max columns should be strictly positive");
+
+		new AutoFlushMutator<Long>(delegate, LONG_SRZ, 0, 1024);
+	}
+
+	private HColumn<String, String> column(String name, String value)
+	{
+		return HFactory.createColumn(name, value, STRING_SRZ, STRING_SRZ);
+	}
+}
@@ -0,0 +1,268 @@
+package info.archinnov.achilles.dao;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.COMPOSITE_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.HCounterColumn;
+import me.prettyprint.hector.api.exceptions.HectorException;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+/**
+ * CounterAccumulatorTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CounterAccumulatorTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Mock
+	private GenericCounterDao<Long> dao;
+
+	@Mock
+	private Mutator<Long> mutator;
+
+	@Before
+	public void setUp()
+	{
+		when(dao.getColumnFamily()).thenReturn("cf_counters");
+		when(dao.buildMutator()).thenReturn(mutator);
+	}
+
+	@Test
+	public void should_coalesce_deltas_of_same_counter() throws Exception
+	{
+		CounterAccumulator<Long, Composite> accumulator = new CounterAccumulator<Long, Composite>(
+				dao, COMPOSITE_SRZ, 100);
+
+		accumulator.add(1L, name("visits"), 3L);
+		accumulator.add(1L, name("visits"), 4L);
+		accumulator.add(1L, name("likes"), -2L);
+		accumulator.add(2L, name("visits"), 1L);
+
+		assertThat(accumulator.getPendingCounters()).isEqualTo(3);
+		assertThat(accumulator.getPendingDelta(1L, name("visits"))).isEqualTo(7L);
+		assertThat(accumulator.getPendingDeltas()).isEqualTo(10L);
+		verify(mutator, never()).execute();
+
+		assertThat(accumulator.flush()).isEqualTo(3);
+
+		Map<String, Long> written = captureCounters(3);
+		assertThat(written.get("1:visits")).isEqualTo(7L);
+		assertThat(written.get("1:likes")).isEqualTo(-2L);
+		assertThat(written.get("2:visits")).isEqualTo(1L);
+		verify(mutator, times(1)).execute();
+
+		assertThat(accumulator.getPendingCounters()).isEqualTo(0);
+		assertThat(accumulator.getPendingDelta(1L, name("visits"))).isEqualTo(0L);
+		assertThat(accumulator.getReceivedDeltas()).isEqualTo(4L);
+		assertThat(accumulator.getFlushedCounters()).isEqualTo(3L);
+		assertThat(accumulator.getFlushCount()).isEqualTo(1L);
+	}
+
+	@Test
+	public void should_flush_when_max_pending_counters_reached() throws Exception
+	{
+		CounterAccumulator<Long, Composite> accumulator = new CounterAccumulator<Long, Composite>(
+				dao, COMPOSITE_SRZ, 2);
+
+		accumulator.add(1L, name("visits"), 1L);
+		accumulator.add(1L, name("visits"), 1L);
+		verify(mutator, never()).execute();
+
+		accumulator.add(1L, name("likes"), 1L);
+		verify(mutator, times(1)).execute();
+		assertThat(accumulator.getPendingCounters()).isEqualTo(0);
+	}
+
+	@Test
+	public void should_skip_counters_summing_to_zero() throws Exception
+	{
+		CounterAccumulator<Long, Composite> accumulator = new CounterAccumulator<Long, Composite>(
+				dao, COMPOSITE_SRZ, 100);
+
+		accumulator.add(1L, name("visits"), 5L);
+		accumulator.add(1L, name("visits"), -5L);
+
+		assertThat(accumulator.flush()).isEqualTo(0);
+		verify(dao, never()).buildMutator();
+		assertThat(accumulator.getPendingCounters()).isEqualTo(0);
+	}
+
+	@Test
+	public void should_keep_deltas_when_flush_fails() throws Exception
+	{
+		CounterAccumulator<Long, Composite> accumulator = new CounterAccumulator<Long, Composite>(
+				dao, COMPOSITE_SRZ, 100);
+		doThrow(new HectorException("timeout")).when(mutator).execute();
+
+		accumulator.add(1L, name("visits"), 5L);
+		try
+		{
+			accumulator.flush();
+		}
+		catch (HectorException e)
+		{
+			assertThat(e.getMessage()).isEqualTo("timeout");
+		}
+
+		assertThat(accumulator.getPendingDelta(1L, name("visits"))).isEqualTo(5L);
+		assertThat(accumulator.getFlushCount()).isEqualTo(0L);
+	}
+
+	@Test
+	public void should_flush_on_shutdown() throws Exception
+	{
+		CounterAccumulator<Long, Composite> accumulator = new CounterAccumulator<Long, Composite>(
+				dao, COMPOSITE_SRZ, 100);
+		ScheduledExecutorService scheduler = Executors
+				.newSingleThreadScheduledExecutor();
+		try
+		{
+			accumulator.start(scheduler, 1, TimeUnit.HOURS);
+			accumulator.add(1L, name("visits"), 5L);
+			verify(mutator, never()).execute();
+
+			accumulator.shutdown();
+
+			verify(mutator, times(1)).execute();
+			assertThat(accumulator.getPendingCounters()).isEqualTo(0);
+		}
+		finally
+		{
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void should_not_lose_deltas_with_concurrent_flushes() throws Exception
+	{
+		final CounterAccumulator<Long, Composite> accumulator = new CounterAccumulator<Long, Composite>(
+				dao, COMPOSITE_SRZ, 3);
+		final Map<String, Long> written = new HashMap<String, Long>();
+		doAnswer(new Answer<Mutator<Long>>()
+		{
+			@Override
+			public Mutator<Long> answer(InvocationOnMock invocation)
+			{
+				Object[] args = invocation.getArguments();
+				HCounterColumn<?> column = (HCounterColumn<?>) args[2];
+				String cell = args[0] + ":" + nameOf((ByteBuffer) column.getName());
+				Long previous = written.get(cell);
+				written.put(cell, (previous == null ? 0L : previous) + column.getValue());
+				return mutator;
+			}
+		}).when(mutator).addCounter(any(Long.class), eq("cf_counters"), any(HCounterColumn.class));
+
+		int threads = 4;
+		final int increments = 5000;
+		final CountDownLatch done = new CountDownLatch(threads);
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		for (int i = 0; i < threads; i++)
+		{
+			final long row = i % 2;
+			executor.submit(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					for (int j = 0; j < increments; j++)
+					{
+						accumulator.add(row, name("c" + (j % 5)), 1L);
+					}
+					done.countDown();
+				}
+			});
+		}
+		done.await(30, TimeUnit.SECONDS);
+		executor.shutdown();
+		accumulator.flush();
+
+		long total = 0;
+		for (Long value : written.values())
+		{
+			total += value;
+		}
+		assertThat(total).isEqualTo((long) threads * increments);
+	}
+
+	@Test
+	public void should_exception_when_max_pending_counters_not_positive() throws Exception
+	{
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Max pending counters should be strictly positive");
+
+		new CounterAccumulator<Long, Composite>(dao, COMPOSITE_SRZ, 0);
+	}
+
+	@SuppressWarnings(
+	{
+			"unchecked",
+			"rawtypes"
+	})
+	private Map<String, Long> captureCounters(int count)
+	{
+		ArgumentCaptor<Long> keyCaptor = ArgumentCaptor.forClass(Long.class);
+		ArgumentCaptor<HCounterColumn> columnCaptor = ArgumentCaptor
+				.forClass(HCounterColumn.class);
+		verify(mutator, times(count)).addCounter(keyCaptor.capture(), eq("cf_counters"),
+				columnCaptor.capture());
+
+		List<Long> keys = keyCaptor.getAllValues();
+		List<HCounterColumn> columns = columnCaptor.getAllValues();
+		Map<String, Long> written = new HashMap<String, Long>();
+		for (int i = 0; i < count; i++)
+		{
+			written.put(keys.get(i) + ":" + nameOf((ByteBuffer) columns.get(i).getName()),
+					columns.get(i).getValue());
+		}
+		return written;
+	}
+
+	private String nameOf(ByteBuffer bytes)
+	{
+		return COMPOSITE_SRZ.fromByteBuffer(bytes.duplicate()).get(0, STRING_SRZ);
+	}
+
+	private Composite name(String propertyName)
+	{
+		Composite name = new Composite();
+		name.addComponent(propertyName, STRING_SRZ);
+		return name;
+	}
+}
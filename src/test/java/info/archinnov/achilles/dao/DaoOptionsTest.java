@@ -0,0 +1,174 @@
+package info.archinnov.achilles.dao;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.iterator.AdaptivePageSizer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+
+/**
+ * DaoOptionsTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class DaoOptionsTest
+{
+	@Mock
+	private GenericCompositeDao<Long, String> compositeDao;
+
+	@Mock
+	private GenericDynamicCompositeDao<Long> entityDao;
+
+	@Mock
+	private GenericCounterDao<Long> counterDao;
+
+	@Mock
+	private ExecutorService executor;
+
+	@Mock
+	private ScheduledExecutorService scheduler;
+
+	@Test
+	public void should_not_configure_dao_when_no_option_set() throws Exception
+	{
+		DaoOptions options = new DaoOptions();
+
+		options.configure(compositeDao);
+		options.configure(entityDao);
+
+		verifyZeroInteractions(compositeDao, entityDao);
+	}
+
+	@Test
+	public void should_configure_dao() throws Exception
+	{
+		AdaptivePageSizer pageSizer = new AdaptivePageSizer();
+		DaoOptions options = new DaoOptions() //
+				.prefetch(executor, 3) //
+				.adaptivePaging(pageSizer) //
+				.chunkedRemoval(500, executor, 4);
+
+		options.configure(compositeDao);
+
+		verify(compositeDao).setPrefetch(executor, 3);
+		verify(compositeDao).setAdaptivePaging(pageSizer);
+		verify(compositeDao).setChunkedRemoval(500, executor, 4);
+	}
+
+	@Test
+	public void should_configure_entity_dao() throws Exception
+	{
+		DaoOptions options = new DaoOptions() //
+				.prefetch(executor, 2) //
+				.eagerFetchChunking(50, executor) //
+				.eagerFetchPageSize(200);
+
+		options.configure(entityDao);
+
+		verify(entityDao).setPrefetch(executor, 2);
+		verify(entityDao).setEagerFetchChunking(50, executor);
+		verify(entityDao).setEagerFetchPageSize(200);
+	}
+
+	@Test
+	public void should_not_set_eager_fetch_options_on_other_daos() throws Exception
+	{
+		DaoOptions options = new DaoOptions().eagerFetchPageSize(200);
+
+		options.configure(compositeDao);
+
+		verifyZeroInteractions(compositeDao);
+	}
+
+	@Test(expected = AchillesException.class)
+	public void should_exception_when_invalid_prefetch_depth() throws Exception
+	{
+		new DaoOptions().prefetch(executor, 0);
+	}
+
+	@Test(expected = AchillesException.class)
+	public void should_exception_when_invalid_remove_chunk_size() throws Exception
+	{
+		new DaoOptions().chunkedRemoval(0, null, 1);
+	}
+
+	@Test
+	public void should_keep_chunked_removal_executor_optional() throws Exception
+	{
+		new DaoOptions().chunkedRemoval(100, null, 1).configure(compositeDao);
+
+		verify(compositeDao).setChunkedRemoval(100, null, 1);
+	}
+
+	@Test
+	public void should_enable_counter_coalescing_on_counter_dao() throws Exception
+	{
+		DaoOptions options = new DaoOptions() //
+				.prefetch(executor, 2) //
+				.counterCoalescing(scheduler, 100L, 1000);
+
+		options.configureCounterDao(counterDao);
+
+		verify(counterDao).setPrefetch(executor, 2);
+		verify(counterDao).enableCounterCoalescing(scheduler, 100L, 1000);
+		options.close();
+	}
+
+	@Test
+	public void should_register_one_shutdown_hook_for_all_counter_daos() throws Exception
+	{
+		DaoOptions options = new DaoOptions().counterCoalescing(scheduler, 100L, 1000);
+
+		options.configureCounterDao(counterDao);
+		Thread shutdownHook = Whitebox.getInternalState(options, "shutdownHook");
+		options.configureCounterDao(compositeDao);
+
+		assertThat(shutdownHook).isNotNull();
+		assertThat(Whitebox.getInternalState(options, "shutdownHook")).isSameAs(shutdownHook);
+		options.close();
+	}
+
+	@Test
+	public void should_flush_counters_and_remove_shutdown_hook_on_close() throws Exception
+	{
+		DaoOptions options = new DaoOptions().counterCoalescing(scheduler, 100L, 1000);
+		options.configureCounterDao(counterDao);
+		options.configureCounterDao(compositeDao);
+		Thread shutdownHook = Whitebox.getInternalState(options, "shutdownHook");
+
+		options.close();
+
+		verify(counterDao).disableCounterCoalescing();
+		verify(compositeDao).disableCounterCoalescing();
+		assertThat(Whitebox.getInternalState(options, "shutdownHook")).isNull();
+		assertThat(Runtime.getRuntime().removeShutdownHook(shutdownHook)).isFalse();
+	}
+
+	@Test
+	public void should_not_enable_counter_coalescing_on_other_daos() throws Exception
+	{
+		DaoOptions options = new DaoOptions().counterCoalescing(scheduler, 100L, 1000);
+
+		options.configure(compositeDao);
+
+		verify(compositeDao, never()).enableCounterCoalescing(scheduler, 100L, 1000);
+	}
+
+	@Test(expected = AchillesException.class)
+	public void should_exception_when_invalid_counter_flush_interval() throws Exception
+	{
+		new DaoOptions().counterCoalescing(scheduler, 0L, 1000);
+	}
+}
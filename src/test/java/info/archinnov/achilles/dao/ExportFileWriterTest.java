@@ -0,0 +1,205 @@
+package info.archinnov.achilles.dao;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.type.ExportFormat;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.cassandra.thrift.Column;
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.thrift.CounterColumn;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.io.Files;
+
+/**
+ * ExportFileWriterTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class ExportFileWriterTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private File directory;
+
+	@Before
+	public void setUp()
+	{
+		directory = Files.createTempDir();
+	}
+
+	@Test
+	public void should_read_back_binary_rows() throws Exception
+	{
+		should_read_back_rows(ExportFormat.BINARY);
+	}
+
+	@Test
+	public void should_read_back_json_lines_rows() throws Exception
+	{
+		should_read_back_rows(ExportFormat.JSON_LINES);
+	}
+
+	@Test
+	public void should_ignore_truncated_binary_row() throws Exception
+	{
+		should_ignore_truncated_row(ExportFormat.BINARY);
+	}
+
+	@Test
+	public void should_ignore_truncated_json_lines_row() throws Exception
+	{
+		should_ignore_truncated_row(ExportFormat.JSON_LINES);
+	}
+
+	@Test
+	public void should_append_after_valid_length() throws Exception
+	{
+		File file = new File(directory, "range.bin");
+		ExportFileWriter writer = new ExportFileWriter(file, ExportFormat.BINARY, 64, 0);
+		writer.writeHeader("cf", "0", "10");
+		writer.writeRow(bytes("key1"), Arrays.asList(column("name", "value", 1L, 0)));
+		writer.writeRow(bytes("key2"), Arrays.asList(column("name", "value", 1L, 0)));
+		writer.close();
+		cut(file, 3);
+
+		ExportFileReader reader = new ExportFileReader(file, ExportFormat.BINARY, 64);
+		while (reader.next() != null)
+		{}
+		long validLength = reader.getValidLength();
+		reader.close();
+
+		writer = new ExportFileWriter(file, ExportFormat.BINARY, 64, validLength);
+		writer.writeRow(bytes("key3"), Arrays.asList(column("name", "value", 1L, 0)));
+		writer.close();
+
+		reader = new ExportFileReader(file, ExportFormat.BINARY, 64);
+		assertThat(reader.next().left).isEqualTo(bytes("key1"));
+		assertThat(reader.next().left).isEqualTo(bytes("key3"));
+		assertThat(reader.next()).isNull();
+		reader.close();
+	}
+
+	@Test
+	public void should_exception_when_not_an_export_file() throws Exception
+	{
+		File file = new File(directory, "range.bin");
+		Files.write("not an export file", file, ExportFileWriter.UTF_8);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("is not a binary export file");
+
+		new ExportFileReader(file, ExportFormat.BINARY, 64);
+	}
+
+	private void should_read_back_rows(ExportFormat format) throws Exception
+	{
+		File file = new File(directory, "range." + format.getExtension());
+		// larger than the buffer to go through the direct channel write
+		String largeValue = new String(new char[200]).replace('\0', 'x');
+
+		ExportFileWriter writer = new ExportFileWriter(file, format, 64, 0);
+		writer.writeHeader("cf", "-1", "42");
+		writer.writeRow(bytes("key1"), Arrays.asList(column("name1", "value1", 10L, 0),
+				column("name2", largeValue, 11L, 3600)));
+		writer.writeRow(bytes("key2"), Arrays.asList(counter("counter", 7L)));
+		writer.close();
+
+		ExportFileReader reader = new ExportFileReader(file, format, 64);
+		assertThat(reader.getColumnFamily()).isEqualTo("cf");
+		assertThat(reader.getStartToken()).isEqualTo("-1");
+		assertThat(reader.getEndToken()).isEqualTo("42");
+
+		Pair<ByteBuffer, List<ColumnOrSuperColumn>> row = reader.next();
+		assertThat(row.left).isEqualTo(bytes("key1"));
+		assertThat(row.right).hasSize(2);
+		Column column1 = row.right.get(0).getColumn();
+		assertThat(column1.bufferForName()).isEqualTo(bytes("name1"));
+		assertThat(column1.bufferForValue()).isEqualTo(bytes("value1"));
+		assertThat(column1.getTimestamp()).isEqualTo(10L);
+		assertThat(column1.isSetTtl()).isFalse();
+		Column column2 = row.right.get(1).getColumn();
+		assertThat(column2.bufferForValue()).isEqualTo(bytes(largeValue));
+		assertThat(column2.getTtl()).isEqualTo(3600);
+
+		row = reader.next();
+		assertThat(row.left).isEqualTo(bytes("key2"));
+		CounterColumn counterColumn = row.right.get(0).getCounter_column();
+		assertThat(counterColumn.bufferForName()).isEqualTo(bytes("counter"));
+		assertThat(counterColumn.getValue()).isEqualTo(7L);
+
+		assertThat(reader.next()).isNull();
+		assertThat(reader.getValidLength()).isEqualTo(file.length());
+		reader.close();
+	}
+
+	private void should_ignore_truncated_row(ExportFormat format) throws Exception
+	{
+		File file = new File(directory, "range." + format.getExtension());
+		ExportFileWriter writer = new ExportFileWriter(file, format, 64, 0);
+		writer.writeHeader("cf", "0", "10");
+		writer.writeRow(bytes("key1"), Arrays.asList(column("name", "value", 1L, 0)));
+		writer.close();
+		long completeLength = file.length();
+
+		writer = new ExportFileWriter(file, format, 64, completeLength);
+		writer.writeRow(bytes("key2"), Arrays.asList(column("name", "value", 1L, 0)));
+		writer.close();
+		cut(file, 2);
+
+		ExportFileReader reader = new ExportFileReader(file, format, 64);
+		assertThat(reader.next().left).isEqualTo(bytes("key1"));
+		assertThat(reader.next()).isNull();
+		assertThat(reader.getValidLength()).isEqualTo(completeLength);
+		reader.close();
+	}
+
+	private void cut(File file, int length) throws Exception
+	{
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+		randomAccessFile.setLength(randomAccessFile.length() - length);
+		randomAccessFile.close();
+	}
+
+	private ColumnOrSuperColumn column(String name, String value, long timestamp, int ttl)
+	{
+		Column column = new Column(bytes(name));
+		column.setValue(bytes(value));
+		column.setTimestamp(timestamp);
+		if (ttl > 0)
+		{
+			column.setTtl(ttl);
+		}
+		return new ColumnOrSuperColumn().setColumn(column);
+	}
+
+	private ColumnOrSuperColumn counter(String name, long value)
+	{
+		return new ColumnOrSuperColumn().setCounter_column(new CounterColumn(bytes(name), value));
+	}
+
+	private ByteBuffer bytes(String value)
+	{
+		return ByteBufferUtil.bytes(value);
+	}
+
+	@After
+	public void tearDown()
+	{
+		FileUtils.deleteQuietly(directory);
+	}
+}
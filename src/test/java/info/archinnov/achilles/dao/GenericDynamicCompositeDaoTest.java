@@ -3,11 +3,30 @@ package info.archinnov.achilles.dao;
 import static info.archinnov.achilles.entity.metadata.PropertyType.END_EAGER;
 import static info.archinnov.achilles.entity.metadata.PropertyType.START_EAGER;
 import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyBoolean;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import info.archinnov.achilles.iterator.EagerTokenRangeIterator;
 import info.archinnov.achilles.serializer.SerializerUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
 import me.prettyprint.cassandra.model.ExecutingKeyspace;
 import me.prettyprint.hector.api.Serializer;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.DynamicComposite;
+import me.prettyprint.hector.api.beans.Row;
+import me.prettyprint.hector.api.beans.Rows;
 import me.prettyprint.hector.api.mutation.Mutator;
 
 import org.junit.Test;
@@ -64,4 +83,46 @@ public class GenericDynamicCompositeDaoTest
 		assertThat(comp.getComponent(0).getEquality()).isSameAs(
 				ComponentEquality.GREATER_THAN_EQUAL);
 	}
+
+	@Test
+	public void should_read_token_range_column_names_lazily() throws Exception
+	{
+		GenericDynamicCompositeDao<Long> entityDao = new GenericDynamicCompositeDao<Long>(
+				keyspace, SerializerUtils.LONG_SRZ, "cf");
+
+		EagerTokenRangeIterator<Long> iterator = entityDao.eagerFetchTokenRange("start", "end",
+				10);
+
+		assertThat(Whitebox.getInternalState(iterator, "columnNameSerializer")).isSameAs(
+				SerializerUtils.LAZY_DYNA_COMP_SRZ);
+		assertThat(Whitebox.getInternalState(iterator, "valueSerializer")).isSameAs(
+				SerializerUtils.TYPED_VALUE_SRZ);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_eager_fetch_chunks_not_started_by_executor_on_calling_thread()
+			throws Exception
+	{
+		GenericDynamicCompositeDao<Long> entityDao = spy(new GenericDynamicCompositeDao<Long>(
+				keyspace, SerializerUtils.LONG_SRZ, "cf"));
+
+		// executor never running its tasks, like a pool whose threads all wait for this call
+		ExecutorService executor = mock(ExecutorService.class);
+		entityDao.setEagerFetchChunking(1, executor);
+
+		Rows<Long, DynamicComposite, Object> rows = mock(Rows.class);
+		Iterator<Row<Long, DynamicComposite, Object>> noRow = Collections
+				.<Row<Long, DynamicComposite, Object>> emptyList().iterator();
+		doReturn(noRow).when(rows).iterator();
+		doReturn(rows).when(entityDao).multiGetSliceRange(any(List.class),
+				any(DynamicComposite.class), any(DynamicComposite.class), anyBoolean(), anyInt());
+
+		Map<Long, ?> entities = entityDao.eagerFetchEntities(Arrays.asList(1L, 2L, 3L));
+
+		assertThat(entities).isEmpty();
+		verify(executor, times(2)).execute(any(Runnable.class));
+		verify(entityDao, times(3)).multiGetSliceRange(any(List.class),
+				any(DynamicComposite.class), any(DynamicComposite.class), anyBoolean(), anyInt());
+	}
 }
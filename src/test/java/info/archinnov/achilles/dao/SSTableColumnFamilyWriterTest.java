@@ -0,0 +1,80 @@
+package info.archinnov.achilles.dao;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import org.apache.cassandra.io.sstable.AbstractSSTableSimpleWriter;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * SSTableColumnFamilyWriterTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SSTableColumnFamilyWriterTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Mock
+	private AbstractSSTableSimpleWriter simpleWriter;
+
+	private ByteBuffer name = STRING_SRZ.toByteBuffer("name");
+	private ByteBuffer value = STRING_SRZ.toByteBuffer("value");
+
+	@Test
+	public void should_start_new_row_only_when_key_changes() throws Exception
+	{
+		SSTableColumnFamilyWriter writer = new SSTableColumnFamilyWriter(simpleWriter);
+
+		writer.addColumn(LONG_SRZ.toByteBuffer(1L), name, value, 100L, 0);
+		writer.addColumn(LONG_SRZ.toByteBuffer(1L), name, value, 101L, 0);
+		writer.addCounter(LONG_SRZ.toByteBuffer(2L), name, 3L);
+
+		verify(simpleWriter, times(1)).newRow(LONG_SRZ.toByteBuffer(1L));
+		verify(simpleWriter, times(1)).newRow(LONG_SRZ.toByteBuffer(2L));
+		verify(simpleWriter).addColumn(name, value, 100L);
+		verify(simpleWriter).addColumn(name, value, 101L);
+		verify(simpleWriter).addCounterColumn(name, 3L);
+		assertThat(writer.getColumnCount()).isEqualTo(3L);
+	}
+
+	@Test
+	public void should_write_expiring_column_when_ttl() throws Exception
+	{
+		SSTableColumnFamilyWriter writer = new SSTableColumnFamilyWriter(simpleWriter);
+
+		writer.addColumn(LONG_SRZ.toByteBuffer(1L), name, value, 100L, 10);
+
+		verify(simpleWriter).addExpiringColumn(eq(name), eq(value), eq(100L), eq(10), anyLong());
+	}
+
+	@Test
+	public void should_exception_when_close_fails() throws Exception
+	{
+		Mockito.doThrow(new IOException("disk full")).when(simpleWriter).close();
+		SSTableColumnFamilyWriter writer = new SSTableColumnFamilyWriter(simpleWriter);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Cannot write SSTable");
+
+		writer.close();
+	}
+}
@@ -0,0 +1,100 @@
+package info.archinnov.achilles.dao;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.factory.HFactory;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * SSTableMutatorTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SSTableMutatorTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Mock
+	private SSTableColumnFamilyWriter writer;
+
+	private SSTableMutator<Long> mutator;
+
+	@Before
+	public void setUp()
+	{
+		Map<String, SSTableColumnFamilyWriter> writers = new HashMap<String, SSTableColumnFamilyWriter>();
+		writers.put("cf", writer);
+		mutator = new SSTableMutator<Long>(LONG_SRZ, writers);
+	}
+
+	@Test
+	public void should_write_insertion_to_column_family_writer() throws Exception
+	{
+		HColumn<String, String> column = HFactory.createColumn("name", "value", STRING_SRZ,
+				STRING_SRZ);
+		column.setTtl(10);
+
+		mutator.addInsertion(1L, "cf", column);
+
+		verify(writer).addColumn(LONG_SRZ.toByteBuffer(1L), STRING_SRZ.toByteBuffer("name"),
+				STRING_SRZ.toByteBuffer("value"), column.getClock(), 10);
+		assertThat(mutator.getPendingMutationCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_write_counter_to_column_family_writer() throws Exception
+	{
+		mutator.addCounter(1L, "cf", HFactory.createCounterColumn("name", 5L, STRING_SRZ));
+		mutator.decrementCounter(1L, "cf", "name", 2L);
+
+		verify(writer).addCounter(LONG_SRZ.toByteBuffer(1L), STRING_SRZ.toByteBuffer("name"), 5L);
+		verify(writer).addCounter(LONG_SRZ.toByteBuffer(1L), STRING_SRZ.toByteBuffer("name"), -2L);
+	}
+
+	@Test
+	public void should_reset_pending_count_on_execute() throws Exception
+	{
+		mutator.addInsertion(1L, "cf",
+				HFactory.createColumn("name", "value", STRING_SRZ, STRING_SRZ));
+
+		assertThat(mutator.execute()).isNotNull();
+		assertThat(mutator.getPendingMutationCount()).isEqualTo(0);
+	}
+
+	@Test
+	public void should_exception_when_no_writer_for_column_family() throws Exception
+	{
+		exception.expect(AchillesException.class);
+		exception.expectMessage("No SSTable writer for the column family 'other'");
+
+		mutator.addInsertion(1L, "other",
+				HFactory.createColumn("name", "value", STRING_SRZ, STRING_SRZ));
+	}
+
+	@Test
+	public void should_exception_on_deletion() throws Exception
+	{
+		exception.expect(UnsupportedOperationException.class);
+		exception.expectMessage("Deletions cannot be written to SSTables");
+
+		mutator.addDeletion(1L, "cf", "name", STRING_SRZ);
+	}
+}
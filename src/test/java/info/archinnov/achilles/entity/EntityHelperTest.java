@@ -516,9 +516,12 @@ public class EntityHelperTest
 		assertThat(proxy).isInstanceOf(Factory.class);
 		Factory factory = (Factory) proxy;
 
-		assertThat(factory.getCallbacks()).hasSize(1);
+		assertThat(factory.getCallbacks()).hasSize(2);
 		assertThat(factory.getCallback(0)).isInstanceOf(JpaEntityInterceptor.class);
 
+		JpaEntityInterceptor<?, ?> interceptor = (JpaEntityInterceptor<?, ?>) factory.getCallback(0);
+		assertThat(factory.getCallback(1)).isSameAs(interceptor.getTargetDispatcher());
+
 	}
 
 	@SuppressWarnings("unchecked")
@@ -5,10 +5,12 @@ import static info.archinnov.achilles.entity.metadata.PropertyType.MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.SERIAL_VERSION_UID;
 import static info.archinnov.achilles.entity.metadata.PropertyType.SET;
 import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
+import static info.archinnov.achilles.serializer.SerializerUtils.LAZY_DYNA_COMP_SRZ;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doNothing;
 import info.archinnov.achilles.columnFamily.ColumnFamilyCreator;
+import info.archinnov.achilles.composite.LazyDynamicComposite;
 import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
@@ -118,7 +120,7 @@ public class EntityMapperTest
 
 		CompleteBean entity = new CompleteBean();
 		doNothing().when(helper).setValueToField(eq(entity),
-				eq(entityMeta.getIdMeta().getSetter()), idCaptor.capture());
+				eq(entityMeta.getIdMeta()), idCaptor.capture());
 
 		mapper.setIdToEntity(1L, entityMeta.getIdMeta(), entity);
 
@@ -131,7 +133,7 @@ public class EntityMapperTest
 		CompleteBean entity = new CompleteBean();
 		PropertyMeta<?, ?> namePropertyMeta = entityMeta.getPropertyMetas().get("name");
 
-		doNothing().when(helper).setValueToField(eq(entity), eq(namePropertyMeta.getSetter()),
+		doNothing().when(helper).setValueToField(eq(entity), eq(namePropertyMeta),
 				simpleCaptor.capture());
 
 		mapper.setSimplePropertyToEntity("name", namePropertyMeta, entity);
@@ -148,7 +150,7 @@ public class EntityMapperTest
 		PropertyMeta<Void, String> listPropertyMeta = (PropertyMeta<Void, String>) entityMeta
 				.getPropertyMetas().get("friends");
 
-		doNothing().when(helper).setValueToField(eq(entity), eq(listPropertyMeta.getSetter()),
+		doNothing().when(helper).setValueToField(eq(entity), eq(listPropertyMeta),
 				listCaptor.capture());
 
 		mapper.setListPropertyToEntity(Arrays.asList("foo", "bar"), listPropertyMeta, entity);
@@ -166,7 +168,7 @@ public class EntityMapperTest
 		PropertyMeta<Void, String> setPropertyMeta = (PropertyMeta<Void, String>) entityMeta
 				.getPropertyMetas().get("followers");
 
-		doNothing().when(helper).setValueToField(eq(entity), eq(setPropertyMeta.getSetter()),
+		doNothing().when(helper).setValueToField(eq(entity), eq(setPropertyMeta),
 				setCaptor.capture());
 
 		mapper.setSetPropertyToEntity(Sets.newHashSet("George", "Paul"), setPropertyMeta, entity);
@@ -187,7 +189,7 @@ public class EntityMapperTest
 
 		PropertyMeta<?, ?> mapPropertyMeta = entityMeta.getPropertyMetas().get("preferences");
 
-		doNothing().when(helper).setValueToField(eq(entity), eq(mapPropertyMeta.getSetter()),
+		doNothing().when(helper).setValueToField(eq(entity), eq(mapPropertyMeta),
 				mapCaptor.capture());
 
 		mapper.setMapPropertyToEntity(preferences, mapPropertyMeta, entity);
@@ -347,32 +349,32 @@ public class EntityMapperTest
 		PropertyMeta<Integer, String> mapMeta = (PropertyMeta<Integer, String>) entityMeta
 				.getPropertyMetas().get("preferences");
 
-		List<Pair<DynamicComposite, String>> columns = new ArrayList<Pair<DynamicComposite, String>>();
+		List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
 
-		columns.add(new Pair<DynamicComposite, String>(buildSimplePropertyComposite("name"), "name"));
+		columns.add(new Pair<DynamicComposite, Object>(buildSimplePropertyComposite("name"), "name"));
 
-		columns.add(new Pair<DynamicComposite, String>(buildListPropertyComposite("friends"), "foo"));
-		columns.add(new Pair<DynamicComposite, String>(buildListPropertyComposite("friends"), "bar"));
+		columns.add(new Pair<DynamicComposite, Object>(buildListPropertyComposite("friends"), "foo"));
+		columns.add(new Pair<DynamicComposite, Object>(buildListPropertyComposite("friends"), "bar"));
 
-		columns.add(new Pair<DynamicComposite, String>(buildSetPropertyComposite("followers"),
+		columns.add(new Pair<DynamicComposite, Object>(buildSetPropertyComposite("followers"),
 				"George"));
-		columns.add(new Pair<DynamicComposite, String>(buildSetPropertyComposite("followers"),
+		columns.add(new Pair<DynamicComposite, Object>(buildSetPropertyComposite("followers"),
 				"Paul"));
 
-		columns.add(new Pair<DynamicComposite, String>(buildMapPropertyComposite("preferences"),
+		columns.add(new Pair<DynamicComposite, Object>(buildMapPropertyComposite("preferences"),
 				writeToString(new KeyValue<Integer, String>(1, "FR"))));
-		columns.add(new Pair<DynamicComposite, String>(buildMapPropertyComposite("preferences"),
+		columns.add(new Pair<DynamicComposite, Object>(buildMapPropertyComposite("preferences"),
 				writeToString(new KeyValue<Integer, String>(2, "Paris"))));
-		columns.add(new Pair<DynamicComposite, String>(buildMapPropertyComposite("preferences"),
+		columns.add(new Pair<DynamicComposite, Object>(buildMapPropertyComposite("preferences"),
 				writeToString(new KeyValue<Integer, String>(3, "75014"))));
 
-		doNothing().when(helper).setValueToField(eq(entity), eq(idMeta.getSetter()),
+		doNothing().when(helper).setValueToField(eq(entity), eq(idMeta),
 				idCaptor.capture());
-		doNothing().when(helper).setValueToField(eq(entity), eq(simpleMeta.getSetter()),
+		doNothing().when(helper).setValueToField(eq(entity), eq(simpleMeta),
 				simpleCaptor.capture());
-		doNothing().when(helper).setValueToField(eq(entity), eq(setMeta.getSetter()),
+		doNothing().when(helper).setValueToField(eq(entity), eq(setMeta),
 				setCaptor.capture());
-		doNothing().when(helper).setValueToField(eq(entity), eq(mapMeta.getSetter()),
+		doNothing().when(helper).setValueToField(eq(entity), eq(mapMeta),
 				mapCaptor.capture());
 
 		mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
@@ -393,10 +395,9 @@ public class EntityMapperTest
 	public void should_exception_when_serialVersionUID_changes() throws Exception
 	{
 		CompleteBean entity = new CompleteBean();
-		List<Pair<DynamicComposite, String>> columns = new ArrayList<Pair<DynamicComposite, String>>();
+		List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
 
-		columns.add(new Pair<DynamicComposite, String>(
-				buildSimplePropertyComposite(SERIAL_VERSION_UID.name()), "123"));
+		columns.add(new Pair<DynamicComposite, Object>(buildSerialVersionUIDComposite(), "123"));
 
 		expectedException.expect(IllegalStateException.class);
 		expectedException
@@ -406,6 +407,60 @@ public class EntityMapperTest
 		mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
 	}
 
+	@Test
+	public void should_skip_column_of_unknown_property() throws Exception
+	{
+		CompleteBean entity = new CompleteBean();
+		List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
+
+		columns.add(new Pair<DynamicComposite, Object>(buildSerialVersionUIDComposite(), String
+				.valueOf(entityMeta.getSerialVersionUID())));
+		columns.add(new Pair<DynamicComposite, Object>(buildSimplePropertyComposite("removed"),
+				"value"));
+		columns.add(new Pair<DynamicComposite, Object>(buildSimplePropertyComposite("name"),
+				"name"));
+
+		doNothing().when(helper).setValueToField(eq(entity),
+				eq(entityMeta.getPropertyMetas().get("name")), simpleCaptor.capture());
+
+		mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
+
+		assertThat(simpleCaptor.getAllValues()).containsExactly("name");
+	}
+
+	@Test
+	public void should_not_deserialize_eager_column_names() throws Exception
+	{
+		CompleteBean entity = new CompleteBean();
+		LazyDynamicComposite nameColumn = lazy(buildSimplePropertyComposite("name"));
+		LazyDynamicComposite friendColumn = lazy(buildListPropertyComposite("friends"));
+		LazyDynamicComposite unknownColumn = lazy(buildSimplePropertyComposite("removed"));
+
+		List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
+		columns.add(new Pair<DynamicComposite, Object>(nameColumn, "name"));
+		columns.add(new Pair<DynamicComposite, Object>(friendColumn, "foo"));
+		columns.add(new Pair<DynamicComposite, Object>(unknownColumn, "value"));
+
+		mapper.setEagerPropertiesToEntity(2L, columns, entityMeta, entity);
+
+		assertThat(nameColumn.isMaterialized()).isFalse();
+		assertThat(friendColumn.isMaterialized()).isFalse();
+		assertThat(unknownColumn.isMaterialized()).isFalse();
+	}
+
+	private LazyDynamicComposite lazy(DynamicComposite composite)
+	{
+		return (LazyDynamicComposite) LAZY_DYNA_COMP_SRZ.fromByteBuffer(composite.serialize());
+	}
+
+	private DynamicComposite buildSerialVersionUIDComposite()
+	{
+		DynamicComposite comp = new DynamicComposite();
+		comp.add(0, SERIAL_VERSION_UID.flag());
+		comp.add(1, SERIAL_VERSION_UID.name());
+		return comp;
+	}
+
 	private DynamicComposite buildSimplePropertyComposite(String propertyName)
 	{
 		DynamicComposite comp = new DynamicComposite();
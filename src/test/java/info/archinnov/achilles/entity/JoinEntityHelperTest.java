@@ -12,7 +12,6 @@ import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -66,20 +65,18 @@ public class JoinEntityHelperTest
 	{
 		List<Long> keys = mock(List.class);
 
-		Method idSetter = UserBean.class.getDeclaredMethod("setUserId", Long.class);
-
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
 
-		List<Pair<DynamicComposite, String>> columns1 = new ArrayList<Pair<DynamicComposite, String>>();
-		columns1.add(new Pair<DynamicComposite, String>(start, "foo"));
-		columns1.add(new Pair<DynamicComposite, String>(end, "bar"));
+		List<Pair<DynamicComposite, Object>> columns1 = new ArrayList<Pair<DynamicComposite, Object>>();
+		columns1.add(new Pair<DynamicComposite, Object>(start, "foo"));
+		columns1.add(new Pair<DynamicComposite, Object>(end, "bar"));
 
-		List<Pair<DynamicComposite, String>> columns2 = new ArrayList<Pair<DynamicComposite, String>>();
-		columns2.add(new Pair<DynamicComposite, String>(start, "john"));
-		columns2.add(new Pair<DynamicComposite, String>(end, "helen"));
+		List<Pair<DynamicComposite, Object>> columns2 = new ArrayList<Pair<DynamicComposite, Object>>();
+		columns2.add(new Pair<DynamicComposite, Object>(start, "john"));
+		columns2.add(new Pair<DynamicComposite, Object>(end, "helen"));
 
-		Map<Long, List<Pair<DynamicComposite, String>>> rows = new HashMap<Long, List<Pair<DynamicComposite, String>>>();
+		Map<Long, List<Pair<DynamicComposite, Object>>> rows = new HashMap<Long, List<Pair<DynamicComposite, Object>>>();
 		rows.put(11L, columns1);
 		rows.put(12L, columns2);
 
@@ -87,7 +84,6 @@ public class JoinEntityHelperTest
 		when(dao.eagerFetchEntities(keys)).thenReturn(rows);
 
 		when(joinMeta.getIdMeta()).thenReturn(joinIdMeta);
-		when(joinIdMeta.getSetter()).thenReturn(idSetter);
 
 		Map<Long, UserBean> actual = joinHelper.loadJoinEntities(UserBean.class, keys, joinMeta);
 
@@ -96,8 +92,8 @@ public class JoinEntityHelperTest
 		verify(mapper).setEagerPropertiesToEntity(eq(12L), eq(columns2), eq(joinMeta),
 				userCaptor.capture());
 
-		verify(helper).setValueToField(any(UserBean.class), eq(idSetter), eq(11L));
-		verify(helper).setValueToField(any(UserBean.class), eq(idSetter), eq(12L));
+		verify(helper).setValueToField(any(UserBean.class), eq(joinIdMeta), eq(11L));
+		verify(helper).setValueToField(any(UserBean.class), eq(joinIdMeta), eq(12L));
 
 		assertThat(userCaptor.getAllValues()).hasSize(2);
 		UserBean user1 = userCaptor.getAllValues().get(0);
@@ -112,8 +108,8 @@ public class JoinEntityHelperTest
 	public void should_return_empty_map_when_no_join_entity_found() throws Exception
 	{
 		List<Long> keys = mock(List.class);
-		Map<Long, List<Pair<DynamicComposite, String>>> rows = new HashMap<Long, List<Pair<DynamicComposite, String>>>();
-		List<Pair<DynamicComposite, String>> columns1 = new ArrayList<Pair<DynamicComposite, String>>();
+		Map<Long, List<Pair<DynamicComposite, Object>>> rows = new HashMap<Long, List<Pair<DynamicComposite, Object>>>();
+		List<Pair<DynamicComposite, Object>> columns1 = new ArrayList<Pair<DynamicComposite, Object>>();
 		rows.put(11L, columns1);
 
 		when(joinMeta.getEntityDao()).thenReturn(dao);
@@ -0,0 +1,110 @@
+package info.archinnov.achilles.entity;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import mapping.entity.CompleteBean;
+import net.sf.cglib.reflect.FastMethod;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * MethodInvokerTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class MethodInvokerTest
+{
+	@Rule
+	public ExpectedException expectedException = ExpectedException.none();
+
+	@Test
+	public void should_invoke_generated_getter_and_setter() throws Exception
+	{
+		Method getter = CompleteBean.class.getMethod("getName");
+		Method setter = CompleteBean.class.getMethod("setName", String.class);
+		FastMethod fastGetter = MethodInvoker.fastMethod(getter);
+		FastMethod fastSetter = MethodInvoker.fastMethod(setter);
+
+		CompleteBean bean = new CompleteBean();
+		MethodInvoker.invoke(fastSetter, setter, bean, "name");
+
+		assertThat(MethodInvoker.invoke(fastGetter, getter, bean)).isEqualTo("name");
+		assertThat(fastGetter.getJavaMethod()).isEqualTo(getter);
+	}
+
+	@Test
+	public void should_invoke_by_reflection_without_fast_method() throws Exception
+	{
+		Method getter = Bean.class.getMethod("getValue");
+		Bean bean = new Bean();
+		bean.setValue(12L);
+
+		assertThat(MethodInvoker.invoke(null, getter, bean)).isEqualTo(12L);
+	}
+
+	@Test
+	public void should_invoke_inherited_method_on_subclass() throws Exception
+	{
+		Method getter = Bean.class.getMethod("getValue");
+		ChildBean bean = new ChildBean();
+		bean.setValue(15L);
+
+		assertThat(MethodInvoker.invoke(MethodInvoker.fastMethod(getter), getter, bean))
+				.isEqualTo(15L);
+	}
+
+	@Test
+	public void should_invoke_method_of_bootstrap_class() throws Exception
+	{
+		Method length = String.class.getMethod("length");
+
+		assertThat(MethodInvoker.invoke(MethodInvoker.fastMethod(length), length, "abc"))
+				.isEqualTo(3);
+	}
+
+	@Test
+	public void should_wrap_exception_thrown_by_method() throws Exception
+	{
+		Method failing = Bean.class.getMethod("fail");
+
+		expectedException.expect(InvocationTargetException.class);
+
+		MethodInvoker.invoke(MethodInvoker.fastMethod(failing), failing, new Bean());
+	}
+
+	@Test
+	public void should_have_no_fast_method_for_null_method() throws Exception
+	{
+		assertThat(MethodInvoker.fastMethod(null)).isNull();
+	}
+
+	public static class Bean
+	{
+		private Long value;
+
+		public Long getValue()
+		{
+			return value;
+		}
+
+		public void setValue(Long value)
+		{
+			this.value = value;
+		}
+
+		public void fail()
+		{
+			throw new IllegalStateException("fail");
+		}
+	}
+
+	public static class ChildBean extends Bean
+	{
+	}
+}
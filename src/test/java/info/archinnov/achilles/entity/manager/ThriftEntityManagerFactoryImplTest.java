@@ -9,16 +9,23 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.columnFamily.ColumnFamilyCreator;
+import info.archinnov.achilles.dao.DaoOptions;
+import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.dao.GenericCounterDao;
+import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
 import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.manager.ThriftEntityManagerFactoryImpl;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.parser.EntityExplorer;
 import info.archinnov.achilles.entity.parser.EntityParser;
 import info.archinnov.achilles.exception.BeanMappingException;
 import info.archinnov.achilles.json.ObjectMapperFactory;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -95,6 +102,21 @@ public class ThriftEntityManagerFactoryImplTest
 	@Mock
 	private ColumnFamilyCreator columnFamilyCreator;
 
+	@Mock
+	private DaoOptions daoOptions;
+
+	@Mock
+	private GenericDynamicCompositeDao<Long> entityDao;
+
+	@Mock
+	private GenericCounterDao<Long> counterDao;
+
+	@Mock
+	private GenericCompositeDao<Long, String> externalDao;
+
+	@Mock
+	private GenericCompositeDao<Long, Long> counterWideMapDao;
+
 	@Test
 	public void should_bootstrap() throws Exception
 	{
@@ -154,6 +176,34 @@ public class ThriftEntityManagerFactoryImplTest
 		factory.bootstrap();
 	}
 
+	@Test
+	public void should_configure_daos_with_options() throws Exception
+	{
+		PropertyMeta<Integer, String> wideMapMeta = new PropertyMeta<Integer, String>();
+		wideMapMeta.setExternalWideMapProperties(new ExternalWideMapProperties<Long>("externalCF",
+				externalDao, null));
+		PropertyMeta<Integer, Long> counterWideMapMeta = new PropertyMeta<Integer, Long>();
+		counterWideMapMeta.setType(PropertyType.COUNTER_WIDE_MAP);
+		counterWideMapMeta.setExternalWideMapProperties(new ExternalWideMapProperties<Long>(
+				"counterCF", counterWideMapDao, null));
+		Map<String, PropertyMeta<?, ?>> propertyMetas = new HashMap<String, PropertyMeta<?, ?>>();
+		propertyMetas.put("wideMap", wideMapMeta);
+		propertyMetas.put("counterWideMap", counterWideMapMeta);
+		propertyMetas.put("age", longPropertyMeta);
+
+		when(entityMetaMap.values()).thenReturn(Arrays.<EntityMeta<?>> asList(entityMeta1));
+		when(entityMeta1.getEntityDao()).thenReturn(entityDao);
+		when(entityMeta1.getCounterDao()).thenReturn(counterDao);
+		when(entityMeta1.getPropertyMetas()).thenReturn(propertyMetas);
+
+		factory.configureDaos();
+
+		verify(daoOptions).configure(entityDao);
+		verify(daoOptions).configureCounterDao(counterDao);
+		verify(daoOptions).configure(externalDao);
+		verify(daoOptions).configureCounterDao(counterWideMapDao);
+	}
+
 	@Test
 	public void should_create_entity_manager() throws Exception
 	{
@@ -1,5 +1,7 @@
 package info.archinnov.achilles.entity.manager;
 
+import static info.archinnov.achilles.dao.AutoFlushMutator.DEFAULT_MAX_BYTES;
+import static info.archinnov.achilles.dao.AutoFlushMutator.DEFAULT_MAX_COLUMNS;
 import static info.archinnov.achilles.entity.metadata.PropertyType.JOIN_SIMPLE;
 import static info.archinnov.achilles.entity.metadata.PropertyType.JOIN_WIDE_MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_LIST;
@@ -12,6 +14,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.annotations.Lazy;
+import info.archinnov.achilles.dao.AutoFlushMutator;
 import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
@@ -20,12 +23,17 @@ import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.operations.EntityLoader;
 import info.archinnov.achilles.entity.operations.EntityMerger;
 import info.archinnov.achilles.entity.operations.EntityPersister;
+import info.archinnov.achilles.entity.operations.EntityScanner;
+import info.archinnov.achilles.entity.type.EntityScanHandler;
 import info.archinnov.achilles.entity.type.WideMap;
+import info.archinnov.achilles.exception.AchillesException;
+import info.archinnov.achilles.iterator.EntityScanIterator;
 import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
 import integration.tests.entity.User;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -33,6 +41,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 
 import javax.persistence.Column;
 import javax.persistence.FlushModeType;
@@ -188,6 +197,40 @@ public class ThriftEntityManagerTest
 		assertThat(bean).isSameAs(entity);
 	}
 
+	@Test
+	public void should_find_all_in_primary_keys_order() throws Exception
+	{
+		CompleteBean entity2 = CompleteBeanTestBuilder.builder().id(2L).name("name2").buid();
+		Map<Long, CompleteBean> entitiesByKey = new HashMap<Long, CompleteBean>();
+		entitiesByKey.put(1L, entity);
+		entitiesByKey.put(2L, entity2);
+
+		when(loader.loadAll(CompleteBean.class, Arrays.asList(2L, 3L, 1L), entityMeta))
+				.thenReturn(entitiesByKey);
+		when(helper.buildProxy(entity, entityMeta)).thenReturn(entity);
+		when(helper.buildProxy(entity2, entityMeta)).thenReturn(entity2);
+
+		List<CompleteBean> beans = em.findAll(CompleteBean.class, Arrays.asList(2L, 3L, 1L, 2L));
+
+		assertThat(beans).containsExactly(entity2, entity);
+	}
+
+	@Test
+	public void should_find_all_as_map() throws Exception
+	{
+		Map<Long, CompleteBean> entitiesByKey = new HashMap<Long, CompleteBean>();
+		entitiesByKey.put(1L, entity);
+
+		when(loader.loadAll(CompleteBean.class, Arrays.asList(1L, 5L), entityMeta)).thenReturn(
+				entitiesByKey);
+		when(helper.buildProxy(entity, entityMeta)).thenReturn(entity);
+
+		Map<Long, CompleteBean> beans = em.findAllAsMap(CompleteBean.class, Arrays.asList(1L, 5L));
+
+		assertThat(beans).hasSize(1);
+		assertThat(beans.get(1L)).isSameAs(entity);
+	}
+
 	@Test
 	public void should_get_reference() throws Exception
 	{
@@ -240,7 +283,7 @@ public class ThriftEntityManagerTest
 		GenericDynamicCompositeDao<Integer> joinDao = mock(GenericDynamicCompositeDao.class);
 		joinMeta.setEntityDao(joinDao);
 		joinProperties.setEntityMeta(joinMeta);
-		Mutator<Integer> joinMutator = mock(Mutator.class);
+		AutoFlushMutator<Integer> joinMutator = mock(AutoFlushMutator.class);
 
 		PropertyMeta<Long, User> propertyMeta = new PropertyMeta<Long, User>();
 		propertyMeta.setType(JOIN_WIDE_MAP);
@@ -251,12 +294,15 @@ public class ThriftEntityManagerTest
 		propertyMetaMap.put("users", propertyMeta);
 
 		when(entityMeta.getPropertyMetas()).thenReturn(propertyMetaMap);
-		when(entityDao.buildMutator()).thenReturn(mutator);
+		AutoFlushMutator<Long> mutator = mock(AutoFlushMutator.class);
+		when(entityDao.buildAutoFlushMutator(DEFAULT_MAX_COLUMNS, DEFAULT_MAX_BYTES)).thenReturn(
+				mutator);
 
 		JpaEntityInterceptor<Long, User> interceptor = mock(JpaEntityInterceptor.class);
 
 		when(bean.getCallback(0)).thenReturn(interceptor);
-		when(joinDao.buildMutator()).thenReturn(joinMutator);
+		when(joinDao.buildAutoFlushMutator(DEFAULT_MAX_COLUMNS, DEFAULT_MAX_BYTES)).thenReturn(
+				joinMutator);
 
 		em.startBatch(bean);
 
@@ -267,6 +313,52 @@ public class ThriftEntityManagerTest
 
 	}
 
+	@Test
+	public void should_start_batch_with_flush_thresholds() throws Exception
+	{
+		Factory bean = mock(Factory.class);
+
+		when(helper.isProxy(bean)).thenReturn(true);
+		when(helper.deriveBaseClass(bean)).thenReturn((Class) CompleteBean.class);
+		when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
+		GenericDynamicCompositeDao<Long> entityDao = mock(GenericDynamicCompositeDao.class);
+		when(entityMeta.getEntityDao()).thenReturn(entityDao);
+
+		JoinProperties joinProperties = new JoinProperties();
+		EntityMeta<Integer> joinMeta = new EntityMeta<Integer>();
+		GenericDynamicCompositeDao<Integer> joinDao = mock(GenericDynamicCompositeDao.class);
+		joinMeta.setEntityDao(joinDao);
+		joinProperties.setEntityMeta(joinMeta);
+		AutoFlushMutator<Integer> joinMutator = mock(AutoFlushMutator.class);
+
+		PropertyMeta<Long, User> propertyMeta = new PropertyMeta<Long, User>();
+		propertyMeta.setType(JOIN_WIDE_MAP);
+		propertyMeta.setPropertyName("users");
+		propertyMeta.setJoinProperties(joinProperties);
+
+		Map<String, PropertyMeta<?, ?>> propertyMetaMap = new HashMap<String, PropertyMeta<?, ?>>();
+		propertyMetaMap.put("users", propertyMeta);
+
+		when(entityMeta.getPropertyMetas()).thenReturn(propertyMetaMap);
+		AutoFlushMutator<Long> mutator = mock(AutoFlushMutator.class);
+		when(entityDao.buildAutoFlushMutator(100, 2048L)).thenReturn(
+				mutator);
+
+		JpaEntityInterceptor<Long, User> interceptor = mock(JpaEntityInterceptor.class);
+
+		when(bean.getCallback(0)).thenReturn(interceptor);
+		when(joinDao.buildAutoFlushMutator(100, 2048L)).thenReturn(
+				joinMutator);
+
+		em.startBatch(bean, 100, 2048L);
+
+		verify(interceptor).setMutator(mutator);
+		verify(interceptor).setMutatorMap(mutatorMapCaptor.capture());
+
+		assertThat(mutatorMapCaptor.getValue().get("users")).isSameAs((Mutator) joinMutator);
+
+	}
+
 	@Test
 	public void should_exception_when_trying_to_batch_transient_entity() throws Exception
 	{
@@ -323,6 +415,50 @@ public class ThriftEntityManagerTest
 		verifyZeroInteractions(mutator);
 	}
 
+	@Test
+	public void should_truncate() throws Exception
+	{
+		ExecutorService executor = mock(ExecutorService.class);
+		when(persister.truncate(entityMeta, executor, 100)).thenReturn(12L);
+
+		assertThat(em.truncate(CompleteBean.class, executor, 100)).isEqualTo(12L);
+	}
+
+	@Test
+	public void should_exception_when_truncating_unmanaged_entity() throws Exception
+	{
+		exception.expect(AchillesException.class);
+		exception.expectMessage("The entity class '" + Bean.class.getCanonicalName()
+				+ "' is not managed");
+
+		em.truncate(Bean.class, mock(ExecutorService.class), 100);
+	}
+
+	@Test
+	public void should_scan() throws Exception
+	{
+		EntityScanner scanner = mock(EntityScanner.class);
+		Whitebox.setInternalState(em, "scanner", scanner);
+		ExecutorService executor = mock(ExecutorService.class);
+		EntityScanHandler<CompleteBean> handler = mock(EntityScanHandler.class);
+		when(scanner.scan(CompleteBean.class, entityMeta, executor, 100, handler)).thenReturn(12L);
+
+		assertThat(em.scan(CompleteBean.class, executor, 100, handler)).isEqualTo(12L);
+	}
+
+	@Test
+	public void should_scan_with_iterator() throws Exception
+	{
+		EntityScanner scanner = mock(EntityScanner.class);
+		Whitebox.setInternalState(em, "scanner", scanner);
+		ExecutorService executor = mock(ExecutorService.class);
+		EntityScanIterator<CompleteBean> iterator = new EntityScanIterator<CompleteBean>(10, 1);
+		when(scanner.scanIterator(CompleteBean.class, entityMeta, executor, 100, 10)).thenReturn(
+				iterator);
+
+		assertThat(em.scanIterator(CompleteBean.class, executor, 100, 10)).isSameAs(iterator);
+	}
+
 	@Test
 	public void should_initialize_all_lazy_fields() throws Exception
 	{
@@ -395,6 +531,9 @@ public class ThriftEntityManagerTest
 		TestBean bean = new TestBean();
 		when(helper.isProxy(bean)).thenReturn(true);
 		when(helper.getRealObject(bean)).thenReturn(bean);
+		JpaEntityInterceptor<Object, TestBean> interceptor = mock(JpaEntityInterceptor.class);
+		when(helper.getInterceptor(bean)).thenReturn(interceptor);
+		when(interceptor.getUnloadedEagerGetters()).thenReturn(new HashSet<Method>());
 		when(entityMetaMap.get(TestBean.class)).thenReturn(entityMeta);
 
 		PropertyMeta<Void, String> friendsMeta = PropertyMetaTestBuilder //
@@ -1,7 +1,10 @@
 package info.archinnov.achilles.entity.metadata;
 
 import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.codec.JacksonValueCodec;
+import info.archinnov.achilles.composite.ColumnPrefix;
 import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.serializer.CompressedValue;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -14,6 +17,7 @@ import java.util.UUID;
 import mapping.entity.UserBean;
 import me.prettyprint.cassandra.utils.TimeUUIDUtils;
 
+import org.apache.commons.lang.StringUtils;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.Test;
 
@@ -114,6 +118,28 @@ public class PropertyMetaTest
 		assertThat(value).isEqualTo(PropertyType.JOIN_MAP);
 	}
 
+	@Test
+	public void should_get_native_value() throws Exception
+	{
+		PropertyMeta<Void, Long> propertyMeta = new PropertyMeta<Void, Long>();
+		propertyMeta.setValueClass(Long.class);
+		propertyMeta.setObjectMapper(objectMapper);
+
+		Long value = propertyMeta.getValueFromString(123L);
+		assertThat(value).isEqualTo(123L);
+	}
+
+	@Test
+	public void should_get_enum_value_from_native_name() throws Exception
+	{
+		PropertyMeta<Void, PropertyType> propertyMeta = new PropertyMeta<Void, PropertyType>();
+		propertyMeta.setValueClass(PropertyType.class);
+		propertyMeta.setObjectMapper(objectMapper);
+
+		PropertyType value = propertyMeta.getValueFromString("JOIN_MAP");
+		assertThat(value).isEqualTo(PropertyType.JOIN_MAP);
+	}
+
 	@Test
 	public void should_get_allowed_type_from_string() throws Exception
 	{
@@ -134,6 +160,9 @@ public class PropertyMetaTest
 	public void should_get_key_value_from_string() throws Exception
 	{
 		PropertyMeta<Integer, String> propertyMeta = new PropertyMeta<Integer, String>();
+		propertyMeta.setType(PropertyType.MAP);
+		propertyMeta.setKeyClass(Integer.class);
+		propertyMeta.setValueClass(String.class);
 		propertyMeta.setObjectMapper(objectMapper);
 
 		KeyValue<Integer, String> keyValue = new KeyValue<Integer, String>(12, "12", 456);
@@ -146,6 +175,42 @@ public class PropertyMetaTest
 		assertThat(converted.getTtl()).isEqualTo(keyValue.getTtl());
 	}
 
+	@Test
+	public void should_get_typed_key_value_from_string() throws Exception
+	{
+		PropertyMeta<Long, UserBean> propertyMeta = new PropertyMeta<Long, UserBean>();
+		propertyMeta.setType(PropertyType.LAZY_MAP);
+		propertyMeta.setKeyClass(Long.class);
+		propertyMeta.setValueClass(UserBean.class);
+		propertyMeta.setObjectMapper(objectMapper);
+
+		UserBean bean = new UserBean();
+		bean.setName("name");
+		String keyValueString = objectMapper.writeValueAsString(new KeyValue<Long, UserBean>(12L,
+				bean));
+
+		KeyValue<Long, UserBean> converted = propertyMeta.getKeyValueFromString(keyValueString);
+
+		assertThat(converted.getKey()).isEqualTo(12L);
+		assertThat(converted.getValue().getName()).isEqualTo("name");
+	}
+
+	@Test
+	public void should_get_join_key_value_from_string_with_serialized_join_id() throws Exception
+	{
+		PropertyMeta<Integer, UserBean> propertyMeta = new PropertyMeta<Integer, UserBean>();
+		propertyMeta.setType(PropertyType.JOIN_MAP);
+		propertyMeta.setKeyClass(Integer.class);
+		propertyMeta.setValueClass(UserBean.class);
+		propertyMeta.setObjectMapper(objectMapper);
+
+		String keyValueString = propertyMeta.writeValueToString(new KeyValue<Integer, String>(1,
+				"123"));
+
+		assertThat((Object) propertyMeta.getKeyValueFromString(keyValueString).getValue())
+				.isEqualTo("123");
+	}
+
 	@Test
 	public void should_write_value_to_string() throws Exception
 	{
@@ -161,6 +226,130 @@ public class PropertyMetaTest
 		assertThat(converted).isEqualTo(uuidString);
 	}
 
+	@Test
+	public void should_write_native_value() throws Exception
+	{
+		PropertyMeta<Void, UUID> propertyMeta = new PropertyMeta<Void, UUID>();
+		propertyMeta.setType(PropertyType.SIMPLE);
+		propertyMeta.setValueClass(UUID.class);
+		propertyMeta.setObjectMapper(objectMapper);
+
+		UUID timeUUID = TimeUUIDUtils.getUniqueTimeUUIDinMillis();
+
+		assertThat(propertyMeta.writeValue(timeUUID)).isSameAs(timeUUID);
+	}
+
+	@Test
+	public void should_write_non_native_value_to_string() throws Exception
+	{
+		PropertyMeta<Void, UserBean> propertyMeta = new PropertyMeta<Void, UserBean>();
+		propertyMeta.setType(PropertyType.SIMPLE);
+		propertyMeta.setValueClass(UserBean.class);
+		propertyMeta.setObjectMapper(objectMapper);
+
+		UserBean bean = new UserBean();
+		bean.setName("name");
+
+		assertThat(propertyMeta.writeValue(bean)).isEqualTo(objectMapper.writeValueAsString(bean));
+	}
+
+	@Test
+	public void should_write_and_read_value_with_codec() throws Exception
+	{
+		PropertyMeta<Void, UserBean> propertyMeta = new PropertyMeta<Void, UserBean>();
+		propertyMeta.setType(PropertyType.LIST);
+		propertyMeta.setValueClass(UserBean.class);
+		propertyMeta.setValueCodec(new JacksonValueCodec<UserBean>(objectMapper, objectMapper,
+				UserBean.class, true));
+
+		UserBean bean = new UserBean();
+		bean.setName("name");
+
+		Object written = propertyMeta.writeValue(bean);
+
+		assertThat(written).isInstanceOf(byte[].class);
+		assertThat(propertyMeta.getValueFromString(written).getName()).isEqualTo("name");
+	}
+
+	@Test
+	public void should_write_string_value_as_is() throws Exception
+	{
+		PropertyMeta<Void, String> propertyMeta = new PropertyMeta<Void, String>();
+		propertyMeta.setType(PropertyType.SIMPLE);
+		propertyMeta.setValueClass(String.class);
+		propertyMeta.setObjectMapper(objectMapper);
+
+		assertThat(propertyMeta.writeValue("name")).isEqualTo("name");
+	}
+
+	@Test
+	public void should_write_compressed_value_when_reaching_threshold() throws Exception
+	{
+		PropertyMeta<Void, String> propertyMeta = new PropertyMeta<Void, String>();
+		propertyMeta.setType(PropertyType.SIMPLE);
+		propertyMeta.setValueClass(String.class);
+		propertyMeta.setObjectMapper(objectMapper);
+		propertyMeta.setCompressionThreshold(100);
+
+		String large = StringUtils.repeat("compressible ", 100);
+
+		Object written = propertyMeta.writeValue(large);
+
+		assertThat(written).isInstanceOf(CompressedValue.class);
+		assertThat(propertyMeta.writeValue("short")).isEqualTo("short");
+
+		CompressionStats stats = propertyMeta.getCompressionStats();
+		assertThat(stats.getCompressedValues()).isEqualTo(1L);
+		assertThat(stats.getPlainValues()).isEqualTo(1L);
+		assertThat(stats.getRawBytes()).isEqualTo(large.length());
+		assertThat(stats.getCompressedBytes()).isEqualTo(
+				((CompressedValue) written).getCompressed().length);
+		assertThat(stats.getCompressionRatio()).isLessThan(1d);
+	}
+
+	@Test
+	public void should_not_keep_stats_when_compression_disabled() throws Exception
+	{
+		PropertyMeta<Void, String> propertyMeta = new PropertyMeta<Void, String>();
+		propertyMeta.setCompressionThreshold(100);
+		propertyMeta.setCompressionThreshold(0);
+
+		assertThat(propertyMeta.getCompressionStats()).isNull();
+	}
+
+	@Test
+	public void should_cache_column_prefix_until_name_changes() throws Exception
+	{
+		PropertyMeta<Void, String> propertyMeta = new PropertyMeta<Void, String>();
+		propertyMeta.setType(PropertyType.LIST);
+		propertyMeta.setPropertyName("friends");
+
+		ColumnPrefix prefix = propertyMeta.getColumnPrefix();
+
+		assertThat(propertyMeta.getColumnPrefix()).isSameAs(prefix);
+		assertThat(prefix.getFlag()).isEqualTo(PropertyType.LIST.flag());
+		assertThat(prefix.getPropertyName()).isEqualTo("friends");
+
+		propertyMeta.setPropertyName("followers");
+
+		assertThat(propertyMeta.getColumnPrefix().getPropertyName()).isEqualTo("followers");
+	}
+
+	@Test
+	public void should_write_map_value_to_string() throws Exception
+	{
+		PropertyMeta<Integer, Long> propertyMeta = new PropertyMeta<Integer, Long>();
+		propertyMeta.setType(PropertyType.MAP);
+		propertyMeta.setKeyClass(Integer.class);
+		propertyMeta.setValueClass(Long.class);
+		propertyMeta.setObjectMapper(objectMapper);
+
+		KeyValue<Integer, Long> keyValue = new KeyValue<Integer, Long>(1, 2L);
+
+		assertThat(propertyMeta.writeValue(keyValue)).isEqualTo(
+				objectMapper.writeValueAsString(keyValue));
+	}
+
 	@Test
 	public void should_write_value_as_supported_type() throws Exception
 	{
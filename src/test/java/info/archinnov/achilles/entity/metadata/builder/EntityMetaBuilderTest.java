@@ -86,6 +86,9 @@ public class EntityMetaBuilderTest
 		assertThat(meta.getSetterMetas().containsKey(setter));
 		assertThat(meta.getSetterMetas().get(setter)).isSameAs((PropertyMeta) simpleMeta);
 
+		assertThat(simpleMeta.getGetterFastMethod().getJavaMethod()).isEqualTo(getter);
+		assertThat(simpleMeta.getSetterFastMethod().getJavaMethod()).isEqualTo(setter);
+
 		assertThat(meta.getEntityDao()).isNotNull();
 
 	}
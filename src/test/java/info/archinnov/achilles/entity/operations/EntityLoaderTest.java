@@ -8,6 +8,9 @@ import static info.archinnov.achilles.entity.metadata.PropertyType.LIST;
 import static info.archinnov.achilles.entity.metadata.PropertyType.MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.SET;
 import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
+import static info.archinnov.achilles.serializer.SerializerUtils.DYNA_COMP_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.TYPED_VALUE_SRZ;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
 import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.GREATER_THAN_EQUAL;
 import static org.fest.assertions.api.Assertions.assertThat;
@@ -24,16 +27,20 @@ import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
 import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.EntityMapper;
+import info.archinnov.achilles.entity.JoinEntityHelper;
 import info.archinnov.achilles.entity.manager.CompleteBeanTestBuilder;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.exception.AchillesException;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -44,10 +51,14 @@ import mapping.entity.UserBean;
 import me.prettyprint.cassandra.model.ExecutingKeyspace;
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.DynamicComposite;
+import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.factory.HFactory;
 
 import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
@@ -108,6 +119,9 @@ public class EntityLoaderTest
 	@Mock
 	private JoinEntityLoader joinLoader;
 
+	@Mock
+	private JoinEntityHelper joinHelper;
+
 	private ObjectMapper objectMapper = new ObjectMapper();
 
 	@Captor
@@ -116,6 +130,15 @@ public class EntityLoaderTest
 	@Captor
 	ArgumentCaptor<Long> idCaptor;
 
+	@Captor
+	ArgumentCaptor<List<DynamicComposite>> columnNamesCaptor;
+
+	@Captor
+	ArgumentCaptor<List<Pair<DynamicComposite, Object>>> pairsCaptor;
+
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
 	private CompleteBean bean;
 
 	@Before
@@ -129,22 +152,21 @@ public class EntityLoaderTest
 	@Test
 	public void should_load_entity() throws Exception
 	{
-		List<Pair<DynamicComposite, String>> columns = new ArrayList<Pair<DynamicComposite, String>>();
-		columns.add(new Pair<DynamicComposite, String>(new DynamicComposite(), ""));
+		List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
+		columns.add(new Pair<DynamicComposite, Object>(new DynamicComposite(), ""));
 		PropertyMeta<Void, Long> idMeta = mock(PropertyMeta.class);
-		Method idSetter = CompleteBean.class.getDeclaredMethod("setId", Long.class);
 
 		when(entityMeta.getEntityDao()).thenReturn(dao);
 		when(entityMeta.getIdMeta()).thenReturn(idMeta);
-		when(idMeta.getSetter()).thenReturn(idSetter);
 
-		when(dao.eagerFetchEntity(1L)).thenReturn(columns);
-		doNothing().when(helper).setValueToField(any(CompleteBean.class), eq(idSetter),
+		Iterator<Pair<DynamicComposite, Object>> iterator = columns.iterator();
+		when(dao.eagerFetchEntityIterator(1L)).thenReturn(iterator);
+		doNothing().when(helper).setValueToField(any(CompleteBean.class), eq(idMeta),
 				idCaptor.capture());
 
 		loader.load(CompleteBean.class, 1L, entityMeta);
 
-		verify(mapper).setEagerPropertiesToEntity(eq(1L), eq(columns), eq(entityMeta),
+		verify(mapper).setEagerPropertiesToEntity(eq(1L), eq(iterator), eq(entityMeta),
 				any(CompleteBean.class));
 
 		assertThat(idCaptor.getValue()).isEqualTo(1L);
@@ -155,12 +177,10 @@ public class EntityLoaderTest
 	public void should_load_column_family() throws Exception
 	{
 		PropertyMeta<Void, Long> idMeta = mock(PropertyMeta.class);
-		Method idSetter = ColumnFamilyBean.class.getDeclaredMethod("setId", Long.class);
 
 		when(entityMeta.isColumnFamilyDirectMapping()).thenReturn(true);
 		when(entityMeta.getIdMeta()).thenReturn(idMeta);
-		when(idMeta.getSetter()).thenReturn(idSetter);
-		doNothing().when(helper).setValueToField(any(CompleteBean.class), eq(idSetter),
+		doNothing().when(helper).setValueToField(any(CompleteBean.class), eq(idMeta),
 				idCaptor.capture());
 
 		loader.load(ColumnFamilyBean.class, 452L, entityMeta);
@@ -171,16 +191,90 @@ public class EntityLoaderTest
 	@Test
 	public void should_not_load_entity_because_not_found() throws Exception
 	{
-		List<Pair<DynamicComposite, String>> columns = new ArrayList<Pair<DynamicComposite, String>>();
+		List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
 
 		when(entityMeta.getEntityDao()).thenReturn(dao);
-		when(dao.eagerFetchEntity(1L)).thenReturn(columns);
+		when(dao.eagerFetchEntityIterator(1L)).thenReturn(columns.iterator());
 		CompleteBean bean = loader.load(CompleteBean.class, 1L, entityMeta);
 
 		assertThat(bean).isNull();
 		verifyZeroInteractions(mapper);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_load_partial_entity() throws Exception
+	{
+		PropertyMeta<Void, Long> idMeta = mock(PropertyMeta.class);
+		Method idSetter = CompleteBean.class.getDeclaredMethod("setId", Long.class);
+		PropertyMeta<Void, String> lazyMeta = mock(PropertyMeta.class);
+
+		Map<String, PropertyMeta<?, ?>> propertyMetas = new HashMap<String, PropertyMeta<?, ?>>();
+		propertyMetas.put("name", propertyMeta);
+		propertyMetas.put("label", lazyMeta);
+
+		when(entityMeta.getEntityDao()).thenReturn(dao);
+		when(entityMeta.getIdMeta()).thenReturn(idMeta);
+		when(entityMeta.getPropertyMetas()).thenReturn(propertyMetas);
+		when(idMeta.getSetter()).thenReturn(idSetter);
+		when(propertyMeta.type()).thenReturn(SIMPLE);
+		when(lazyMeta.type()).thenReturn(LAZY_SIMPLE);
+
+		DynamicComposite nameComposite = new DynamicComposite();
+		nameComposite.addComponent("name", STRING_SRZ);
+		when(keyFactory.createForBatchInsertSingleValue(propertyMeta)).thenReturn(nameComposite);
+
+		HColumn<DynamicComposite, Object> nameColumn = HFactory.createColumn(nameComposite,
+				"myName", DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+		when(dao.getColumns(eq(1L), columnNamesCaptor.capture())).thenReturn(
+				Arrays.asList(nameColumn));
+
+		CompleteBean entity = loader.loadPartial(CompleteBean.class, 1L, entityMeta,
+				new HashSet<String>(Arrays.asList("name", "label")));
+
+		assertThat(entity).isNotNull();
+		assertThat(columnNamesCaptor.getValue()).hasSize(2);
+		assertThat(columnNamesCaptor.getValue().get(0).get(1, STRING_SRZ)).isEqualTo(
+				PropertyType.SERIAL_VERSION_UID.name());
+		assertThat(columnNamesCaptor.getValue().get(1)).isSameAs(nameComposite);
+
+		verify(mapper).setEagerPropertiesToEntity(eq(1L), pairsCaptor.capture(), eq(entityMeta),
+				eq(entity));
+		assertThat(pairsCaptor.getValue()).hasSize(1);
+		assertThat(pairsCaptor.getValue().get(0).right).isEqualTo("myName");
+	}
+
+	@Test
+	public void should_not_load_partial_entity_because_not_found() throws Exception
+	{
+		Map<String, PropertyMeta<?, ?>> propertyMetas = new HashMap<String, PropertyMeta<?, ?>>();
+
+		when(entityMeta.getEntityDao()).thenReturn(dao);
+		when(entityMeta.getPropertyMetas()).thenReturn(propertyMetas);
+		when(dao.getColumns(eq(1L), any(List.class))).thenReturn(
+				new ArrayList<HColumn<DynamicComposite, Object>>());
+
+		CompleteBean entity = loader.loadPartial(CompleteBean.class, 1L, entityMeta,
+				new HashSet<String>());
+
+		assertThat(entity).isNull();
+		verifyZeroInteractions(mapper);
+	}
+
+	@Test
+	public void should_exception_when_loading_partial_entity_with_unknown_property()
+			throws Exception
+	{
+		when(entityMeta.getPropertyMetas()).thenReturn(new HashMap<String, PropertyMeta<?, ?>>());
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Property 'unknown' does not exist in entity '"
+				+ CompleteBean.class.getCanonicalName() + "'");
+
+		loader.loadPartial(CompleteBean.class, 1L, entityMeta,
+				new HashSet<String>(Arrays.asList("unknown")));
+	}
+
 	@Test(expected = RuntimeException.class)
 	public void should_exception_when_error() throws Exception
 	{
@@ -189,6 +283,49 @@ public class EntityLoaderTest
 		loader.load(CompleteBean.class, 1L, entityMeta);
 	}
 
+	@Test
+	public void should_load_all_entities() throws Exception
+	{
+		List<Long> keys = Arrays.asList(1L, 2L);
+		Map<Long, CompleteBean> entitiesByKey = new HashMap<Long, CompleteBean>();
+		entitiesByKey.put(1L, bean);
+
+		when(joinHelper.loadJoinEntities(CompleteBean.class, keys, entityMeta)).thenReturn(
+				entitiesByKey);
+
+		Map<Long, CompleteBean> loaded = loader.loadAll(CompleteBean.class, keys, entityMeta);
+
+		assertThat(loaded).isSameAs(entitiesByKey);
+	}
+
+	@Test
+	public void should_load_all_entities_for_column_family() throws Exception
+	{
+		PropertyMeta<Void, Long> idMeta = mock(PropertyMeta.class);
+		Method idSetter = ColumnFamilyBean.class.getDeclaredMethod("setId", Long.class);
+
+		when(entityMeta.isColumnFamilyDirectMapping()).thenReturn(true);
+		when(entityMeta.getIdMeta()).thenReturn(idMeta);
+		when(idMeta.getSetter()).thenReturn(idSetter);
+
+		Map<Long, ColumnFamilyBean> loaded = loader.loadAll(ColumnFamilyBean.class,
+				Arrays.asList(10L, 11L), entityMeta);
+
+		assertThat(loaded).hasSize(2);
+		assertThat(loaded.keySet()).containsOnly(10L, 11L);
+		verifyZeroInteractions(joinHelper);
+	}
+
+	@Test
+	public void should_load_nothing_when_no_key() throws Exception
+	{
+		Map<Long, CompleteBean> loaded = loader.loadAll(CompleteBean.class, new ArrayList<Long>(),
+				entityMeta);
+
+		assertThat(loaded).isEmpty();
+		verifyZeroInteractions(joinHelper, dao);
+	}
+
 	@Test
 	public void should_load_version_serial_uid() throws Exception
 	{
@@ -232,9 +369,9 @@ public class EntityLoaderTest
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
 
-		List<Pair<DynamicComposite, String>> friends = new ArrayList<Pair<DynamicComposite, String>>();
-		friends.add(new Pair<DynamicComposite, String>(start, "foo"));
-		friends.add(new Pair<DynamicComposite, String>(end, "bar"));
+		List<Pair<DynamicComposite, Object>> friends = new ArrayList<Pair<DynamicComposite, Object>>();
+		friends.add(new Pair<DynamicComposite, Object>(start, "foo"));
+		friends.add(new Pair<DynamicComposite, Object>(end, "bar"));
 
 		when(keyFactory.createBaseForQuery(listMeta, EQUAL)).thenReturn(start);
 		when(keyFactory.createBaseForQuery(listMeta, GREATER_THAN_EQUAL)).thenReturn(end);
@@ -259,9 +396,9 @@ public class EntityLoaderTest
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
 
-		List<Pair<DynamicComposite, String>> followers = new ArrayList<Pair<DynamicComposite, String>>();
-		followers.add(new Pair<DynamicComposite, String>(start, "George"));
-		followers.add(new Pair<DynamicComposite, String>(end, "Paul"));
+		List<Pair<DynamicComposite, Object>> followers = new ArrayList<Pair<DynamicComposite, Object>>();
+		followers.add(new Pair<DynamicComposite, Object>(start, "George"));
+		followers.add(new Pair<DynamicComposite, Object>(end, "Paul"));
 
 		when(keyFactory.createBaseForQuery(setMeta, EQUAL)).thenReturn(start);
 		when(keyFactory.createBaseForQuery(setMeta, GREATER_THAN_EQUAL)).thenReturn(end);
@@ -287,7 +424,7 @@ public class EntityLoaderTest
 		DynamicComposite middle = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
 
-		List<Pair<DynamicComposite, String>> preferences = new ArrayList<Pair<DynamicComposite, String>>();
+		List<Pair<DynamicComposite, Object>> preferences = new ArrayList<Pair<DynamicComposite, Object>>();
 
 		KeyValue<Integer, String> keyValue1 = new KeyValue<Integer, String>(1, "FR");
 		KeyValue<Integer, String> keyValue2 = new KeyValue<Integer, String>(2, "Paris");
@@ -297,25 +434,19 @@ public class EntityLoaderTest
 		String stringKeyValue2 = writeToString(keyValue2);
 		String stringKeyValue3 = writeToString(keyValue3);
 
-		preferences.add(new Pair<DynamicComposite, String>(start, stringKeyValue1));
-		preferences.add(new Pair<DynamicComposite, String>(middle, stringKeyValue2));
-		preferences.add(new Pair<DynamicComposite, String>(end, stringKeyValue3));
+		preferences.add(new Pair<DynamicComposite, Object>(start, stringKeyValue1));
+		preferences.add(new Pair<DynamicComposite, Object>(middle, stringKeyValue2));
+		preferences.add(new Pair<DynamicComposite, Object>(end, stringKeyValue3));
 
 		when(keyFactory.createBaseForQuery(mapMeta, EQUAL)).thenReturn(start);
 		when(keyFactory.createBaseForQuery(mapMeta, GREATER_THAN_EQUAL)).thenReturn(end);
 		when(dao.findColumnsRange(1L, start, end, false, Integer.MAX_VALUE))
 				.thenReturn(preferences);
 
-		when(mapMeta.getKeyClass()).thenReturn(Integer.class);
-
 		when(mapMeta.getKeyValueFromString(stringKeyValue1)).thenReturn(keyValue1);
 		when(mapMeta.getKeyValueFromString(stringKeyValue2)).thenReturn(keyValue2);
 		when(mapMeta.getKeyValueFromString(stringKeyValue3)).thenReturn(keyValue3);
 
-		when(mapMeta.getValueFromString(keyValue1.getValue())).thenReturn("FR");
-		when(mapMeta.getValueFromString(keyValue2.getValue())).thenReturn("Paris");
-		when(mapMeta.getValueFromString(keyValue3.getValue())).thenReturn("75014");
-
 		Map<Integer, String> value = loader.loadMapProperty(1L, dao, mapMeta);
 
 		assertThat(value).hasSize(3);
@@ -342,7 +473,7 @@ public class EntityLoaderTest
 		spy.loadPropertyIntoObject(bean, 1L, dao, propertyMeta);
 
 		verify(spy).loadSimpleProperty(1L, dao, propertyMeta);
-		verify(propertyMeta).getSetter();
+		verify(helper).setValueToField(eq(bean), eq(propertyMeta), any());
 	}
 
 	@Test
@@ -360,7 +491,7 @@ public class EntityLoaderTest
 		spy.loadPropertyIntoObject(bean, 1L, dao, propertyMeta);
 
 		verify(spy).loadSimpleProperty(1L, dao, propertyMeta);
-		verify(propertyMeta).getSetter();
+		verify(helper).setValueToField(eq(bean), eq(propertyMeta), any());
 	}
 
 	@Test
@@ -371,7 +502,7 @@ public class EntityLoaderTest
 		spy.loadPropertyIntoObject(bean, 1L, dao, listMeta);
 
 		verify(spy).loadListProperty(1L, dao, listMeta);
-		verify(listMeta).getSetter();
+		verify(helper).setValueToField(eq(bean), eq(listMeta), any());
 	}
 
 	@Test
@@ -382,7 +513,7 @@ public class EntityLoaderTest
 		spy.loadPropertyIntoObject(bean, 1L, dao, listMeta);
 
 		verify(spy).loadListProperty(1L, dao, listMeta);
-		verify(listMeta).getSetter();
+		verify(helper).setValueToField(eq(bean), eq(listMeta), any());
 	}
 
 	@Test
@@ -393,7 +524,7 @@ public class EntityLoaderTest
 		spy.loadPropertyIntoObject(bean, 1L, dao, setMeta);
 
 		verify(spy).loadSetProperty(1L, dao, setMeta);
-		verify(setMeta).getSetter();
+		verify(helper).setValueToField(eq(bean), eq(setMeta), any());
 	}
 
 	@Test
@@ -404,7 +535,7 @@ public class EntityLoaderTest
 		spy.loadPropertyIntoObject(bean, 1L, dao, setMeta);
 
 		verify(spy).loadSetProperty(1L, dao, setMeta);
-		verify(setMeta).getSetter();
+		verify(helper).setValueToField(eq(bean), eq(setMeta), any());
 	}
 
 	@Test
@@ -415,7 +546,7 @@ public class EntityLoaderTest
 		spy.loadPropertyIntoObject(bean, 1L, dao, mapMeta);
 
 		verify(spy).loadMapProperty(1L, dao, mapMeta);
-		verify(mapMeta).getSetter();
+		verify(helper).setValueToField(eq(bean), eq(mapMeta), any());
 	}
 
 	@Test
@@ -426,7 +557,7 @@ public class EntityLoaderTest
 		spy.loadPropertyIntoObject(bean, 1L, dao, mapMeta);
 
 		verify(spy).loadMapProperty(1L, dao, mapMeta);
-		verify(mapMeta).getSetter();
+		verify(helper).setValueToField(eq(bean), eq(mapMeta), any());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -434,13 +565,10 @@ public class EntityLoaderTest
 	public void should_load_join_simple() throws Exception
 	{
 		Long key = 11L;
-		Method idSetter = UserBean.class.getDeclaredMethod("setUserId", Long.class);
 
 		PropertyMeta<Void, UserBean> propertyMeta = mock(PropertyMeta.class);
 
 		when(propertyMeta.type()).thenReturn(PropertyType.JOIN_SIMPLE);
-		when(propertyMeta.getSetter()).thenReturn(idSetter);
-
 		when(propertyMeta.getValueClass()).thenReturn(UserBean.class);
 		when((EntityMeta<Long>) propertyMeta.joinMeta()).thenReturn(joinMeta);
 		when((PropertyMeta<Void, Long>) propertyMeta.joinIdMeta()).thenReturn(joinIdMeta);
@@ -452,26 +580,26 @@ public class EntityLoaderTest
 		when(joinIdMeta.getValueFromString("120")).thenReturn(120L);
 		when(joinMeta.getEntityDao()).thenReturn(dao);
 		when(joinMeta.getIdMeta()).thenReturn(joinIdMeta);
-		when(joinIdMeta.getSetter()).thenReturn(idSetter);
 
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
-		List<Pair<DynamicComposite, String>> columns = new ArrayList<Pair<DynamicComposite, String>>();
-		columns.add(new Pair<DynamicComposite, String>(start, "John"));
-		columns.add(new Pair<DynamicComposite, String>(end, "DOE"));
+		List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
+		columns.add(new Pair<DynamicComposite, Object>(start, "John"));
+		columns.add(new Pair<DynamicComposite, Object>(end, "DOE"));
 
-		when(dao.eagerFetchEntity(120L)).thenReturn(columns);
+		Iterator<Pair<DynamicComposite, Object>> iterator = columns.iterator();
+		when(dao.eagerFetchEntityIterator(120L)).thenReturn(iterator);
 
 		ArgumentCaptor<UserBean> userCaptor = ArgumentCaptor.forClass(UserBean.class);
 
 		CompleteBean realObject = new CompleteBean();
 		loader.loadPropertyIntoObject(realObject, key, dao, propertyMeta);
 
-		verify(mapper).setEagerPropertiesToEntity(eq(120L), eq(columns), eq(joinMeta),
+		verify(mapper).setEagerPropertiesToEntity(eq(120L), eq(iterator), eq(joinMeta),
 				userCaptor.capture());
-		verify(helper).setValueToField(userCaptor.capture(), eq(idSetter), eq(120L));
+		verify(helper).setValueToField(userCaptor.capture(), eq(joinIdMeta), eq(120L));
 
-		verify(helper).setValueToField(eq(realObject), eq(idSetter), userCaptor.capture());
+		verify(helper).setValueToField(eq(realObject), eq(propertyMeta), userCaptor.capture());
 
 		List<UserBean> capturedUsers = userCaptor.getAllValues();
 		assertThat(capturedUsers).hasSize(3);
@@ -494,7 +622,7 @@ public class EntityLoaderTest
 
 		this.loader.loadPropertyIntoObject(realObject, 11L, dao, propertyMeta);
 
-		verify(helper).setValueToField(realObject, setter, users);
+		verify(helper).setValueToField(realObject, propertyMeta, users);
 	}
 
 	@Test
@@ -512,7 +640,7 @@ public class EntityLoaderTest
 
 		this.loader.loadPropertyIntoObject(realObject, 11L, dao, propertyMeta);
 
-		verify(helper).setValueToField(realObject, setter, users);
+		verify(helper).setValueToField(realObject, propertyMeta, users);
 	}
 
 	@Test
@@ -530,7 +658,7 @@ public class EntityLoaderTest
 
 		this.loader.loadPropertyIntoObject(realObject, 11L, dao, propertyMeta);
 
-		verify(helper).setValueToField(realObject, setter, users);
+		verify(helper).setValueToField(realObject, propertyMeta, users);
 	}
 
 	private String writeToString(Object object) throws Exception
@@ -13,6 +13,7 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.JoinProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
 
 import java.lang.reflect.Method;
@@ -58,8 +59,7 @@ public class EntityMergerTest
 	@Mock
 	private PropertyMeta<?, String> propertyMeta;
 
-	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
+	private PropertyBitSet dirtyProperties = new PropertyBitSet(10);
 
 	@Mock
 	private GenericDynamicCompositeDao<Long> dao;
@@ -90,6 +90,11 @@ public class EntityMergerTest
 		verify(persister).persist(entity, entityMeta);
 	}
 
+	@SuppressWarnings(
+	{
+			"unchecked",
+			"rawtypes"
+	})
 	@Test
 	public void should_merge_proxy_with_simple_dirty() throws Exception
 	{
@@ -100,13 +105,10 @@ public class EntityMergerTest
 		when(entityMeta.getEntityDao()).thenReturn(dao);
 		when(dao.buildMutator()).thenReturn(mutator);
 
-		Method ageSetter = CompleteBean.class.getDeclaredMethod("setAge", Long.class);
-		Map<Method, PropertyMeta<?, ?>> dirty = new HashMap<Method, PropertyMeta<?, ?>>();
-		dirty.put(ageSetter, propertyMeta);
+		dirtyProperties.set(3);
+		when(entityMeta.getPropertyMeta(3)).thenReturn((PropertyMeta) propertyMeta);
 
-		when(interceptor.getDirtyMap()).thenReturn(dirtyMap);
-		when(dirtyMap.size()).thenReturn(1);
-		when(dirtyMap.entrySet()).thenReturn(dirty.entrySet());
+		when(interceptor.getDirtyProperties()).thenReturn(dirtyProperties);
 		when(interceptor.getKey()).thenReturn(1L);
 		when(interceptor.getTarget()).thenReturn(entity);
 		when(propertyMeta.type()).thenReturn(PropertyType.SIMPLE);
@@ -120,10 +122,14 @@ public class EntityMergerTest
 		assertThat(mutatorCaptor.getValue()).isSameAs(mutator);
 
 		verify(mutator).execute();
-		verify(dirtyMap).clear();
+		assertThat(dirtyProperties.isEmpty()).isTrue();
 	}
 
-	@SuppressWarnings("unchecked")
+	@SuppressWarnings(
+	{
+			"unchecked",
+			"rawtypes"
+	})
 	@Test
 	public void should_merge_proxy_with_multi_value_dirty() throws Exception
 	{
@@ -135,13 +141,10 @@ public class EntityMergerTest
 		when(entityMeta.getEntityDao()).thenReturn(dao);
 		when(dao.buildMutator()).thenReturn(mutator);
 
-		Method ageSetter = CompleteBean.class.getDeclaredMethod("setAge", Long.class);
-		Map<Method, PropertyMeta<?, ?>> dirty = new HashMap<Method, PropertyMeta<?, ?>>();
-		dirty.put(ageSetter, propertyMeta);
+		dirtyProperties.set(3);
+		when(entityMeta.getPropertyMeta(3)).thenReturn((PropertyMeta) propertyMeta);
 
-		when(interceptor.getDirtyMap()).thenReturn(dirtyMap);
-		when(dirtyMap.entrySet()).thenReturn(dirty.entrySet());
-		when(dirtyMap.size()).thenReturn(1);
+		when(interceptor.getDirtyProperties()).thenReturn(dirtyProperties);
 		when(interceptor.getKey()).thenReturn(1L);
 		when(interceptor.getTarget()).thenReturn(entity);
 		when(propertyMeta.type()).thenReturn(PropertyType.LAZY_SET);
@@ -158,7 +161,7 @@ public class EntityMergerTest
 		assertThat(mutatorCaptor.getAllValues()).containsExactly(mutator, mutator);
 		verify(mutator).execute();
 
-		verify(dirtyMap).clear();
+		assertThat(dirtyProperties.isEmpty()).isTrue();
 	}
 
 	@Test
@@ -171,10 +174,7 @@ public class EntityMergerTest
 		when(entityMeta.getEntityDao()).thenReturn(dao);
 		when(dao.buildMutator()).thenReturn(mutator);
 
-		Map<Method, PropertyMeta<?, ?>> dirty = new HashMap<Method, PropertyMeta<?, ?>>();
-
-		when(interceptor.getDirtyMap()).thenReturn(dirtyMap);
-		when(dirtyMap.entrySet()).thenReturn(dirty.entrySet());
+		when(interceptor.getDirtyProperties()).thenReturn(dirtyProperties);
 
 		CompleteBean mergedEntity = merger.mergeEntity(entity, entityMeta);
 
@@ -182,7 +182,7 @@ public class EntityMergerTest
 
 		verifyZeroInteractions(persister);
 		verifyZeroInteractions(mutator);
-		verify(dirtyMap).clear();
+		assertThat(dirtyProperties.isEmpty()).isTrue();
 	}
 
 	@Test
@@ -193,10 +193,7 @@ public class EntityMergerTest
 		when(helper.getInterceptor(entity)).thenReturn(interceptor);
 
 		when(entityMeta.getEntityDao()).thenReturn(dao);
-		Map<Method, PropertyMeta<?, ?>> dirty = new HashMap<Method, PropertyMeta<?, ?>>();
-
-		when(interceptor.getDirtyMap()).thenReturn(dirtyMap);
-		when(dirtyMap.entrySet()).thenReturn(dirty.entrySet());
+		when(interceptor.getDirtyProperties()).thenReturn(dirtyProperties);
 
 		EntityMeta<Long> joinEntityMeta = new EntityMeta<Long>();
 		JoinProperties joinProperties = new JoinProperties();
@@ -221,13 +218,13 @@ public class EntityMergerTest
 
 		UserBean userBean = new UserBean();
 
-		when(helper.getValueFromField(entity, userGetter)).thenReturn(userBean);
+		when(helper.getValueFromField(entity, joinPropertyMeta)).thenReturn(userBean);
 		when(helper.buildProxy(userBean, joinEntityMeta)).thenReturn(userBean);
 
 		merger.mergeEntity(entity, entityMeta);
 
 		verify(persister).persist(userBean, joinEntityMeta);
-		verify(helper).setValueToField(entity, userSetter, userBean);
+		verify(helper).setValueToField(entity, joinPropertyMeta, userBean);
 
 	}
 
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.composite.factory.DynamicCompositeKeyFactory;
 import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.dao.GenericCounterDao;
 import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.manager.CompleteBeanTestBuilder;
@@ -37,6 +38,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import mapping.entity.CompleteBean;
 import mapping.entity.UserBean;
 import me.prettyprint.cassandra.model.ExecutingKeyspace;
@@ -189,10 +191,9 @@ public class EntityPersisterTest {
 
         DynamicComposite composite = new DynamicComposite();
         when(keyFactory.createForBatchInsertSingleValue(propertyMeta)).thenReturn(composite);
-        when(propertyMeta.getGetter()).thenReturn(anyMethod);
 
-        when(helper.getValueFromField(entity, anyMethod)).thenReturn("testValue");
-        when(propertyMeta.writeValueToString("testValue")).thenReturn("testValue");
+        when(helper.getValueFromField(entity, propertyMeta)).thenReturn("testValue");
+        when(propertyMeta.writeValue("testValue")).thenReturn("testValue");
 
         persister.persist(entity, entityMeta);
 
@@ -203,17 +204,16 @@ public class EntityPersisterTest {
 
     @Test
     public void should_batch_list_property() throws Exception {
-        when(propertyMeta.getGetter()).thenReturn(anyMethod);
         when(propertyMeta.type()).thenReturn(LAZY_LIST);
-        when(helper.getValueFromField(entity, anyMethod)).thenReturn(Arrays.asList("foo", "bar"));
+        when(helper.getValueFromField(entity, propertyMeta)).thenReturn(Arrays.asList("foo", "bar"));
         when(propertyMeta.getPropertyName()).thenReturn("friends");
 
         DynamicComposite composite = new DynamicComposite();
         when(keyFactory.createForBatchInsertMultiValue(propertyMeta, 0)).thenReturn(composite);
         when(keyFactory.createForBatchInsertMultiValue(propertyMeta, 1)).thenReturn(composite);
 
-        when(propertyMeta.writeValueToString("foo")).thenReturn("foo");
-        when(propertyMeta.writeValueToString("bar")).thenReturn("bar");
+        when(propertyMeta.writeValue("foo")).thenReturn("foo");
+        when(propertyMeta.writeValue("bar")).thenReturn("bar");
 
         persister.persist(entity, entityMeta);
 
@@ -223,17 +223,16 @@ public class EntityPersisterTest {
 
     @Test
     public void should_batch_set_property() throws Exception {
-        when(propertyMeta.getGetter()).thenReturn(anyMethod);
         when(propertyMeta.type()).thenReturn(SET);
-        when(helper.getValueFromField(entity, anyMethod)).thenReturn(Sets.newHashSet("George", "Paul"));
+        when(helper.getValueFromField(entity, propertyMeta)).thenReturn(Sets.newHashSet("George", "Paul"));
         when(propertyMeta.getPropertyName()).thenReturn("followers");
 
         DynamicComposite composite = new DynamicComposite();
         when(keyFactory.createForBatchInsertMultiValue(propertyMeta, "George".hashCode())).thenReturn(composite);
         when(keyFactory.createForBatchInsertMultiValue(propertyMeta, "Paul".hashCode())).thenReturn(composite);
 
-        when(propertyMeta.writeValueToString("George")).thenReturn("George");
-        when(propertyMeta.writeValueToString("Paul")).thenReturn("Paul");
+        when(propertyMeta.writeValue("George")).thenReturn("George");
+        when(propertyMeta.writeValue("Paul")).thenReturn("Paul");
 
         persister.persist(entity, entityMeta);
 
@@ -243,14 +242,13 @@ public class EntityPersisterTest {
 
     @Test
     public void should_batch_map_property() throws Exception {
-        when(propertyMeta.getGetter()).thenReturn(anyMethod);
         when(propertyMeta.type()).thenReturn(LAZY_MAP);
         Map<Integer, String> map = new HashMap<Integer, String>();
         map.put(1, "FR");
         map.put(2, "Paris");
         map.put(3, "75014");
 
-        when(helper.getValueFromField(entity, anyMethod)).thenReturn(map);
+        when(helper.getValueFromField(entity, propertyMeta)).thenReturn(map);
         when(propertyMeta.getPropertyName()).thenReturn("preferences");
 
         DynamicComposite composite = new DynamicComposite();
@@ -292,24 +290,21 @@ public class EntityPersisterTest {
     public void should_batch_join_entity_when_cascade_persist() throws Exception {
         JoinProperties joinProperties = prepareJoinProperties();
 
-        Method userGetter = CompleteBean.class.getDeclaredMethod("getUser");
-
         when(propertyMeta.getPropertyName()).thenReturn("name");
         when(propertyMeta.type()).thenReturn(JOIN_SIMPLE);
 
         when(propertyMeta.getJoinProperties()).thenReturn(joinProperties);
         when((PropertyMeta) propertyMeta.joinIdMeta()).thenReturn(joinProperties.getEntityMeta().getIdMeta());
-        when(propertyMeta.getGetter()).thenReturn(userGetter);
 
         when((Long) helper.getKey(userBean, joinProperties.getEntityMeta().getIdMeta())).thenReturn(joinId);
         when(helper.unproxy(userBean)).thenReturn(userBean);
         DynamicComposite composite = new DynamicComposite();
         when(keyFactory.createForBatchInsertSingleValue(propertyMeta)).thenReturn(composite);
-        when(helper.getValueFromField(entity, userGetter)).thenReturn(userBean);
+        when(helper.getValueFromField(entity, propertyMeta)).thenReturn(userBean);
 
         persister.persist(entity, entityMeta);
 
-        verify(dao).insertColumnBatch(id, composite, joinId.toString(), mutator);
+        verify(dao).insertColumnBatch(id, composite, joinId, mutator);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -318,14 +313,11 @@ public class EntityPersisterTest {
         JoinProperties joinProperties = prepareJoinProperties();
         joinProperties.getCascadeTypes().clear();
 
-        Method userGetter = CompleteBean.class.getDeclaredMethod("getUser");
-
         when(propertyMeta.getPropertyName()).thenReturn("name");
         when(propertyMeta.type()).thenReturn(JOIN_SIMPLE);
 
         when(propertyMeta.getJoinProperties()).thenReturn(joinProperties);
         when((PropertyMeta) propertyMeta.joinIdMeta()).thenReturn(joinProperties.getEntityMeta().getIdMeta());
-        when(propertyMeta.getGetter()).thenReturn(userGetter);
 
         when((Long) helper.getKey(userBean, joinProperties.getEntityMeta().getIdMeta())).thenReturn(joinId);
 
@@ -334,11 +326,11 @@ public class EntityPersisterTest {
 
         DynamicComposite composite = new DynamicComposite();
         when(keyFactory.createForBatchInsertSingleValue(propertyMeta)).thenReturn(composite);
-        when(helper.getValueFromField(entity, userGetter)).thenReturn(userBean);
+        when(helper.getValueFromField(entity, propertyMeta)).thenReturn(userBean);
 
         persister.persist(entity, entityMeta);
 
-        verify(dao).insertColumnBatch(id, composite, joinId.toString(), mutator);
+        verify(dao).insertColumnBatch(id, composite, joinId, mutator);
     }
 
     @SuppressWarnings("rawtypes")
@@ -346,14 +338,11 @@ public class EntityPersisterTest {
     public void should_persist_join_entity_when_cascade_persist() throws Exception {
         JoinProperties joinProperties = prepareJoinProperties();
 
-        Method userGetter = CompleteBean.class.getDeclaredMethod("getUser");
-
         when(propertyMeta.getPropertyName()).thenReturn("name");
         when(propertyMeta.type()).thenReturn(JOIN_SIMPLE);
 
         when(propertyMeta.getJoinProperties()).thenReturn(joinProperties);
         when((PropertyMeta) propertyMeta.joinIdMeta()).thenReturn(joinProperties.getEntityMeta().getIdMeta());
-        when(propertyMeta.getGetter()).thenReturn(userGetter);
 
         when(dao.buildMutator()).thenReturn(mutator);
 
@@ -361,12 +350,12 @@ public class EntityPersisterTest {
 
         DynamicComposite composite = new DynamicComposite();
         when(keyFactory.createForBatchInsertSingleValue(propertyMeta)).thenReturn(composite);
-        when(helper.getValueFromField(entity, userGetter)).thenReturn(userBean);
+        when(helper.getValueFromField(entity, propertyMeta)).thenReturn(userBean);
         when(helper.unproxy(userBean)).thenReturn(userBean);
         persister.persistProperty(entity, id, dao, propertyMeta, mutator);
 
         verify(dao).insertColumnBatch(eq(joinId), any(DynamicComposite.class), eq("0"), eq(mutator));
-        verify(dao).insertColumnBatch(id, composite, joinId.toString(), mutator);
+        verify(dao).insertColumnBatch(id, composite, joinId, mutator);
     }
 
     @SuppressWarnings("rawtypes")
@@ -485,6 +474,22 @@ public class EntityPersisterTest {
         verify(externalWideMapDao).removeRow(idValue);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void should_remove_entity_and_counter_row() throws Exception {
+        Long idValue = 7856L;
+        EntityMeta<Long> entityMeta = new EntityMeta<Long>();
+        entityMeta.setEntityDao(dao);
+        entityMeta.setPropertyMetas(new HashMap<String, PropertyMeta<?, ?>>());
+        GenericCounterDao<Long> counterDao = mock(GenericCounterDao.class);
+        entityMeta.setCounterDao(counterDao);
+
+        persister.removeById(idValue, entityMeta);
+
+        verify(dao).removeRow(idValue);
+        verify(counterDao).removeRow(idValue);
+    }
+
     @Test
     public void should_remove_entity_by_id() throws Exception {
         Long idValue = 7856L;
@@ -497,10 +502,35 @@ public class EntityPersisterTest {
         verify(dao).removeRow(idValue);
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    public void should_truncate_entity_and_external_wide_map_column_families() throws Exception {
+        EntityMeta<Long> entityMeta = new EntityMeta<Long>();
+        entityMeta.setEntityDao(dao);
+        HashMap<String, PropertyMeta<?, ?>> propertyMetas = new HashMap<String, PropertyMeta<?, ?>>();
+        PropertyMeta<Integer, String> propertyMeta = new PropertyMeta<Integer, String>();
+        ExternalWideMapProperties<Long> externalWideMapProperties = new ExternalWideMapProperties<Long>();
+        GenericCompositeDao<Long, String> externalWideMapDao = mock(GenericCompositeDao.class);
+
+        externalWideMapProperties.setExternalWideMapDao(externalWideMapDao);
+        propertyMeta.setExternalWideMapProperties(externalWideMapProperties);
+        propertyMetas.put("externalWideMap", propertyMeta);
+        entityMeta.setPropertyMetas(propertyMetas);
+
+        ExecutorService executor = mock(ExecutorService.class);
+        when(dao.truncate(executor, 100)).thenReturn(12L);
+
+        long removed = persister.truncate(entityMeta, executor, 100);
+
+        assertThat(removed).isEqualTo(12L);
+        verify(externalWideMapDao).truncate(executor, 100);
+    }
+
     private JoinProperties prepareJoinProperties() throws Exception {
         Method userIdGetter = UserBean.class.getDeclaredMethod("getUserId");
         PropertyMeta<Void, Long> joinIdMeta = new PropertyMeta<Void, Long>();
         joinIdMeta.setType(JOIN_SIMPLE);
+        joinIdMeta.setValueClass(Long.class);
         joinIdMeta.setGetter(userIdGetter);
         joinIdMeta.setObjectMapper(objectMapper);
 
@@ -6,12 +6,10 @@ import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.manager.CompleteBeanTestBuilder;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
-import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
 
-import java.lang.reflect.Method;
 import java.util.Map;
-import java.util.Set;
 
 import mapping.entity.CompleteBean;
 
@@ -63,10 +61,10 @@ public class EntityRefresherTest
 	private JpaEntityInterceptor<Object, CompleteBean> jpaEntityInterceptor;
 
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
-	private Set<Method> lazyLoaded;
+	private PropertyBitSet lazyLoaded;
 
 	@Before
 	public void setUp()
@@ -85,7 +83,7 @@ public class EntityRefresherTest
 		when(helper.getInterceptor(proxy)).thenReturn(jpaEntityInterceptor);
 
 		when(jpaEntityInterceptor.getTarget()).thenReturn(bean);
-		when(jpaEntityInterceptor.getDirtyMap()).thenReturn(dirtyMap);
+		when(jpaEntityInterceptor.getDirtyProperties()).thenReturn(dirtyProperties);
 		when(jpaEntityInterceptor.getLazyLoaded()).thenReturn(lazyLoaded);
 		when(entityMetaMap.get(CompleteBean.class)).thenReturn(entityMeta);
 		when(helper.determinePrimaryKey(proxy, entityMeta)).thenReturn(12L);
@@ -94,7 +92,7 @@ public class EntityRefresherTest
 		entityRefresher.refresh(proxy, entityMetaMap);
 
 		verify(entityValidator).validateEntity(proxy, entityMetaMap);
-		verify(dirtyMap).clear();
+		verify(dirtyProperties).clear();
 		verify(lazyLoaded).clear();
 		verify(jpaEntityInterceptor).setTarget(bean);
 	}
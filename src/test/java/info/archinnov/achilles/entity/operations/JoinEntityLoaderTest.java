@@ -103,7 +103,6 @@ public class JoinEntityLoaderTest
 	@Test
 	public void should_load_join_map() throws Exception
 	{
-		when(mapMeta.getKeyClass()).thenReturn(Integer.class);
 		KeyValue<Integer, UserBean> kv1 = new KeyValue<Integer, UserBean>(11, user1);
 		KeyValue<Integer, UserBean> kv2 = new KeyValue<Integer, UserBean>(12, user2);
 
@@ -131,9 +130,9 @@ public class JoinEntityLoaderTest
 		when(keyFactory.createBaseForQuery(propertyMeta, EQUAL)).thenReturn(start);
 		when(keyFactory.createBaseForQuery(propertyMeta, GREATER_THAN_EQUAL)).thenReturn(end);
 
-		List<Pair<DynamicComposite, String>> columns = new ArrayList<Pair<DynamicComposite, String>>();
-		columns.add(new Pair<DynamicComposite, String>(start, "11"));
-		columns.add(new Pair<DynamicComposite, String>(end, "12"));
+		List<Pair<DynamicComposite, Object>> columns = new ArrayList<Pair<DynamicComposite, Object>>();
+		columns.add(new Pair<DynamicComposite, Object>(start, "11"));
+		columns.add(new Pair<DynamicComposite, Object>(end, "12"));
 
 		when(dao.findColumnsRange(key, start, end, false, Integer.MAX_VALUE)).thenReturn(columns);
 
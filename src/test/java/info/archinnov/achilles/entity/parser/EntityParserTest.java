@@ -13,6 +13,10 @@ import static javax.persistence.CascadeType.MERGE;
 import static javax.persistence.CascadeType.PERSIST;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import info.archinnov.achilles.codec.JacksonValueCodec;
+import info.archinnov.achilles.codec.ValueCodec;
+import info.archinnov.achilles.codec.ValueCodecFactory;
 import info.archinnov.achilles.columnFamily.ColumnFamilyCreator;
 import info.archinnov.achilles.columnFamily.ColumnFamilyHelper;
 import info.archinnov.achilles.dao.GenericCompositeDao;
@@ -48,7 +52,11 @@ import org.mockito.runners.MockitoJUnitRunner;
 import org.powermock.reflect.Whitebox;
 
 import parser.entity.Bean;
+import parser.entity.BeanWithCodec;
 import parser.entity.BeanWithColumnFamilyName;
+import parser.entity.BeanWithCompressedMap;
+import parser.entity.BeanWithCompressedProperty;
+import parser.entity.BeanWithCounterAndLongColumnFamilyName;
 import parser.entity.BeanWithDuplicatedColumnName;
 import parser.entity.BeanWithDuplicatedJoinColumnName;
 import parser.entity.BeanWithExternalJoinWideMap;
@@ -91,10 +99,12 @@ public class EntityParserTest
 
 	private ObjectMapper objectMapper = new ObjectMapper();
 
+	private ObjectMapperFactory factory;
+
 	@Before
 	public void setUp()
 	{
-		ObjectMapperFactory factory = new ObjectMapperFactory()
+		factory = new ObjectMapperFactory()
 		{
 			@Override
 			public <T> ObjectMapper getMapper(Class<T> type)
@@ -121,6 +131,8 @@ public class EntityParserTest
 
 		assertThat(meta.getClassName()).isEqualTo("parser.entity.Bean");
 		assertThat(meta.getColumnFamilyName()).isEqualTo("Bean");
+		assertThat(meta.getProxyPrototype()).isInstanceOf(Bean.class);
+		assertThat(meta.getUnloadedProxyPrototype()).isInstanceOf(Bean.class);
 		assertThat(meta.getSerialVersionUID()).isEqualTo(1L);
 		assertThat((Class) meta.getIdMeta().getValueClass()).isEqualTo(Long.class);
 		assertThat(meta.getIdMeta().getPropertyName()).isEqualTo("id");
@@ -209,6 +221,43 @@ public class EntityParserTest
 		assertThat((Class) joinPropertyMetaToBeFilled.get(linkedUsers)).isEqualTo(UserBean.class);
 	}
 
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_bind_value_codecs() throws Exception
+	{
+		ValueCodecFactory codecFactory = mock(ValueCodecFactory.class);
+		ValueCodec<UserBean> codec = mock(ValueCodec.class);
+		when(codecFactory.getCodec(BeanWithCodec.class, UserBean.class)).thenReturn(codec);
+		parser = new EntityParser(factory, codecFactory);
+
+		EntityMeta<?> meta = parser.parseEntity(keyspace, BeanWithCodec.class).left;
+
+		assertThat((Object) meta.getPropertyMetas().get("user").getValueCodec()).isSameAs(codec);
+		assertThat(meta.getPropertyMetas().get("friends").getValueCodec()).isInstanceOf(
+				JacksonValueCodec.class);
+	}
+
+	@Test
+	public void should_bind_compression_threshold() throws Exception
+	{
+		EntityMeta<?> meta = parser.parseEntity(keyspace, BeanWithCompressedProperty.class).left;
+
+		PropertyMeta<?, ?> paragraphsMeta = meta.getPropertyMetas().get("paragraphs");
+		assertThat(paragraphsMeta.getCompressionThreshold()).isEqualTo(512);
+		assertThat(paragraphsMeta.getCompressionStats()).isNotNull();
+	}
+
+	@Test
+	public void should_exception_when_compressed_map() throws Exception
+	{
+		expectedEx.expect(AchillesException.class);
+		expectedEx.expectMessage("The property 'preferences' of entity '"
+				+ BeanWithCompressedMap.class.getCanonicalName()
+				+ "' of type MAP cannot be @Compressed");
+
+		parser.parseEntity(keyspace, BeanWithCompressedMap.class);
+	}
+
 	@Test
 	public void should_parse_entity_with_table_name() throws Exception
 	{
@@ -307,6 +356,18 @@ public class EntityParserTest
 		parser.parseEntity(keyspace, BeanWithNoColumn.class);
 	}
 
+	@Test
+	public void should_exception_when_counter_column_family_name_too_long() throws Exception
+	{
+		expectedEx.expect(BeanMappingException.class);
+		expectedEx.expectMessage("The counter column family name '"
+				+ "a_column_family_name_of_exactly_45_characters_counters' of entity '"
+				+ BeanWithCounterAndLongColumnFamilyName.class.getCanonicalName()
+				+ "' is invalid. It should be at most 48 characters long");
+
+		parser.parseEntity(keyspace, BeanWithCounterAndLongColumnFamilyName.class);
+	}
+
 	@Test
 	public void should_exception_when_entity_has_duplicated_column_name() throws Exception
 	{
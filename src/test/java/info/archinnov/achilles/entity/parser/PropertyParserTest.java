@@ -1,5 +1,6 @@
 package info.archinnov.achilles.entity.parser;
 
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -10,6 +11,8 @@ import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
 import info.archinnov.achilles.entity.metadata.MultiKeyProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.type.Counter;
+import info.archinnov.achilles.entity.type.CounterWideMap;
 import info.archinnov.achilles.entity.type.WideMap;
 import info.archinnov.achilles.exception.AchillesException;
 import info.archinnov.achilles.exception.BeanMappingException;
@@ -23,6 +26,7 @@ import java.util.Set;
 import java.util.UUID;
 
 import javax.persistence.Column;
+import javax.persistence.JoinColumn;
 
 import me.prettyprint.cassandra.model.ExecutingKeyspace;
 import me.prettyprint.hector.api.Keyspace;
@@ -360,6 +364,151 @@ public class PropertyParserTest
 		assertThat((Serializer) meta.getKeySerializer()).isEqualTo(SerializerUtils.INT_SRZ);
 	}
 
+	@Test
+	public void should_parse_counter() throws Exception
+	{
+		class Test
+		{
+			@Column
+			private Counter visits;
+
+			public Counter getVisits()
+			{
+				return visits;
+			}
+
+			public void setVisits(Counter visits)
+			{
+				this.visits = visits;
+			}
+		}
+
+		PropertyMeta<?, ?> meta = parser.parse(propertyMetas, externalWideMaps, Test.class,
+				Test.class.getDeclaredField("visits"), false, objectMapper);
+
+		assertThat(meta.type()).isEqualTo(PropertyType.COUNTER);
+		assertThat(meta.getPropertyName()).isEqualTo("visits");
+		assertThat((Class) meta.getValueClass()).isEqualTo(Long.class);
+		assertThat(meta.getGetter().getName()).isEqualTo("getVisits");
+		assertThat((Object) propertyMetas.get("visits")).isSameAs(meta);
+	}
+
+	@Test
+	public void should_exception_when_counter_is_join_column() throws Exception
+	{
+		class Test
+		{
+			@JoinColumn
+			private Counter visits;
+
+			public Counter getVisits()
+			{
+				return visits;
+			}
+
+			public void setVisits(Counter visits)
+			{
+				this.visits = visits;
+			}
+		}
+
+		expectedEx.expect(AchillesException.class);
+		expectedEx.expectMessage("cannot be a join column");
+
+		parser.parse(propertyMetas, externalWideMaps, Test.class,
+				Test.class.getDeclaredField("visits"), true, objectMapper);
+	}
+
+	@Test
+	public void should_fill_external_widemap_hashmap_for_counter_wide_map() throws Exception
+	{
+		class Test
+		{
+			@Column(table = "counters")
+			private CounterWideMap<String> clicks;
+
+			public CounterWideMap<String> getClicks()
+			{
+				return clicks;
+			}
+
+			public void setClicks(CounterWideMap<String> clicks)
+			{
+				this.clicks = clicks;
+			}
+		}
+
+		Field clicksField = Test.class.getDeclaredField("clicks");
+		PropertyMeta<?, ?> meta = parser.parse(propertyMetas, externalWideMaps, Test.class,
+				clicksField, false, objectMapper);
+
+		assertThat(meta).isNull();
+		assertThat(externalWideMaps.get(clicksField)).isEqualTo("clicks");
+	}
+
+	@Test
+	public void should_exception_when_counter_wide_map_without_table() throws Exception
+	{
+		class Test
+		{
+			@Column
+			private CounterWideMap<String> clicks;
+
+			public CounterWideMap<String> getClicks()
+			{
+				return clicks;
+			}
+
+			public void setClicks(CounterWideMap<String> clicks)
+			{
+				this.clicks = clicks;
+			}
+		}
+
+		expectedEx.expect(AchillesException.class);
+		expectedEx.expectMessage("should declare its counter column family with @Column(table=...)");
+
+		parser.parse(propertyMetas, externalWideMaps, Test.class,
+				Test.class.getDeclaredField("clicks"), false, objectMapper);
+	}
+
+	@Test
+	public void should_parse_counter_wide_map() throws Exception
+	{
+		class Test
+		{
+			@Column(table = "counters")
+			private CounterWideMap<String> clicks;
+
+			public CounterWideMap<String> getClicks()
+			{
+				return clicks;
+			}
+
+			public void setClicks(CounterWideMap<String> clicks)
+			{
+				this.clicks = clicks;
+			}
+		}
+
+		Keyspace keyspace = mock(ExecutingKeyspace.class);
+		PropertyMeta<Void, Long> idMeta = mock(PropertyMeta.class);
+		when(idMeta.getValueSerializer()).thenReturn(SerializerUtils.LONG_SRZ);
+
+		PropertyMeta<?, ?> meta = parser.parseCounterWideMapProperty(keyspace, idMeta,
+				Test.class, Test.class.getDeclaredField("clicks"), "clicks", objectMapper);
+
+		assertThat(meta.type()).isEqualTo(PropertyType.COUNTER_WIDE_MAP);
+		assertThat((Class) meta.getKeyClass()).isEqualTo(String.class);
+		assertThat((Class) meta.getValueClass()).isEqualTo(Long.class);
+
+		ExternalWideMapProperties<?> externalWideMapProperties = meta
+				.getExternalWideMapProperties();
+		assertThat(externalWideMapProperties.getExternalColumnFamilyName()).isEqualTo("counters");
+		GenericCompositeDao<?, ?> dao = externalWideMapProperties.getExternalWideMapDao();
+		assertThat(Whitebox.getInternalState(dao, "valueSerializer")).isEqualTo(LONG_SRZ);
+	}
+
 	@Test
 	public void should_parse_wide_map() throws Exception
 	{
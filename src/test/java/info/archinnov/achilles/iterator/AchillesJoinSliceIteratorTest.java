@@ -15,6 +15,8 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import mapping.entity.UserBean;
 import me.prettyprint.hector.api.Serializer;
@@ -50,19 +52,19 @@ public class AchillesJoinSliceIteratorTest
 	private PropertyMeta<Integer, UserBean> propertyMeta;
 
 	@Mock
-	private SliceQuery<Long, DynamicComposite, String> query;
+	private SliceQuery<Long, DynamicComposite, Object> query;
 
 	@Mock
-	private QueryResult<ColumnSlice<DynamicComposite, String>> queryResult;
+	private QueryResult<ColumnSlice<DynamicComposite, Object>> queryResult;
 
 	@Mock
-	private ColumnSlice<DynamicComposite, String> columnSlice;
+	private ColumnSlice<DynamicComposite, Object> columnSlice;
 
 	@Mock
-	private List<HColumn<DynamicComposite, String>> hColumns;
+	private List<HColumn<DynamicComposite, Object>> hColumns;
 
 	@Mock
-	private Iterator<HColumn<DynamicComposite, String>> columnsIterator;
+	private Iterator<HColumn<DynamicComposite, Object>> columnsIterator;
 
 	@Mock
 	private JoinEntityHelper joinHelper;
@@ -74,7 +76,7 @@ public class AchillesJoinSliceIteratorTest
 
 	private EntityMeta<Long> joinEntityMeta = new EntityMeta<Long>();
 
-	AchillesJoinSliceIterator<Long, DynamicComposite, String, Integer, UserBean> iterator;
+	AchillesJoinSliceIterator<Long, DynamicComposite, Object, Integer, UserBean> iterator;
 
 	@SuppressWarnings(
 	{
@@ -128,11 +130,11 @@ public class AchillesJoinSliceIteratorTest
 		Integer ttl = 10;
 
 		HColumnTestBuilder.dynamic(name1, joinId1.toString(), ttl);
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(name1,
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(name1,
 				joinId1.toString(), ttl);
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(name2,
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(name2,
 				joinId2.toString(), ttl);
-		HColumn<DynamicComposite, String> hCol3 = HColumnTestBuilder.dynamic(name3,
+		HColumn<DynamicComposite, Object> hCol3 = HColumnTestBuilder.dynamic(name3,
 				joinId3.toString(), ttl);
 
 		Map<Long, UserBean> entitiesMap = new HashMap<Long, UserBean>();
@@ -144,7 +146,7 @@ public class AchillesJoinSliceIteratorTest
 				joinHelper.loadJoinEntities(UserBean.class,
 						Arrays.asList(joinId1, joinId2, joinId3), joinEntityMeta)).thenReturn(
 				entitiesMap);
-		iterator = new AchillesJoinSliceIterator<Long, DynamicComposite, String, Integer, UserBean>(
+		iterator = new AchillesJoinSliceIterator<Long, DynamicComposite, Object, Integer, UserBean>(
 				propertyMeta, query, start, end, false, 10);
 
 		Whitebox.setInternalState(iterator, "joinHelper", joinHelper);
@@ -194,11 +196,11 @@ public class AchillesJoinSliceIteratorTest
 		Long joinId1 = 11L, joinId2 = 12L, joinId3 = 13L;
 		Integer ttl = 10;
 
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(name1,
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(name1,
 				joinId1.toString(), ttl);
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(name2,
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(name2,
 				joinId2.toString(), ttl);
-		HColumn<DynamicComposite, String> hCol3 = HColumnTestBuilder.dynamic(name3,
+		HColumn<DynamicComposite, Object> hCol3 = HColumnTestBuilder.dynamic(name3,
 				joinId3.toString(), ttl);
 
 		when(columnsIterator.hasNext()).thenReturn(true, true, false, true, false);
@@ -215,7 +217,7 @@ public class AchillesJoinSliceIteratorTest
 		when(joinHelper.loadJoinEntities(UserBean.class, Arrays.asList(joinId3), joinEntityMeta))
 				.thenReturn(entitiesMap);
 
-		iterator = new AchillesJoinSliceIterator<Long, DynamicComposite, String, Integer, UserBean>(
+		iterator = new AchillesJoinSliceIterator<Long, DynamicComposite, Object, Integer, UserBean>(
 				propertyMeta, query, start, end, false, count);
 
 		Whitebox.setInternalState(iterator, "joinHelper", joinHelper);
@@ -242,4 +244,70 @@ public class AchillesJoinSliceIteratorTest
 
 		verify(query).setRange(name2, end, false, count);
 	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_prefetch_next_pages() throws Exception
+	{
+		PropertyMeta<Void, Long> idMeta = PropertyMetaTestBuilder //
+				.valueClass(Long.class) //
+				.build();
+
+		joinEntityMeta.setIdMeta(idMeta);
+		when(propertyMeta.type()).thenReturn(PropertyType.JOIN_WIDE_MAP);
+
+		DynamicComposite start = new DynamicComposite(), //
+		end = new DynamicComposite(), //
+		name1 = CompositeTestBuilder.builder().values("name1").buildDynamic(), //
+		name2 = CompositeTestBuilder.builder().values("name2").buildDynamic(), //
+		name3 = CompositeTestBuilder.builder().values("name3").buildDynamic();
+		int count = 2;
+
+		Long joinId1 = 11L, joinId2 = 12L, joinId3 = 13L;
+		Integer ttl = 10;
+
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(name1,
+				joinId1.toString(), ttl);
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(name2,
+				joinId2.toString(), ttl);
+		HColumn<DynamicComposite, Object> hCol3 = HColumnTestBuilder.dynamic(name3,
+				joinId3.toString(), ttl);
+
+		when(columnsIterator.hasNext()).thenReturn(true, true, false, true, false);
+		when(columnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
+
+		Map<Long, UserBean> entitiesMap = new HashMap<Long, UserBean>();
+		entitiesMap.put(joinId1, user1);
+		entitiesMap.put(joinId2, user2);
+		entitiesMap.put(joinId3, user3);
+
+		when(
+				joinHelper.loadJoinEntities(UserBean.class, Arrays.asList(joinId1, joinId2),
+						joinEntityMeta)).thenReturn(entitiesMap);
+		when(joinHelper.loadJoinEntities(UserBean.class, Arrays.asList(joinId3), joinEntityMeta))
+				.thenReturn(entitiesMap);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try
+		{
+			iterator = new AchillesJoinSliceIterator<Long, DynamicComposite, Object, Integer, UserBean>(
+					propertyMeta, query, start, end, false, count);
+			Whitebox.setInternalState(iterator, "joinHelper", joinHelper);
+			iterator.prefetch(executor, 2);
+
+			assertThat(iterator.hasNext()).isTrue();
+			assertThat(iterator.next().getValue().getName()).isEqualTo(user1.getName());
+			assertThat(iterator.hasNext()).isTrue();
+			assertThat(iterator.next().getValue().getName()).isEqualTo(user2.getName());
+			assertThat(iterator.hasNext()).isTrue();
+			assertThat(iterator.next().getValue().getName()).isEqualTo(user3.getName());
+			assertThat(iterator.hasNext()).isFalse();
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		verify(query).setRange(name2, end, false, count);
+	}
 }
@@ -3,6 +3,7 @@ package info.archinnov.achilles.iterator;
 import static info.archinnov.achilles.serializer.SerializerUtils.DYNA_COMP_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.OBJECT_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.TYPED_VALUE_SRZ;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -10,8 +11,13 @@ import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.iterator.AchillesSliceIterator;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import mapping.entity.UserBean;
 import me.prettyprint.hector.api.Serializer;
@@ -44,21 +50,21 @@ public class AchillesSliceIteratorTest
 	private PropertyMeta<Integer, UserBean> propertyMeta;
 
 	@Mock
-	private SliceQuery<Long, DynamicComposite, String> query;
+	private SliceQuery<Long, DynamicComposite, Object> query;
 
 	@Mock
-	private QueryResult<ColumnSlice<DynamicComposite, String>> queryResult;
+	private QueryResult<ColumnSlice<DynamicComposite, Object>> queryResult;
 
 	@Mock
-	private ColumnSlice<DynamicComposite, String> columnSlice;
+	private ColumnSlice<DynamicComposite, Object> columnSlice;
 
 	@Mock
-	private List<HColumn<DynamicComposite, String>> hColumns;
+	private List<HColumn<DynamicComposite, Object>> hColumns;
 
 	@Mock
-	private Iterator<HColumn<DynamicComposite, String>> columnsIterator;
+	private Iterator<HColumn<DynamicComposite, Object>> columnsIterator;
 
-	AchillesSliceIterator<Long, DynamicComposite, String> iterator;
+	AchillesSliceIterator<Long, DynamicComposite, Object> iterator;
 
 	@SuppressWarnings(
 	{
@@ -94,33 +100,33 @@ public class AchillesSliceIteratorTest
 		String val1 = "val1", val2 = "val2", val3 = "val3";
 		long ttl = 10L;
 
-		HColumn<DynamicComposite, String> hCol1 = HFactory.createColumn(name1, val1, ttl,
-				DYNA_COMP_SRZ, STRING_SRZ);
-		HColumn<DynamicComposite, String> hCol2 = HFactory.createColumn(name2, val2, ttl,
-				DYNA_COMP_SRZ, STRING_SRZ);
-		HColumn<DynamicComposite, String> hCol3 = HFactory.createColumn(name3, val3, ttl,
-				DYNA_COMP_SRZ, STRING_SRZ);
+		HColumn<DynamicComposite, Object> hCol1 = HFactory.createColumn(name1, val1, ttl,
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+		HColumn<DynamicComposite, Object> hCol2 = HFactory.createColumn(name2, val2, ttl,
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+		HColumn<DynamicComposite, Object> hCol3 = HFactory.createColumn(name3, val3, ttl,
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
 
 		when(columnsIterator.hasNext()).thenReturn(true, true, true, true, true, false);
 		when(columnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-		iterator = new AchillesSliceIterator<Long, DynamicComposite, String>(query, start, end,
+		iterator = new AchillesSliceIterator<Long, DynamicComposite, Object>(query, start, end,
 				false, 10);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
-		HColumn<DynamicComposite, String> h1 = iterator.next();
+		HColumn<DynamicComposite, Object> h1 = iterator.next();
 
 		assertThat(h1.getName()).isEqualTo(name1);
 		assertThat(h1.getValue()).isEqualTo(val1);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
-		HColumn<DynamicComposite, String> h2 = iterator.next();
+		HColumn<DynamicComposite, Object> h2 = iterator.next();
 
 		assertThat(h2.getName()).isEqualTo(name2);
 		assertThat(h2.getValue()).isEqualTo(val2);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
-		HColumn<DynamicComposite, String> h3 = iterator.next();
+		HColumn<DynamicComposite, Object> h3 = iterator.next();
 
 		assertThat(h3.getName()).isEqualTo(name3);
 		assertThat(h3.getValue()).isEqualTo(val3);
@@ -146,33 +152,33 @@ public class AchillesSliceIteratorTest
 		String val1 = "val1", val2 = "val2", val3 = "val3";
 		long ttl = 10L;
 
-		HColumn<DynamicComposite, String> hCol1 = HFactory.createColumn(name1, val1, ttl,
-				DYNA_COMP_SRZ, STRING_SRZ);
-		HColumn<DynamicComposite, String> hCol2 = HFactory.createColumn(name2, val2, ttl,
-				DYNA_COMP_SRZ, STRING_SRZ);
-		HColumn<DynamicComposite, String> hCol3 = HFactory.createColumn(name3, val3, ttl,
-				DYNA_COMP_SRZ, STRING_SRZ);
+		HColumn<DynamicComposite, Object> hCol1 = HFactory.createColumn(name1, val1, ttl,
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+		HColumn<DynamicComposite, Object> hCol2 = HFactory.createColumn(name2, val2, ttl,
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+		HColumn<DynamicComposite, Object> hCol3 = HFactory.createColumn(name3, val3, ttl,
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
 
 		when(columnsIterator.hasNext()).thenReturn(true, true, true, false, true, false, false);
 		when(columnsIterator.next()).thenReturn(hCol1, hCol2, hCol3);
 
-		iterator = new AchillesSliceIterator<Long, DynamicComposite, String>(query, start, end,
+		iterator = new AchillesSliceIterator<Long, DynamicComposite, Object>(query, start, end,
 				false, count);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
-		HColumn<DynamicComposite, String> h1 = iterator.next();
+		HColumn<DynamicComposite, Object> h1 = iterator.next();
 
 		assertThat(h1.getName()).isEqualTo(name1);
 		assertThat(h1.getValue()).isEqualTo(val1);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
-		HColumn<DynamicComposite, String> h2 = iterator.next();
+		HColumn<DynamicComposite, Object> h2 = iterator.next();
 
 		assertThat(h2.getName()).isEqualTo(name2);
 		assertThat(h2.getValue()).isEqualTo(val2);
 
 		assertThat(iterator.hasNext()).isEqualTo(true);
-		HColumn<DynamicComposite, String> h3 = iterator.next();
+		HColumn<DynamicComposite, Object> h3 = iterator.next();
 
 		assertThat(h3.getName()).isEqualTo(name3);
 		assertThat(h3.getValue()).isEqualTo(val3);
@@ -181,4 +187,86 @@ public class AchillesSliceIteratorTest
 
 		verify(query).setRange(name2, end, false, count);
 	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_prefetch_next_pages() throws Exception
+	{
+		DynamicComposite start = new DynamicComposite(), //
+		end = new DynamicComposite(), //
+		name1 = new DynamicComposite(), //
+		name2 = new DynamicComposite(), //
+		name3 = new DynamicComposite();
+		int count = 2;
+
+		name1.addComponent("name1", STRING_SRZ);
+		name2.addComponent("name2", STRING_SRZ);
+		name3.addComponent("name3", STRING_SRZ);
+
+		HColumn<DynamicComposite, Object> hCol1 = HFactory.createColumn(name1, "val1",
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+		HColumn<DynamicComposite, Object> hCol2 = HFactory.createColumn(name2, "val2",
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+		HColumn<DynamicComposite, Object> hCol3 = HFactory.createColumn(name3, "val3",
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+
+		when(columnSlice.getColumns()).thenReturn(Arrays.asList(hCol1, hCol2),
+				Arrays.asList(hCol3));
+		ByteBuffer name2Bytes = hCol2.getNameBytes();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try
+		{
+			iterator = new AchillesSliceIterator<Long, DynamicComposite, Object>(query, start,
+					end, false, count).prefetch(executor, 2);
+
+			assertThat(iterator.hasNext()).isTrue();
+			assertThat(iterator.next().getValue()).isEqualTo("val1");
+			assertThat(iterator.hasNext()).isTrue();
+			assertThat(iterator.next().getValue()).isEqualTo("val2");
+			assertThat(iterator.hasNext()).isTrue();
+			assertThat(iterator.next().getValue()).isEqualTo("val3");
+			assertThat(iterator.hasNext()).isFalse();
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+
+		verify(query).setRange(name2, end, false, count);
+		assertThat(hCol2.getNameBytes()).isEqualTo(name2Bytes);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_adapt_page_size_to_column_size() throws Exception
+	{
+		DynamicComposite start = new DynamicComposite(), //
+		end = new DynamicComposite(), //
+		name1 = new DynamicComposite(), //
+		name2 = new DynamicComposite();
+
+		name1.addComponent("name1", STRING_SRZ);
+		name2.addComponent("name2", STRING_SRZ);
+
+		HColumn<DynamicComposite, Object> hCol1 = HFactory.createColumn(name1, "val1",
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+		HColumn<DynamicComposite, Object> hCol2 = HFactory.createColumn(name2, "val2",
+				DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+
+		when(columnSlice.getColumns()).thenReturn(Arrays.asList(hCol1, hCol2),
+				new ArrayList<HColumn<DynamicComposite, Object>>());
+
+		AdaptivePageSizer pageSizer = new AdaptivePageSizer(100000, 1, 10, 1000);
+		iterator = new AchillesSliceIterator<Long, DynamicComposite, Object>(query, start, end,
+				false, 2).adaptivePaging(pageSizer);
+
+		assertThat(iterator.hasNext()).isTrue();
+		iterator.next();
+		assertThat(iterator.hasNext()).isTrue();
+		iterator.next();
+		assertThat(iterator.hasNext()).isFalse();
+
+		verify(query).setRange(name2, end, false, 4);
+	}
 }
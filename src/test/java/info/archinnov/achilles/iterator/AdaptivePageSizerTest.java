@@ -0,0 +1,63 @@
+package info.archinnov.achilles.iterator;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+
+import org.junit.Test;
+
+/**
+ * AdaptivePageSizerTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class AdaptivePageSizerTest
+{
+	private AdaptivePageSizer sizer = new AdaptivePageSizer(10000, 10, 1000, 100);
+
+	@Test
+	public void should_cap_initial_count() throws Exception
+	{
+		assertThat(sizer.initialCount(5)).isEqualTo(10);
+		assertThat(sizer.initialCount(50)).isEqualTo(50);
+		assertThat(sizer.initialCount(5000)).isEqualTo(1000);
+	}
+
+	@Test
+	public void should_shrink_toward_target_bytes() throws Exception
+	{
+		// 100 columns of 1000 bytes, target 10000 bytes -> 10 columns
+		assertThat(sizer.nextCount(100, 100, 100000, 10)).isEqualTo(10);
+	}
+
+	@Test
+	public void should_grow_at_most_twice_per_page() throws Exception
+	{
+		// 50 columns of 10 bytes would allow 1000 columns
+		assertThat(sizer.nextCount(50, 50, 500, 10)).isEqualTo(100);
+	}
+
+	@Test
+	public void should_not_exceed_max_count() throws Exception
+	{
+		assertThat(sizer.nextCount(800, 800, 800, 10)).isEqualTo(1000);
+	}
+
+	@Test
+	public void should_halve_when_page_is_slow() throws Exception
+	{
+		assertThat(sizer.nextCount(100, 100, 1000, 500)).isEqualTo(50);
+	}
+
+	@Test
+	public void should_keep_count_for_empty_page() throws Exception
+	{
+		assertThat(sizer.nextCount(100, 0, 0, 500)).isEqualTo(100);
+	}
+
+	@Test(expected = AchillesException.class)
+	public void should_exception_when_max_lower_than_min() throws Exception
+	{
+		new AdaptivePageSizer(10000, 100, 10, 100);
+	}
+}
@@ -0,0 +1,129 @@
+package info.archinnov.achilles.iterator;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.iterator.factory.KeyValueFactory;
+
+import java.util.NoSuchElementException;
+
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.HCounterColumn;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+
+/**
+ * CounterKeyValueIteratorForCompositeTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CounterKeyValueIteratorForCompositeTest
+{
+
+	@InjectMocks
+	private CounterKeyValueIteratorForComposite<Integer> iterator;
+
+	@Mock
+	private CounterColumnSliceIterator<Long, Composite> counterSliceIterator;
+
+	@Mock
+	private PropertyMeta<Integer, Long> wideMapMeta;
+
+	@Mock
+	private KeyValueFactory factory;
+
+	@Mock
+	private HCounterColumn<Composite> hColumn;
+
+	@Before
+	public void setUp()
+	{
+		Whitebox.setInternalState(iterator, "factory", factory);
+	}
+
+	@Test
+	public void should_has_next() throws Exception
+	{
+		when(counterSliceIterator.hasNext()).thenReturn(true, true, false);
+
+		assertThat(iterator.hasNext()).isTrue();
+		assertThat(iterator.hasNext()).isTrue();
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_give_next_keyvalue() throws Exception
+	{
+		KeyValue<Integer, Long> keyValue = mock(KeyValue.class);
+
+		when(counterSliceIterator.hasNext()).thenReturn(true, false);
+		when(counterSliceIterator.next()).thenReturn(hColumn);
+		when(factory.createCounterKeyValueForComposite(wideMapMeta, hColumn)).thenReturn(
+				keyValue);
+
+		KeyValue<Integer, Long> result = iterator.next();
+
+		assertThat(result).isSameAs(keyValue);
+	}
+
+	@Test
+	public void should_give_next_key() throws Exception
+	{
+		when(counterSliceIterator.hasNext()).thenReturn(true, false);
+		when(counterSliceIterator.next()).thenReturn(hColumn);
+		when(factory.createCounterKeyForComposite(wideMapMeta, hColumn)).thenReturn(12);
+
+		Integer result = iterator.nextKey();
+
+		assertThat(result).isEqualTo(12);
+	}
+
+	@Test
+	public void should_give_next_value() throws Exception
+	{
+		when(counterSliceIterator.hasNext()).thenReturn(true, false);
+		when(counterSliceIterator.next()).thenReturn(hColumn);
+		when(hColumn.getValue()).thenReturn(150L);
+
+		Long result = iterator.nextValue();
+
+		assertThat(result).isEqualTo(150L);
+	}
+
+	@Test
+	public void should_give_zero_ttl_and_skip_column() throws Exception
+	{
+		when(counterSliceIterator.hasNext()).thenReturn(true, false);
+		when(counterSliceIterator.next()).thenReturn(hColumn);
+
+		Integer result = iterator.nextTtl();
+
+		assertThat(result).isEqualTo(0);
+		verify(counterSliceIterator).next();
+	}
+
+	@Test(expected = NoSuchElementException.class)
+	public void should_exception_when_no_more_element() throws Exception
+	{
+		when(counterSliceIterator.hasNext()).thenReturn(false);
+		iterator.next();
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void should_exception_when_remove_called() throws Exception
+	{
+		iterator.remove();
+	}
+}
@@ -0,0 +1,115 @@
+package info.archinnov.achilles.iterator;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
+import static info.archinnov.achilles.serializer.SerializerUtils.DYNA_COMP_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.LAZY_DYNA_COMP_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.TYPED_VALUE_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.when;
+import info.archinnov.achilles.composite.LazyDynamicComposite;
+import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
+import info.archinnov.achilles.dao.Pair;
+import info.archinnov.achilles.dao.TokenRangeHelper;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+import org.apache.cassandra.thrift.Column;
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.thrift.KeySlice;
+import org.apache.cassandra.thrift.SlicePredicate;
+import org.apache.cassandra.thrift.SliceRange;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * EagerTokenRangeIteratorTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class EagerTokenRangeIteratorTest
+{
+	@Mock
+	private GenericDynamicCompositeDao<Long> dao;
+
+	@Mock
+	private TokenRangeHelper tokenHelper;
+
+	private SlicePredicate predicate = new SlicePredicate().setSlice_range(new SliceRange(
+			ByteBuffer.allocate(0), ByteBuffer.allocate(0), false, 10));
+
+	private EagerTokenRangeIterator<Long> iterator;
+
+	@Before
+	public void setUp()
+	{
+		when(dao.getColumnFamily()).thenReturn("cf");
+		when(tokenHelper.tokenOf(any(ByteBuffer.class))).thenReturn("token");
+
+		iterator = new EagerTokenRangeIterator<Long>(dao, tokenHelper, LONG_SRZ,
+				LAZY_DYNA_COMP_SRZ, TYPED_VALUE_SRZ, predicate, "start", "end", 2);
+	}
+
+	@Test
+	public void should_keep_column_names_serialized() throws Exception
+	{
+		when(tokenHelper.findRangeSlices(eq("cf"), eq("start"), eq("end"), eq(predicate), anyInt()))
+				.thenReturn(Arrays.asList(row(10L, column("name", "DuyHai"), column("age", 35L))));
+
+		Pair<Long, List<Pair<DynamicComposite, Object>>> row = iterator.next();
+
+		assertThat(row.left).isEqualTo(10L);
+		assertThat(row.right).hasSize(2);
+		for (Pair<DynamicComposite, Object> column : row.right)
+		{
+			assertThat(column.left).isInstanceOf(LazyDynamicComposite.class);
+			assertThat(((LazyDynamicComposite) column.left).isMaterialized()).isFalse();
+		}
+		assertThat(row.right.get(0).left.get(1, STRING_SRZ)).isEqualTo("name");
+	}
+
+	@Test
+	public void should_decode_values_with_value_serializer() throws Exception
+	{
+		when(tokenHelper.findRangeSlices(anyString(), anyString(), anyString(),
+				any(SlicePredicate.class), anyInt())).thenReturn(
+				Arrays.asList(row(10L, column("age", 35L))));
+
+		Pair<Long, List<Pair<DynamicComposite, Object>>> row = iterator.next();
+
+		assertThat(row.right.get(0).right).isEqualTo(35L);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	private KeySlice row(Long key, ColumnOrSuperColumn... columns)
+	{
+		return new KeySlice(LONG_SRZ.toByteBuffer(key), Arrays.asList(columns));
+	}
+
+	private ColumnOrSuperColumn column(String propertyName, Object value)
+	{
+		DynamicComposite name = new DynamicComposite();
+		name.add(0, SIMPLE.flag());
+		name.add(1, propertyName);
+		name.add(2, 0);
+
+		Column column = new Column(DYNA_COMP_SRZ.toByteBuffer(name));
+		column.setValue(TYPED_VALUE_SRZ.toByteBuffer(value));
+		column.setTimestamp(1L);
+		return new ColumnOrSuperColumn().setColumn(column);
+	}
+}
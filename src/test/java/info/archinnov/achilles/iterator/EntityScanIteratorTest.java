@@ -0,0 +1,129 @@
+package info.archinnov.achilles.iterator;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.exception.AchillesException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * EntityScanIteratorTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class EntityScanIteratorTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	@Test
+	public void should_iterate_until_all_ranges_done() throws Exception
+	{
+		EntityScanIterator<String> iterator = new EntityScanIterator<String>(10, 2);
+
+		iterator.offer("a");
+		iterator.rangeDone();
+		iterator.offer("b");
+		iterator.offer("c");
+		iterator.rangeDone();
+
+		List<String> entities = new ArrayList<String>();
+		while (iterator.hasNext())
+		{
+			entities.add(iterator.next());
+		}
+
+		assertThat(entities).containsExactly("a", "b", "c");
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
+	@Test
+	public void should_block_producer_when_buffer_full() throws Exception
+	{
+		final EntityScanIterator<String> iterator = new EntityScanIterator<String>(1, 1);
+		final CountDownLatch secondOffered = new CountDownLatch(1);
+
+		Thread producer = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				iterator.offer("a");
+				iterator.offer("b");
+				secondOffered.countDown();
+				iterator.rangeDone();
+			}
+		});
+		producer.start();
+
+		assertThat(secondOffered.await(300, TimeUnit.MILLISECONDS)).isFalse();
+
+		assertThat(iterator.next()).isEqualTo("a");
+		assertThat(iterator.next()).isEqualTo("b");
+		assertThat(secondOffered.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(iterator.hasNext()).isFalse();
+		producer.join(1000);
+	}
+
+	@Test
+	public void should_release_producer_on_close() throws Exception
+	{
+		final EntityScanIterator<String> iterator = new EntityScanIterator<String>(1, 1);
+		final CountDownLatch released = new CountDownLatch(1);
+
+		Thread producer = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				iterator.offer("a");
+				iterator.offer("b");
+				iterator.offer("c");
+				released.countDown();
+			}
+		});
+		producer.start();
+
+		assertThat(iterator.next()).isEqualTo("a");
+		iterator.close();
+
+		assertThat(released.await(1, TimeUnit.SECONDS)).isTrue();
+		assertThat(iterator.isClosed()).isTrue();
+		assertThat(iterator.hasNext()).isFalse();
+		producer.join(1000);
+	}
+
+	@Test
+	public void should_rethrow_range_failure() throws Exception
+	{
+		EntityScanIterator<String> iterator = new EntityScanIterator<String>(10, 2);
+		iterator.offer("a");
+		iterator.rangeFailed(new IllegalStateException("range failure"));
+
+		assertThat(iterator.next()).isEqualTo("a");
+
+		exception.expect(IllegalStateException.class);
+		exception.expectMessage("range failure");
+
+		iterator.hasNext();
+	}
+
+	@Test
+	public void should_wrap_checked_range_failure() throws Exception
+	{
+		EntityScanIterator<String> iterator = new EntityScanIterator<String>(10, 1);
+		iterator.rangeFailed(new Exception("checked"));
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("Error when scanning entities");
+
+		iterator.hasNext();
+	}
+}
@@ -38,7 +38,7 @@ public class KeyValueIteratorForDynamicCompositeTest
 	private KeyValueIteratorForDynamicComposite<TweetMultiKey, String> iterator;
 
 	@Mock
-	private AchillesSliceIterator<?, DynamicComposite, String> achillesSliceIterator;
+	private AchillesSliceIterator<?, DynamicComposite, Object> achillesSliceIterator;
 
 	@Mock
 	private List<Method> componentSetters;
@@ -67,7 +67,7 @@ public class KeyValueIteratorForDynamicCompositeTest
 	@Test
 	public void should_give_next_keyvalue() throws Exception
 	{
-		HColumn<DynamicComposite, String> column = mock(HColumn.class);
+		HColumn<DynamicComposite, Object> column = mock(HColumn.class);
 		KeyValue<TweetMultiKey, String> keyValue = mock(KeyValue.class);
 
 		when(achillesSliceIterator.hasNext()).thenReturn(true);
@@ -91,7 +91,7 @@ public class KeyValueIteratorForDynamicCompositeTest
 	@Test
 	public void should_give_next_key() throws Exception
 	{
-		HColumn<DynamicComposite, String> column = mock(HColumn.class);
+		HColumn<DynamicComposite, Object> column = mock(HColumn.class);
 		TweetMultiKey key = mock(TweetMultiKey.class);
 
 		when(achillesSliceIterator.hasNext()).thenReturn(true);
@@ -114,7 +114,7 @@ public class KeyValueIteratorForDynamicCompositeTest
 	@Test
 	public void should_give_next_value() throws Exception
 	{
-		HColumn<DynamicComposite, String> column = mock(HColumn.class);
+		HColumn<DynamicComposite, Object> column = mock(HColumn.class);
 		String value = "value";
 
 		when(achillesSliceIterator.hasNext()).thenReturn(true);
@@ -137,7 +137,7 @@ public class KeyValueIteratorForDynamicCompositeTest
 	@Test
 	public void should_give_next_ttl() throws Exception
 	{
-		HColumn<DynamicComposite, String> column = mock(HColumn.class);
+		HColumn<DynamicComposite, Object> column = mock(HColumn.class);
 		Integer ttl = 5464;
 
 		when(achillesSliceIterator.hasNext()).thenReturn(true);
@@ -0,0 +1,178 @@
+package info.archinnov.achilles.iterator;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.DYNA_COMP_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.TYPED_VALUE_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.iterator.SlicePrefetcher.PageLoader;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import me.prettyprint.hector.api.beans.DynamicComposite;
+import me.prettyprint.hector.api.beans.HColumn;
+import me.prettyprint.hector.api.factory.HFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * SlicePrefetcherTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class SlicePrefetcherTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private ExecutorService executor;
+
+	private List<DynamicComposite> requestedStarts = new ArrayList<DynamicComposite>();
+
+	private List<Thread> startThreads = new ArrayList<Thread>();
+
+	@Before
+	public void setUp()
+	{
+		executor = Executors.newSingleThreadExecutor();
+	}
+
+	@After
+	public void tearDown()
+	{
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void should_load_pages_until_partial_page() throws Exception
+	{
+		final List<List<HColumn<DynamicComposite, Object>>> pages = Arrays.asList(
+				Arrays.asList(column("a"), column("b")), Arrays.asList(column("c"), column("d")),
+				Arrays.asList(column("e")));
+
+		SlicePrefetcher<DynamicComposite, HColumn<DynamicComposite, Object>> prefetcher = new SlicePrefetcher<DynamicComposite, HColumn<DynamicComposite, Object>>(
+				executor, 3, loader(pages));
+
+		assertThat(prefetcher.nextPage()).isSameAs(pages.get(0));
+		assertThat(prefetcher.nextPage()).isSameAs(pages.get(1));
+		assertThat(prefetcher.nextPage()).isSameAs(pages.get(2));
+		assertThat(prefetcher.nextPage()).isNull();
+
+		assertThat(requestedStarts).hasSize(3);
+		assertThat(requestedStarts.get(0)).isNull();
+		assertThat(requestedStarts.get(1)).isSameAs(pages.get(0).get(1).getName());
+		assertThat(requestedStarts.get(2)).isSameAs(pages.get(1).get(1).getName());
+	}
+
+	@Test
+	public void should_prepare_next_start_on_consuming_thread() throws Exception
+	{
+		final List<List<HColumn<DynamicComposite, Object>>> pages = Arrays.asList(
+				Arrays.asList(column("a"), column("b")), Arrays.asList(column("c"), column("d")),
+				Arrays.asList(column("e")));
+
+		SlicePrefetcher<DynamicComposite, HColumn<DynamicComposite, Object>> prefetcher = new SlicePrefetcher<DynamicComposite, HColumn<DynamicComposite, Object>>(
+				executor, 2, loader(pages));
+
+		while (prefetcher.nextPage() != null)
+		{
+			prefetcher.prefetch();
+		}
+
+		assertThat(startThreads).hasSize(2);
+		assertThat(startThreads).containsOnly(Thread.currentThread());
+	}
+
+	@Test
+	public void should_stop_after_empty_page() throws Exception
+	{
+		List<HColumn<DynamicComposite, Object>> empty = new ArrayList<HColumn<DynamicComposite, Object>>();
+		final List<List<HColumn<DynamicComposite, Object>>> pages = Arrays.asList(
+				Arrays.asList(column("a"), column("b")), empty);
+
+		SlicePrefetcher<DynamicComposite, HColumn<DynamicComposite, Object>> prefetcher = new SlicePrefetcher<DynamicComposite, HColumn<DynamicComposite, Object>>(
+				executor, 1, loader(pages));
+
+		assertThat(prefetcher.nextPage()).hasSize(2);
+		assertThat(prefetcher.nextPage()).isEmpty();
+		assertThat(prefetcher.nextPage()).isNull();
+	}
+
+	@Test
+	public void should_rethrow_runtime_exception_from_loader() throws Exception
+	{
+		SlicePrefetcher<DynamicComposite, HColumn<DynamicComposite, Object>> prefetcher = new SlicePrefetcher<DynamicComposite, HColumn<DynamicComposite, Object>>(
+				executor, 1, new PageLoader<DynamicComposite, HColumn<DynamicComposite, Object>>()
+				{
+					@Override
+					public List<HColumn<DynamicComposite, Object>> loadPage(
+							DynamicComposite lastName)
+					{
+						throw new IllegalStateException("test");
+					}
+
+					@Override
+					public DynamicComposite nextStart(
+							HColumn<DynamicComposite, Object> lastColumn)
+					{
+						return lastColumn.getName();
+					}
+
+					@Override
+					public boolean isLastPage(List<HColumn<DynamicComposite, Object>> page)
+					{
+						return true;
+					}
+				});
+
+		exception.expect(IllegalStateException.class);
+		exception.expectMessage("test");
+
+		prefetcher.nextPage();
+	}
+
+	private PageLoader<DynamicComposite, HColumn<DynamicComposite, Object>> loader(
+			final List<List<HColumn<DynamicComposite, Object>>> pages)
+	{
+		return new PageLoader<DynamicComposite, HColumn<DynamicComposite, Object>>()
+		{
+			@Override
+			public List<HColumn<DynamicComposite, Object>> loadPage(DynamicComposite lastName)
+			{
+				synchronized (requestedStarts)
+				{
+					requestedStarts.add(lastName);
+					return pages.get(requestedStarts.size() - 1);
+				}
+			}
+
+			@Override
+			public DynamicComposite nextStart(HColumn<DynamicComposite, Object> lastColumn)
+			{
+				startThreads.add(Thread.currentThread());
+				return lastColumn.getName();
+			}
+
+			@Override
+			public boolean isLastPage(List<HColumn<DynamicComposite, Object>> page)
+			{
+				return page.size() < 2;
+			}
+		};
+	}
+
+	private HColumn<DynamicComposite, Object> column(String name)
+	{
+		DynamicComposite composite = new DynamicComposite();
+		composite.addComponent(name, STRING_SRZ);
+		return HFactory.createColumn(composite, name, DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
+	}
+}
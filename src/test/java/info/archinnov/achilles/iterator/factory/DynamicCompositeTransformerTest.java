@@ -58,8 +58,8 @@ public class DynamicCompositeTransformerTest
 	{
 		DynamicComposite comp1 = CompositeTestBuilder.builder().values(1, 2, 45).buildDynamic();
 		DynamicComposite comp2 = CompositeTestBuilder.builder().values(1, 2, 51).buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1");
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2");
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1");
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2");
 
 		PropertyMeta<Integer, String> propertyMeta = PropertyMetaTestBuilder.noClass(Integer.class,
 				String.class).build();
@@ -76,8 +76,8 @@ public class DynamicCompositeTransformerTest
 	{
 		DynamicComposite comp1 = CompositeTestBuilder.builder().values("a", "b").buildDynamic();
 		DynamicComposite comp2 = CompositeTestBuilder.builder().values("c", "d").buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1");
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2");
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1");
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2");
 
 		PropertyMeta<TweetMultiKey, String> propertyMeta = PropertyMetaTestBuilder.noClass(
 				TweetMultiKey.class, String.class).build();
@@ -101,8 +101,8 @@ public class DynamicCompositeTransformerTest
 	{
 		DynamicComposite comp1 = CompositeTestBuilder.builder().buildDynamic();
 		DynamicComposite comp2 = CompositeTestBuilder.builder().buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1");
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2");
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1");
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2");
 
 		PropertyMeta<Integer, String> propertyMeta = PropertyMetaTestBuilder //
 				.noClass(Integer.class, String.class) //
@@ -120,8 +120,8 @@ public class DynamicCompositeTransformerTest
 	{
 		DynamicComposite comp1 = CompositeTestBuilder.builder().buildDynamic();
 		DynamicComposite comp2 = CompositeTestBuilder.builder().buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1");
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2");
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1");
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2");
 
 		PropertyMeta<Void, String> propertyMeta = PropertyMetaTestBuilder
 				.noClass(Void.class, String.class).type(SIMPLE).build();
@@ -138,8 +138,8 @@ public class DynamicCompositeTransformerTest
 	{
 		DynamicComposite comp1 = CompositeTestBuilder.builder().buildDynamic();
 		DynamicComposite comp2 = CompositeTestBuilder.builder().buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1", 12);
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2", 13);
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1", 12);
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2", 13);
 
 		List<Integer> rawValues = Lists.transform(Arrays.asList(hCol1, hCol2),
 				transformer.buildTtlTransformer());
@@ -153,8 +153,8 @@ public class DynamicCompositeTransformerTest
 	{
 		DynamicComposite comp1 = CompositeTestBuilder.builder().values(1, 2, 11).buildDynamic();
 		DynamicComposite comp2 = CompositeTestBuilder.builder().values(1, 3, 12).buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1", 456);
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2", 789);
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(comp1, "test1", 456);
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(comp2, "test2", 789);
 
 		PropertyMeta<Integer, String> propertyMeta = PropertyMetaTestBuilder
 				.noClass(Integer.class, String.class).type(WIDE_MAP).build();
@@ -33,7 +33,7 @@ public class IteratorFactoryTest
 	private AchillesSliceIterator<?, Composite, String> columnSliceComposite;
 
 	@Mock
-	private AchillesSliceIterator<?, DynamicComposite, String> columnSliceDynamicComposite;
+	private AchillesSliceIterator<?, DynamicComposite, Object> columnSliceDynamicComposite;
 
 	@Mock
 	private List<Method> componentSetters;
@@ -98,7 +98,7 @@ public class KeyValueFactoryTest
 	public void should_create_keyvalue_from_dynamic_composite_hcolumn() throws Exception
 	{
 		DynamicComposite dynComp = CompositeTestBuilder.builder().buildDynamic();
-		HColumn<DynamicComposite, String> hColumn = HColumnTestBuilder.dynamic(dynComp, "test");
+		HColumn<DynamicComposite, Object> hColumn = HColumnTestBuilder.dynamic(dynComp, "test");
 
 		KeyValue<Integer, String> keyValue = new KeyValue<Integer, String>(12, "test");
 		when(dynamicCompositeTransformer.buildKeyValueFromDynamicComposite(wideMapMeta, hColumn))
@@ -113,7 +113,7 @@ public class KeyValueFactoryTest
 	public void should_create_key_from_dynamic_composite_hcolumn() throws Exception
 	{
 		DynamicComposite dynComp = CompositeTestBuilder.builder().buildDynamic();
-		HColumn<DynamicComposite, String> hColumn = HColumnTestBuilder.dynamic(dynComp, "test");
+		HColumn<DynamicComposite, Object> hColumn = HColumnTestBuilder.dynamic(dynComp, "test");
 
 		Integer key = 123;
 		when(dynamicCompositeTransformer.buildKeyFromDynamicComposite(wideMapMeta, hColumn))
@@ -128,7 +128,7 @@ public class KeyValueFactoryTest
 	{
 		String value = "test";
 		DynamicComposite dynComp = CompositeTestBuilder.builder().buildDynamic();
-		HColumn<DynamicComposite, String> hColumn = HColumnTestBuilder.dynamic(dynComp, value);
+		HColumn<DynamicComposite, Object> hColumn = HColumnTestBuilder.dynamic(dynComp, value);
 
 		when(dynamicCompositeTransformer.buildValueFromDynamicComposite(wideMapMeta, hColumn))
 				.thenReturn(value);
@@ -143,12 +143,12 @@ public class KeyValueFactoryTest
 	{
 		DynamicComposite dynComp1 = CompositeTestBuilder.builder().buildDynamic();
 		DynamicComposite dynComp2 = CompositeTestBuilder.builder().buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(dynComp1, "test1");
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(dynComp2, "test2");
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(dynComp1, "test1");
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(dynComp2, "test2");
 
-		Function<HColumn<DynamicComposite, String>, String> function = new Function<HColumn<DynamicComposite, String>, String>()
+		Function<HColumn<DynamicComposite, Object>, String> function = new Function<HColumn<DynamicComposite, Object>, String>()
 		{
-			public String apply(HColumn<DynamicComposite, String> hCol)
+			public String apply(HColumn<DynamicComposite, Object> hCol)
 			{
 				return (String) hCol.getValue();
 			}
@@ -175,19 +175,19 @@ public class KeyValueFactoryTest
 
 		DynamicComposite dynComp1 = CompositeTestBuilder.builder().buildDynamic();
 		DynamicComposite dynComp2 = CompositeTestBuilder.builder().buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(dynComp1,
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(dynComp1,
 				joinId1.toString());
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(dynComp2,
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(dynComp2,
 				joinId2.toString());
 
-		Function<HColumn<DynamicComposite, String>, Object> rawValueFn = new Function<HColumn<DynamicComposite, String>, Object>()
+		Function<HColumn<DynamicComposite, Object>, Object> rawValueFn = new Function<HColumn<DynamicComposite, Object>, Object>()
 		{
 
-			public Object apply(HColumn<DynamicComposite, String> hCol)
+			public Object apply(HColumn<DynamicComposite, Object> hCol)
 			{
 				try
 				{
-					return readLong(hCol.getValue());
+					return readLong((String) hCol.getValue());
 				}
 				catch (Exception e)
 				{
@@ -220,12 +220,12 @@ public class KeyValueFactoryTest
 	{
 		DynamicComposite dynComp1 = CompositeTestBuilder.builder().values(0, 1, 11).buildDynamic();
 		DynamicComposite dynComp2 = CompositeTestBuilder.builder().values(0, 1, 12).buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(dynComp1, "test1");
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(dynComp2, "test2");
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(dynComp1, "test1");
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(dynComp2, "test2");
 
-		Function<HColumn<DynamicComposite, String>, Integer> function = new Function<HColumn<DynamicComposite, String>, Integer>()
+		Function<HColumn<DynamicComposite, Object>, Integer> function = new Function<HColumn<DynamicComposite, Object>, Integer>()
 		{
-			public Integer apply(HColumn<DynamicComposite, String> hCol)
+			public Integer apply(HColumn<DynamicComposite, Object> hCol)
 			{
 				return (Integer) hCol.getName().getComponent(2).getValue(SerializerUtils.INT_SRZ);
 			}
@@ -245,14 +245,14 @@ public class KeyValueFactoryTest
 	{
 		DynamicComposite dynComp1 = CompositeTestBuilder.builder().values(0, 1, 11).buildDynamic();
 		DynamicComposite dynComp2 = CompositeTestBuilder.builder().values(0, 1, 12).buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder
 				.dynamic(dynComp1, "test1", 456);
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder
 				.dynamic(dynComp2, "test2", 789);
 
-		Function<HColumn<DynamicComposite, String>, KeyValue<Integer, String>> function = new Function<HColumn<DynamicComposite, String>, KeyValue<Integer, String>>()
+		Function<HColumn<DynamicComposite, Object>, KeyValue<Integer, String>> function = new Function<HColumn<DynamicComposite, Object>, KeyValue<Integer, String>>()
 		{
-			public KeyValue<Integer, String> apply(HColumn<DynamicComposite, String> hCol)
+			public KeyValue<Integer, String> apply(HColumn<DynamicComposite, Object> hCol)
 			{
 				Integer key = (Integer) hCol.getName().getComponent(2)
 						.getValue(SerializerUtils.INT_SRZ);
@@ -295,26 +295,26 @@ public class KeyValueFactoryTest
 				.buildDynamic();
 		DynamicComposite dynComp2 = CompositeTestBuilder.builder().values(0, 1, key2)
 				.buildDynamic();
-		HColumn<DynamicComposite, String> hCol1 = HColumnTestBuilder.dynamic(dynComp1,
+		HColumn<DynamicComposite, Object> hCol1 = HColumnTestBuilder.dynamic(dynComp1,
 				joinId1.toString(), ttl1);
-		HColumn<DynamicComposite, String> hCol2 = HColumnTestBuilder.dynamic(dynComp2,
+		HColumn<DynamicComposite, Object> hCol2 = HColumnTestBuilder.dynamic(dynComp2,
 				joinId2.toString(), ttl2);
 
-		Function<HColumn<DynamicComposite, String>, Integer> keyFunction = new Function<HColumn<DynamicComposite, String>, Integer>()
+		Function<HColumn<DynamicComposite, Object>, Integer> keyFunction = new Function<HColumn<DynamicComposite, Object>, Integer>()
 		{
-			public Integer apply(HColumn<DynamicComposite, String> hCol)
+			public Integer apply(HColumn<DynamicComposite, Object> hCol)
 			{
 				return (Integer) hCol.getName().getComponent(2).getValue(INT_SRZ);
 			}
 		};
 
-		Function<HColumn<DynamicComposite, String>, Object> rawValueFn = new Function<HColumn<DynamicComposite, String>, Object>()
+		Function<HColumn<DynamicComposite, Object>, Object> rawValueFn = new Function<HColumn<DynamicComposite, Object>, Object>()
 		{
-			public Object apply(HColumn<DynamicComposite, String> hCol)
+			public Object apply(HColumn<DynamicComposite, Object> hCol)
 			{
 				try
 				{
-					return readLong(hCol.getValue());
+					return readLong((String) hCol.getValue());
 				}
 				catch (Exception e)
 				{
@@ -323,9 +323,9 @@ public class KeyValueFactoryTest
 				return hCol.getValue();
 			}
 		};
-		Function<HColumn<DynamicComposite, String>, Integer> ttlFn = new Function<HColumn<DynamicComposite, String>, Integer>()
+		Function<HColumn<DynamicComposite, Object>, Integer> ttlFn = new Function<HColumn<DynamicComposite, Object>, Integer>()
 		{
-			public Integer apply(HColumn<DynamicComposite, String> hCol)
+			public Integer apply(HColumn<DynamicComposite, Object> hCol)
 			{
 				return hCol.getTtl();
 			}
@@ -0,0 +1,154 @@
+package info.archinnov.achilles.proxy;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_LIST;
+import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
+import static info.archinnov.achilles.proxy.EntityCallbackFilter.DISPATCH;
+import static info.archinnov.achilles.proxy.EntityCallbackFilter.INTERCEPT;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import mapping.entity.CompleteBean;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import testBuilders.PropertyMetaTestBuilder;
+
+/**
+ * EntityCallbackFilterTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class EntityCallbackFilterTest
+{
+	private EntityMeta<Long> entityMeta = new EntityMeta<Long>();
+
+	private PropertyMeta<Void, Long> idMeta;
+	private PropertyMeta<Void, String> nameMeta;
+	private PropertyMeta<Void, String> friendsMeta;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class) //
+				.field("id") //
+				.type(SIMPLE) //
+				.accesors() //
+				.build();
+
+		nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class) //
+				.field("name") //
+				.type(SIMPLE) //
+				.accesors() //
+				.build();
+
+		friendsMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class) //
+				.field("friends") //
+				.type(LAZY_LIST) //
+				.accesors() //
+				.build();
+
+		Map<Method, PropertyMeta<?, ?>> getterMetas = new HashMap<Method, PropertyMeta<?, ?>>();
+		getterMetas.put(nameMeta.getGetter(), nameMeta);
+		getterMetas.put(friendsMeta.getGetter(), friendsMeta);
+
+		Map<Method, PropertyMeta<?, ?>> setterMetas = new HashMap<Method, PropertyMeta<?, ?>>();
+		setterMetas.put(nameMeta.getSetter(), nameMeta);
+		setterMetas.put(friendsMeta.getSetter(), friendsMeta);
+
+		entityMeta.setIdMeta(idMeta);
+		entityMeta.setGetterMetas(getterMetas);
+		entityMeta.setSetterMetas(setterMetas);
+	}
+
+	@Test
+	public void should_intercept_id_accessors() throws Exception
+	{
+		EntityCallbackFilter filter = new EntityCallbackFilter(entityMeta, true);
+
+		assertThat(filter.accept(idMeta.getGetter())).isEqualTo(INTERCEPT);
+		assertThat(filter.accept(idMeta.getSetter())).isEqualTo(INTERCEPT);
+	}
+
+	@Test
+	public void should_intercept_setters() throws Exception
+	{
+		EntityCallbackFilter filter = new EntityCallbackFilter(entityMeta, true);
+
+		assertThat(filter.accept(nameMeta.getSetter())).isEqualTo(INTERCEPT);
+		assertThat(filter.accept(friendsMeta.getSetter())).isEqualTo(INTERCEPT);
+	}
+
+	@Test
+	public void should_intercept_lazy_getter() throws Exception
+	{
+		EntityCallbackFilter filter = new EntityCallbackFilter(entityMeta, true);
+
+		assertThat(filter.accept(friendsMeta.getGetter())).isEqualTo(INTERCEPT);
+	}
+
+	@Test
+	public void should_dispatch_eager_simple_getter() throws Exception
+	{
+		EntityCallbackFilter filter = new EntityCallbackFilter(entityMeta, true);
+
+		assertThat(filter.accept(nameMeta.getGetter())).isEqualTo(DISPATCH);
+	}
+
+	@Test
+	public void should_intercept_eager_simple_getter_when_not_dispatching_eager_getters()
+			throws Exception
+	{
+		EntityCallbackFilter filter = new EntityCallbackFilter(entityMeta, false);
+
+		assertThat(filter.accept(nameMeta.getGetter())).isEqualTo(INTERCEPT);
+	}
+
+	@Test
+	public void should_dispatch_non_mapped_public_method() throws Exception
+	{
+		EntityCallbackFilter filter = new EntityCallbackFilter(entityMeta, false);
+
+		assertThat(filter.accept(Object.class.getMethod("toString"))).isEqualTo(DISPATCH);
+		assertThat(filter.accept(CompleteBean.class.getMethod("getAge"))).isEqualTo(DISPATCH);
+	}
+
+	@Test
+	public void should_intercept_non_public_method() throws Exception
+	{
+		EntityCallbackFilter filter = new EntityCallbackFilter(entityMeta, true);
+
+		assertThat(filter.accept(Object.class.getDeclaredMethod("finalize"))).isEqualTo(
+				INTERCEPT);
+	}
+
+	@Test
+	public void should_be_equal_when_routing_same_methods() throws Exception
+	{
+		EntityMeta<Long> otherEntityMeta = new EntityMeta<Long>();
+		otherEntityMeta.setIdMeta(idMeta);
+		otherEntityMeta.setGetterMetas(new HashMap<Method, PropertyMeta<?, ?>>(
+				entityMeta.getGetterMetas()));
+		otherEntityMeta.setSetterMetas(new HashMap<Method, PropertyMeta<?, ?>>(
+				entityMeta.getSetterMetas()));
+
+		EntityCallbackFilter filter = new EntityCallbackFilter(entityMeta, true);
+		EntityCallbackFilter otherFilter = new EntityCallbackFilter(otherEntityMeta, true);
+
+		assertThat(filter).isEqualTo(otherFilter);
+		assertThat(filter.hashCode()).isEqualTo(otherFilter.hashCode());
+	}
+
+	@Test
+	public void should_not_be_equal_when_routing_eager_getters_differently() throws Exception
+	{
+		assertThat(new EntityCallbackFilter(entityMeta, true)).isNotEqualTo(
+				new EntityCallbackFilter(entityMeta, false));
+	}
+}
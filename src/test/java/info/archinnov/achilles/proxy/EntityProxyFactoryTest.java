@@ -0,0 +1,186 @@
+package info.archinnov.achilles.proxy;
+
+import static info.archinnov.achilles.entity.metadata.PropertyType.SIMPLE;
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
+import info.archinnov.achilles.entity.manager.CompleteBeanTestBuilder;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
+import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptorBuilder;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import mapping.entity.CompleteBean;
+import net.sf.cglib.proxy.Factory;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import testBuilders.PropertyMetaTestBuilder;
+
+/**
+ * EntityProxyFactoryTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class EntityProxyFactoryTest
+{
+	private EntityMeta<Long> entityMeta;
+
+	private PropertyMeta<Void, Long> idMeta;
+
+	private PropertyMeta<Void, String> nameMeta;
+
+	@Before
+	public void setUp() throws Exception
+	{
+		idMeta = PropertyMetaTestBuilder.completeBean(Void.class, Long.class) //
+				.field("id") //
+				.type(SIMPLE) //
+				.accesors() //
+				.build();
+
+		nameMeta = PropertyMetaTestBuilder.completeBean(Void.class, String.class) //
+				.field("name") //
+				.type(SIMPLE) //
+				.accesors() //
+				.build();
+
+		entityMeta = buildEntityMeta();
+	}
+
+	@Test
+	public void should_create_proxy_with_interceptor_and_target_dispatcher() throws Exception
+	{
+		CompleteBean entity = CompleteBeanTestBuilder.builder().id(1L).name("name").buid();
+		JpaEntityInterceptor<Long, CompleteBean> interceptor = JpaEntityInterceptorBuilder
+				.builder(entityMeta, entity).build();
+
+		CompleteBean proxy = EntityProxyFactory.newProxy(CompleteBean.class, entityMeta,
+				interceptor);
+
+		assertThat(proxy).isInstanceOf(Factory.class);
+		assertThat(((Factory) proxy).getCallback(0)).isSameAs(interceptor);
+		assertThat(((Factory) proxy).getCallback(1)).isSameAs(interceptor.getTargetDispatcher());
+	}
+
+	@Test
+	public void should_dispatch_getters_to_target() throws Exception
+	{
+		CompleteBean entity = CompleteBeanTestBuilder.builder().id(1L).name("name").age(32L)
+				.buid();
+
+		CompleteBean proxy = EntityProxyFactory.newProxy(CompleteBean.class, entityMeta,
+				JpaEntityInterceptorBuilder.builder(entityMeta, entity).build());
+
+		assertThat(proxy.getId()).isEqualTo(1L);
+		assertThat(proxy.getName()).isEqualTo("name");
+		assertThat(proxy.getAge()).isEqualTo(32L);
+	}
+
+	@Test
+	public void should_intercept_setter() throws Exception
+	{
+		CompleteBean entity = CompleteBeanTestBuilder.builder().id(1L).name("name").buid();
+		JpaEntityInterceptor<Long, CompleteBean> interceptor = JpaEntityInterceptorBuilder
+				.builder(entityMeta, entity).build();
+
+		CompleteBean proxy = EntityProxyFactory.newProxy(CompleteBean.class, entityMeta,
+				interceptor);
+
+		proxy.setName("new_name");
+
+		assertThat(entity.getName()).isEqualTo("new_name");
+		assertThat(proxy.getName()).isEqualTo("new_name");
+		assertThat(interceptor.getDirtyProperties().get(nameMeta.getOrdinal())).isTrue();
+	}
+
+	@Test
+	public void should_create_prototypes_on_entity_meta() throws Exception
+	{
+		EntityProxyFactory.createPrototypes(CompleteBean.class, entityMeta);
+
+		assertThat(entityMeta.getProxyPrototype()).isInstanceOf(CompleteBean.class);
+		assertThat(entityMeta.getUnloadedProxyPrototype()).isInstanceOf(CompleteBean.class);
+		assertThat((Object) entityMeta.getProxyPrototype().getClass()).isNotSameAs(
+				entityMeta.getUnloadedProxyPrototype().getClass());
+	}
+
+	@Test
+	public void should_reuse_proxy_classes_for_entity_parsed_again() throws Exception
+	{
+		EntityMeta<Long> otherEntityMeta = buildEntityMeta();
+
+		EntityProxyFactory.createPrototypes(CompleteBean.class, entityMeta);
+		EntityProxyFactory.createPrototypes(CompleteBean.class, otherEntityMeta);
+
+		assertThat((Object) otherEntityMeta.getProxyPrototype().getClass()).isSameAs(
+				entityMeta.getProxyPrototype().getClass());
+		assertThat((Object) otherEntityMeta.getUnloadedProxyPrototype().getClass()).isSameAs(
+				entityMeta.getUnloadedProxyPrototype().getClass());
+	}
+
+	@Test
+	public void should_reuse_proxy_class() throws Exception
+	{
+		EntityProxyFactory.createPrototypes(CompleteBean.class, entityMeta);
+
+		CompleteBean entity1 = CompleteBeanTestBuilder.builder().id(1L).name("one").buid();
+		CompleteBean entity2 = CompleteBeanTestBuilder.builder().id(2L).name("two").buid();
+
+		CompleteBean proxy1 = EntityProxyFactory.newProxy(CompleteBean.class, entityMeta,
+				JpaEntityInterceptorBuilder.builder(entityMeta, entity1).build());
+		CompleteBean proxy2 = EntityProxyFactory.newProxy(CompleteBean.class, entityMeta,
+				JpaEntityInterceptorBuilder.builder(entityMeta, entity2).build());
+
+		assertThat((Object) proxy1.getClass()).isSameAs(proxy2.getClass());
+		assertThat(proxy1).isNotSameAs(proxy2);
+		assertThat(proxy1.getName()).isEqualTo("one");
+		assertThat(proxy2.getName()).isEqualTo("two");
+	}
+
+	@Test
+	public void should_use_another_proxy_class_when_eager_getters_unloaded() throws Exception
+	{
+		CompleteBean entity = CompleteBeanTestBuilder.builder().id(1L).name("name").buid();
+		Set<Method> unloadedEagerGetters = new HashSet<Method>();
+		unloadedEagerGetters.add(nameMeta.getGetter());
+
+		CompleteBean loadedProxy = EntityProxyFactory.newProxy(CompleteBean.class, entityMeta,
+				JpaEntityInterceptorBuilder.builder(entityMeta, entity).build());
+		CompleteBean unloadedProxy = EntityProxyFactory.newProxy(CompleteBean.class, entityMeta,
+				JpaEntityInterceptorBuilder.builder(entityMeta, entity)
+						.unloadedEagerGetters(unloadedEagerGetters).build());
+
+		assertThat((Object) loadedProxy.getClass()).isNotSameAs(unloadedProxy.getClass());
+		assertThat(unloadedProxy.getAge()).isEqualTo(entity.getAge());
+	}
+
+	@SuppressWarnings("unchecked")
+	private EntityMeta<Long> buildEntityMeta()
+	{
+		Map<String, PropertyMeta<?, ?>> propertyMetas = new HashMap<String, PropertyMeta<?, ?>>();
+		propertyMetas.put("name", nameMeta);
+
+		Map<Method, PropertyMeta<?, ?>> getterMetas = new HashMap<Method, PropertyMeta<?, ?>>();
+		getterMetas.put(nameMeta.getGetter(), nameMeta);
+
+		Map<Method, PropertyMeta<?, ?>> setterMetas = new HashMap<Method, PropertyMeta<?, ?>>();
+		setterMetas.put(nameMeta.getSetter(), nameMeta);
+
+		EntityMeta<Long> meta = new EntityMeta<Long>();
+		meta.setIdMeta(idMeta);
+		meta.setPropertyMetas(propertyMetas);
+		meta.setGetterMetas(getterMetas);
+		meta.setSetterMetas(setterMetas);
+		meta.setEntityDao(mock(GenericDynamicCompositeDao.class));
+		return meta;
+	}
+}
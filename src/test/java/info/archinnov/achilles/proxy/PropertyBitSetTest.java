@@ -0,0 +1,100 @@
+package info.archinnov.achilles.proxy;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+/**
+ * PropertyBitSetTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class PropertyBitSetTest
+{
+	@Test
+	public void should_set_and_get() throws Exception
+	{
+		PropertyBitSet bitSet = new PropertyBitSet(10);
+
+		bitSet.set(0);
+		bitSet.set(9);
+
+		assertThat(bitSet.get(0)).isTrue();
+		assertThat(bitSet.get(5)).isFalse();
+		assertThat(bitSet.get(9)).isTrue();
+		assertThat(bitSet.cardinality()).isEqualTo(2);
+	}
+
+	@Test
+	public void should_set_and_get_beyond_first_word() throws Exception
+	{
+		PropertyBitSet bitSet = new PropertyBitSet(150);
+
+		bitSet.set(63);
+		bitSet.set(64);
+		bitSet.set(149);
+
+		assertThat(bitSet.get(63)).isTrue();
+		assertThat(bitSet.get(64)).isTrue();
+		assertThat(bitSet.get(65)).isFalse();
+		assertThat(bitSet.get(128)).isFalse();
+		assertThat(bitSet.get(149)).isTrue();
+		assertThat(bitSet.cardinality()).isEqualTo(3);
+	}
+
+	@Test
+	public void should_clear_ordinal() throws Exception
+	{
+		PropertyBitSet bitSet = new PropertyBitSet(100);
+		bitSet.set(3);
+		bitSet.set(70);
+
+		bitSet.clear(3);
+		bitSet.clear(70);
+
+		assertThat(bitSet.get(3)).isFalse();
+		assertThat(bitSet.get(70)).isFalse();
+		assertThat(bitSet.isEmpty()).isTrue();
+	}
+
+	@Test
+	public void should_clear_all() throws Exception
+	{
+		PropertyBitSet bitSet = new PropertyBitSet(200);
+		bitSet.set(1);
+		bitSet.set(80);
+		bitSet.set(199);
+
+		bitSet.clear();
+
+		assertThat(bitSet.isEmpty()).isTrue();
+		assertThat(bitSet.cardinality()).isEqualTo(0);
+	}
+
+	@Test
+	public void should_iterate_over_set_ordinals() throws Exception
+	{
+		PropertyBitSet bitSet = new PropertyBitSet(200);
+		bitSet.set(2);
+		bitSet.set(63);
+		bitSet.set(64);
+		bitSet.set(190);
+
+		assertThat(bitSet.nextSetBit(0)).isEqualTo(2);
+		assertThat(bitSet.nextSetBit(3)).isEqualTo(63);
+		assertThat(bitSet.nextSetBit(64)).isEqualTo(64);
+		assertThat(bitSet.nextSetBit(65)).isEqualTo(190);
+		assertThat(bitSet.nextSetBit(191)).isEqualTo(-1);
+		assertThat(bitSet.nextSetBit(500)).isEqualTo(-1);
+	}
+
+	@Test
+	public void should_be_empty_when_created() throws Exception
+	{
+		PropertyBitSet bitSet = new PropertyBitSet(0);
+
+		assertThat(bitSet.isEmpty()).isTrue();
+		assertThat(bitSet.nextSetBit(0)).isEqualTo(-1);
+	}
+}
@@ -11,10 +11,7 @@ import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.EntityLoader;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 
 import mapping.entity.ColumnFamilyBean;
 import mapping.entity.CompleteBean;
@@ -52,12 +49,6 @@ public class JpaEntityInterceptorBuilderTest
 	@Mock
 	private PropertyMeta<Void, Long> idMeta;
 
-	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	@Mock
-	private Set<Method> lazyLoaded;
-
 	@Test
 	public void should_build_entity() throws Exception
 	{
@@ -79,11 +70,8 @@ public class JpaEntityInterceptorBuilderTest
 
 		assertThat(interceptor.getKey()).isEqualTo(1L);
 		assertThat(interceptor.getTarget()).isEqualTo(entity);
-		assertThat(interceptor.getDirtyMap()).isNotNull();
-		assertThat(interceptor.getDirtyMap()).isInstanceOf(HashMap.class);
-
-		assertThat(interceptor.getLazyLoaded()).isNotNull();
-		assertThat(interceptor.getLazyLoaded()).isInstanceOf(HashSet.class);
+		assertThat(interceptor.getDirtyProperties().isEmpty()).isTrue();
+		assertThat(interceptor.getLazyLoaded().isEmpty()).isTrue();
 
 		assertThat(Whitebox.getInternalState(interceptor, "columnFamilyDao")).isNull();
 		assertThat(Whitebox.getInternalState(interceptor, "entityDao")).isNotNull();
@@ -127,11 +115,8 @@ public class JpaEntityInterceptorBuilderTest
 
 		assertThat(interceptor.getKey()).isEqualTo(1545L);
 		assertThat(interceptor.getTarget()).isEqualTo(entity);
-		assertThat(interceptor.getDirtyMap()).isNotNull();
-		assertThat(interceptor.getDirtyMap()).isInstanceOf(HashMap.class);
-
-		assertThat(interceptor.getLazyLoaded()).isNotNull();
-		assertThat(interceptor.getLazyLoaded()).isInstanceOf(HashSet.class);
+		assertThat(interceptor.getDirtyProperties().isEmpty()).isTrue();
+		assertThat(interceptor.getLazyLoaded().isEmpty()).isTrue();
 
 		assertThat(Whitebox.getInternalState(interceptor, "columnFamilyDao")).isNotNull();
 		assertThat(Whitebox.getInternalState(interceptor, "entityDao")).isNull();
@@ -7,7 +7,6 @@ import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_MAP;
 import static info.archinnov.achilles.entity.metadata.PropertyType.WIDE_MAP;
 import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
@@ -19,6 +18,7 @@ import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
 import info.archinnov.achilles.entity.operations.EntityLoader;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.serializer.SerializerUtils;
 import info.archinnov.achilles.wrapper.ExternalWideMapWrapper;
 import info.archinnov.achilles.wrapper.JoinExternalWideMapWrapper;
@@ -33,7 +33,6 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 
 import mapping.entity.ColumnFamilyBean;
@@ -79,11 +78,9 @@ public class JpaEntityInterceptorTest
 	@Mock
 	private Map<Method, PropertyMeta<?, ?>> setterMetas;
 
-	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
+	private PropertyBitSet dirtyProperties = new PropertyBitSet(10);
 
-	@Mock
-	private Set<Method> lazyLoaded;
+	private PropertyBitSet lazyLoaded = new PropertyBitSet(10);
 
 	@Mock
 	private EntityLoader loader;
@@ -136,7 +133,8 @@ public class JpaEntityInterceptorTest
 
 		interceptor.setKey(key);
 		Whitebox.setInternalState(interceptor, "loader", loader);
-		interceptor.setDirtyMap(dirtyMap);
+		interceptor.setDirtyProperties(dirtyProperties);
+		when(propertyMeta.getOrdinal()).thenReturn(3);
 		interceptor.setDirectColumnFamilyMapping(false);
 		interceptor.setMutator(mutator);
 	}
@@ -175,7 +173,6 @@ public class JpaEntityInterceptorTest
 		when(getterMetas.containsKey(nameGetter)).thenReturn(true);
 		when(getterMetas.get(nameGetter)).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.LAZY_SIMPLE);
-		when(lazyLoaded.contains(nameGetter)).thenReturn(false);
 		when(proxy.invoke(entity, (Object[]) null)).thenReturn("name");
 
 		Object name = this.interceptor.intercept(entity, nameGetter, (Object[]) null, proxy);
@@ -183,7 +180,7 @@ public class JpaEntityInterceptorTest
 		assertThat(name).isEqualTo("name");
 
 		verify(loader).loadPropertyIntoObject(entity, key, dao, propertyMeta);
-		verify(lazyLoaded).add(nameGetter);
+		assertThat(lazyLoaded.get(3)).isTrue();
 	}
 
 	@Test
@@ -193,7 +190,7 @@ public class JpaEntityInterceptorTest
 		when(getterMetas.get(nameGetter)).thenReturn(propertyMeta);
 		when(propertyMeta.type()).thenReturn(PropertyType.LAZY_SIMPLE);
 
-		when(lazyLoaded.contains(nameGetter)).thenReturn(true);
+		lazyLoaded.set(3);
 
 		when(proxy.invoke(entity, (Object[]) null)).thenReturn("name");
 
@@ -202,7 +199,41 @@ public class JpaEntityInterceptorTest
 		assertThat(name).isEqualTo("name");
 
 		verifyZeroInteractions(loader);
-		verify(lazyLoaded, never()).add(nameGetter);
+	}
+
+	@Test
+	public void should_load_unloaded_eager_property() throws Throwable
+	{
+		when(getterMetas.containsKey(nameGetter)).thenReturn(true);
+		when(getterMetas.get(nameGetter)).thenReturn(propertyMeta);
+		when(propertyMeta.type()).thenReturn(PropertyType.SIMPLE);
+		interceptor.getUnloadedEagerGetters().add(nameGetter);
+		when(proxy.invoke(entity, (Object[]) null)).thenReturn("name");
+
+		Object name = this.interceptor.intercept(entity, nameGetter, (Object[]) null, proxy);
+
+		assertThat(name).isEqualTo("name");
+
+		verify(loader).loadPropertyIntoObject(entity, key, dao, propertyMeta);
+		assertThat(lazyLoaded.get(3)).isTrue();
+	}
+
+	@Test
+	public void should_not_load_eager_property_once_set() throws Throwable
+	{
+		interceptor.getUnloadedEagerGetters().add(nameGetter);
+		when(setterMetas.containsKey(nameSetter)).thenReturn(true);
+		when(setterMetas.get(nameSetter)).thenReturn(propertyMeta);
+		when(propertyMeta.type()).thenReturn(PropertyType.SIMPLE);
+		when(propertyMeta.getGetter()).thenReturn(nameGetter);
+
+		Object[] args = new Object[]
+		{
+			"new name"
+		};
+		this.interceptor.intercept(entity, nameSetter, args, proxy);
+
+		assertThat(interceptor.getUnloadedEagerGetters()).isEmpty();
 	}
 
 	@Test
@@ -223,7 +254,7 @@ public class JpaEntityInterceptorTest
 		assertThat(name).isNull();
 
 		verify(proxy).invoke(entity, args);
-		verify(dirtyMap).put(nameSetter, propertyMeta);
+		assertThat(dirtyProperties.get(3)).isTrue();
 	}
 
 	@Test
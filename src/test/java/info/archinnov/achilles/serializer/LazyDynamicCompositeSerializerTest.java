@@ -0,0 +1,40 @@
+package info.archinnov.achilles.serializer;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.LAZY_DYNA_COMP_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.composite.LazyDynamicComposite;
+
+import java.nio.ByteBuffer;
+
+import me.prettyprint.hector.api.beans.DynamicComposite;
+
+import org.junit.Test;
+
+/**
+ * LazyDynamicCompositeSerializerTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class LazyDynamicCompositeSerializerTest
+{
+	@Test
+	public void should_read_lazy_composite() throws Exception
+	{
+		DynamicComposite composite = new DynamicComposite();
+		composite.setComponent(0, "name", STRING_SRZ, "UTF8Type");
+		ByteBuffer serialized = LAZY_DYNA_COMP_SRZ.toByteBuffer(composite);
+
+		DynamicComposite read = LAZY_DYNA_COMP_SRZ.fromByteBuffer(serialized);
+
+		assertThat(read).isInstanceOf(LazyDynamicComposite.class);
+		assertThat(read.get(0, STRING_SRZ)).isEqualTo("name");
+	}
+
+	@Test
+	public void should_read_null() throws Exception
+	{
+		assertThat(LAZY_DYNA_COMP_SRZ.fromByteBuffer((ByteBuffer) null)).isNull();
+	}
+}
@@ -0,0 +1,224 @@
+package info.archinnov.achilles.serializer;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+
+import java.nio.ByteBuffer;
+import java.util.Date;
+import java.util.Random;
+import java.util.UUID;
+
+import me.prettyprint.cassandra.utils.TimeUUIDUtils;
+import me.prettyprint.hector.api.ddl.ComparatorType;
+
+import org.apache.commons.lang.StringUtils;
+import org.codehaus.jackson.map.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * TypedValueSerializerTest
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class TypedValueSerializerTest
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private TypedValueSerializer serializer = TypedValueSerializer.get();
+
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	public void should_read_back_native_values() throws Exception
+	{
+		UUID uuid = TimeUUIDUtils.getUniqueTimeUUIDinMillis();
+		Date date = new Date();
+
+		assertThat(roundTrip(123L)).isEqualTo(123L);
+		assertThat(roundTrip(45)).isEqualTo(45);
+		assertThat(roundTrip(uuid)).isEqualTo(uuid);
+		assertThat(roundTrip(true)).isEqualTo(true);
+		assertThat(roundTrip(date)).isEqualTo(date);
+		assertThat(roundTrip(1.5d)).isEqualTo(1.5d);
+		assertThat(roundTrip(2.5f)).isEqualTo(2.5f);
+	}
+
+	@Test
+	public void should_write_long_with_native_encoding() throws Exception
+	{
+		ByteBuffer bytes = serializer.toByteBuffer(123L);
+
+		assertThat(bytes.remaining()).isEqualTo(11);
+		assertThat(bytes.get(0)).isEqualTo(TypedValueSerializer.MARKER);
+		assertThat(bytes.get(1)).isEqualTo(TypedValueSerializer.VERSION);
+		assertThat(bytes.get(2)).isEqualTo(TypedValueSerializer.LONG_TAG);
+	}
+
+	@Test
+	public void should_read_back_bytes() throws Exception
+	{
+		byte[] value = new byte[]
+		{
+				0,
+				1,
+				2
+		};
+
+		assertThat((byte[]) roundTrip(value)).isEqualTo(value);
+	}
+
+	@Test
+	public void should_exception_when_writing_bytes_without_native_encoding() throws Exception
+	{
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("Binary values cannot be written");
+
+		TypedValueSerializer.getJsonOnly().toByteBuffer(new byte[1]);
+	}
+
+	@Test
+	public void should_read_back_enum_as_its_name() throws Exception
+	{
+		assertThat(roundTrip(PropertyType.JOIN_MAP)).isEqualTo("JOIN_MAP");
+	}
+
+	@Test
+	public void should_write_string_as_utf8() throws Exception
+	{
+		ByteBuffer bytes = serializer.toByteBuffer("DuyHai");
+
+		assertThat(bytes).isEqualTo(STRING_SRZ.toByteBuffer("DuyHai"));
+		assertThat(serializer.fromByteBuffer(bytes)).isEqualTo("DuyHai");
+	}
+
+	@Test
+	public void should_read_legacy_json_value_as_string() throws Exception
+	{
+		String json = objectMapper.writeValueAsString(123L);
+
+		assertThat(serializer.fromByteBuffer(STRING_SRZ.toByteBuffer(json))).isEqualTo(json);
+		assertThat(serializer.fromByteBuffer(STRING_SRZ.toByteBuffer(""))).isEqualTo("");
+	}
+
+	@Test
+	public void should_read_back_string_starting_with_marker() throws Exception
+	{
+		String value = "\0\u0001l";
+
+		assertThat(roundTrip(value)).isEqualTo(value);
+	}
+
+	@Test
+	public void should_read_back_string_starting_with_marker_without_native_encoding()
+			throws Exception
+	{
+		TypedValueSerializer jsonOnly = TypedValueSerializer.getJsonOnly();
+		String value = "\0\u0001l";
+
+		assertThat(jsonOnly.fromByteBuffer(jsonOnly.toByteBuffer(value))).isEqualTo(value);
+		assertThat(serializer.fromByteBuffer(jsonOnly.toByteBuffer(value))).isEqualTo(value);
+	}
+
+	@Test
+	public void should_exception_when_unknown_version() throws Exception
+	{
+		ByteBuffer bytes = ByteBuffer.wrap(new byte[]
+		{
+				TypedValueSerializer.MARKER,
+				0x7F,
+				TypedValueSerializer.LONG_TAG
+		});
+
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("Unsupported typed value version 127");
+
+		serializer.fromByteBuffer(bytes);
+	}
+
+	@Test
+	public void should_write_json_when_native_encoding_disabled() throws Exception
+	{
+		TypedValueSerializer jsonOnly = TypedValueSerializer.getJsonOnly();
+		UUID uuid = TimeUUIDUtils.getUniqueTimeUUIDinMillis();
+
+		assertThat(jsonOnly.fromByteBuffer(jsonOnly.toByteBuffer(uuid))).isEqualTo(
+				objectMapper.writeValueAsString(uuid));
+		assertThat(jsonOnly.fromByteBuffer(jsonOnly.toByteBuffer(12L))).isEqualTo("12");
+		assertThat(jsonOnly.getComparatorType()).isEqualTo(ComparatorType.UTF8TYPE);
+		assertThat(serializer.getComparatorType()).isEqualTo(ComparatorType.BYTESTYPE);
+	}
+
+	@Test
+	public void should_read_back_compressed_string() throws Exception
+	{
+		String value = StringUtils.repeat("compressible ", 100);
+
+		Object compressed = CompressedValue.compressIfLarger(value, 100);
+
+		assertThat(compressed).isInstanceOf(CompressedValue.class);
+		ByteBuffer bytes = serializer.toByteBuffer(compressed);
+		assertThat(bytes.get(2)).isEqualTo(TypedValueSerializer.COMPRESSED_STRING_TAG);
+		assertThat(bytes.remaining()).isLessThan(value.length());
+		assertThat(serializer.fromByteBuffer(bytes)).isEqualTo(value);
+	}
+
+	@Test
+	public void should_read_back_compressed_bytes() throws Exception
+	{
+		byte[] value = new byte[500];
+
+		Object compressed = CompressedValue.compressIfLarger(value, 100);
+
+		assertThat(compressed).isInstanceOf(CompressedValue.class);
+		assertThat(((CompressedValue) compressed).getRawLength()).isEqualTo(500);
+		assertThat((byte[]) roundTrip(compressed)).isEqualTo(value);
+	}
+
+	@Test
+	public void should_not_compress_value_below_threshold() throws Exception
+	{
+		String value = StringUtils.repeat("a", 30);
+
+		assertThat(CompressedValue.compressIfLarger(value, 100)).isSameAs(value);
+	}
+
+	@Test
+	public void should_not_compress_value_which_does_not_shrink() throws Exception
+	{
+		byte[] value = new byte[200];
+		new Random(42).nextBytes(value);
+
+		assertThat(CompressedValue.compressIfLarger(value, 100)).isSameAs(value);
+	}
+
+	@Test
+	public void should_exception_when_writing_compressed_value_without_native_encoding()
+			throws Exception
+	{
+		Object compressed = CompressedValue.compressIfLarger(StringUtils.repeat("a", 200), 100);
+
+		exception.expect(IllegalArgumentException.class);
+		exception.expectMessage("Binary values cannot be written");
+
+		TypedValueSerializer.getJsonOnly().toByteBuffer(compressed);
+	}
+
+	@Test
+	public void should_tell_native_types() throws Exception
+	{
+		assertThat(TypedValueSerializer.isNativeType(long.class)).isTrue();
+		assertThat(TypedValueSerializer.isNativeType(UUID.class)).isTrue();
+		assertThat(TypedValueSerializer.isNativeType(PropertyType.class)).isTrue();
+		assertThat(TypedValueSerializer.isNativeType(String.class)).isFalse();
+	}
+
+	private Object roundTrip(Object value)
+	{
+		return serializer.fromByteBuffer(serializer.toByteBuffer(value));
+	}
+}
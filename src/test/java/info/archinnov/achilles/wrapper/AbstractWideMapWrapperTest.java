@@ -40,7 +40,7 @@ public class AbstractWideMapWrapperTest
 		{
 
 			@Override
-			public void remove(Long start, Long end, BoundingMode bounds)
+			public int remove(Long start, Long end, BoundingMode bounds)
 			{
 				VariableCapture capture = new VariableCapture();
 				capture.start = start;
@@ -49,6 +49,8 @@ public class AbstractWideMapWrapperTest
 				capture.inclusiveEnd = bounds.isInclusiveEnd();
 
 				variableCapture.set(capture);
+
+				return 0;
 			}
 
 			@Override
@@ -61,7 +63,7 @@ public class AbstractWideMapWrapperTest
 			}
 
 			@Override
-			public void removeFirst()
+			public int removeFirst()
 			{
 				VariableCapture capture = new VariableCapture();
 				capture.start = null;
@@ -70,10 +72,12 @@ public class AbstractWideMapWrapperTest
 				capture.count = 1;
 
 				variableCapture.set(capture);
+
+				return 0;
 			}
 
 			@Override
-			public void removeLast()
+			public int removeLast()
 			{
 				VariableCapture capture = new VariableCapture();
 				capture.start = null;
@@ -82,6 +86,8 @@ public class AbstractWideMapWrapperTest
 				capture.count = 1;
 
 				variableCapture.set(capture);
+
+				return 0;
 			}
 
 			@Override
@@ -148,7 +154,7 @@ public class AbstractWideMapWrapperTest
 			}
 
 			@Override
-			public void removeFirst(int count)
+			public int removeFirst(int count)
 			{
 				VariableCapture capture = new VariableCapture();
 				capture.start = null;
@@ -159,10 +165,12 @@ public class AbstractWideMapWrapperTest
 				capture.reverse = false;
 
 				variableCapture.set(capture);
+
+				return 0;
 			}
 
 			@Override
-			public void removeLast(int count)
+			public int removeLast(int count)
 			{
 				VariableCapture capture = new VariableCapture();
 				capture.start = null;
@@ -173,6 +181,8 @@ public class AbstractWideMapWrapperTest
 				capture.reverse = true;
 
 				variableCapture.set(capture);
+
+				return 0;
 			}
 
 			@Override
@@ -7,15 +7,12 @@ import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-
-import mapping.entity.CompleteBean;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -33,9 +30,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class CollectionWrapperTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private PropertyMeta<Void, String> propertyMeta;
@@ -46,7 +41,6 @@ public class CollectionWrapperTest
 	@Before
 	public void setUp() throws Exception
 	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
 		when(propertyMeta.type()).thenReturn(PropertyType.LIST);
 	}
 
@@ -62,7 +56,7 @@ public class CollectionWrapperTest
 		assertThat(target).hasSize(1);
 		assertThat(target.get(0)).isEqualTo("a");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -79,7 +73,7 @@ public class CollectionWrapperTest
 		assertThat(target.get(0)).isEqualTo("a");
 		assertThat(target.get(1)).isEqualTo("b");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -92,7 +86,7 @@ public class CollectionWrapperTest
 
 		assertThat(target).hasSize(0);
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -106,7 +100,7 @@ public class CollectionWrapperTest
 
 		assertThat(target).hasSize(0);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -119,7 +113,7 @@ public class CollectionWrapperTest
 
 		assertThat(target).hasSize(0);
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -136,7 +130,7 @@ public class CollectionWrapperTest
 		assertThat(target).hasSize(1);
 		assertThat(target.get(0)).isEqualTo("b");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -153,7 +147,7 @@ public class CollectionWrapperTest
 		assertThat(target.get(0)).isEqualTo("a");
 		assertThat(target.get(1)).isEqualTo("b");
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -171,7 +165,7 @@ public class CollectionWrapperTest
 		assertThat(target).hasSize(1);
 		assertThat(target.get(0)).isEqualTo("b");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -190,7 +184,7 @@ public class CollectionWrapperTest
 		assertThat(target.get(1)).isEqualTo("b");
 		assertThat(target.get(2)).isEqualTo("c");
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -209,7 +203,7 @@ public class CollectionWrapperTest
 		assertThat(target.get(0)).isEqualTo("a");
 		assertThat(target.get(1)).isEqualTo("c");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -229,7 +223,7 @@ public class CollectionWrapperTest
 		assertThat(target.get(1)).isEqualTo("b");
 		assertThat(target.get(2)).isEqualTo("c");
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -248,14 +242,13 @@ public class CollectionWrapperTest
 		iteratorWrapper.next();
 		iteratorWrapper.remove();
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	private ListWrapper<String> prepareListWrapper(List<String> target)
 	{
 		ListWrapper<String> listWrapper = new ListWrapper<String>(target);
-		listWrapper.setDirtyMap(dirtyMap);
-		listWrapper.setSetter(setter);
+		listWrapper.setDirtyProperties(dirtyProperties);
 		listWrapper.setPropertyMeta(propertyMeta);
 		listWrapper.setHelper(helper);
 		return listWrapper;
@@ -0,0 +1,262 @@
+package info.archinnov.achilles.wrapper;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import info.archinnov.achilles.composite.factory.CompositeKeyFactory;
+import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.entity.type.KeyValueIterator;
+import info.archinnov.achilles.entity.type.WideMap.BoundingMode;
+import info.archinnov.achilles.entity.type.WideMap.OrderingMode;
+import info.archinnov.achilles.helper.CompositeHelper;
+import info.archinnov.achilles.iterator.CounterColumnSliceIterator;
+import info.archinnov.achilles.iterator.CounterKeyValueIteratorForComposite;
+import info.archinnov.achilles.iterator.factory.IteratorFactory;
+import info.archinnov.achilles.iterator.factory.KeyValueFactory;
+import info.archinnov.achilles.proxy.interceptor.AchillesInterceptor;
+
+import java.util.List;
+
+import me.prettyprint.hector.api.beans.Composite;
+import me.prettyprint.hector.api.beans.HCounterColumn;
+import me.prettyprint.hector.api.mutation.Mutator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+/**
+ * CounterWideMapWrapperTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+
+@RunWith(MockitoJUnitRunner.class)
+public class CounterWideMapWrapperTest
+{
+	@InjectMocks
+	private CounterWideMapWrapper<Long, Integer> wrapper;
+
+	@Mock
+	private GenericCompositeDao<Long, Long> dao;
+
+	@Mock
+	private PropertyMeta<Integer, Long> wideMapMeta;
+
+	@Mock
+	private CompositeHelper compositeHelper;
+
+	@Mock
+	private KeyValueFactory keyValueFactory;
+
+	@Mock
+	private IteratorFactory iteratorFactory;
+
+	@Mock
+	private CompositeKeyFactory compositeKeyFactory;
+
+	@Mock
+	private AchillesInterceptor interceptor;
+
+	@Mock
+	private Mutator<Long> mutator;
+
+	private Long id = 1L;
+
+	private Composite comp = new Composite();
+
+	@Before
+	public void setUp()
+	{
+		wrapper.setId(id);
+		wrapper.setDao(dao);
+		wrapper.setWideMapMeta(wideMapMeta);
+		when(compositeKeyFactory.createBaseComposite(wideMapMeta, 12)).thenReturn(comp);
+	}
+
+	@Test
+	public void should_get_counter_value() throws Exception
+	{
+		when(dao.getCounterValue(id, comp)).thenReturn(150L);
+
+		assertThat(wrapper.get(12)).isEqualTo(150L);
+	}
+
+	@Test
+	public void should_incr() throws Exception
+	{
+		when(interceptor.isBatchMode()).thenReturn(false);
+
+		wrapper.incr(12);
+
+		verify(dao).incrementCounter(id, comp, 1L);
+	}
+
+	@Test
+	public void should_incr_with_delta() throws Exception
+	{
+		when(interceptor.isBatchMode()).thenReturn(false);
+
+		wrapper.incr(12, 5L);
+
+		verify(dao).incrementCounter(id, comp, 5L);
+	}
+
+	@SuppressWarnings(
+	{
+			"unchecked",
+			"rawtypes"
+	})
+	@Test
+	public void should_incr_with_batch() throws Exception
+	{
+		when(interceptor.isBatchMode()).thenReturn(true);
+		when(interceptor.getMutator()).thenReturn((Mutator) mutator);
+
+		wrapper.incr(12, 5L);
+
+		verify(dao).incrementCounterBatch(id, comp, 5L, mutator);
+	}
+
+	@Test
+	public void should_decr() throws Exception
+	{
+		when(interceptor.isBatchMode()).thenReturn(false);
+
+		wrapper.decr(12);
+
+		verify(dao).decrementCounter(id, comp, 1L);
+	}
+
+	@Test
+	public void should_decr_with_delta() throws Exception
+	{
+		when(interceptor.isBatchMode()).thenReturn(false);
+
+		wrapper.decr(12, 5L);
+
+		verify(dao).decrementCounter(id, comp, 5L);
+	}
+
+	@SuppressWarnings(
+	{
+			"unchecked",
+			"rawtypes"
+	})
+	@Test
+	public void should_decr_with_batch() throws Exception
+	{
+		when(interceptor.isBatchMode()).thenReturn(true);
+		when(interceptor.getMutator()).thenReturn((Mutator) mutator);
+
+		wrapper.decr(12, 5L);
+
+		verify(dao).decrementCounterBatch(id, comp, 5L, mutator);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_find_keyvalues_range() throws Exception
+	{
+		List<HCounterColumn<Composite>> hColumns = mock(List.class);
+		List<KeyValue<Integer, Long>> keyValues = mock(List.class);
+		Composite startComp = new Composite();
+		Composite endComp = new Composite();
+
+		when(compositeKeyFactory.createForQuery(wideMapMeta, 12, 15, BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.ASCENDING)) //
+				.thenReturn(new Composite[]
+				{
+						startComp,
+						endComp
+				});
+		when(dao.findCounterColumnsRange(id, startComp, endComp, false, 10)).thenReturn(hColumns);
+		when(keyValueFactory.createCounterKeyValueListForComposite(wideMapMeta, hColumns))
+				.thenReturn(keyValues);
+
+		List<KeyValue<Integer, Long>> expected = wrapper.find(12, 15, 10);
+
+		verify(compositeHelper).checkBounds(wideMapMeta, 12, 15, OrderingMode.ASCENDING);
+		assertThat(expected).isSameAs(keyValues);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_find_keyvalues_range_reverse() throws Exception
+	{
+		List<HCounterColumn<Composite>> hColumns = mock(List.class);
+		List<KeyValue<Integer, Long>> keyValues = mock(List.class);
+		Composite startComp = new Composite();
+		Composite endComp = new Composite();
+
+		when(compositeKeyFactory.createForQuery(wideMapMeta, 15, 12, BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.DESCENDING)) //
+				.thenReturn(new Composite[]
+				{
+						startComp,
+						endComp
+				});
+		when(dao.findCounterColumnsRange(id, startComp, endComp, true, 10)).thenReturn(hColumns);
+		when(keyValueFactory.createCounterKeyValueListForComposite(wideMapMeta, hColumns))
+				.thenReturn(keyValues);
+
+		List<KeyValue<Integer, Long>> expected = wrapper.findReverse(15, 12, 10);
+
+		verify(compositeHelper).checkBounds(wideMapMeta, 15, 12, OrderingMode.DESCENDING);
+		assertThat(expected).isSameAs(keyValues);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_get_iterator() throws Exception
+	{
+		CounterKeyValueIteratorForComposite<Integer> keyValues = mock(CounterKeyValueIteratorForComposite.class);
+		CounterColumnSliceIterator<Long, Composite> iterator = mock(CounterColumnSliceIterator.class);
+		Composite startComp = new Composite();
+		Composite endComp = new Composite();
+
+		when(compositeKeyFactory.createForQuery(wideMapMeta, 12, 15, BoundingMode.INCLUSIVE_START_BOUND_ONLY, OrderingMode.ASCENDING)) //
+				.thenReturn(new Composite[]
+				{
+						startComp,
+						endComp
+				});
+		when(dao.getCounterColumnsIterator(id, startComp, endComp, false, 10)).thenReturn(iterator);
+		when(iteratorFactory.createCounterKeyValueIteratorForComposite(iterator, wideMapMeta))
+				.thenReturn(keyValues);
+
+		KeyValueIterator<Integer, Long> expected = wrapper.iterator(12, 15, 10,
+				BoundingMode.INCLUSIVE_START_BOUND_ONLY, OrderingMode.ASCENDING);
+
+		assertThat(expected).isSameAs(keyValues);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Test
+	public void should_get_default_iterator() throws Exception
+	{
+		CounterKeyValueIteratorForComposite<Integer> keyValues = mock(CounterKeyValueIteratorForComposite.class);
+		CounterColumnSliceIterator<Long, Composite> iterator = mock(CounterColumnSliceIterator.class);
+		Composite startComp = new Composite();
+		Composite endComp = new Composite();
+
+		when(compositeKeyFactory.createForQuery(wideMapMeta, null, null, BoundingMode.INCLUSIVE_BOUNDS, OrderingMode.ASCENDING)) //
+				.thenReturn(new Composite[]
+				{
+						startComp,
+						endComp
+				});
+		when(dao.getCounterColumnsIterator(id, startComp, endComp, false, 100)).thenReturn(iterator);
+		when(iteratorFactory.createCounterKeyValueIteratorForComposite(iterator, wideMapMeta))
+				.thenReturn(keyValues);
+
+		KeyValueIterator<Integer, Long> expected = wrapper.iterator();
+
+		assertThat(expected).isSameAs(keyValues);
+	}
+}
@@ -4,8 +4,8 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 
-import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -14,9 +14,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import mapping.entity.CompleteBean;
-
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -32,21 +29,13 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class EntrySetWrapperTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private PropertyMeta<Integer, String> propertyMeta;
 
 	private EntityHelper helper = new EntityHelper();
 
-	@Before
-	public void setUp() throws Exception
-	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
-	}
-
 	@Test
 	public void should_mark_dirty_on_clear() throws Exception
 	{
@@ -59,7 +48,7 @@ public class EntrySetWrapperTest
 
 		wrapper.clear();
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -77,7 +66,7 @@ public class EntrySetWrapperTest
 		iterator.next();
 		iterator.remove();
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -95,7 +84,7 @@ public class EntrySetWrapperTest
 
 		wrapper.remove(entry);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -113,7 +102,7 @@ public class EntrySetWrapperTest
 
 		wrapper.remove(entry);
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -136,7 +125,7 @@ public class EntrySetWrapperTest
 
 		wrapper.removeAll(Arrays.asList(entry1, entry2));
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -157,7 +146,7 @@ public class EntrySetWrapperTest
 
 		wrapper.removeAll(Arrays.asList(entry1, entry2));
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -178,7 +167,7 @@ public class EntrySetWrapperTest
 
 		wrapper.retainAll(Arrays.asList(entry));
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@SuppressWarnings("unchecked")
@@ -203,7 +192,7 @@ public class EntrySetWrapperTest
 
 		wrapper.retainAll(list);
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@Test(expected = UnsupportedOperationException.class)
@@ -243,8 +232,7 @@ public class EntrySetWrapperTest
 		EntrySetWrapper<Integer, String> wrapper = new EntrySetWrapper<Integer, String>(
 				map.entrySet());
 
-		wrapper.setDirtyMap(dirtyMap);
-		wrapper.setSetter(setter);
+		wrapper.setDirtyProperties(dirtyProperties);
 		wrapper.setPropertyMeta(propertyMeta);
 
 		return wrapper;
@@ -4,15 +4,11 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
-import mapping.entity.CompleteBean;
-
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -28,19 +24,11 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class IteratorWrapperTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private PropertyMeta<Void, Integer> propertyMeta;
 
-	@Before
-	public void setUp() throws Exception
-	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
-	}
-
 	@Test
 	public void should_mark_dirty_on_element_remove() throws Exception
 	{
@@ -50,8 +38,7 @@ public class IteratorWrapperTest
 		list.add(2);
 
 		IteratorWrapper<Integer> wrapper = new IteratorWrapper<Integer>(list.iterator());
-		wrapper.setDirtyMap(dirtyMap);
-		wrapper.setSetter(setter);
+		wrapper.setDirtyProperties(dirtyProperties);
 		wrapper.setPropertyMeta(propertyMeta);
 
 		when(propertyMeta.type()).thenReturn(PropertyType.LIST);
@@ -59,6 +46,6 @@ public class IteratorWrapperTest
 		wrapper.next();
 		wrapper.remove();
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 }
@@ -140,12 +140,12 @@ public class JoinWideMapWrapperTest
 		when(joinDao.buildMutator()).thenReturn(joinMutator);
 		when(persister.cascadePersistOrEnsureExists(userBean, joinProperties)).thenReturn(userId);
 		when((PropertyMeta<Void, Long>) propertyMeta.joinIdMeta()).thenReturn(joinIdMeta);
-		when(joinIdMeta.writeValueToString(userId)).thenReturn(userId.toString());
+		when(joinIdMeta.writeValue(userId)).thenReturn(userId);
 		when(interceptor.isBatchMode()).thenReturn(false);
 
 		wrapper.insert(key, userBean);
 
-		verify(entityDao).setValue(id, comp, userId.toString());
+		verify(entityDao).setValue(id, comp, userId);
 	}
 
 	@SuppressWarnings(
@@ -175,12 +175,12 @@ public class JoinWideMapWrapperTest
 				.thenReturn(userId);
 
 		when((PropertyMeta<Void, Long>) propertyMeta.joinIdMeta()).thenReturn(joinIdMeta);
-		when(joinIdMeta.writeValueToString(userId)).thenReturn(userId.toString());
+		when(joinIdMeta.writeValue(userId)).thenReturn(userId);
 		when(interceptor.isBatchMode()).thenReturn(true);
 		when(interceptor.getMutator()).thenReturn((Mutator) mutator);
 		wrapper.insert(key, userBean);
 
-		verify(entityDao).setValueBatch(id, comp, userId.toString(), mutator);
+		verify(entityDao).setValueBatch(id, comp, userId, mutator);
 	}
 
 	@Test(expected = IllegalArgumentException.class)
@@ -209,11 +209,11 @@ public class JoinWideMapWrapperTest
 		when(joinDao.buildMutator()).thenReturn(joinMutator);
 		when(persister.cascadePersistOrEnsureExists(userBean, joinProperties)).thenReturn(userId);
 		when((PropertyMeta<Void, Long>) propertyMeta.joinIdMeta()).thenReturn(joinIdMeta);
-		when(joinIdMeta.writeValueToString(userId)).thenReturn(userId.toString());
+		when(joinIdMeta.writeValue(userId)).thenReturn(userId);
 		when(interceptor.isBatchMode()).thenReturn(false);
 		wrapper.insert(key, userBean, 150);
 
-		verify(entityDao).setValue(id, comp, userId.toString(), 150);
+		verify(entityDao).setValue(id, comp, userId, 150);
 	}
 
 	@SuppressWarnings(
@@ -241,12 +241,12 @@ public class JoinWideMapWrapperTest
 		when(persister.cascadePersistOrEnsureExists(userBean, joinProperties, joinMutator))
 				.thenReturn(userId);
 		when((PropertyMeta<Void, Long>) propertyMeta.joinIdMeta()).thenReturn(joinIdMeta);
-		when(joinIdMeta.writeValueToString(userId)).thenReturn(userId.toString());
+		when(joinIdMeta.writeValue(userId)).thenReturn(userId);
 		when(interceptor.isBatchMode()).thenReturn(true);
 		when(interceptor.getMutator()).thenReturn((Mutator) mutator);
 		wrapper.insert(key, userBean, 150);
 
-		verify(entityDao).setValueBatch(id, comp, userId.toString(), 150, mutator);
+		verify(entityDao).setValueBatch(id, comp, userId, 150, mutator);
 	}
 
 	private JoinProperties prepareJoinProperties() throws Exception
@@ -5,13 +5,10 @@ import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-
-import mapping.entity.CompleteBean;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -30,9 +27,7 @@ public class ListIteratorWrapperTest
 {
 
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private PropertyMeta<Void, Integer> propertyMeta;
@@ -45,15 +40,12 @@ public class ListIteratorWrapperTest
 	@Before
 	public void setUp() throws Exception
 	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
-
 		List<Integer> list = new ArrayList<Integer>();
 		list.add(1);
 		list.add(2);
 
 		wrapper = new ListIteratorWrapper<Integer>(list.listIterator());
-		wrapper.setDirtyMap(dirtyMap);
-		wrapper.setSetter(setter);
+		wrapper.setDirtyProperties(dirtyProperties);
 		wrapper.setPropertyMeta(propertyMeta);
 		wrapper.setHelper(helper);
 
@@ -65,7 +57,7 @@ public class ListIteratorWrapperTest
 	{
 		wrapper.add(3);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -75,7 +67,7 @@ public class ListIteratorWrapperTest
 		wrapper.next();
 		wrapper.set(1);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -85,6 +77,6 @@ public class ListIteratorWrapperTest
 		wrapper.next();
 		wrapper.remove();
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 }
@@ -5,17 +5,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Map;
 
-import mapping.entity.CompleteBean;
-
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -32,9 +28,7 @@ public class ListWrapperTest
 {
 
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private PropertyMeta<Void, String> propertyMeta;
@@ -42,12 +36,6 @@ public class ListWrapperTest
 	@Mock
 	private EntityHelper helper;
 
-	@Before
-	public void setUp() throws Exception
-	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
-	}
-
 	@Test
 	public void should_mark_dirty_on_element_add_at_index() throws Exception
 	{
@@ -60,7 +48,7 @@ public class ListWrapperTest
 		assertThat(target).hasSize(1);
 		assertThat(target.get(0)).isEqualTo("a");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -77,7 +65,7 @@ public class ListWrapperTest
 		assertThat(target.get(1)).isEqualTo("b");
 		assertThat(target.get(2)).isEqualTo("c");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -93,7 +81,7 @@ public class ListWrapperTest
 		assertThat(target).hasSize(1);
 		assertThat(target.get(0)).isEqualTo("a");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -111,7 +99,7 @@ public class ListWrapperTest
 		assertThat(target).hasSize(3);
 		assertThat(target.get(1)).isEqualTo("d");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -126,7 +114,7 @@ public class ListWrapperTest
 		when(helper.unproxy("c")).thenReturn("c");
 		listIteratorWrapper.add("c");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -142,7 +130,7 @@ public class ListWrapperTest
 		when(helper.unproxy("d")).thenReturn("d");
 		subListWrapper.add("d");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -157,8 +145,7 @@ public class ListWrapperTest
 	private ListWrapper<String> prepareListWrapper(List<String> target)
 	{
 		ListWrapper<String> listWrapper = new ListWrapper<String>(target);
-		listWrapper.setDirtyMap(dirtyMap);
-		listWrapper.setSetter(setter);
+		listWrapper.setDirtyProperties(dirtyProperties);
 		listWrapper.setPropertyMeta(propertyMeta);
 		listWrapper.setHelper(helper);
 		return listWrapper;
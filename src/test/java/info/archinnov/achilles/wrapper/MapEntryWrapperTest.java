@@ -8,16 +8,13 @@ import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.JoinProperties;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 
-import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import mapping.entity.CompleteBean;
-
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -34,20 +31,17 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class MapEntryWrapperTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private EntityHelper helper;
 
-	private Method setter;
-
 	@Mock
 	private PropertyMeta<Integer, String> propertyMeta;
 
 	@Before
 	public void setUp() throws Exception
 	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
 		when(propertyMeta.type()).thenReturn(PropertyType.MAP);
 	}
 
@@ -63,13 +57,12 @@ public class MapEntryWrapperTest
 		MapEntryWrapper<Integer, String> mapEntryWrapper = new MapEntryWrapper<Integer, String>(
 				mapEntry);
 		mapEntryWrapper.setHelper(helper);
-		mapEntryWrapper.setDirtyMap(dirtyMap);
-		mapEntryWrapper.setSetter(setter);
+		mapEntryWrapper.setDirtyProperties(dirtyProperties);
 		mapEntryWrapper.setPropertyMeta(propertyMeta);
 		when(helper.unproxy("TEST")).thenReturn("TEST");
 		mapEntryWrapper.setValue("TEST");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 
 	}
 
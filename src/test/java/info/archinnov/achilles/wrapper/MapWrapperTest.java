@@ -8,19 +8,16 @@ import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 
-import java.lang.reflect.Method;
 import java.util.AbstractMap;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
-import mapping.entity.CompleteBean;
-
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -37,9 +34,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class MapWrapperTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private PropertyMeta<Integer, String> propertyMeta;
@@ -50,7 +45,6 @@ public class MapWrapperTest
 	@Before
 	public void setUp() throws Exception
 	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
 		when(propertyMeta.type()).thenReturn(PropertyType.MAP);
 	}
 
@@ -64,7 +58,7 @@ public class MapWrapperTest
 
 		assertThat(target).isEmpty();
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -76,7 +70,7 @@ public class MapWrapperTest
 
 		wrapper.clear();
 
-		verifyZeroInteractions(dirtyMap);
+		verifyZeroInteractions(dirtyProperties);
 	}
 
 	@Test(expected = UnsupportedOperationException.class)
@@ -103,7 +97,7 @@ public class MapWrapperTest
 		when(helper.unproxy(entry)).thenReturn(entry);
 		entrySet.remove(entry);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -117,7 +111,7 @@ public class MapWrapperTest
 		Map.Entry<Integer, String> entry = new AbstractMap.SimpleEntry<Integer, String>(4, "csdf");
 		entrySet.remove(entry);
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -130,7 +124,7 @@ public class MapWrapperTest
 
 		entrySet.iterator().next().setValue("sdfsd");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -143,7 +137,7 @@ public class MapWrapperTest
 		when(helper.unproxy(1)).thenReturn(1);
 		keySet.remove(1);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -156,7 +150,7 @@ public class MapWrapperTest
 		keyIterator.next();
 		keyIterator.remove();
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -167,7 +161,7 @@ public class MapWrapperTest
 
 		wrapper.put(4, "sdfs");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -182,7 +176,7 @@ public class MapWrapperTest
 
 		wrapper.putAll(map);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -193,7 +187,7 @@ public class MapWrapperTest
 		when(helper.unproxy(1)).thenReturn(1);
 		wrapper.remove(1);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -204,7 +198,7 @@ public class MapWrapperTest
 
 		wrapper.remove(10);
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	@Test
@@ -217,7 +211,7 @@ public class MapWrapperTest
 		when(helper.unproxy("FR")).thenReturn("FR");
 		collectionWrapper.remove("FR");
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 
 	public void should_not_mark_dirty_on_collection_remove_non_existing() throws Exception
@@ -229,7 +223,7 @@ public class MapWrapperTest
 
 		collectionWrapper.remove("sdfsdf");
 
-		verify(dirtyMap, never()).put(setter, propertyMeta);
+		verify(dirtyProperties, never()).set(propertyMeta.getOrdinal());
 	}
 
 	private Map<Integer, String> prepareMap()
@@ -245,8 +239,7 @@ public class MapWrapperTest
 	private MapWrapper<Integer, String> prepareMapWrapper(Map<Integer, String> target)
 	{
 		MapWrapper<Integer, String> wrapper = new MapWrapper<Integer, String>(target);
-		wrapper.setDirtyMap(dirtyMap);
-		wrapper.setSetter(setter);
+		wrapper.setDirtyProperties(dirtyProperties);
 		wrapper.setPropertyMeta(propertyMeta);
 		wrapper.setHelper(helper);
 		return wrapper;
@@ -84,10 +84,10 @@ public class WideMapWrapperTest
 	private Long id = 1L;
 
 	@Mock
-	private AchillesSliceIterator<Long, DynamicComposite, String> achillesSliceIterator;
+	private AchillesSliceIterator<Long, DynamicComposite, Object> achillesSliceIterator;
 
 	@Mock
-	private AchillesJoinSliceIterator<Long, DynamicComposite, String, Integer, String> achillesJoinSliceIterator;
+	private AchillesJoinSliceIterator<Long, DynamicComposite, Object, Integer, String> achillesJoinSliceIterator;
 
 	@SuppressWarnings(
 	{
@@ -123,7 +123,7 @@ public class WideMapWrapperTest
 		String value = "test";
 		DynamicComposite composite = new DynamicComposite();
 		when(keyFactory.createForInsert(propertyMeta, 1)).thenReturn(composite);
-		when(propertyMeta.writeValueToString(value)).thenReturn(value);
+		when(propertyMeta.writeValue(value)).thenReturn(value);
 		when(interceptor.isBatchMode()).thenReturn(false);
 		wrapper.insert(1, value);
 
@@ -142,7 +142,7 @@ public class WideMapWrapperTest
 		String value = "test";
 		DynamicComposite composite = new DynamicComposite();
 		when(keyFactory.createForInsert(propertyMeta, 1)).thenReturn(composite);
-		when(propertyMeta.writeValueToString(value)).thenReturn(value);
+		when(propertyMeta.writeValue(value)).thenReturn(value);
 		when(interceptor.isBatchMode()).thenReturn(true);
 		when(interceptor.getMutator()).thenReturn((Mutator) mutator);
 		wrapper.insert(1, value);
@@ -156,7 +156,7 @@ public class WideMapWrapperTest
 		String value = "test";
 		DynamicComposite composite = new DynamicComposite();
 		when(keyFactory.createForInsert(propertyMeta, 1)).thenReturn(composite);
-		when(propertyMeta.writeValueToString(value)).thenReturn(value);
+		when(propertyMeta.writeValue(value)).thenReturn(value);
 		when(interceptor.isBatchMode()).thenReturn(false);
 		wrapper.insert(1, value, 12);
 
@@ -175,7 +175,7 @@ public class WideMapWrapperTest
 		String value = "test";
 		DynamicComposite composite = new DynamicComposite();
 		when(keyFactory.createForInsert(propertyMeta, 1)).thenReturn(composite);
-		when(propertyMeta.writeValueToString(value)).thenReturn(value);
+		when(propertyMeta.writeValue(value)).thenReturn(value);
 		when(interceptor.isBatchMode()).thenReturn(true);
 		when(interceptor.getMutator()).thenReturn((Mutator) mutator);
 		wrapper.insert(1, value, 12);
@@ -190,7 +190,7 @@ public class WideMapWrapperTest
 	{
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
-		List<HColumn<DynamicComposite, String>> hColumns = mock(List.class);
+		List<HColumn<DynamicComposite, Object>> hColumns = mock(List.class);
 
 		when(keyFactory.createForQuery(propertyMeta, 1, 2, BoundingMode.INCLUSIVE_START_BOUND_ONLY, 
 				OrderingMode.ASCENDING)).thenReturn(
@@ -217,7 +217,7 @@ public class WideMapWrapperTest
 	{
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
-		List<HColumn<DynamicComposite, String>> hColumns = mock(List.class);
+		List<HColumn<DynamicComposite, Object>> hColumns = mock(List.class);
 
 		when(keyFactory.createForQuery(propertyMeta, 1, 2, BoundingMode.INCLUSIVE_START_BOUND_ONLY, 
 				OrderingMode.ASCENDING)).thenReturn(
@@ -244,7 +244,7 @@ public class WideMapWrapperTest
 	{
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
-		List<HColumn<DynamicComposite, String>> hColumns = mock(List.class);
+		List<HColumn<DynamicComposite, Object>> hColumns = mock(List.class);
 
 		when(keyFactory.createForQuery(propertyMeta, 1, 2, BoundingMode.INCLUSIVE_START_BOUND_ONLY, 
 				OrderingMode.ASCENDING)).thenReturn(
@@ -273,7 +273,7 @@ public class WideMapWrapperTest
 	{
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
-		List<HColumn<DynamicComposite, String>> hColumns = mock(List.class);
+		List<HColumn<DynamicComposite, Object>> hColumns = mock(List.class);
 
 		when(keyFactory.createForQuery(propertyMeta, 1, 2, BoundingMode.INCLUSIVE_START_BOUND_ONLY, 
 				OrderingMode.ASCENDING)).thenReturn(
@@ -302,7 +302,7 @@ public class WideMapWrapperTest
 	{
 		DynamicComposite start = new DynamicComposite();
 		DynamicComposite end = new DynamicComposite();
-		List<HColumn<DynamicComposite, String>> hColumns = mock(List.class);
+		List<HColumn<DynamicComposite, Object>> hColumns = mock(List.class);
 
 		when(keyFactory.createForQuery(propertyMeta, 1, 2, BoundingMode.INCLUSIVE_START_BOUND_ONLY, 
 				OrderingMode.ASCENDING)).thenReturn(
@@ -3,16 +3,12 @@ package info.archinnov.achilles.wrapper.builder;
 import static org.fest.assertions.api.Assertions.assertThat;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.wrapper.CollectionWrapper;
 
-import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
-import mapping.entity.CompleteBean;
-
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -29,9 +25,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class CollectionWrapperBuilderTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private EntityHelper helper;
@@ -39,27 +33,19 @@ public class CollectionWrapperBuilderTest
 	@Mock
 	private PropertyMeta<Void, String> propertyMeta;
 
-	@Before
-	public void setUp() throws Exception
-	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
-	}
-
 	@Test
 	public void should_build() throws Exception
 	{
 		List<String> target = new ArrayList<String>();
 		CollectionWrapper<String> wrapper = CollectionWrapperBuilder //
 				.builder(target) //
-				.dirtyMap(dirtyMap) //
-				.setter(setter) //
+				.dirtyProperties(dirtyProperties) //
 				.propertyMeta(propertyMeta) //
 				.helper(helper) //
 				.build();
 
 		assertThat(wrapper.getTarget()).isSameAs(target);
-		assertThat(wrapper.getDirtyMap()).isSameAs(dirtyMap);
-		assertThat(Whitebox.getInternalState(wrapper, "setter")).isSameAs(setter);
+		assertThat(wrapper.getDirtyProperties()).isSameAs(dirtyProperties);
 		assertThat(Whitebox.getInternalState(wrapper, "propertyMeta")).isSameAs(propertyMeta);
 		assertThat(Whitebox.getInternalState(wrapper, "helper")).isSameAs(helper);
 
@@ -0,0 +1,73 @@
+package info.archinnov.achilles.wrapper.builder;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.composite.factory.CompositeKeyFactory;
+import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.helper.CompositeHelper;
+import info.archinnov.achilles.iterator.factory.IteratorFactory;
+import info.archinnov.achilles.iterator.factory.KeyValueFactory;
+import info.archinnov.achilles.proxy.interceptor.AchillesInterceptor;
+import info.archinnov.achilles.wrapper.CounterWideMapWrapper;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.powermock.reflect.Whitebox;
+
+/**
+ * CounterWideMapWrapperBuilderTest
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+
+@RunWith(MockitoJUnitRunner.class)
+public class CounterWideMapWrapperBuilderTest
+{
+	@Mock
+	private GenericCompositeDao<Integer, Long> dao;
+
+	@Mock
+	private PropertyMeta<String, Long> propertyMeta;
+
+	@Mock
+	private AchillesInterceptor interceptor;
+
+	@Mock
+	private CompositeHelper compositeHelper;
+
+	@Mock
+	private KeyValueFactory keyValueFactory;
+
+	@Mock
+	private IteratorFactory iteratorFactory;
+
+	@Mock
+	private CompositeKeyFactory compositeKeyFactory;
+
+	@Test
+	public void should_build() throws Exception
+	{
+		CounterWideMapWrapper<Integer, String> wrapper = CounterWideMapWrapperBuilder
+				.builder(1, dao, propertyMeta) //
+				.interceptor(interceptor) //
+				.compositeHelper(compositeHelper) //
+				.keyValueFactory(keyValueFactory) //
+				.iteratorFactory(iteratorFactory) //
+				.compositeKeyFactory(compositeKeyFactory) //
+				.build();
+
+		assertThat(wrapper).isNotNull();
+		assertThat(Whitebox.getInternalState(wrapper, "id")).isEqualTo(1);
+		assertThat(Whitebox.getInternalState(wrapper, "dao")).isSameAs(dao);
+		assertThat(Whitebox.getInternalState(wrapper, "propertyMeta")).isSameAs(propertyMeta);
+		assertThat(Whitebox.getInternalState(wrapper, "interceptor")).isSameAs(interceptor);
+		assertThat(Whitebox.getInternalState(wrapper, "compositeHelper")).isSameAs(compositeHelper);
+		assertThat(Whitebox.getInternalState(wrapper, "keyValueFactory")).isSameAs(keyValueFactory);
+		assertThat(Whitebox.getInternalState(wrapper, "iteratorFactory")).isSameAs(iteratorFactory);
+		assertThat(Whitebox.getInternalState(wrapper, "compositeKeyFactory")).isSameAs(
+				compositeKeyFactory);
+	}
+}
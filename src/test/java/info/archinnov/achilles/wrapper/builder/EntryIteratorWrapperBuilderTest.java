@@ -4,17 +4,14 @@ import static org.fest.assertions.api.Assertions.assertThat;
 import static org.mockito.Mockito.verify;
 
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.wrapper.EntryIteratorWrapper;
 import info.archinnov.achilles.wrapper.builder.EntryIteratorWrapperBuilder;
 
-import java.lang.reflect.Method;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
-import mapping.entity.CompleteBean;
 
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -31,19 +28,12 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class EntryIteratorWrapperBuilderTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
+	private PropertyBitSet dirtyProperties;
 
-	private Method setter;
 
 	@Mock
 	private PropertyMeta<Integer, String> propertyMeta;
 
-	@Before
-	public void setUp() throws Exception
-	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
-	}
-
 	@Test
 	public void should_build() throws Exception
 	{
@@ -53,14 +43,14 @@ public class EntryIteratorWrapperBuilderTest
 		map.put(3, "75014");
 
 		EntryIteratorWrapper<Integer, String> iteratorWrapper = EntryIteratorWrapperBuilder
-				.builder(map.entrySet().iterator()).dirtyMap(dirtyMap).setter(setter)
+				.builder(map.entrySet().iterator()).dirtyProperties(dirtyProperties)
 				.propertyMeta(propertyMeta).build();
 
-		assertThat(iteratorWrapper.getDirtyMap()).isSameAs(dirtyMap);
+		assertThat(iteratorWrapper.getDirtyProperties()).isSameAs(dirtyProperties);
 
 		iteratorWrapper.next();
 		iteratorWrapper.remove();
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 }
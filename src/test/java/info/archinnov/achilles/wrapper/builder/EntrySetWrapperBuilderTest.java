@@ -5,17 +5,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.wrapper.EntrySetWrapper;
 
-import java.lang.reflect.Method;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
-import mapping.entity.CompleteBean;
-
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -31,9 +27,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class EntrySetWrapperBuilderTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private PropertyMeta<Integer, String> propertyMeta;
@@ -41,13 +35,6 @@ public class EntrySetWrapperBuilderTest
 	@Mock
 	private EntityHelper helper;
 
-	@Before
-	public void setUp() throws Exception
-	{
-		setter = CompleteBean.class.getDeclaredMethod("setFriends", List.class);
-
-	}
-
 	@Test
 	public void should_build() throws Exception
 	{
@@ -58,18 +45,17 @@ public class EntrySetWrapperBuilderTest
 
 		EntrySetWrapper<Integer, String> entrySetWrapper = EntrySetWrapperBuilder
 				.builder(map.entrySet()) //
-				.dirtyMap(dirtyMap) //
-				.setter(setter) //
+				.dirtyProperties(dirtyProperties) //
 				.propertyMeta(propertyMeta) //
 				.helper(helper) //
 				.build();
 
-		assertThat(entrySetWrapper.getDirtyMap()).isSameAs(dirtyMap);
+		assertThat(entrySetWrapper.getDirtyProperties()).isSameAs(dirtyProperties);
 
 		Entry<Integer, String> entry = map.entrySet().iterator().next();
 		when(helper.unproxy(entry)).thenReturn(entry);
 		entrySetWrapper.remove(entry);
 
-		verify(dirtyMap).put(setter, propertyMeta);
+		verify(dirtyProperties).set(propertyMeta.getOrdinal());
 	}
 }
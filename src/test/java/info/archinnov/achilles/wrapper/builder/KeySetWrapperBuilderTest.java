@@ -3,16 +3,12 @@ package info.archinnov.achilles.wrapper.builder;
 import static org.fest.assertions.api.Assertions.assertThat;
 import info.archinnov.achilles.entity.EntityHelper;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
+import info.archinnov.achilles.proxy.PropertyBitSet;
 import info.archinnov.achilles.wrapper.ValueCollectionWrapper;
 
-import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Set;
 
-import mapping.entity.CompleteBean;
-
-import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mock;
@@ -29,9 +25,7 @@ import org.mockito.runners.MockitoJUnitRunner;
 public class KeySetWrapperBuilderTest
 {
 	@Mock
-	private Map<Method, PropertyMeta<?, ?>> dirtyMap;
-
-	private Method setter;
+	private PropertyBitSet dirtyProperties;
 
 	@Mock
 	private EntityHelper helper;
@@ -39,12 +33,6 @@ public class KeySetWrapperBuilderTest
 	@Mock
 	private PropertyMeta<Void, String> propertyMeta;
 
-	@Before
-	public void setUp() throws Exception
-	{
-		setter = CompleteBean.class.getDeclaredMethod("setFollowers", Set.class);
-	}
-
 	@SuppressWarnings(
 	{
 			"rawtypes",
@@ -60,15 +48,13 @@ public class KeySetWrapperBuilderTest
 
 		ValueCollectionWrapper<String> wrapper = ValueCollectionWrapperBuilder
 				.builder(targetMap.values()) //
-				.dirtyMap(dirtyMap) //
-				.setter(setter) //
+				.dirtyProperties(dirtyProperties) //
 				.propertyMeta((PropertyMeta) propertyMeta) //
 				.helper(helper) //
 				.build();
 
 		assertThat(wrapper.getTarget()).isSameAs(targetMap.values());
-		assertThat(wrapper.getDirtyMap()).isSameAs(dirtyMap);
-		assertThat(Whitebox.getInternalState(wrapper, "setter")).isSameAs(setter);
+		assertThat(wrapper.getDirtyProperties()).isSameAs(dirtyProperties);
 		assertThat(Whitebox.getInternalState(wrapper, "propertyMeta")).isSameAs(propertyMeta);
 		assertThat(Whitebox.getInternalState(wrapper, "helper")).isSameAs(helper);
 
@@ -21,7 +21,6 @@ import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.DynamicComposite;
 
 import org.apache.commons.lang.math.RandomUtils;
-import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -57,8 +56,6 @@ public class BatchModeIT
 
 	private Long userId = RandomUtils.nextLong();
 
-	private ObjectMapper objectMapper = new ObjectMapper();
-
 	@Before
 	public void setUp()
 	{
@@ -89,7 +86,7 @@ public class BatchModeIT
 		user.getTweets().insert(1, ownTweet1);
 		user.getTweets().insert(2, ownTweet2);
 
-		List<Pair<DynamicComposite, String>> columns = userDao.findColumnsRange(user.getId(),
+		List<Pair<DynamicComposite, Object>> columns = userDao.findColumnsRange(user.getId(),
 				startComp, endComp, false, 20);
 
 		Tweet foundOwnTweet1 = em.find(Tweet.class, ownTweet1.getId());
@@ -106,8 +103,8 @@ public class BatchModeIT
 
 		assertThat(columns).hasSize(2);
 
-		assertThat(readUUID(columns.get(0).right)).isEqualTo(ownTweet1.getId());
-		assertThat(readUUID(columns.get(1).right)).isEqualTo(ownTweet2.getId());
+		assertThat(columns.get(0).right).isEqualTo(ownTweet1.getId());
+		assertThat(columns.get(1).right).isEqualTo(ownTweet2.getId());
 
 		foundOwnTweet1 = em.find(Tweet.class, ownTweet1.getId());
 		foundOwnTweet2 = em.find(Tweet.class, ownTweet2.getId());
@@ -119,9 +116,41 @@ public class BatchModeIT
 
 	}
 
-	private UUID readUUID(String value) throws Exception
+	@Test
+	public void should_flush_batch_when_max_columns_reached() throws Exception
 	{
-		return this.objectMapper.readValue(value, UUID.class);
+		user = em.merge(user);
+		Tweet ownTweet3 = TweetTestBuilder.tweet().randomId().content("myTweet3").creator(user)
+				.buid();
+
+		DynamicComposite startComp = new DynamicComposite();
+		startComp.addComponent(0, JOIN_WIDE_MAP.flag(), ComponentEquality.EQUAL);
+		startComp.addComponent(1, "tweets", ComponentEquality.EQUAL);
+
+		DynamicComposite endComp = new DynamicComposite();
+		endComp.addComponent(0, JOIN_WIDE_MAP.flag(), ComponentEquality.EQUAL);
+		endComp.addComponent(1, "tweets", ComponentEquality.GREATER_THAN_EQUAL);
+
+		em.startBatch(user, 2, 1024 * 1024);
+
+		user.getTweets().insert(1, ownTweet1);
+		user.getTweets().insert(2, ownTweet2);
+		user.getTweets().insert(3, ownTweet3);
+
+		List<Pair<DynamicComposite, Object>> columns = userDao.findColumnsRange(user.getId(),
+				startComp, endComp, false, 20);
+
+		assertThat(columns).hasSize(2);
+		assertThat(columns.get(0).right).isEqualTo(ownTweet1.getId());
+		assertThat(columns.get(1).right).isEqualTo(ownTweet2.getId());
+
+		em.endBatch(user);
+
+		columns = userDao.findColumnsRange(user.getId(), startComp, endComp, false, 20);
+
+		assertThat(columns).hasSize(3);
+		assertThat(columns.get(2).right).isEqualTo(ownTweet3.getId());
+		assertThat(em.find(Tweet.class, ownTweet3.getId()).getContent()).isEqualTo("myTweet3");
 	}
 
 	@After
@@ -0,0 +1,114 @@
+package integration.tests;
+
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.common.CassandraDaoTest;
+import info.archinnov.achilles.entity.manager.ThriftEntityManager;
+import info.archinnov.achilles.entity.operations.EntityBulkLoader;
+import info.archinnov.achilles.exception.AchillesException;
+import integration.tests.entity.CompleteBean;
+import integration.tests.entity.CompleteBeanTestBuilder;
+import integration.tests.entity.Tweet;
+import integration.tests.entity.TweetTestBuilder;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.util.UUID;
+
+import me.prettyprint.cassandra.utils.TimeUUIDUtils;
+
+import org.apache.cassandra.service.StorageService;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.io.Files;
+
+/**
+ * BulkLoaderIT
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class BulkLoaderIT
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private ThriftEntityManager em = CassandraDaoTest.getEm();
+
+	private File directory;
+
+	private EntityBulkLoader loader;
+
+	@Before
+	public void setUp()
+	{
+		directory = Files.createTempDir();
+		loader = CassandraDaoTest.getEmf().createBulkLoader(directory,
+				StorageService.getPartitioner(), 1);
+	}
+
+	@Test
+	public void should_write_entities_and_wide_maps_to_sstables() throws Exception
+	{
+		CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").age(35L)
+				.addFriends("foo", "bar").addFollowers("George").addPreference(1, "FR").buid();
+		UUID tweetId = TimeUUIDUtils.getUniqueTimeUUIDinMillis();
+
+		loader.write(bean);
+		loader.writeWideMap(CompleteBean.class, bean.getId(), "tweets", tweetId, "tweet");
+		loader.writeWideMap(CompleteBean.class, bean.getId(), "externalWideMap", 10, "external");
+		loader.close();
+
+		File keyspaceDirectory = new File(directory, "achilles");
+		File[] columnFamilyDirectories = keyspaceDirectory.listFiles();
+		assertThat(columnFamilyDirectories).hasSize(2);
+
+		for (File columnFamilyDirectory : columnFamilyDirectories)
+		{
+			assertThat(columnFamilyDirectory.list(new FilenameFilter()
+			{
+				@Override
+				public boolean accept(File dir, String name)
+				{
+					return name.endsWith("-Data.db");
+				}
+			})).isNotEmpty();
+			StorageService.instance.bulkLoad(columnFamilyDirectory.getAbsolutePath());
+		}
+
+		CompleteBean found = em.find(CompleteBean.class, bean.getId());
+
+		assertThat(found.getName()).isEqualTo("DuyHai");
+		assertThat(found.getAge()).isEqualTo(35L);
+		assertThat(found.getFriends()).containsExactly("foo", "bar");
+		assertThat(found.getFollowers()).containsOnly("George");
+		assertThat(found.getPreferences().get(1)).isEqualTo("FR");
+		assertThat(found.getTweets().get(tweetId)).isEqualTo("tweet");
+		assertThat(found.getExternalWideMap().get(10)).isEqualTo("external");
+	}
+
+	@Test
+	public void should_exception_when_join_property_set() throws Exception
+	{
+		Tweet welcomeTweet = TweetTestBuilder.tweet().randomId().content("welcome").buid();
+		CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("DuyHai").buid();
+		bean.setWelcomeTweet(welcomeTweet);
+
+		exception.expect(AchillesException.class);
+		exception.expectMessage("The join property 'welcomeTweet' of entity '"
+				+ CompleteBean.class.getCanonicalName() + "' cannot be bulk loaded");
+
+		loader.write(bean);
+	}
+
+	@After
+	public void tearDown()
+	{
+		loader.close();
+		FileUtils.deleteQuietly(directory);
+	}
+}
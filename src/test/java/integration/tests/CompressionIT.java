@@ -0,0 +1,78 @@
+package integration.tests;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.DYNA_COMP_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality.EQUAL;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.common.CassandraDaoTest;
+import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
+import info.archinnov.achilles.entity.manager.ThriftEntityManager;
+import info.archinnov.achilles.entity.metadata.CompressionStats;
+import info.archinnov.achilles.entity.metadata.PropertyType;
+import integration.tests.entity.BeanWithCompressedProperties;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map;
+
+import me.prettyprint.cassandra.serializers.ByteBufferSerializer;
+import me.prettyprint.hector.api.beans.DynamicComposite;
+import me.prettyprint.hector.api.factory.HFactory;
+
+import org.apache.commons.lang.StringUtils;
+import org.apache.commons.lang.math.RandomUtils;
+import org.junit.Test;
+
+/**
+ * CompressionIT
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class CompressionIT
+{
+	private ThriftEntityManager em = CassandraDaoTest.getEm();
+
+	private GenericDynamicCompositeDao<Long> dao = CassandraDaoTest.getDynamicCompositeDao(
+			LONG_SRZ, BeanWithCompressedProperties.class.getSimpleName());
+
+	@Test
+	public void should_persist_and_find_compressed_properties() throws Exception
+	{
+		String document = StringUtils.repeat("a rendered document ", 100);
+		String paragraph = StringUtils.repeat("a long paragraph ", 20);
+
+		BeanWithCompressedProperties bean = new BeanWithCompressedProperties();
+		bean.setId(RandomUtils.nextLong());
+		bean.setDocument(document);
+		bean.setParagraphs(Arrays.asList(paragraph, "short"));
+		em.persist(bean);
+
+		BeanWithCompressedProperties found = em.find(BeanWithCompressedProperties.class,
+				bean.getId());
+
+		assertThat(found.getDocument()).isEqualTo(document);
+		assertThat(found.getParagraphs()).containsExactly(paragraph, "short");
+
+		DynamicComposite documentName = new DynamicComposite();
+		documentName.addComponent(0, PropertyType.SIMPLE.flag(), EQUAL);
+		documentName.addComponent(1, "document", EQUAL);
+
+		assertThat(dao.getValue(bean.getId(), documentName)).isEqualTo(document);
+
+		ByteBuffer storedDocument = HFactory
+				.createColumnQuery(CassandraDaoTest.getKeyspace(), LONG_SRZ, DYNA_COMP_SRZ,
+						ByteBufferSerializer.get())
+				.setColumnFamily(BeanWithCompressedProperties.class.getSimpleName())
+				.setKey(bean.getId()).setName(documentName).execute().get().getValue();
+		assertThat(storedDocument.remaining()).isLessThan(document.length() / 10);
+
+		Map<String, CompressionStats> stats = CassandraDaoTest.getEmf().getCompressionStats(
+				BeanWithCompressedProperties.class);
+		assertThat(stats.keySet()).containsOnly("document", "paragraphs");
+		assertThat(stats.get("document").getCompressedValues()).isGreaterThanOrEqualTo(1L);
+		assertThat(stats.get("document").getCompressionRatio()).isLessThan(0.5d);
+		assertThat(stats.get("paragraphs").getCompressedValues()).isGreaterThanOrEqualTo(1L);
+		assertThat(stats.get("paragraphs").getPlainValues()).isGreaterThanOrEqualTo(1L);
+	}
+}
@@ -0,0 +1,164 @@
+package integration.tests;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.common.CassandraDaoTest;
+import info.archinnov.achilles.dao.CounterAccumulator;
+import info.archinnov.achilles.dao.GenericCounterDao;
+import info.archinnov.achilles.entity.manager.ThriftEntityManager;
+import integration.tests.entity.BeanWithCounter;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.commons.lang.math.RandomUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * CounterIT
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterIT
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private GenericCounterDao<Long> counterDao = new GenericCounterDao<Long>(
+			CassandraDaoTest.getKeyspace(), LONG_SRZ, "BeanWithCounter_counters");
+
+	private ThriftEntityManager em = CassandraDaoTest.getEm();
+
+	private BeanWithCounter bean;
+
+	@Before
+	public void setUp()
+	{
+		bean = new BeanWithCounter();
+		bean.setId(RandomUtils.nextLong());
+		bean.setName("name");
+		bean = em.merge(bean);
+	}
+
+	@Test
+	public void should_increment_and_decrement_counters() throws Exception
+	{
+		bean.getVisits().incr();
+		bean.getVisits().incr(10L);
+		bean.getLikes().incr(5L);
+		bean.getLikes().decr();
+		bean.getLikes().decr(2L);
+
+		assertThat(bean.getVisits().get()).isEqualTo(11L);
+		assertThat(bean.getLikes().get()).isEqualTo(2L);
+
+		assertThat(counterDao.getCounterValue(bean.getId(), counterName("visits"))).isEqualTo(11L);
+		assertThat(counterDao.getCounterValue(bean.getId(), counterName("like_count")))
+				.isEqualTo(2L);
+	}
+
+	@Test
+	public void should_return_zero_for_new_counter() throws Exception
+	{
+		assertThat(bean.getVisits().get()).isEqualTo(0L);
+	}
+
+	@Test
+	public void should_read_counter_from_found_entity() throws Exception
+	{
+		bean.getVisits().incr(3L);
+
+		BeanWithCounter found = em.find(BeanWithCounter.class, bean.getId());
+
+		assertThat(found.getName()).isEqualTo("name");
+		assertThat(found.getVisits().get()).isEqualTo(3L);
+	}
+
+	@Test
+	public void should_increment_counter_in_batch_mode() throws Exception
+	{
+		em.startBatch(bean);
+
+		bean.getVisits().incr(7L);
+		assertThat(counterDao.getCounterValue(bean.getId(), counterName("visits"))).isEqualTo(0L);
+
+		em.endBatch(bean);
+
+		assertThat(counterDao.getCounterValue(bean.getId(), counterName("visits"))).isEqualTo(7L);
+	}
+
+	@Test
+	public void should_coalesce_counter_increments() throws Exception
+	{
+		GenericCounterDao<Long> coalescingDao = new GenericCounterDao<Long>(
+				CassandraDaoTest.getKeyspace(), LONG_SRZ, "BeanWithCounter_counters");
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		try
+		{
+			CounterAccumulator<Long, Composite> accumulator = coalescingDao
+					.enableCounterCoalescing(scheduler, 60000, 1000);
+
+			for (int i = 0; i < 100; i++)
+			{
+				coalescingDao.incrementCounter(bean.getId(), counterName("visits"), 2L);
+			}
+			coalescingDao.decrementCounter(bean.getId(), counterName("visits"), 50L);
+
+			assertThat(counterDao.getCounterValue(bean.getId(), counterName("visits")))
+					.isEqualTo(0L);
+			assertThat(coalescingDao.getCounterValue(bean.getId(), counterName("visits")))
+					.isEqualTo(150L);
+			assertThat(accumulator.getPendingCounters()).isEqualTo(1);
+
+			coalescingDao.disableCounterCoalescing();
+
+			assertThat(bean.getVisits().get()).isEqualTo(150L);
+			assertThat(accumulator.getReceivedDeltas()).isEqualTo(101L);
+			assertThat(accumulator.getFlushedCounters()).isEqualTo(1L);
+		}
+		finally
+		{
+			scheduler.shutdownNow();
+		}
+	}
+
+	@Test
+	public void should_remove_counters_with_entity() throws Exception
+	{
+		bean.getVisits().incr(3L);
+
+		em.remove(bean);
+
+		assertThat(counterDao.getCounterValue(bean.getId(), counterName("visits"))).isEqualTo(0L);
+	}
+
+	@Test
+	public void should_exception_when_setting_counter() throws Exception
+	{
+		exception.expect(UnsupportedOperationException.class);
+		exception.expectMessage("Cannot set value directly to a Counter");
+
+		bean.setVisits(null);
+	}
+
+	private Composite counterName(String propertyName)
+	{
+		Composite name = new Composite();
+		name.addComponent(propertyName, STRING_SRZ);
+		return name;
+	}
+
+	@After
+	public void tearDown()
+	{
+		em.remove(bean);
+	}
+}
@@ -0,0 +1,181 @@
+package integration.tests;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.common.CassandraDaoTest;
+import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.entity.manager.ThriftEntityManager;
+import info.archinnov.achilles.entity.type.CounterWideMap;
+import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.entity.type.KeyValueIterator;
+import info.archinnov.achilles.entity.type.WideMap.BoundingMode;
+import info.archinnov.achilles.entity.type.WideMap.OrderingMode;
+import integration.tests.entity.BeanWithCounter;
+
+import java.util.List;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.commons.lang.math.RandomUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * CounterWideMapIT
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+public class CounterWideMapIT
+{
+	@Rule
+	public ExpectedException exception = ExpectedException.none();
+
+	private GenericCompositeDao<Long, Long> counterWideMapDao = CassandraDaoTest
+			.getCompositeDao(LONG_SRZ, LONG_SRZ, "counter_wide_map");
+
+	private ThriftEntityManager em = CassandraDaoTest.getEm();
+
+	private BeanWithCounter bean;
+
+	private CounterWideMap<String> clicks;
+
+	@Before
+	public void setUp()
+	{
+		bean = new BeanWithCounter();
+		bean.setId(RandomUtils.nextLong());
+		bean.setName("name");
+		bean = em.merge(bean);
+		clicks = bean.getClicks();
+	}
+
+	@Test
+	public void should_increment_and_decrement_counters() throws Exception
+	{
+		clicks.incr("home");
+		clicks.incr("home", 9L);
+		clicks.incr("about", 4L);
+		clicks.decr("about");
+		clicks.decr("about", 2L);
+
+		assertThat(clicks.get("home")).isEqualTo(10L);
+		assertThat(clicks.get("about")).isEqualTo(1L);
+		assertThat(clicks.get("contact")).isEqualTo(0L);
+
+		assertThat(counterWideMapDao.getCounterValue(bean.getId(), counterName("home")))
+				.isEqualTo(10L);
+	}
+
+	@Test
+	public void should_find_counters_range() throws Exception
+	{
+		incr4Keys();
+
+		List<KeyValue<String, Long>> found = clicks.find("b", "c", 10);
+
+		assertThat(found).hasSize(2);
+		assertThat(found.get(0).getKey()).isEqualTo("b");
+		assertThat(found.get(0).getValue()).isEqualTo(2L);
+		assertThat(found.get(1).getKey()).isEqualTo("c");
+		assertThat(found.get(1).getValue()).isEqualTo(3L);
+	}
+
+	@Test
+	public void should_find_counters_range_reverse_with_exclusive_bounds() throws Exception
+	{
+		incr4Keys();
+
+		List<KeyValue<String, Long>> found = clicks.find("d", "a", 10,
+				BoundingMode.EXCLUSIVE_BOUNDS, OrderingMode.DESCENDING);
+
+		assertThat(found).hasSize(2);
+		assertThat(found.get(0).getKey()).isEqualTo("c");
+		assertThat(found.get(1).getKey()).isEqualTo("b");
+
+		found = clicks.findReverse("d", "c", 10);
+		assertThat(found).hasSize(2);
+		assertThat(found.get(0).getValue()).isEqualTo(4L);
+		assertThat(found.get(1).getValue()).isEqualTo(3L);
+	}
+
+	@Test
+	public void should_iterate_over_counters() throws Exception
+	{
+		incr4Keys();
+
+		KeyValueIterator<String, Long> iterator = clicks.iterator(null, null, 3);
+
+		long sum = 0;
+		int count = 0;
+		while (iterator.hasNext())
+		{
+			KeyValue<String, Long> keyValue = iterator.next();
+			sum += keyValue.getValue();
+			count++;
+		}
+
+		assertThat(count).isEqualTo(4);
+		assertThat(sum).isEqualTo(10L);
+	}
+
+	@Test
+	public void should_increment_counters_in_batch_mode() throws Exception
+	{
+		em.startBatch(bean);
+
+		clicks.incr("home", 5L);
+		clicks.incr("about", 2L);
+		assertThat(counterWideMapDao.getCounterValue(bean.getId(), counterName("home")))
+				.isEqualTo(0L);
+
+		em.endBatch(bean);
+
+		assertThat(clicks.get("home")).isEqualTo(5L);
+		assertThat(clicks.get("about")).isEqualTo(2L);
+	}
+
+	@Test
+	public void should_remove_counters_with_entity() throws Exception
+	{
+		clicks.incr("home", 3L);
+
+		em.remove(bean);
+
+		assertThat(counterWideMapDao.getCounterValue(bean.getId(), counterName("home")))
+				.isEqualTo(0L);
+	}
+
+	@Test
+	public void should_exception_when_setting_counter_wide_map() throws Exception
+	{
+		exception.expect(UnsupportedOperationException.class);
+
+		bean.setClicks(null);
+	}
+
+	private void incr4Keys()
+	{
+		clicks.incr("a", 1L);
+		clicks.incr("b", 2L);
+		clicks.incr("c", 3L);
+		clicks.incr("d", 4L);
+	}
+
+	private Composite counterName(String key)
+	{
+		Composite name = new Composite();
+		name.addComponent(key, STRING_SRZ);
+		return name;
+	}
+
+	@After
+	public void tearDown()
+	{
+		em.remove(bean);
+	}
+}
@@ -0,0 +1,224 @@
+package integration.tests;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.common.CassandraDaoTest;
+import info.archinnov.achilles.dao.DaoOptions;
+import info.archinnov.achilles.dao.GenericCompositeDao;
+import info.archinnov.achilles.dao.GenericCounterDao;
+import info.archinnov.achilles.entity.manager.ThriftEntityManager;
+import info.archinnov.achilles.entity.manager.ThriftEntityManagerFactoryImpl;
+import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.entity.type.KeyValueIterator;
+import info.archinnov.achilles.entity.type.WideMap;
+import info.archinnov.achilles.iterator.AdaptivePageSizer;
+import integration.tests.options.TunedBean;
+import integration.tests.options.TunedUser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import me.prettyprint.hector.api.beans.Composite;
+
+import org.apache.commons.lang.math.RandomUtils;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * DaoOptionsIT
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class DaoOptionsIT
+{
+	private static ExecutorService executor;
+	private static ScheduledExecutorService scheduler;
+	private static DaoOptions daoOptions;
+	private static ThriftEntityManager em;
+
+	@BeforeClass
+	public static void setUp()
+	{
+		executor = Executors.newFixedThreadPool(4);
+		scheduler = Executors.newSingleThreadScheduledExecutor();
+		daoOptions = new DaoOptions() //
+				.prefetch(executor, 2) //
+				.adaptivePaging(new AdaptivePageSizer(1024, 2, 100, 500)) //
+				.chunkedRemoval(2, executor, 2) //
+				.eagerFetchChunking(1, executor) //
+				.eagerFetchPageSize(2) //
+				.counterCoalescing(scheduler, 60000L, 1000);
+
+		ThriftEntityManagerFactoryImpl emf = new ThriftEntityManagerFactoryImpl(
+				CassandraDaoTest.getCluster(), CassandraDaoTest.getKeyspace(),
+				Arrays.asList("integration.tests.options"), true, null, null, daoOptions);
+		em = (ThriftEntityManager) emf.createEntityManager();
+	}
+
+	@AfterClass
+	public static void tearDown()
+	{
+		daoOptions.close();
+		executor.shutdown();
+		scheduler.shutdownNow();
+	}
+
+	@Test
+	public void should_find_entity_with_eager_paging() throws Exception
+	{
+		TunedBean bean = bean("DuyHai");
+		bean.setAge(35L);
+		bean.setFriends(Arrays.asList("foo", "bar", "qux"));
+		bean.setFollowers(new HashSet<String>(Arrays.asList("George", "Paul")));
+		em.persist(bean);
+
+		TunedBean found = em.find(TunedBean.class, bean.getId());
+
+		assertThat(found.getName()).isEqualTo("DuyHai");
+		assertThat(found.getAge()).isEqualTo(35L);
+		assertThat(found.getFriends()).containsExactly("foo", "bar", "qux");
+		assertThat(found.getFollowers()).containsOnly("George", "Paul");
+	}
+
+	@Test
+	public void should_find_all_with_multiget_chunks() throws Exception
+	{
+		TunedBean bean1 = bean("one");
+		TunedBean bean2 = bean("two");
+		TunedBean bean3 = bean("three");
+		em.persist(bean1);
+		em.persist(bean2);
+		em.persist(bean3);
+
+		List<TunedBean> found = em.findAll(TunedBean.class,
+				Arrays.asList(bean1.getId(), bean2.getId(), bean3.getId()));
+
+		assertThat(found).hasSize(3);
+		assertThat(found.get(0).getName()).isEqualTo("one");
+		assertThat(found.get(1).getName()).isEqualTo("two");
+		assertThat(found.get(2).getName()).isEqualTo("three");
+	}
+
+	@Test
+	public void should_iterate_and_remove_external_wide_map() throws Exception
+	{
+		TunedBean bean = bean("DuyHai");
+		bean = em.merge(bean);
+		WideMap<Integer, String> externalWideMap = bean.getExternalWideMap();
+		for (int i = 1; i <= 10; i++)
+		{
+			externalWideMap.insert(i, "value" + i);
+		}
+
+		KeyValueIterator<Integer, String> iterator = externalWideMap.iterator(1, 10, 3);
+		int count = 0;
+		while (iterator.hasNext())
+		{
+			KeyValue<Integer, String> keyValue = iterator.next();
+			count++;
+			assertThat(keyValue.getKey()).isEqualTo(count);
+			assertThat(keyValue.getValue()).isEqualTo("value" + count);
+		}
+		assertThat(count).isEqualTo(10);
+
+		externalWideMap.remove(2, 9);
+
+		assertThat(externalWideMap.findKeys(1, 10, 20)).containsExactly(1, 10);
+	}
+
+	@Test
+	public void should_coalesce_counter_increments() throws Exception
+	{
+		TunedBean bean = em.merge(bean("DuyHai"));
+		bean.getVisits().incr(3L);
+		bean.getVisits().incr(4L);
+		bean.getClicks().incr("home", 5L);
+		bean.getClicks().decr("home");
+
+		assertThat(bean.getVisits().get()).isEqualTo(7L);
+		assertThat(bean.getClicks().get("home")).isEqualTo(4L);
+
+		GenericCounterDao<Long> counterDao = new GenericCounterDao<Long>(
+				CassandraDaoTest.getKeyspace(), LONG_SRZ, "TunedBean_counters");
+		GenericCompositeDao<Long, Long> counterWideMapDao = CassandraDaoTest.getCompositeDao(
+				LONG_SRZ, LONG_SRZ, "TunedCounterWideMap");
+
+		assertThat(counterDao.getCounterValue(bean.getId(), counterName("visits"))).isEqualTo(0L);
+		assertThat(counterWideMapDao.getCounterValue(bean.getId(), counterName("home")))
+				.isEqualTo(0L);
+	}
+
+	@Test(timeout = 60000)
+	public void should_iterate_more_join_wide_maps_than_pool_threads() throws Exception
+	{
+		final TunedBean bean = em.merge(bean("DuyHai"));
+		for (int i = 1; i <= 12; i++)
+		{
+			TunedUser contact = new TunedUser();
+			contact.setId(RandomUtils.nextLong());
+			contact.setName("contact" + i);
+			bean.getContacts().insert(i, contact);
+		}
+
+		// prefetched join pages run on the pool and eager fetch their entities on it too
+		ExecutorService callers = Executors.newFixedThreadPool(8);
+		try
+		{
+			List<Future<Integer>> iterations = new ArrayList<Future<Integer>>();
+			for (int i = 0; i < 8; i++)
+			{
+				iterations.add(callers.submit(new Callable<Integer>()
+				{
+					@Override
+					public Integer call()
+					{
+						KeyValueIterator<Integer, TunedUser> iterator = bean.getContacts()
+								.iterator(1, 12, 2);
+						int count = 0;
+						while (iterator.hasNext())
+						{
+							count++;
+							assertThat(iterator.next().getValue().getName()).isEqualTo(
+									"contact" + count);
+						}
+						return count;
+					}
+				}));
+			}
+			for (Future<Integer> iteration : iterations)
+			{
+				assertThat(iteration.get(30, TimeUnit.SECONDS)).isEqualTo(12);
+			}
+		}
+		finally
+		{
+			callers.shutdownNow();
+		}
+	}
+
+	private TunedBean bean(String name)
+	{
+		TunedBean bean = new TunedBean();
+		bean.setId(RandomUtils.nextLong());
+		bean.setName(name);
+		return bean;
+	}
+
+	private Composite counterName(String name)
+	{
+		Composite composite = new Composite();
+		composite.addComponent(name, STRING_SRZ);
+		return composite;
+	}
+}
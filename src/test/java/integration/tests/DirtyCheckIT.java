@@ -69,7 +69,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(3);
@@ -86,7 +86,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(3);
@@ -104,7 +104,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(4);
@@ -122,7 +122,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(0);
@@ -138,7 +138,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
@@ -155,7 +155,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
@@ -172,7 +172,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
@@ -189,7 +189,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
@@ -206,7 +206,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
@@ -223,7 +223,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
@@ -243,7 +243,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
@@ -263,7 +263,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
@@ -283,7 +283,7 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForList();
 		DynamicComposite endComp = endComptForList();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
@@ -301,13 +301,13 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(4);
 
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(3).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(3).right,
 						KeyValue.class)).getValue()).isEqualTo("test");
 	}
 
@@ -322,15 +322,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("Paris");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(1).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(1).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -348,15 +348,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(4);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(2).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(2).right,
 						KeyValue.class)).getValue()).isEqualTo("75015");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(3).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(3).right,
 						KeyValue.class)).getValue()).isEqualTo("test");
 	}
 
@@ -371,15 +371,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("Paris");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(1).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(1).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -394,12 +394,12 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -414,15 +414,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("FR");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(1).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(1).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -440,15 +440,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("Paris");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(1).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(1).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -463,15 +463,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("Paris");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(1).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(1).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -487,12 +487,12 @@ public class DirtyCheckIT
 
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -507,15 +507,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("FR");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(1).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(1).right,
 						KeyValue.class)).getValue()).isEqualTo("Paris");
 	}
 
@@ -533,15 +533,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("Paris");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(1).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(1).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -561,15 +561,15 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("Paris");
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(1).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(1).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -592,12 +592,12 @@ public class DirtyCheckIT
 		DynamicComposite startComp = startCompForMap();
 		DynamicComposite endComp = endCompForMap();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
 		assertThat(
-				((KeyValue<Integer, String>) objectMapper.readValue(columns.get(0).right,
+				((KeyValue<Integer, String>) objectMapper.readValue((String) columns.get(0).right,
 						KeyValue.class)).getValue()).isEqualTo("75014");
 	}
 
@@ -0,0 +1,218 @@
+package integration.tests;
+
+import static info.archinnov.achilles.serializer.SerializerUtils.LONG_SRZ;
+import static org.fest.assertions.api.Assertions.assertThat;
+import info.archinnov.achilles.common.CassandraDaoTest;
+import info.archinnov.achilles.dao.ColumnFamilyExporter;
+import info.archinnov.achilles.dao.ColumnFamilyImporter;
+import info.archinnov.achilles.dao.ExportFileReader;
+import info.archinnov.achilles.dao.Pair;
+import info.archinnov.achilles.dao.TokenRangeHelper;
+import info.archinnov.achilles.entity.manager.ThriftEntityManager;
+import info.archinnov.achilles.entity.type.ExportFormat;
+import integration.tests.entity.CompleteBean;
+import integration.tests.entity.CompleteBeanTestBuilder;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.cassandra.thrift.ColumnOrSuperColumn;
+import org.apache.cassandra.utils.ByteBufferUtil;
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.io.Files;
+
+/**
+ * ExportImportIT
+ *
+ * @author DuyHai DOAN
+ *
+ */
+public class ExportImportIT
+{
+	private ThriftEntityManager em = CassandraDaoTest.getEm();
+
+	private ExecutorService executor;
+
+	private File directory;
+
+	@Before
+	public void setUp()
+	{
+		executor = Executors.newFixedThreadPool(4);
+		directory = Files.createTempDir();
+	}
+
+	@Test
+	public void should_export_and_import_entities_in_binary_format() throws Exception
+	{
+		should_export_and_import_entities(ExportFormat.BINARY);
+	}
+
+	@Test
+	public void should_export_and_import_entities_in_json_lines_format() throws Exception
+	{
+		should_export_and_import_entities(ExportFormat.JSON_LINES);
+	}
+
+	@Test
+	public void should_resume_interrupted_export() throws Exception
+	{
+		for (int i = 0; i < 30; i++)
+		{
+			em.persist(CompleteBeanTestBuilder.builder().randomId().name("name" + i).buid());
+		}
+		long exported = em.export(CompleteBean.class, directory, executor, 3, ExportFormat.BINARY);
+
+		File entityDirectory = new File(directory, "CompleteBean");
+		File rangeFile = largestRangeFile(entityDirectory, ExportFormat.BINARY);
+		List<String> rowKeys = readRowKeys(rangeFile);
+		assertThat(rowKeys.size()).isGreaterThan(1);
+
+		// cut the file in the middle of a row chunk, as an interrupted export would
+		File partFile = new File(rangeFile.getPath() + ColumnFamilyExporter.PART_SUFFIX);
+		assertThat(rangeFile.renameTo(partFile)).isTrue();
+		RandomAccessFile file = new RandomAccessFile(partFile, "rw");
+		file.setLength(file.length() / 2);
+		file.close();
+		int keptRows = readRowKeys(partFile).size();
+
+		long resumed = em.export(CompleteBean.class, directory, executor, 3, ExportFormat.BINARY);
+
+		assertThat(resumed).isEqualTo(rowKeys.size() - keptRows);
+		assertThat(resumed).isLessThan(exported);
+		assertThat(partFile.exists()).isFalse();
+		assertThat(readRowKeys(rangeFile)).isEqualTo(rowKeys);
+		assertThat(em.export(CompleteBean.class, directory, executor, 3, ExportFormat.BINARY))
+				.isEqualTo(0L);
+	}
+
+	@Test
+	public void should_resume_interrupted_import() throws Exception
+	{
+		for (int i = 0; i < 30; i++)
+		{
+			em.persist(CompleteBeanTestBuilder.builder().randomId().name("name" + i).buid());
+		}
+		long exported = em.export(CompleteBean.class, directory, executor, 3,
+				ExportFormat.JSON_LINES);
+
+		File rangeFile = largestRangeFile(new File(directory, "CompleteBean"),
+				ExportFormat.JSON_LINES);
+		ExportFileReader reader = new ExportFileReader(rangeFile, ExportFormat.JSON_LINES, 1024);
+		ByteBuffer firstKey = reader.next().left;
+		reader.close();
+
+		// progress saved by an import interrupted after the first row of the file
+		File progressFile = new File(rangeFile.getPath() + ColumnFamilyImporter.PROGRESS_SUFFIX);
+		Files.write(new TokenRangeHelper(CassandraDaoTest.getKeyspace()).tokenOf(firstKey),
+				progressFile, Charset.forName("UTF-8"));
+		em.truncate(CompleteBean.class, executor, 10);
+
+		long imported = em.importFrom(CompleteBean.class, directory, executor, 5,
+				ExportFormat.JSON_LINES);
+
+		assertThat(imported).isEqualTo(exported - 1);
+		assertThat(em.find(CompleteBean.class, LONG_SRZ.fromByteBuffer(firstKey))).isNull();
+		assertThat(progressFile.exists()).isFalse();
+		assertThat(new File(rangeFile.getPath() + ColumnFamilyImporter.IMPORTED_SUFFIX).exists())
+				.isTrue();
+		assertThat(
+				em.importFrom(CompleteBean.class, directory, executor, 5, ExportFormat.JSON_LINES))
+				.isEqualTo(0L);
+	}
+
+	private void should_export_and_import_entities(ExportFormat format) throws Exception
+	{
+		List<Long> ids = new ArrayList<Long>();
+		for (int i = 0; i < 20; i++)
+		{
+			CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("name" + i)
+					.age((long) i).addFriends("foo", "bar").addFollowers("George")
+					.addPreference(1, "FR").buid();
+			bean = em.merge(bean);
+			bean.getExternalWideMap().insert(i, "external" + i);
+			ids.add(bean.getId());
+		}
+
+		long exported = em.export(CompleteBean.class, directory, executor, 3, format);
+		assertThat(exported).isGreaterThanOrEqualTo(20L);
+		assertThat(new File(directory, "CompleteBean").list()).isNotEmpty();
+		assertThat(new File(directory, "ExternalWideMap").list()).isNotEmpty();
+
+		em.truncate(CompleteBean.class, executor, 10);
+		assertThat(em.find(CompleteBean.class, ids.get(0))).isNull();
+
+		long imported = em.importFrom(CompleteBean.class, directory, executor, 7, format);
+		assertThat(imported).isEqualTo(exported);
+
+		for (int i = 0; i < 20; i++)
+		{
+			CompleteBean found = em.find(CompleteBean.class, ids.get(i));
+			assertThat(found.getName()).isEqualTo("name" + i);
+			assertThat(found.getAge()).isEqualTo((long) i);
+			assertThat(found.getFriends()).containsExactly("foo", "bar");
+			assertThat(found.getFollowers()).containsOnly("George");
+			assertThat(found.getPreferences().get(1)).isEqualTo("FR");
+			assertThat(found.getExternalWideMap().get(i)).isEqualTo("external" + i);
+		}
+	}
+
+	private File largestRangeFile(File entityDirectory, final ExportFormat format)
+	{
+		File largest = null;
+		for (File rangeFile : entityDirectory.listFiles(new FilenameFilter()
+		{
+			@Override
+			public boolean accept(File dir, String name)
+			{
+				return name.endsWith("." + format.getExtension());
+			}
+		}))
+		{
+			if (largest == null || rangeFile.length() > largest.length())
+			{
+				largest = rangeFile;
+			}
+		}
+		return largest;
+	}
+
+	private List<String> readRowKeys(File rangeFile)
+	{
+		List<String> rowKeys = new ArrayList<String>();
+		ExportFileReader reader = new ExportFileReader(rangeFile,
+				rangeFile.getName().contains(".json") ? ExportFormat.JSON_LINES
+						: ExportFormat.BINARY, 1024);
+		try
+		{
+			Pair<ByteBuffer, List<ColumnOrSuperColumn>> chunk;
+			while ((chunk = reader.next()) != null)
+			{
+				rowKeys.add(ByteBufferUtil.bytesToHex(chunk.left));
+			}
+		}
+		finally
+		{
+			reader.close();
+		}
+		return rowKeys;
+	}
+
+	@After
+	public void tearDown()
+	{
+		executor.shutdown();
+		FileUtils.deleteQuietly(directory);
+	}
+}
@@ -18,6 +18,8 @@ import integration.tests.entity.CompleteBeanTestBuilder;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.Composite;
@@ -361,7 +363,9 @@ public class ExternalWideMapIT
 	{
 		insert5Values();
 
-		externalWideMap.remove(2, 4);
+		int removed = externalWideMap.remove(2, 4);
+
+		assertThat(removed).isEqualTo(3);
 
 		List<KeyValue<Integer, String>> foundValues = externalWideMap.find(null, null, 10);
 
@@ -444,6 +448,39 @@ public class ExternalWideMapIT
 		externalWideMap.insert(3, "value3");
 	}
 
+	@Test
+	public void should_remove_values_range_by_chunks() throws Exception
+	{
+		insert5Values();
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try
+		{
+			externalWideMapDao.setChunkedRemoval(2, executor, 2);
+			int removed = externalWideMapDao.removeColumnRange(bean.getId(), null, null);
+
+			assertThat(removed).isEqualTo(5);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertThat(externalWideMap.find(null, null, 10)).isEmpty();
+	}
+
+	@Test
+	public void should_remove_first_values() throws Exception
+	{
+		insert5Values();
+
+		int removed = externalWideMap.removeFirst(2);
+
+		assertThat(removed).isEqualTo(2);
+		assertThat(externalWideMap.findValues(null, null, 10)).containsExactly("value3",
+				"value4", "value5");
+	}
+
 	private void insert5Values()
 	{
 		externalWideMap.insert(1, "value1");
@@ -1,6 +1,7 @@
 package integration.tests;
 
 import static info.archinnov.achilles.columnFamily.ColumnFamilyHelper.normalizerAndValidateColumnFamilyName;
+import static info.archinnov.achilles.common.CassandraDaoTest.getCompositeDao;
 import static info.archinnov.achilles.common.CassandraDaoTest.getDynamicCompositeDao;
 import static info.archinnov.achilles.entity.metadata.PropertyType.END_EAGER;
 import static info.archinnov.achilles.entity.metadata.PropertyType.LAZY_LIST;
@@ -14,9 +15,12 @@ import info.archinnov.achilles.composite.factory.DynamicCompositeKeyFactory;
 import info.archinnov.achilles.dao.GenericDynamicCompositeDao;
 import info.archinnov.achilles.dao.Pair;
 import info.archinnov.achilles.entity.manager.ThriftEntityManager;
+import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.PropertyMeta;
 import info.archinnov.achilles.entity.metadata.PropertyType;
+import info.archinnov.achilles.entity.type.EntityScanHandler;
 import info.archinnov.achilles.entity.type.KeyValue;
+import info.archinnov.achilles.iterator.EntityScanIterator;
 import info.archinnov.achilles.proxy.interceptor.JpaEntityInterceptor;
 import integration.tests.entity.CompleteBean;
 import integration.tests.entity.CompleteBeanTestBuilder;
@@ -24,7 +28,16 @@ import integration.tests.entity.Tweet;
 import integration.tests.entity.TweetTestBuilder;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import javax.persistence.FlushModeType;
 import javax.persistence.LockModeType;
@@ -33,9 +46,11 @@ import me.prettyprint.hector.api.beans.AbstractComposite.ComponentEquality;
 import me.prettyprint.hector.api.beans.DynamicComposite;
 import net.sf.cglib.proxy.Factory;
 
+import org.apache.commons.lang.math.RandomUtils;
 import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.After;
 import org.junit.Test;
+import org.powermock.reflect.Whitebox;
 
 /**
  * JPAOperationsIT
@@ -70,29 +85,29 @@ public class JPAOperationsIT
 		endCompositeForEagerFetch.addComponent(0, END_EAGER.flag(),
 				ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startCompositeForEagerFetch, endCompositeForEagerFetch, false, 20);
 
 		assertThat(columns).hasSize(8);
 
-		Pair<DynamicComposite, String> serialVersionUID = columns.get(0);
+		Pair<DynamicComposite, Object> serialVersionUID = columns.get(0);
 
-		Pair<DynamicComposite, String> age = columns.get(1);
+		Pair<DynamicComposite, Object> age = columns.get(1);
 
-		Pair<DynamicComposite, String> name = columns.get(2);
+		Pair<DynamicComposite, Object> name = columns.get(2);
 
-		Pair<DynamicComposite, String> George = columns.get(3);
-		Pair<DynamicComposite, String> Paul = columns.get(4);
+		Pair<DynamicComposite, Object> George = columns.get(3);
+		Pair<DynamicComposite, Object> Paul = columns.get(4);
 
-		Pair<DynamicComposite, String> FR = columns.get(5);
-		Pair<DynamicComposite, String> Paris = columns.get(6);
-		Pair<DynamicComposite, String> _75014 = columns.get(7);
+		Pair<DynamicComposite, Object> FR = columns.get(5);
+		Pair<DynamicComposite, Object> Paris = columns.get(6);
+		Pair<DynamicComposite, Object> _75014 = columns.get(7);
 
 		assertThat(serialVersionUID.left.get(1, STRING_SRZ)).isEqualTo(SERIAL_VERSION_UID.name());
-		assertThat(Long.parseLong(serialVersionUID.right)).isEqualTo(151L);
+		assertThat(Long.parseLong((String) serialVersionUID.right)).isEqualTo(151L);
 
 		assertThat(age.left.get(1, STRING_SRZ)).isEqualTo("age_in_years");
-		assertThat(readLong(age.right)).isEqualTo(35L);
+		assertThat(age.right).isEqualTo(35L);
 
 		assertThat(name.left.get(1, STRING_SRZ)).isEqualTo("name");
 		assertThat(name.right).isEqualTo("DuyHai");
@@ -103,17 +118,17 @@ public class JPAOperationsIT
 		assertThat(Paul.right).isIn("George", "Paul");
 
 		assertThat(FR.left.get(1, STRING_SRZ)).isEqualTo("preferences");
-		KeyValue<Integer, String> country = readKeyValue(FR.right);
+		KeyValue<Integer, String> country = readKeyValue((String) FR.right);
 		assertThat(country.getKey()).isEqualTo(1);
 		assertThat(country.getValue()).isEqualTo("FR");
 
 		assertThat(Paris.left.get(1, STRING_SRZ)).isEqualTo("preferences");
-		KeyValue<Integer, String> city = readKeyValue(Paris.right);
+		KeyValue<Integer, String> city = readKeyValue((String) Paris.right);
 		assertThat(city.getKey()).isEqualTo(2);
 		assertThat(city.getValue()).isEqualTo("Paris");
 
 		assertThat(_75014.left.get(1, STRING_SRZ)).isEqualTo("preferences");
-		KeyValue<Integer, String> zipCode = readKeyValue(_75014.right);
+		KeyValue<Integer, String> zipCode = readKeyValue((String) _75014.right);
 		assertThat(zipCode.getKey()).isEqualTo(3);
 		assertThat(zipCode.getValue()).isEqualTo("75014");
 
@@ -129,8 +144,8 @@ public class JPAOperationsIT
 				endCompositeForEagerFetch, false, 20);
 		assertThat(columns).hasSize(2);
 
-		Pair<DynamicComposite, String> foo = columns.get(0);
-		Pair<DynamicComposite, String> bar = columns.get(1);
+		Pair<DynamicComposite, Object> foo = columns.get(0);
+		Pair<DynamicComposite, Object> bar = columns.get(1);
 
 		assertThat(foo.left.get(1, STRING_SRZ)).isEqualTo("friends");
 		assertThat(foo.right).isEqualTo("foo");
@@ -181,6 +196,271 @@ public class JPAOperationsIT
 		assertThat(found).isInstanceOf(Factory.class);
 	}
 
+	@Test
+	public void should_find_with_eager_fetch_by_pages() throws Exception
+	{
+		CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("Jonathan")
+				.age(40L).addFollowers("George", "Paul", "John", "Ringo")
+				.addPreference(1, "FR").addPreference(2, "Paris").buid();
+
+		em.persist(bean);
+
+		Map<Class<?>, EntityMeta<?>> entityMetaMap = Whitebox.getInternalState(em,
+				"entityMetaMap");
+		GenericDynamicCompositeDao<?> entityDao = entityMetaMap.get(CompleteBean.class)
+				.getEntityDao();
+		CompleteBean found;
+		try
+		{
+			entityDao.setEagerFetchPageSize(2);
+			found = em.find(CompleteBean.class, bean.getId());
+		}
+		finally
+		{
+			entityDao
+					.setEagerFetchPageSize(GenericDynamicCompositeDao.DEFAULT_EAGER_FETCH_PAGE_SIZE);
+		}
+
+		assertThat(found.getName()).isEqualTo("Jonathan");
+		assertThat(found.getAge()).isEqualTo(40L);
+		assertThat(found.getFollowers()).containsOnly("George", "Paul", "John", "Ringo");
+		assertThat(found.getPreferences()).hasSize(2);
+	}
+
+	@Test
+	public void should_find_partial() throws Exception
+	{
+		CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("Jonathan")
+				.age(40L).addFollowers("George", "Paul").addPreference(1, "FR").buid();
+
+		em.persist(bean);
+
+		CompleteBean found = em.findPartial(CompleteBean.class, bean.getId(),
+				new HashSet<String>(Arrays.asList("name", "followers")));
+
+		assertThat(found).isInstanceOf(Factory.class);
+
+		CompleteBean target = (CompleteBean) ((JpaEntityInterceptor<?, ?>) ((Factory) found)
+				.getCallback(0)).getTarget();
+		assertThat(target.getName()).isEqualTo("Jonathan");
+		assertThat(target.getFollowers()).containsOnly("George", "Paul");
+		assertThat(target.getAge()).isNull();
+		assertThat(target.getPreferences()).isNull();
+
+		assertThat(found.getName()).isEqualTo("Jonathan");
+		assertThat(found.getAge()).isEqualTo(40L);
+		assertThat(found.getPreferences()).containsKey(1);
+	}
+
+	@Test
+	public void should_not_find_partial_when_entity_does_not_exist() throws Exception
+	{
+		assertThat(
+				em.findPartial(CompleteBean.class, RandomUtils.nextLong(), new HashSet<String>(
+						Arrays.asList("name")))).isNull();
+	}
+
+	@Test
+	public void should_find_all() throws Exception
+	{
+		CompleteBean bean1 = CompleteBeanTestBuilder.builder().randomId().name("Jonathan").buid();
+		CompleteBean bean2 = CompleteBeanTestBuilder.builder().randomId().name("Helen").buid();
+
+		em.persist(bean1);
+		em.persist(bean2);
+
+		List<CompleteBean> found = em.findAll(CompleteBean.class,
+				Arrays.asList(bean2.getId(), RandomUtils.nextLong(), bean1.getId()));
+
+		assertThat(found).hasSize(2);
+		assertThat(found.get(0)).isInstanceOf(Factory.class);
+		assertThat(found.get(0).getName()).isEqualTo("Helen");
+		assertThat(found.get(1).getName()).isEqualTo("Jonathan");
+	}
+
+	@Test
+	public void should_truncate() throws Exception
+	{
+		List<Long> ids = new ArrayList<Long>();
+		for (int i = 0; i < 20; i++)
+		{
+			CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("name" + i)
+					.buid();
+			em.persist(bean);
+			ids.add(bean.getId());
+		}
+		CompleteBean bean2 = em.merge(CompleteBeanTestBuilder.builder().randomId().name("Helen")
+				.buid());
+		bean2.getExternalWideMap().insert(1, "value1");
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		long removed;
+		try
+		{
+			removed = em.truncate(CompleteBean.class, executor, 3);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertThat(removed).isGreaterThanOrEqualTo(21L);
+		for (Long id : ids)
+		{
+			assertThat(em.find(CompleteBean.class, id)).isNull();
+		}
+		assertThat(em.find(CompleteBean.class, bean2.getId())).isNull();
+		assertThat(
+				getCompositeDao(LONG_SRZ, STRING_SRZ,
+						normalizerAndValidateColumnFamilyName("ExternalWideMap")).findValuesRange(
+						bean2.getId(), null, null, false, 10)).isEmpty();
+	}
+
+	@Test
+	public void should_scan_entities() throws Exception
+	{
+		final Set<Long> ids = new HashSet<Long>();
+		for (int i = 0; i < 20; i++)
+		{
+			CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("name" + i)
+					.addFollowers("foo", "bar").buid();
+			em.persist(bean);
+			ids.add(bean.getId());
+		}
+
+		final Set<Long> scannedIds = Collections.synchronizedSet(new HashSet<Long>());
+		final List<CompleteBean> scanned = Collections
+				.synchronizedList(new ArrayList<CompleteBean>());
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		long count;
+		try
+		{
+			count = em.scan(CompleteBean.class, executor, 3, new EntityScanHandler<CompleteBean>()
+			{
+				@Override
+				public void onEntity(CompleteBean entity)
+				{
+					scannedIds.add(entity.getId());
+					if (ids.contains(entity.getId()))
+					{
+						scanned.add(entity);
+					}
+				}
+			});
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertThat(count).isGreaterThanOrEqualTo(20L);
+		assertThat(scannedIds).hasSize((int) count);
+		assertThat(scanned).hasSize(20);
+		for (CompleteBean bean : scanned)
+		{
+			assertThat(bean).isInstanceOf(Factory.class);
+			assertThat(bean.getName()).startsWith("name");
+			assertThat(bean.getFollowers()).containsOnly("foo", "bar");
+		}
+	}
+
+	@Test
+	public void should_scan_entities_with_iterator() throws Exception
+	{
+		Set<Long> ids = new HashSet<Long>();
+		for (int i = 0; i < 20; i++)
+		{
+			CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("name" + i)
+					.buid();
+			em.persist(bean);
+			ids.add(bean.getId());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		Set<Long> scannedIds = new HashSet<Long>();
+		try
+		{
+			EntityScanIterator<CompleteBean> iterator = em.scanIterator(CompleteBean.class,
+					executor, 4, 2);
+			while (iterator.hasNext())
+			{
+				scannedIds.add(iterator.next().getId());
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertThat(scannedIds).containsAll(ids);
+	}
+
+	@Test
+	public void should_scan_entities_with_non_string_properties() throws Exception
+	{
+		Set<Long> ids = new HashSet<Long>();
+		for (int i = 0; i < 5; i++)
+		{
+			CompleteBean bean = CompleteBeanTestBuilder.builder().randomId().name("name" + i)
+					.age(30L + i).addFriends("foo", "bar").buid();
+			em.persist(bean);
+			ids.add(bean.getId());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		List<CompleteBean> scanned = new ArrayList<CompleteBean>();
+		try
+		{
+			EntityScanIterator<CompleteBean> iterator = em.scanIterator(CompleteBean.class,
+					executor, 4, 2);
+			while (iterator.hasNext())
+			{
+				CompleteBean bean = iterator.next();
+				if (ids.contains(bean.getId()))
+				{
+					scanned.add(bean);
+				}
+			}
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertThat(scanned).hasSize(5);
+		for (CompleteBean bean : scanned)
+		{
+			long index = Long.parseLong(bean.getName().substring("name".length()));
+			assertThat(bean.getAge()).isEqualTo(30L + index);
+			assertThat(bean.getFriends()).containsExactly("foo", "bar");
+		}
+	}
+
+	@Test
+	public void should_stop_scan_when_iterator_closed() throws Exception
+	{
+		for (int i = 0; i < 20; i++)
+		{
+			em.persist(CompleteBeanTestBuilder.builder().randomId().name("name" + i).buid());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try
+		{
+			EntityScanIterator<CompleteBean> iterator = em.scanIterator(CompleteBean.class,
+					executor, 2, 1);
+			assertThat(iterator.next()).isNotNull();
+			iterator.close();
+
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		}
+		finally
+		{
+			executor.shutdownNow();
+		}
+	}
+
 	@Test(expected = RuntimeException.class)
 	public void should_exception_when_serialVersionUID_changes() throws Exception
 	{
@@ -287,15 +567,15 @@ public class JPAOperationsIT
 				ComponentEquality.EQUAL);
 		endCompositeForEagerFetch.addComponent(1, "age_in_years", ComponentEquality.EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startCompositeForEagerFetch, endCompositeForEagerFetch, false, 20);
 
 		assertThat(columns).hasSize(1);
 
-		Pair<DynamicComposite, String> age = columns.get(0);
+		Pair<DynamicComposite, Object> age = columns.get(0);
 
 		assertThat(age.left.get(1, STRING_SRZ)).isEqualTo("age_in_years");
-		assertThat(readLong(age.right)).isEqualTo(100L);
+		assertThat(age.right).isEqualTo(100L);
 
 		startCompositeForEagerFetch = new DynamicComposite();
 		startCompositeForEagerFetch.addComponent(0, PropertyType.LAZY_LIST.flag(),
@@ -314,7 +594,7 @@ public class JPAOperationsIT
 
 		assertThat(columns).hasSize(3);
 
-		Pair<DynamicComposite, String> eve = columns.get(2);
+		Pair<DynamicComposite, Object> eve = columns.get(2);
 
 		assertThat(eve.left.get(1, STRING_SRZ)).isEqualTo("friends");
 		assertThat(eve.right).isEqualTo("eve");
@@ -335,10 +615,10 @@ public class JPAOperationsIT
 
 		assertThat(columns).hasSize(2);
 
-		Pair<DynamicComposite, String> FR = columns.get(0);
+		Pair<DynamicComposite, Object> FR = columns.get(0);
 
 		assertThat(FR.left.get(1, STRING_SRZ)).isEqualTo("preferences");
-		KeyValue<Integer, String> mapValue = readKeyValue(FR.right);
+		KeyValue<Integer, String> mapValue = readKeyValue((String) FR.right);
 		assertThat(mapValue.getValue()).isEqualTo("FR");
 	}
 
@@ -383,7 +663,7 @@ public class JPAOperationsIT
 
 		assertThat(foundBean).isNull();
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(), null,
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(), null,
 				null, false, 20);
 
 		assertThat(columns).hasSize(0);
@@ -543,11 +823,6 @@ public class JPAOperationsIT
 		em.getTransaction();
 	}
 
-	private Long readLong(String value) throws Exception
-	{
-		return this.objectMapper.readValue(value, Long.class);
-	}
-
 	@SuppressWarnings("unchecked")
 	private KeyValue<Integer, String> readKeyValue(String value) throws Exception
 	{
@@ -22,6 +22,7 @@ import integration.tests.entity.TweetTestBuilder;
 import integration.tests.entity.User;
 import integration.tests.entity.UserTestBuilder;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -29,6 +30,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import me.prettyprint.hector.api.beans.DynamicComposite;
 import net.sf.cglib.proxy.Factory;
@@ -122,12 +125,12 @@ public class JoinCollectionAndMapIT
 				.values(JOIN_SET.flag(), "friends").equality(GREATER_THAN_EQUAL)
 				.buildDynamicForQuery();
 
-		List<Pair<DynamicComposite, String>> friendsColumns = beanDao.findColumnsRange(beanId,
+		List<Pair<DynamicComposite, Object>> friendsColumns = beanDao.findColumnsRange(beanId,
 				startFriendsComp, endFriendsComp, false, 20);
 
 		assertThat(friendsColumns).hasSize(2);
-		assertThat(readLong(friendsColumns.get(0).right)).isIn(friend1.getId(), friend2.getId());
-		assertThat(readLong(friendsColumns.get(1).right)).isIn(friend1.getId(), friend2.getId());
+		assertThat(friendsColumns.get(0).right).isIn(friend1.getId(), friend2.getId());
+		assertThat(friendsColumns.get(1).right).isIn(friend1.getId(), friend2.getId());
 
 		DynamicComposite startTweetsComp = CompositeTestBuilder.builder()
 				.values(JOIN_LIST.flag(), "tweets").equality(EQUAL).buildDynamicForQuery();
@@ -135,12 +138,12 @@ public class JoinCollectionAndMapIT
 				.values(JOIN_LIST.flag(), "tweets").equality(GREATER_THAN_EQUAL)
 				.buildDynamicForQuery();
 
-		List<Pair<DynamicComposite, String>> tweetsColumns = beanDao.findColumnsRange(beanId,
+		List<Pair<DynamicComposite, Object>> tweetsColumns = beanDao.findColumnsRange(beanId,
 				startTweetsComp, endTweetsComp, false, 20);
 
 		assertThat(tweetsColumns).hasSize(2);
-		assertThat(readUUID(tweetsColumns.get(0).right)).isEqualTo(tweet1.getId());
-		assertThat(readUUID(tweetsColumns.get(1).right)).isEqualTo(tweet2.getId());
+		assertThat(tweetsColumns.get(0).right).isEqualTo(tweet1.getId());
+		assertThat(tweetsColumns.get(1).right).isEqualTo(tweet2.getId());
 
 		DynamicComposite startTimelineComp = CompositeTestBuilder.builder()
 				.values(JOIN_MAP.flag(), "timeline").equality(EQUAL).buildDynamicForQuery();
@@ -148,13 +151,13 @@ public class JoinCollectionAndMapIT
 				.values(JOIN_MAP.flag(), "timeline").equality(GREATER_THAN_EQUAL)
 				.buildDynamicForQuery();
 
-		List<Pair<DynamicComposite, String>> timelineColumns = beanDao.findColumnsRange(beanId,
+		List<Pair<DynamicComposite, Object>> timelineColumns = beanDao.findColumnsRange(beanId,
 				startTimelineComp, endTimelineComp, false, 20);
 
 		assertThat(timelineColumns).hasSize(3);
-		assertThat(readKeyValue(timelineColumns.get(0).right).getKey()).isEqualTo(3);
-		assertThat(readKeyValue(timelineColumns.get(1).right).getKey()).isEqualTo(4);
-		assertThat(readKeyValue(timelineColumns.get(2).right).getKey()).isEqualTo(5);
+		assertThat(readKeyValue((String) timelineColumns.get(0).right).getKey()).isEqualTo(3);
+		assertThat(readKeyValue((String) timelineColumns.get(1).right).getKey()).isEqualTo(4);
+		assertThat(readKeyValue((String) timelineColumns.get(2).right).getKey()).isEqualTo(5);
 
 		assertThat(em.find(Tweet.class, tweet1.getId()).getContent())
 				.isEqualTo(tweet1.getContent());
@@ -203,12 +206,12 @@ public class JoinCollectionAndMapIT
 				.values(JOIN_LIST.flag(), "tweets").equality(GREATER_THAN_EQUAL)
 				.buildDynamicForQuery();
 
-		List<Pair<DynamicComposite, String>> tweetsColumns = beanDao.findColumnsRange(beanId,
+		List<Pair<DynamicComposite, Object>> tweetsColumns = beanDao.findColumnsRange(beanId,
 				startTweetsComp, endTweetsComp, false, 20);
 
 		assertThat(tweetsColumns).hasSize(2);
-		assertThat(readUUID(tweetsColumns.get(0).right)).isEqualTo(tweet1.getId());
-		assertThat(readUUID(tweetsColumns.get(1).right)).isEqualTo(tweet2.getId());
+		assertThat(tweetsColumns.get(0).right).isEqualTo(tweet1.getId());
+		assertThat(tweetsColumns.get(1).right).isEqualTo(tweet2.getId());
 
 		DynamicComposite startTimelineComp = CompositeTestBuilder.builder()
 				.values(JOIN_MAP.flag(), "timeline").equality(EQUAL).buildDynamicForQuery();
@@ -216,11 +219,11 @@ public class JoinCollectionAndMapIT
 				.values(JOIN_MAP.flag(), "timeline").equality(GREATER_THAN_EQUAL)
 				.buildDynamicForQuery();
 
-		List<Pair<DynamicComposite, String>> timelineColumns = beanDao.findColumnsRange(beanId,
+		List<Pair<DynamicComposite, Object>> timelineColumns = beanDao.findColumnsRange(beanId,
 				startTimelineComp, endTimelineComp, false, 20);
 
 		assertThat(timelineColumns).hasSize(1);
-		assertThat(readUUID(readKeyValue(timelineColumns.get(0).right).getValue())).isEqualTo(
+		assertThat(readUUID(readKeyValue((String) timelineColumns.get(0).right).getValue())).isEqualTo(
 				tweet3.getId());
 
 		assertThat(em.find(Tweet.class, tweet1.getId()).getContent())
@@ -399,9 +402,39 @@ public class JoinCollectionAndMapIT
 
 	}
 
-	private Long readLong(String value) throws Exception
+	@Test
+	public void should_eager_fetch_join_entities_by_chunks() throws Exception
 	{
-		return this.objectMapper.readValue(value, Long.class);
+		List<Tweet> tweets = Arrays.asList(tweet1, tweet2, tweet3, tweet4, tweet5);
+		List<UUID> tweetIds = new ArrayList<UUID>();
+		for (Tweet tweet : tweets)
+		{
+			em.persist(tweet);
+			tweetIds.add(tweet.getId());
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		Map<UUID, List<Pair<DynamicComposite, Object>>> rows;
+		try
+		{
+			tweetDao.setEagerFetchChunking(2, executor);
+			rows = tweetDao.eagerFetchEntities(tweetIds);
+		}
+		finally
+		{
+			executor.shutdown();
+		}
+
+		assertThat(rows).hasSize(5);
+		for (Tweet tweet : tweets)
+		{
+			List<String> values = new ArrayList<String>();
+			for (Pair<DynamicComposite, Object> column : rows.get(tweet.getId()))
+			{
+				values.add((String) column.right);
+			}
+			assertThat(values).contains(tweet.getContent());
+		}
 	}
 
 	private UUID readUUID(String value) throws Exception
@@ -23,7 +23,6 @@ import me.prettyprint.hector.api.beans.DynamicComposite;
 import net.sf.cglib.proxy.Factory;
 
 import org.apache.commons.lang.math.RandomUtils;
-import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -52,8 +51,6 @@ public class JoinColumnIT
 	private User creator;
 	private Long creatorId = RandomUtils.nextLong();
 
-	private ObjectMapper objectMapper = new ObjectMapper();
-
 	@Before
 	public void setUp()
 	{
@@ -77,13 +74,13 @@ public class JoinColumnIT
 		DynamicComposite endComp = new DynamicComposite();
 		endComp.addComponent(0, JOIN_SIMPLE.flag(), ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = tweetDao.findColumnsRange(tweet.getId(),
+		List<Pair<DynamicComposite, Object>> columns = tweetDao.findColumnsRange(tweet.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(1);
 
-		Pair<DynamicComposite, String> creator = columns.get(0);
-		assertThat(readLong(creator.right)).isEqualTo(creatorId);
+		Pair<DynamicComposite, Object> creator = columns.get(0);
+		assertThat(creator.right).isEqualTo(creatorId);
 
 	}
 
@@ -199,11 +196,6 @@ public class JoinColumnIT
 		assertThat(tweet.getCreator()).isNotInstanceOf(Factory.class);
 	}
 
-	private Long readLong(String value) throws Exception
-	{
-		return this.objectMapper.readValue(value, Long.class);
-	}
-
 	@After
 	public void tearDown()
 	{
@@ -27,7 +27,6 @@ import me.prettyprint.hector.api.beans.DynamicComposite;
 import net.sf.cglib.proxy.Factory;
 
 import org.apache.commons.lang.math.RandomUtils;
-import org.codehaus.jackson.map.ObjectMapper;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -65,8 +64,6 @@ public class JoinWideMapIT
 
 	private Long userId = RandomUtils.nextLong();
 
-	private ObjectMapper objectMapper = new ObjectMapper();
-
 	@Before
 	public void setUp()
 	{
@@ -96,13 +93,13 @@ public class JoinWideMapIT
 		endComp.addComponent(0, JOIN_WIDE_MAP.flag(), ComponentEquality.EQUAL);
 		endComp.addComponent(1, "tweets", ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = userDao.findColumnsRange(user.getId(),
+		List<Pair<DynamicComposite, Object>> columns = userDao.findColumnsRange(user.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(2);
 
-		assertThat(readUUID(columns.get(0).right)).isEqualTo(ownTweet1.getId());
-		assertThat(readUUID(columns.get(1).right)).isEqualTo(ownTweet2.getId());
+		assertThat(columns.get(0).right).isEqualTo(ownTweet1.getId());
+		assertThat(columns.get(1).right).isEqualTo(ownTweet2.getId());
 
 		Tweet foundOwnTweet1 = em.find(Tweet.class, ownTweet1.getId());
 		Tweet foundOwnTweet2 = em.find(Tweet.class, ownTweet2.getId());
@@ -244,11 +241,6 @@ public class JoinWideMapIT
 		assertThat(tweetProxy).isInstanceOf(Factory.class);
 	}
 
-	private UUID readUUID(String value) throws Exception
-	{
-		return this.objectMapper.readValue(value, UUID.class);
-	}
-
 	@After
 	public void tearDown()
 	{
@@ -80,7 +80,7 @@ public class MultiKeyWideMapIT
 		DynamicComposite endComp = buildComposite();
 		endComp.addComponent(2, qux, ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(5);
@@ -102,7 +102,7 @@ public class MultiKeyWideMapIT
 		DynamicComposite endComp = buildComposite();
 		endComp.addComponent(2, bar, ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<HColumn<DynamicComposite, String>> columns = dao.findRawColumnsRange(bean.getId(),
+		List<HColumn<DynamicComposite, Object>> columns = dao.findRawColumnsRange(bean.getId(),
 				startComp, endComp, 10, false);
 
 		assertThat(columns).hasSize(1);
@@ -293,7 +293,7 @@ public class MultiKeyWideMapIT
 		endComp.addComponent(2, bar, ComponentEquality.EQUAL);
 		endComp.addComponent(3, uuid2, ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(0);
@@ -318,7 +318,7 @@ public class MultiKeyWideMapIT
 		endComp.addComponent(0, WIDE_MAP.flag(), ComponentEquality.EQUAL);
 		endComp.addComponent(1, "userTweets", ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(3);
@@ -70,13 +70,13 @@ public class ObjectAsWideMapValueIT
 		DynamicComposite endComp = buildComposite();
 		endComp.addComponent(2, 13, ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(3);
-		assertThat((readHolder(columns.get(0).right)).getName()).isEqualTo("value1");
-		assertThat((readHolder(columns.get(1).right)).getName()).isEqualTo("value2");
-		assertThat((readHolder(columns.get(2).right)).getName()).isEqualTo("value3");
+		assertThat((readHolder((String) columns.get(0).right)).getName()).isEqualTo("value1");
+		assertThat((readHolder((String) columns.get(1).right)).getName()).isEqualTo("value2");
+		assertThat((readHolder((String) columns.get(2).right)).getName()).isEqualTo("value3");
 	}
 
 	@Test
@@ -73,7 +73,7 @@ public class WideMapIT
 		DynamicComposite endComp = buildComposite();
 		endComp.addComponent(2, uuid3, ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<Pair<DynamicComposite, String>> columns = dao.findColumnsRange(bean.getId(),
+		List<Pair<DynamicComposite, Object>> columns = dao.findColumnsRange(bean.getId(),
 				startComp, endComp, false, 20);
 
 		assertThat(columns).hasSize(3);
@@ -93,7 +93,7 @@ public class WideMapIT
 		DynamicComposite endComp = buildComposite();
 		endComp.addComponent(2, uuid2, ComponentEquality.GREATER_THAN_EQUAL);
 
-		List<HColumn<DynamicComposite, String>> columns = dao.findRawColumnsRange(bean.getId(),
+		List<HColumn<DynamicComposite, Object>> columns = dao.findRawColumnsRange(bean.getId(),
 				startComp, endComp, 10, false);
 
 		assertThat(columns).hasSize(1);
@@ -112,7 +112,7 @@ public class WideMapIT
 
 		DynamicComposite endComp = buildComposite();
 		endComp.addComponent(2, uuid2, ComponentEquality.GREATER_THAN_EQUAL);
-		List<HColumn<DynamicComposite, String>> columns = dao.findRawColumnsRange(bean.getId(),
+		List<HColumn<DynamicComposite, Object>> columns = dao.findRawColumnsRange(bean.getId(),
 				startComp, endComp, 10, false);
 
 		assertThat(columns).hasSize(0);
@@ -0,0 +1,64 @@
+package integration.tests.entity;
+
+import info.archinnov.achilles.annotations.Compressed;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * BeanWithCompressedProperties
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class BeanWithCompressedProperties implements Serializable
+{
+
+	public static final long serialVersionUID = 1L;
+
+	@Id
+	private Long id;
+
+	@Compressed(threshold = 100)
+	@Column
+	private String document;
+
+	@Compressed(threshold = 100)
+	@Column
+	private List<String> paragraphs;
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public String getDocument()
+	{
+		return document;
+	}
+
+	public void setDocument(String document)
+	{
+		this.document = document;
+	}
+
+	public List<String> getParagraphs()
+	{
+		return paragraphs;
+	}
+
+	public void setParagraphs(List<String> paragraphs)
+	{
+		this.paragraphs = paragraphs;
+	}
+}
@@ -0,0 +1,88 @@
+package integration.tests.entity;
+
+import info.archinnov.achilles.entity.type.Counter;
+import info.archinnov.achilles.entity.type.CounterWideMap;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * BeanWithCounter
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class BeanWithCounter implements Serializable
+{
+
+	public static final long serialVersionUID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column
+	private String name;
+
+	@Column
+	private Counter visits;
+
+	@Column(name = "like_count")
+	private Counter likes;
+
+	@Column(table = "counter_wide_map")
+	private CounterWideMap<String> clicks;
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public void setName(String name)
+	{
+		this.name = name;
+	}
+
+	public Counter getVisits()
+	{
+		return visits;
+	}
+
+	public void setVisits(Counter visits)
+	{
+		this.visits = visits;
+	}
+
+	public Counter getLikes()
+	{
+		return likes;
+	}
+
+	public void setLikes(Counter likes)
+	{
+		this.likes = likes;
+	}
+
+	public CounterWideMap<String> getClicks()
+	{
+		return clicks;
+	}
+
+	public void setClicks(CounterWideMap<String> clicks)
+	{
+		this.clicks = clicks;
+	}
+}
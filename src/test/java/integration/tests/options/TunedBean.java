@@ -0,0 +1,146 @@
+package integration.tests.options;
+
+import info.archinnov.achilles.entity.type.Counter;
+import info.archinnov.achilles.entity.type.CounterWideMap;
+import info.archinnov.achilles.entity.type.WideMap;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+
+import javax.persistence.CascadeType;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToMany;
+
+/**
+ * TunedBean
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class TunedBean implements Serializable
+{
+	public static final long serialVersionUID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column
+	private String name;
+
+	@Column
+	private Long age;
+
+	@Column
+	private List<String> friends;
+
+	@Column
+	private Set<String> followers;
+
+	@Column(table = "TunedWideMap")
+	private WideMap<Integer, String> externalWideMap;
+
+	@Column
+	private Counter visits;
+
+	@Column(table = "TunedCounterWideMap")
+	private CounterWideMap<String> clicks;
+
+	@ManyToMany(cascade = CascadeType.PERSIST)
+	@JoinColumn
+	private WideMap<Integer, TunedUser> contacts;
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public void setName(String name)
+	{
+		this.name = name;
+	}
+
+	public Long getAge()
+	{
+		return age;
+	}
+
+	public void setAge(Long age)
+	{
+		this.age = age;
+	}
+
+	public List<String> getFriends()
+	{
+		return friends;
+	}
+
+	public void setFriends(List<String> friends)
+	{
+		this.friends = friends;
+	}
+
+	public Set<String> getFollowers()
+	{
+		return followers;
+	}
+
+	public void setFollowers(Set<String> followers)
+	{
+		this.followers = followers;
+	}
+
+	public WideMap<Integer, String> getExternalWideMap()
+	{
+		return externalWideMap;
+	}
+
+	public void setExternalWideMap(WideMap<Integer, String> externalWideMap)
+	{
+		this.externalWideMap = externalWideMap;
+	}
+
+	public Counter getVisits()
+	{
+		return visits;
+	}
+
+	public void setVisits(Counter visits)
+	{
+		this.visits = visits;
+	}
+
+	public CounterWideMap<String> getClicks()
+	{
+		return clicks;
+	}
+
+	public void setClicks(CounterWideMap<String> clicks)
+	{
+		this.clicks = clicks;
+	}
+
+	public WideMap<Integer, TunedUser> getContacts()
+	{
+		return contacts;
+	}
+
+	public void setContacts(WideMap<Integer, TunedUser> contacts)
+	{
+		this.contacts = contacts;
+	}
+}
@@ -0,0 +1,45 @@
+package integration.tests.options;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * TunedUser
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class TunedUser implements Serializable
+{
+	public static final long serialVersionUID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column
+	private String name;
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public void setName(String name)
+	{
+		this.name = name;
+	}
+}
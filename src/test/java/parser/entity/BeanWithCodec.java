@@ -0,0 +1,63 @@
+package parser.entity;
+
+import info.archinnov.achilles.annotations.Codec;
+import info.archinnov.achilles.codec.JacksonValueCodecFactory;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * BeanWithCodec
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class BeanWithCodec implements Serializable
+{
+	public static final long serialVersionUID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column
+	private UserBean user;
+
+	@Column
+	@Codec(JacksonValueCodecFactory.class)
+	private List<UserBean> friends;
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public UserBean getUser()
+	{
+		return user;
+	}
+
+	public void setUser(UserBean user)
+	{
+		this.user = user;
+	}
+
+	public List<UserBean> getFriends()
+	{
+		return friends;
+	}
+
+	public void setFriends(List<UserBean> friends)
+	{
+		this.friends = friends;
+	}
+}
@@ -0,0 +1,49 @@
+package parser.entity;
+
+import info.archinnov.achilles.annotations.Compressed;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * BeanWithCompressedMap
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class BeanWithCompressedMap implements Serializable
+{
+	public static final long serialVersionUID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column
+	@Compressed
+	private Map<Integer, String> preferences;
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public Map<Integer, String> getPreferences()
+	{
+		return preferences;
+	}
+
+	public void setPreferences(Map<Integer, String> preferences)
+	{
+		this.preferences = preferences;
+	}
+}
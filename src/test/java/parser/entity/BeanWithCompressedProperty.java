@@ -0,0 +1,49 @@
+package parser.entity;
+
+import info.archinnov.achilles.annotations.Compressed;
+
+import java.io.Serializable;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+/**
+ * BeanWithCompressedProperty
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+public class BeanWithCompressedProperty implements Serializable
+{
+	public static final long serialVersionUID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column
+	@Compressed(threshold = 512)
+	private List<String> paragraphs;
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public List<String> getParagraphs()
+	{
+		return paragraphs;
+	}
+
+	public void setParagraphs(List<String> paragraphs)
+	{
+		this.paragraphs = paragraphs;
+	}
+}
@@ -0,0 +1,49 @@
+package parser.entity;
+
+import info.archinnov.achilles.entity.type.Counter;
+
+import java.io.Serializable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+/**
+ * BeanWithCounterAndLongColumnFamilyName
+ * 
+ * @author DuyHai DOAN
+ * 
+ */
+@Entity
+@Table(name = "a_column_family_name_of_exactly_45_characters")
+public class BeanWithCounterAndLongColumnFamilyName implements Serializable
+{
+	public static final long serialVersionUID = 1L;
+
+	@Id
+	private Long id;
+
+	@Column
+	private Counter visits;
+
+	public Long getId()
+	{
+		return id;
+	}
+
+	public void setId(Long id)
+	{
+		this.id = id;
+	}
+
+	public Counter getVisits()
+	{
+		return visits;
+	}
+
+	public void setVisits(Counter visits)
+	{
+		this.visits = visits;
+	}
+}
@@ -3,6 +3,7 @@ package testBuilders;
 import static info.archinnov.achilles.serializer.SerializerUtils.COMPOSITE_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.DYNA_COMP_SRZ;
 import static info.archinnov.achilles.serializer.SerializerUtils.STRING_SRZ;
+import static info.archinnov.achilles.serializer.SerializerUtils.TYPED_VALUE_SRZ;
 import me.prettyprint.cassandra.serializers.SerializerTypeInferer;
 import me.prettyprint.hector.api.Serializer;
 import me.prettyprint.hector.api.beans.Composite;
@@ -32,15 +33,15 @@ public class HColumnTestBuilder
 				(Serializer<V>) SerializerTypeInferer.getSerializer(value));
 	}
 
-	public static HColumn<DynamicComposite, String> dynamic(DynamicComposite name, String value)
+	public static HColumn<DynamicComposite, Object> dynamic(DynamicComposite name, Object value)
 	{
-		return HFactory.createColumn(name, value, DYNA_COMP_SRZ, STRING_SRZ);
+		return HFactory.createColumn(name, value, DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
 	}
 
-	public static HColumn<DynamicComposite, String> dynamic(DynamicComposite name, String value,
+	public static HColumn<DynamicComposite, Object> dynamic(DynamicComposite name, Object value,
 			int ttl)
 	{
-		return HFactory.createColumn(name, value, ttl, DYNA_COMP_SRZ, STRING_SRZ);
+		return HFactory.createColumn(name, value, ttl, DYNA_COMP_SRZ, TYPED_VALUE_SRZ);
 	}
 
 }
@@ -2,6 +2,7 @@ package testBuilders;
 
 import info.archinnov.achilles.dao.GenericCompositeDao;
 import info.archinnov.achilles.entity.EntityHelper;
+import info.archinnov.achilles.entity.MethodInvoker;
 import info.archinnov.achilles.entity.metadata.EntityMeta;
 import info.archinnov.achilles.entity.metadata.ExternalWideMapProperties;
 import info.archinnov.achilles.entity.metadata.JoinProperties;
@@ -107,6 +108,8 @@ public class PropertyMetaTestBuilder<T, K, V>
 			Field declaredField = clazz.getDeclaredField(field);
 			propertyMeta.setGetter(entityHelper.findGetter(clazz, declaredField));
 			propertyMeta.setSetter(entityHelper.findSetter(clazz, declaredField));
+			propertyMeta.setGetterFastMethod(MethodInvoker.fastMethod(propertyMeta.getGetter()));
+			propertyMeta.setSetterFastMethod(MethodInvoker.fastMethod(propertyMeta.getSetter()));
 		}
 
 		if (joinMeta != null || !cascadeTypes.isEmpty())